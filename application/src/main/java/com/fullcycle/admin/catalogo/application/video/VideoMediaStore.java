@@ -0,0 +1,86 @@
+package com.fullcycle.admin.catalogo.application.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+public final class VideoMediaStore {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final Executor executor;
+
+    public VideoMediaStore(final MediaResourceGateway mediaResourceGateway, final Executor executor) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public void storeAll(
+            final Video aVideo,
+            final Resource aVideoMedia,
+            final Resource aTrailer,
+            final Resource aBanner,
+            final Resource aThumbnail,
+            final Resource aThumbnailHalf) {
+        final var anId = aVideo.getId();
+        final var stores = new ArrayList<CompletableFuture<Runnable>>();
+        if (aVideoMedia != null) {
+            stores.add(storeAudioVideo(anId, aVideoMedia, VideoMediaType.VIDEO, aVideo::configureVideo));
+        }
+        if (aTrailer != null) {
+            stores.add(storeAudioVideo(anId, aTrailer, VideoMediaType.TRAILER, aVideo::configureTrailer));
+        }
+        if (aBanner != null) {
+            stores.add(storeImage(anId, aBanner, VideoMediaType.BANNER, aVideo::configureBanner));
+        }
+        if (aThumbnail != null) {
+            stores.add(storeImage(anId, aThumbnail, VideoMediaType.THUMBNAIL, aVideo::configureThumbnail));
+        }
+        if (aThumbnailHalf != null) {
+            stores.add(storeImage(anId, aThumbnailHalf, VideoMediaType.THUMBNAIL_HALF, aVideo::configureThumbnailHalf));
+        }
+        awaitAll(stores).forEach(Runnable::run);
+    }
+
+    private CompletableFuture<Runnable> storeAudioVideo(
+            final VideoID anId,
+            final Resource aResource,
+            final VideoMediaType aType,
+            final Consumer<AudioVideoMedia> aConfigurer) {
+        return CompletableFuture.supplyAsync(() -> {
+            final var aMedia = this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(aResource, aType));
+            return () -> aConfigurer.accept(aMedia);
+        }, this.executor);
+    }
+
+    private CompletableFuture<Runnable> storeImage(
+            final VideoID anId,
+            final Resource aResource,
+            final VideoMediaType aType,
+            final Consumer<ImageMedia> aConfigurer) {
+        return CompletableFuture.supplyAsync(() -> {
+            final var aMedia = this.mediaResourceGateway.storeImage(anId, VideoResource.with(aResource, aType));
+            return () -> aConfigurer.accept(aMedia);
+        }, this.executor);
+    }
+
+    private <T> List<T> awaitAll(final List<CompletableFuture<T>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException ex) {
+                throw ex;
+            }
+            throw e;
+        }
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+}
@@ -21,7 +21,8 @@ public record CreateVideoCommand(
         Resource trailer,
         Resource banner,
         Resource thumbnail,
-        Resource thumbnailHalf
+        Resource thumbnailHalf,
+        boolean async
 ) {
 
     private CreateVideoCommand(
@@ -50,7 +51,8 @@ public record CreateVideoCommand(
                 null,
                 null,
                 null,
-                null);
+                null,
+                false);
     }
 
     public static CreateVideoCommand with(
@@ -85,7 +87,8 @@ public record CreateVideoCommand(
                 aTrailer,
                 aBanner,
                 aThumbnail,
-                aThumbnailHalf
+                aThumbnailHalf,
+                false
         );
     }
 
@@ -114,4 +117,25 @@ public record CreateVideoCommand(
                 aCastMembers
         );
     }
+
+    public CreateVideoCommand asAsync() {
+        return new CreateVideoCommand(
+                title,
+                description,
+                launchedAt,
+                duration,
+                releaseStatus,
+                publishingStatus,
+                rating,
+                categories,
+                genres,
+                castMembers,
+                video,
+                trailer,
+                banner,
+                thumbnail,
+                thumbnailHalf,
+                true
+        );
+    }
 }
@@ -1,11 +1,13 @@
 package com.fullcycle.admin.catalogo.application.video.create;
 
+import com.fullcycle.admin.catalogo.application.video.VideoMediaStore;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.exceptions.UnavailableException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
@@ -13,8 +15,11 @@ import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.domain.video.*;
 
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -27,18 +32,27 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     private final GenreGateway genreGateway;
     private final CastMemberGateway castMemberGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+    private final MediaIngestionGateway mediaIngestionGateway;
+    private final VideoMediaStore videoMediaStore;
 
     public DefaultCreateVideoUseCase(
             final VideoGateway videoGateway,
             final CategoryGateway categoryGateway,
             final GenreGateway genreGateway,
             final CastMemberGateway castMemberGateway,
-            final MediaResourceGateway mediaResourceGateway) {
+            final MediaResourceGateway mediaResourceGateway,
+            final MediaUploadGateway mediaUploadGateway,
+            final MediaIngestionGateway mediaIngestionGateway,
+            final Executor executor) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.mediaIngestionGateway = Objects.requireNonNull(mediaIngestionGateway);
+        this.videoMediaStore = new VideoMediaStore(this.mediaResourceGateway, executor);
     }
 
     @Override
@@ -57,37 +71,17 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         if (aNotification.hasErrors()) {
             notify(aNotification);
         }
+        if (aCommand.async()) {
+            return CreateVideoOutput.from(createAsync(aCommand, aVideo));
+        }
         return CreateVideoOutput.from(create(aCommand, aVideo));
     }
 
     private Video create(final CreateVideoCommand aCommand, final Video aVideo) {
         final var anId = aVideo.getId();
         try {
-            if (aCommand.video() != null) {
-                final var aVideoMedia = this.mediaResourceGateway.storeAudioVideo(
-                        anId, VideoResource.with(aCommand.video(), VideoMediaType.VIDEO));
-                aVideo.configureVideo(aVideoMedia);
-            }
-            if (aCommand.trailer() != null) {
-                final var aTrailerMedia = this.mediaResourceGateway.storeAudioVideo(
-                        anId, VideoResource.with(aCommand.trailer(), VideoMediaType.TRAILER));
-                aVideo.configureTrailer(aTrailerMedia);
-            }
-            if (aCommand.banner() != null) {
-                final var aBannerImage = this.mediaResourceGateway.storeImage(
-                        anId, VideoResource.with(aCommand.banner(), VideoMediaType.BANNER));
-                aVideo.configureBanner(aBannerImage);
-            }
-            if (aCommand.thumbnail() != null) {
-                final var aThumbnailImage = this.mediaResourceGateway.storeImage(
-                        anId, VideoResource.with(aCommand.thumbnail(), VideoMediaType.THUMBNAIL));
-                aVideo.configureThumbnail(aThumbnailImage);
-            }
-            if (aCommand.thumbnailHalf() != null) {
-                final var aThumbnailHalfImage = this.mediaResourceGateway.storeImage(
-                        anId, VideoResource.with(aCommand.thumbnailHalf(), VideoMediaType.THUMBNAIL_HALF));
-                aVideo.configureThumbnailHalf(aThumbnailHalfImage);
-            }
+            this.videoMediaStore.storeAll(aVideo, aCommand.video(), aCommand.trailer(),
+                    aCommand.banner(), aCommand.thumbnail(), aCommand.thumbnailHalf());
             return this.videoGateway.create(aVideo);
         } catch (Exception e) {
             this.mediaResourceGateway.clearResources(anId);
@@ -96,6 +90,60 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         }
     }
 
+    private Video createAsync(final CreateVideoCommand aCommand, final Video aVideo) {
+        final var anId = aVideo.getId();
+        final var resources = resourcesOf(aCommand);
+        if (resources.isEmpty()) {
+            return this.videoGateway.create(aVideo);
+        }
+        // the slot is taken before anything is persisted, so a saturated ingestion leaves no video behind to retry over
+        final var anIngestion = submit(anId, resources);
+        var started = false;
+        try {
+            final var aCreatedVideo = this.videoGateway.create(aVideo);
+            resources.forEach(it -> this.mediaUploadGateway.create(MediaUpload.newUpload(
+                    anId, it.type(), it.resource().name(), it.resource().contentType())));
+            anIngestion.start();
+            started = true;
+            return aCreatedVideo;
+        } finally {
+            if (!started) {
+                anIngestion.cancel();
+            }
+        }
+    }
+
+    private MediaIngestionGateway.Ingestion submit(final VideoID anId, final List<VideoResource> resources) {
+        try {
+            return this.mediaIngestionGateway.submit(anId, resources);
+        } catch (UnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw InternalErrorException.with("An error on create video was observed [videoId: %s]"
+                    .formatted(anId.getValue()), e);
+        }
+    }
+
+    private List<VideoResource> resourcesOf(final CreateVideoCommand aCommand) {
+        final var resources = new ArrayList<VideoResource>();
+        if (aCommand.video() != null) {
+            resources.add(VideoResource.with(aCommand.video(), VideoMediaType.VIDEO));
+        }
+        if (aCommand.trailer() != null) {
+            resources.add(VideoResource.with(aCommand.trailer(), VideoMediaType.TRAILER));
+        }
+        if (aCommand.banner() != null) {
+            resources.add(VideoResource.with(aCommand.banner(), VideoMediaType.BANNER));
+        }
+        if (aCommand.thumbnail() != null) {
+            resources.add(VideoResource.with(aCommand.thumbnail(), VideoMediaType.THUMBNAIL));
+        }
+        if (aCommand.thumbnailHalf() != null) {
+            resources.add(VideoResource.with(aCommand.thumbnailHalf(), VideoMediaType.THUMBNAIL_HALF));
+        }
+        return resources;
+    }
+
     private ValidationHandler validateCategories(final Set<CategoryID> ids) {
         return validateAggregate("categories", ids, categoryGateway::existsByIds);
     }
@@ -0,0 +1,105 @@
+package com.fullcycle.admin.catalogo.application.video.media.ingest;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class DefaultIngestMediaUseCase extends IngestMediaUseCase {
+
+    private static final System.Logger log = System.getLogger(DefaultIngestMediaUseCase.class.getName());
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final VideoGateway videoGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultIngestMediaUseCase(
+            final VideoGateway videoGateway,
+            final MediaResourceGateway mediaResourceGateway,
+            final MediaUploadGateway mediaUploadGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public void execute(final IngestMediaCommand aCommand) {
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var uploads = this.mediaUploadGateway.findByVideoId(aVideoId);
+        aCommand.resources().forEach(aResource ->
+                uploadOf(uploads, aResource.type()).ifPresent(anUpload -> ingest(aVideoId, anUpload, aResource)));
+    }
+
+    private void ingest(final VideoID aVideoId, final MediaUpload anUpload, final VideoResource aResource) {
+        try {
+            final var aContent = aResource.resource();
+            final var aChunk = MediaChunk.with(1, 0, aContent.content().length, aContent.checksum());
+            var aVideo = findVideo(aVideoId);
+            final var aConfigurer = store(aVideoId, aResource);
+            for (int attempt = 1; ; attempt++) {
+                aConfigurer.accept(aVideo);
+                try {
+                    this.videoGateway.update(aVideo);
+                    break;
+                } catch (ConflictException e) {
+                    if (attempt == MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                    // the video was saved by another writer in between: configure its latest version
+                    aVideo = findVideo(aVideoId);
+                }
+            }
+            anUpload.addChunk(aChunk).complete();
+        } catch (Exception e) {
+            log.log(System.Logger.Level.WARNING,
+                    "[message:video.ingestion] [status:failed] [videoId:%s] [type:%s]"
+                            .formatted(aVideoId.getValue(), aResource.type()), e);
+            anUpload.fail();
+        }
+        this.mediaUploadGateway.update(anUpload);
+    }
+
+    private Video findVideo(final VideoID aVideoId) {
+        return this.videoGateway.findById(aVideoId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, aVideoId));
+    }
+
+    private Consumer<Video> store(final VideoID aVideoId, final VideoResource aResource) {
+        return switch (aResource.type()) {
+            case VIDEO -> {
+                final var aMedia = this.mediaResourceGateway.storeAudioVideo(aVideoId, aResource);
+                yield aVideo -> aVideo.configureVideo(aMedia);
+            }
+            case TRAILER -> {
+                final var aMedia = this.mediaResourceGateway.storeAudioVideo(aVideoId, aResource);
+                yield aVideo -> aVideo.configureTrailer(aMedia);
+            }
+            case BANNER -> {
+                final var aMedia = this.mediaResourceGateway.storeImage(aVideoId, aResource);
+                yield aVideo -> aVideo.configureBanner(aMedia);
+            }
+            case THUMBNAIL -> {
+                final var aMedia = this.mediaResourceGateway.storeImage(aVideoId, aResource);
+                yield aVideo -> aVideo.configureThumbnail(aMedia);
+            }
+            case THUMBNAIL_HALF -> {
+                final var aMedia = this.mediaResourceGateway.storeImage(aVideoId, aResource);
+                yield aVideo -> aVideo.configureThumbnailHalf(aMedia);
+            }
+        };
+    }
+
+    private Optional<MediaUpload> uploadOf(final List<MediaUpload> uploads, final VideoMediaType aType) {
+        return uploads.stream()
+                .filter(MediaUpload::isInProgress)
+                .filter(it -> it.getType() == aType)
+                .max(Comparator.comparing(MediaUpload::getCreatedAt));
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.application.video.media.ingest;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+
+import java.util.List;
+
+public record IngestMediaCommand(
+        String videoId,
+        List<VideoResource> resources
+) {
+
+    public static IngestMediaCommand with(final String aVideoId, final List<VideoResource> aResources) {
+        return new IngestMediaCommand(aVideoId, aResources);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.media.ingest;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+
+public abstract class IngestMediaUseCase
+        extends UnitUseCase<IngestMediaCommand> {
+}
@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.application.video.media.sign;
+
+import com.fullcycle.admin.catalogo.application.video.upload.signed.SignedMediaUrlOutput;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.*;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class DefaultSignMediaDownloadUseCase extends SignMediaDownloadUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaSigningGateway mediaSigningGateway;
+
+    public DefaultSignMediaDownloadUseCase(
+            final VideoGateway videoGateway,
+            final MediaSigningGateway mediaSigningGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaSigningGateway = Objects.requireNonNull(mediaSigningGateway);
+    }
+
+    @Override
+    public SignedMediaUrlOutput execute(final SignMediaDownloadCommand aCommand) {
+        final var anId = VideoID.from(aCommand.videoId());
+        final var aType = VideoMediaType.of(aCommand.mediaType())
+                .orElseThrow(typeNotFound(aCommand.mediaType()));
+
+        final var aVideo = this.videoGateway.findById(anId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, anId));
+
+        final var aLocation = locationOf(aVideo, aType)
+                .orElseThrow(notFound(anId.getValue(), aType.name()));
+
+        return SignedMediaUrlOutput.from(anId, aType, this.mediaSigningGateway.signDownload(aLocation));
+    }
+
+    private Optional<String> locationOf(final Video aVideo, final VideoMediaType aType) {
+        return switch (aType) {
+            case VIDEO -> Optional.ofNullable(aVideo.getVideo()).map(AudioVideoMedia::rawLocation);
+            case TRAILER -> Optional.ofNullable(aVideo.getTrailer()).map(AudioVideoMedia::rawLocation);
+            case BANNER -> Optional.ofNullable(aVideo.getBanner()).map(ImageMedia::location);
+            case THUMBNAIL -> Optional.ofNullable(aVideo.getThumbnail()).map(ImageMedia::location);
+            case THUMBNAIL_HALF -> Optional.ofNullable(aVideo.getThumbnailHalf()).map(ImageMedia::location);
+        };
+    }
+
+    private Supplier<NotFoundException> typeNotFound(final String aType) {
+        return () -> NotFoundException.with(new Error("Media type %s does not exist."
+                .formatted(aType)));
+    }
+
+    private Supplier<NotFoundException> notFound(final String anId, final String aType) {
+        return () -> NotFoundException.with(new Error("Resource %s not found for video %s"
+                .formatted(aType, anId)));
+    }
+}
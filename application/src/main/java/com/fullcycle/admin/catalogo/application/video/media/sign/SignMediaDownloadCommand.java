@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.video.media.sign;
+
+public record SignMediaDownloadCommand(
+        String videoId,
+        String mediaType
+) {
+
+    public static SignMediaDownloadCommand with(final String aVideoId, final String aMediaType) {
+        return new SignMediaDownloadCommand(aVideoId, aMediaType);
+    }
+}
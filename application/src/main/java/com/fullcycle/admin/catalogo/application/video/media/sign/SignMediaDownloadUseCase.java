@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.media.sign;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.SignedMediaUrlOutput;
+
+public abstract class SignMediaDownloadUseCase
+        extends UseCase<SignMediaDownloadCommand, SignedMediaUrlOutput> {
+}
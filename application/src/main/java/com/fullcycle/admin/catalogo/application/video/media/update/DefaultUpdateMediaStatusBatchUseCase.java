@@ -0,0 +1,130 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.fullcycle.admin.catalogo.domain.utils.IdUtils.videoIdOf;
+
+public class DefaultUpdateMediaStatusBatchUseCase extends UpdateMediaStatusBatchUseCase {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final VideoGateway videoGateway;
+
+    public DefaultUpdateMediaStatusBatchUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public UpdateMediaStatusBatchOutput execute(final List<UpdateMediaStatusCommand> aCommands) {
+        final var malformed = new TreeSet<Integer>();
+        final var byVideo = new LinkedHashMap<VideoID, List<Integer>>();
+        for (int i = 0; i < aCommands.size(); i++) {
+            try {
+                byVideo.computeIfAbsent(VideoID.from(videoIdOf(aCommands.get(i).filename())), key -> new ArrayList<>())
+                        .add(i);
+            } catch (RuntimeException e) {
+                malformed.add(i);
+            }
+        }
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            final var failed = new TreeSet<>(malformed);
+            try {
+                return applyAll(aCommands, byVideo, failed);
+            } catch (ConflictException e) {
+                // another writer saved one of the videos in between: reload all of them and apply the results again
+            } catch (RuntimeException e) {
+                break;
+            }
+        }
+
+        // the batch could not be saved as a whole: save each video on its own so that
+        // only the results of the video that keeps failing are reported as failed
+        final var failed = new TreeSet<>(malformed);
+        var updated = 0;
+        for (final var anEntry : byVideo.entrySet()) {
+            if (applyOne(aCommands, anEntry.getKey(), anEntry.getValue(), failed)) {
+                updated++;
+            }
+        }
+        return UpdateMediaStatusBatchOutput.from(updated, new ArrayList<>(failed));
+    }
+
+    private UpdateMediaStatusBatchOutput applyAll(
+            final List<UpdateMediaStatusCommand> aCommands,
+            final Map<VideoID, List<Integer>> byVideo,
+            final Set<Integer> failed
+    ) {
+        final var videos = this.videoGateway.findAllById(byVideo.keySet()).stream()
+                .collect(Collectors.toMap(Video::getId, Function.identity()));
+
+        final var changed = new ArrayList<Video>();
+        byVideo.forEach((anId, indexes) -> {
+            final var aVideo = videos.get(anId);
+            if (aVideo == null) {
+                failed.addAll(indexes);
+            } else if (apply(aCommands, indexes, aVideo, failed)) {
+                changed.add(aVideo);
+            }
+        });
+
+        if (!changed.isEmpty()) {
+            this.videoGateway.updateAll(changed);
+        }
+        return UpdateMediaStatusBatchOutput.from(changed.size(), new ArrayList<>(failed));
+    }
+
+    private boolean applyOne(
+            final List<UpdateMediaStatusCommand> aCommands,
+            final VideoID anId,
+            final List<Integer> indexes,
+            final Set<Integer> failed
+    ) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            final var attemptFailed = new TreeSet<Integer>();
+            try {
+                final var aVideo = this.videoGateway.findById(anId);
+                if (aVideo.isEmpty()) {
+                    failed.addAll(indexes);
+                    return false;
+                }
+                final var updated = apply(aCommands, indexes, aVideo.get(), attemptFailed);
+                if (updated) {
+                    this.videoGateway.update(aVideo.get());
+                }
+                failed.addAll(attemptFailed);
+                return updated;
+            } catch (ConflictException e) {
+                // reload this video and apply its results again
+            } catch (RuntimeException e) {
+                break;
+            }
+        }
+        failed.addAll(indexes);
+        return false;
+    }
+
+    private static boolean apply(
+            final List<UpdateMediaStatusCommand> aCommands,
+            final List<Integer> indexes,
+            final Video aVideo,
+            final Set<Integer> failed
+    ) {
+        var updated = false;
+        for (final var index : indexes) {
+            try {
+                updated |= DefaultUpdateMediaStatusUseCase.apply(aCommands.get(index), aVideo);
+            } catch (RuntimeException e) {
+                failed.add(index);
+            }
+        }
+        return updated;
+    }
+}
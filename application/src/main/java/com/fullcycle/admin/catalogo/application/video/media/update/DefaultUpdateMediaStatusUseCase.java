@@ -17,38 +17,62 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
 
     @Override
     public void execute(UpdateMediaStatusCommand aCommand) {
+        if (MediaStatus.PENDING == aCommand.status()) {
+            return;
+        }
+
         final var anId = videoIdOf(aCommand.filename());
         final var aVideoId = VideoID.from(anId);
-        final var aResourceId = aCommand.resourceId();
-        final var aFolder = aCommand.folder();
-        final var aFilename = aCommand.filename();
-        final var aVideo = this.videoGateway.findById(aVideoId)
-                .orElseThrow(() -> notFound(aVideoId));
+        final var anEncodedPath = MediaStatus.COMPLETED == aCommand.status() ? encodedPathOf(aCommand) : null;
 
-        final var encodedPath = "%s/%s".formatted(aFolder, aFilename);
+        final var updated = this.videoGateway.updateMediaStatus(
+                aVideoId, aCommand.resourceId(), aCommand.status(), anEncodedPath);
+
+        if (!updated && this.videoGateway.findById(aVideoId).isEmpty()) {
+            throw notFound(aVideoId);
+        }
+    }
+
+    // same rules as VideoGateway#updateMediaStatus: pending results are ignored and a completed media is final
+    static boolean apply(final UpdateMediaStatusCommand aCommand, final Video aVideo) {
+        if (MediaStatus.PENDING == aCommand.status()) {
+            return false;
+        }
+
+        final var aResourceId = aCommand.resourceId();
+        final var encodedPath = encodedPathOf(aCommand);
 
         if (matches(aResourceId, aVideo.getVideo())) {
-            updateVideo(VideoMediaType.VIDEO, aCommand.status(), aVideo, encodedPath);
-            this.videoGateway.update(aVideo);
+            return updateVideo(VideoMediaType.VIDEO, aCommand.status(), aVideo, aVideo.getVideo(), encodedPath);
         } else if (matches(aResourceId, aVideo.getTrailer())) {
-            updateVideo(VideoMediaType.TRAILER, aCommand.status(), aVideo, encodedPath);
-            this.videoGateway.update(aVideo);
+            return updateVideo(VideoMediaType.TRAILER, aCommand.status(), aVideo, aVideo.getTrailer(), encodedPath);
         }
+        return false;
     }
 
-    private void updateVideo(
+    private static boolean updateVideo(
              final VideoMediaType aType,
              final MediaStatus aStatus,
              final Video aVideo,
+             final AudioVideoMedia aMedia,
              final String encodedPath) {
+        if (MediaStatus.COMPLETED == aMedia.status()) {
+            return false;
+        }
         switch (aStatus) {
             case PENDING -> {}
             case PROCESSING -> aVideo.processing(aType);
             case COMPLETED -> aVideo.completed(aType, encodedPath);
+            case ERROR -> aVideo.failed(aType);
         }
+        return true;
+    }
+
+    private static String encodedPathOf(final UpdateMediaStatusCommand aCommand) {
+        return "%s/%s".formatted(aCommand.folder(), aCommand.filename());
     }
 
-    private boolean matches(final String aResourceId, final AudioVideoMedia anAudioVideoMedia) {
+    private static boolean matches(final String aResourceId, final AudioVideoMedia anAudioVideoMedia) {
         return anAudioVideoMedia != null && anAudioVideoMedia.id().equals(aResourceId);
     }
 
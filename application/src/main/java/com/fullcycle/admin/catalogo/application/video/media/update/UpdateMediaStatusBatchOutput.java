@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import java.util.List;
+
+public record UpdateMediaStatusBatchOutput(
+        int updatedVideos,
+        List<Integer> failedCommands
+) {
+
+    public static UpdateMediaStatusBatchOutput from(final int updatedVideos, final List<Integer> failedCommands) {
+        return new UpdateMediaStatusBatchOutput(updatedVideos, List.copyOf(failedCommands));
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class UpdateMediaStatusBatchUseCase
+        extends UseCase<List<UpdateMediaStatusCommand>, UpdateMediaStatusBatchOutput> {
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.application.video.retrieve.get;
 
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
@@ -11,16 +12,20 @@ import java.util.function.Supplier;
 public class DefaultGetVideoByIdUseCase extends GetVideoByIdUseCase {
 
     private final VideoGateway videoGateway;
+    private final MediaUploadGateway mediaUploadGateway;
 
-    public DefaultGetVideoByIdUseCase(final VideoGateway videoGateway) {
+    public DefaultGetVideoByIdUseCase(
+            final VideoGateway videoGateway,
+            final MediaUploadGateway mediaUploadGateway) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
     }
 
     @Override
     public GetVideoByIdOutput execute(String anId) {
         final var aVideoID = VideoID.from(anId);
         return this.videoGateway.findById(aVideoID)
-                .map(GetVideoByIdOutput::from)
+                .map(aVideo -> GetVideoByIdOutput.from(aVideo, this.mediaUploadGateway.findByVideoId(aVideoID)))
                 .orElseThrow(notFound(aVideoID));
     }
 
@@ -1,9 +1,12 @@
 package com.fullcycle.admin.catalogo.application.video.retrieve.get;
 
+import com.fullcycle.admin.catalogo.application.video.upload.retrieve.MediaUploadOutput;
 import com.fullcycle.admin.catalogo.domain.Identifier;
 import com.fullcycle.admin.catalogo.domain.video.*;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
@@ -25,11 +28,17 @@ public record GetVideoByIdOutput(
         ImageMedia thumbnailHalf,
         AudioVideoMedia trailer,
         AudioVideoMedia video,
+        List<MediaUploadOutput> uploads,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        long version
 ) {
 
     public static GetVideoByIdOutput from(final Video aVideo) {
+        return from(aVideo, Collections.emptyList());
+    }
+
+    public static GetVideoByIdOutput from(final Video aVideo, final List<MediaUpload> uploads) {
         return new GetVideoByIdOutput(
                 aVideo.getId().getValue(),
                 aVideo.getTitle(),
@@ -47,8 +56,10 @@ public record GetVideoByIdOutput(
                 aVideo.getThumbnailHalf(),
                 aVideo.getTrailer(),
                 aVideo.getVideo(),
+                uploads.stream().map(MediaUploadOutput::from).toList(),
                 aVideo.getCreatedAt(),
-                aVideo.getUpdatedAt()
+                aVideo.getUpdatedAt(),
+                aVideo.getVersion()
         );
     }
 }
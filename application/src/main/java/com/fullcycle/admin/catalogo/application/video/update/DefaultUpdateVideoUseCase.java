@@ -1,10 +1,12 @@
 package com.fullcycle.admin.catalogo.application.video.update;
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.application.video.VideoMediaStore;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
@@ -17,6 +19,7 @@ import com.fullcycle.admin.catalogo.domain.video.*;
 import java.time.Year;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -29,19 +32,20 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
     private final CategoryGateway categoryGateway;
     private final GenreGateway genreGateway;
     private final CastMemberGateway castMemberGateway;
-    private final MediaResourceGateway mediaResourceGateway;
+    private final VideoMediaStore videoMediaStore;
 
     public DefaultUpdateVideoUseCase(
             final VideoGateway videoGateway,
             final CategoryGateway categoryGateway,
             final GenreGateway genreGateway,
             final CastMemberGateway castMemberGateway,
-            final MediaResourceGateway mediaResourceGateway) {
+            final MediaResourceGateway mediaResourceGateway,
+            final Executor executor) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
-        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoMediaStore = new VideoMediaStore(mediaResourceGateway, executor);
     }
 
     @Override
@@ -49,6 +53,9 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         final var anId = VideoID.from(aCommand.id());
         final var aVideo = this.videoGateway.findById(anId)
                 .orElseThrow(notFound(anId));
+        if (aCommand.version() != null && aCommand.version() != aVideo.getVersion()) {
+            throw ConflictException.with(Video.class, anId, aVideo.getVersion());
+        }
 
         final var aRating = Rating.of(aCommand.rating()).orElse(null);
         final var aLaunchedAt = aCommand.launchedAt() != null ? Year.of(aCommand.launchedAt()) : null;
@@ -74,6 +81,12 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         return () -> NotFoundException.with(Video.class, anId);
     }
 
+    private ConflictException conflict(final VideoID anId) {
+        return this.videoGateway.findById(anId)
+                .map(it -> ConflictException.with(Video.class, anId, it.getVersion()))
+                .orElseGet(() -> ConflictException.with(Video.class, anId));
+    }
+
     private void notify(final Identifier anId, final Notification notification) {
         throw new NotificationException("Could not update Aggregate Video %s"
                 .formatted(anId.getValue()), notification);
@@ -82,32 +95,11 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
     private Video update(final UpdateVideoCommand aCommand, final Video aVideo) {
         final var anId = aVideo.getId();
         try {
-            if (aCommand.video() != null) {
-                final var aVideoMedia = this.mediaResourceGateway.storeAudioVideo(
-                        anId, VideoResource.with(aCommand.video(), VideoMediaType.VIDEO));
-                aVideo.configureVideo(aVideoMedia);
-            }
-            if (aCommand.trailer() != null) {
-                final var aTrailerMedia = this.mediaResourceGateway.storeAudioVideo(
-                        anId, VideoResource.with(aCommand.trailer(), VideoMediaType.TRAILER));
-                aVideo.configureTrailer(aTrailerMedia);
-            }
-            if (aCommand.banner() != null) {
-                final var aBannerImage = this.mediaResourceGateway.storeImage(
-                        anId, VideoResource.with(aCommand.banner(), VideoMediaType.BANNER));
-                aVideo.configureBanner(aBannerImage);
-            }
-            if (aCommand.thumbnail() != null) {
-                final var aThumbnailImage = this.mediaResourceGateway.storeImage(
-                        anId, VideoResource.with(aCommand.thumbnail(), VideoMediaType.THUMBNAIL));
-                aVideo.configureThumbnail(aThumbnailImage);
-            }
-            if (aCommand.thumbnailHalf() != null) {
-                final var aThumbnailHalfImage = this.mediaResourceGateway.storeImage(
-                        anId, VideoResource.with(aCommand.thumbnailHalf(), VideoMediaType.THUMBNAIL_HALF));
-                aVideo.configureThumbnailHalf(aThumbnailHalfImage);
-            }
+            this.videoMediaStore.storeAll(aVideo, aCommand.video(), aCommand.trailer(),
+                    aCommand.banner(), aCommand.thumbnail(), aCommand.thumbnailHalf());
             return this.videoGateway.update(aVideo);
+        } catch (ConflictException e) {
+            throw conflict(anId);
         } catch (Exception e) {
             throw InternalErrorException.with("An error on update video was observed [videoId: %s]"
                     .formatted(anId.getValue()), e.getCause());
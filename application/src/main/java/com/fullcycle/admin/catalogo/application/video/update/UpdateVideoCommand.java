@@ -22,7 +22,8 @@ public record UpdateVideoCommand(
         Resource trailer,
         Resource banner,
         Resource thumbnail,
-        Resource thumbnailHalf
+        Resource thumbnailHalf,
+        Long version
 ) {
 
     private UpdateVideoCommand(
@@ -53,6 +54,7 @@ public record UpdateVideoCommand(
                 null,
                 null,
                 null,
+                null,
                 null);
     }
 
@@ -90,7 +92,8 @@ public record UpdateVideoCommand(
                 aTrailer,
                 aBanner,
                 aThumbnail,
-                aThumbnailHalf);
+                aThumbnailHalf,
+                null);
     }
 
     public static UpdateVideoCommand with(
@@ -119,4 +122,25 @@ public record UpdateVideoCommand(
                 aGenres,
                 aCastMembers);
     }
+
+    public UpdateVideoCommand withVersion(final Long aVersion) {
+        return new UpdateVideoCommand(
+                id,
+                title,
+                description,
+                launchedAt,
+                duration,
+                releaseStatus,
+                publishingStatus,
+                rating,
+                categories,
+                genres,
+                castMembers,
+                video,
+                trailer,
+                banner,
+                thumbnail,
+                thumbnailHalf,
+                aVersion);
+    }
 }
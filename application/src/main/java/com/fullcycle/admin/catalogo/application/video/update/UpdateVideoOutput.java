@@ -4,14 +4,15 @@ import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
 
 public record UpdateVideoOutput(
-        String id
+        String id,
+        Long version
 ) {
 
     public static UpdateVideoOutput from(final VideoID anId) {
-        return new UpdateVideoOutput(anId.getValue());
+        return new UpdateVideoOutput(anId.getValue(), null);
     }
 
     public static UpdateVideoOutput from(final Video aVideo) {
-        return from(aVideo.getId());
+        return new UpdateVideoOutput(aVideo.getId().getValue(), aVideo.getVersion());
     }
 }
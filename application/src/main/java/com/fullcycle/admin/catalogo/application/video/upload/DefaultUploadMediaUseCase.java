@@ -1,10 +1,7 @@
 package com.fullcycle.admin.catalogo.application.video.upload;
 
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
-import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
-import com.fullcycle.admin.catalogo.domain.video.Video;
-import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
-import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.*;
 
 import java.util.Objects;
 
@@ -12,22 +9,30 @@ public class DefaultUploadMediaUseCase extends UploadMediaUseCase {
 
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
+    private final MediaUploadGateway mediaUploadGateway;
 
     public DefaultUploadMediaUseCase(
             final MediaResourceGateway mediaResourceGateway,
-            final VideoGateway videoGateway) {
+            final VideoGateway videoGateway,
+            final MediaUploadGateway mediaUploadGateway) {
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
     }
 
     @Override
     public UploadMediaOutput execute(final UploadMediaCommand aCommand) {
         final var anId = VideoID.from(aCommand.videoId());
-        final var aResource = aCommand.videoResource();
 
         final var aVideo = this.videoGateway.findById(anId)
                 .orElseThrow(() -> notFound(anId));
 
+        if (aCommand.isChunked()) {
+            return complete(aVideo, MediaUploadID.from(aCommand.uploadId()));
+        }
+
+        final var aResource = aCommand.videoResource();
+
         switch (aResource.type()) {
             case VIDEO -> aVideo.configureVideo(mediaResourceGateway.storeAudioVideo(anId, aResource));
             case TRAILER -> aVideo.configureTrailer(mediaResourceGateway.storeAudioVideo(anId, aResource));
@@ -40,9 +45,30 @@ public class DefaultUploadMediaUseCase extends UploadMediaUseCase {
                 this.videoGateway.update(aVideo), aResource.type());
     }
 
+    private UploadMediaOutput complete(final Video aVideo, final MediaUploadID anUploadId) {
+        final var anUpload = this.mediaUploadGateway.findById(anUploadId)
+                .filter(it -> it.getVideoId().equals(aVideo.getId()))
+                .orElseThrow(() -> NotFoundException.with(MediaUpload.class, anUploadId));
+
+        anUpload.complete();
+
+        switch (anUpload.getType()) {
+            case VIDEO -> aVideo.configureVideo(mediaResourceGateway.composeAudioVideo(anUpload));
+            case TRAILER -> aVideo.configureTrailer(mediaResourceGateway.composeAudioVideo(anUpload));
+            case BANNER -> aVideo.configureBanner(mediaResourceGateway.composeImage(anUpload));
+            case THUMBNAIL -> aVideo.configureThumbnail(mediaResourceGateway.composeImage(anUpload));
+            case THUMBNAIL_HALF -> aVideo.configureThumbnailHalf(mediaResourceGateway.composeImage(anUpload));
+        }
+
+        final var anOutput = UploadMediaOutput.from(
+                this.videoGateway.update(aVideo), anUpload.getType());
+
+        this.mediaUploadGateway.update(anUpload);
+        this.mediaResourceGateway.clearChunks(anUpload);
+        return anOutput;
+    }
+
     private NotFoundException notFound(final VideoID anId) {
         return NotFoundException.with(Video.class, anId);
     }
-
-
 }
@@ -4,10 +4,19 @@ import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 
 public record UploadMediaCommand(
         String videoId,
-        VideoResource videoResource
+        VideoResource videoResource,
+        String uploadId
 ) {
 
     public static UploadMediaCommand with(final String aVideoId, final VideoResource aVideoResource) {
-        return new UploadMediaCommand(aVideoId, aVideoResource);
+        return new UploadMediaCommand(aVideoId, aVideoResource, null);
+    }
+
+    public static UploadMediaCommand fromUpload(final String aVideoId, final String anUploadId) {
+        return new UploadMediaCommand(aVideoId, null, anUploadId);
+    }
+
+    public boolean isChunked() {
+        return uploadId != null;
     }
 }
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.application.video.upload.chunk;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.*;
+
+import java.util.Objects;
+
+public class DefaultUploadMediaChunkUseCase extends UploadMediaChunkUseCase {
+
+    private final MediaUploadGateway mediaUploadGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultUploadMediaChunkUseCase(
+            final MediaUploadGateway mediaUploadGateway,
+            final MediaResourceGateway mediaResourceGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public UploadMediaChunkOutput execute(final UploadMediaChunkCommand aCommand) {
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var anUploadId = MediaUploadID.from(aCommand.uploadId());
+        final var aResource = aCommand.resource();
+
+        final var anUpload = this.mediaUploadGateway.findById(anUploadId)
+                .filter(it -> it.getVideoId().equals(aVideoId))
+                .orElseThrow(() -> NotFoundException.with(MediaUpload.class, anUploadId));
+
+        if (aCommand.number() < 1) {
+            throw NotificationException.with(new Error("'number' should be greater than zero"));
+        }
+        if (aCommand.offset() < 0) {
+            throw NotificationException.with(new Error("'offset' should not be negative"));
+        }
+        if (aResource == null || aResource.content().length == 0) {
+            throw NotificationException.with(new Error("'content' should not be empty"));
+        }
+
+        final var aChunk = MediaChunk.with(
+                aCommand.number(),
+                aCommand.offset(),
+                aResource.content().length,
+                aResource.checksum());
+
+        anUpload.addChunk(aChunk);
+        this.mediaResourceGateway.storeChunk(anUpload, aChunk, aResource);
+
+        return UploadMediaChunkOutput.from(
+                this.mediaUploadGateway.update(anUpload), aChunk.number());
+    }
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.application.video.upload.chunk;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+
+public record UploadMediaChunkCommand(
+        String videoId,
+        String uploadId,
+        int number,
+        long offset,
+        Resource resource
+) {
+
+    public static UploadMediaChunkCommand with(
+            final String aVideoId,
+            final String anUploadId,
+            final int aNumber,
+            final long anOffset,
+            final Resource aResource) {
+        return new UploadMediaChunkCommand(aVideoId, anUploadId, aNumber, anOffset, aResource);
+    }
+}
@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.application.video.upload.chunk;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+
+public record UploadMediaChunkOutput(
+        String uploadId,
+        int number,
+        long nextOffset
+) {
+
+    public static UploadMediaChunkOutput from(final MediaUpload anUpload, final int aNumber) {
+        return new UploadMediaChunkOutput(
+                anUpload.getId().getValue(),
+                aNumber,
+                anUpload.nextOffset()
+        );
+    }
+}
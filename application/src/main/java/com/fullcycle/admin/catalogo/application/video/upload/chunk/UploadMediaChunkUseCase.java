@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.upload.chunk;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class UploadMediaChunkUseCase
+        extends UseCase<UploadMediaChunkCommand, UploadMediaChunkOutput> {
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.application.video.upload.create;
+
+public record CreateMediaUploadCommand(
+        String videoId,
+        String type,
+        String name,
+        String contentType
+) {
+
+    public static CreateMediaUploadCommand with(
+            final String aVideoId,
+            final String aType,
+            final String aName,
+            final String aContentType) {
+        return new CreateMediaUploadCommand(aVideoId, aType, aName, aContentType);
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.application.video.upload.create;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record CreateMediaUploadOutput(
+        String uploadId,
+        String videoId,
+        VideoMediaType mediaType
+) {
+
+    public static CreateMediaUploadOutput from(final MediaUpload anUpload) {
+        return new CreateMediaUploadOutput(
+                anUpload.getId().getValue(),
+                anUpload.getVideoId().getValue(),
+                anUpload.getType()
+        );
+    }
+}
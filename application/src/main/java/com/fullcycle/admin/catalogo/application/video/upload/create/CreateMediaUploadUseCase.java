@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.upload.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class CreateMediaUploadUseCase
+        extends UseCase<CreateMediaUploadCommand, CreateMediaUploadOutput> {
+}
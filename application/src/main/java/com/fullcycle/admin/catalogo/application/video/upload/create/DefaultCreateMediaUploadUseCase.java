@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.application.video.upload.create;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.*;
+
+import java.util.Objects;
+
+public class DefaultCreateMediaUploadUseCase extends CreateMediaUploadUseCase {
+
+    private final MediaUploadGateway mediaUploadGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCreateMediaUploadUseCase(
+            final MediaUploadGateway mediaUploadGateway,
+            final VideoGateway videoGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public CreateMediaUploadOutput execute(final CreateMediaUploadCommand aCommand) {
+        final var anId = VideoID.from(aCommand.videoId());
+        final var aType = VideoMediaType.of(aCommand.type())
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for VideoMediaType"
+                        .formatted(aCommand.type()))));
+
+        this.videoGateway.findById(anId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, anId));
+
+        final var anUpload = MediaUpload.newUpload(
+                anId,
+                aType,
+                aCommand.name(),
+                aCommand.contentType());
+
+        return CreateMediaUploadOutput.from(this.mediaUploadGateway.create(anUpload));
+    }
+}
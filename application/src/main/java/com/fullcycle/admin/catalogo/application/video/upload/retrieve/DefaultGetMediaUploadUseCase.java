@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.application.video.upload.retrieve;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class DefaultGetMediaUploadUseCase extends GetMediaUploadUseCase {
+
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultGetMediaUploadUseCase(final MediaUploadGateway mediaUploadGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final GetMediaUploadCommand aCommand) {
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var anUploadId = MediaUploadID.from(aCommand.uploadId());
+        return this.mediaUploadGateway.findById(anUploadId)
+                .filter(it -> it.getVideoId().equals(aVideoId))
+                .map(MediaUploadOutput::from)
+                .orElseThrow(() -> NotFoundException.with(MediaUpload.class, anUploadId));
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.video.upload.retrieve;
+
+public record GetMediaUploadCommand(
+        String videoId,
+        String uploadId
+) {
+
+    public static GetMediaUploadCommand with(final String aVideoId, final String anUploadId) {
+        return new GetMediaUploadCommand(aVideoId, anUploadId);
+    }
+}
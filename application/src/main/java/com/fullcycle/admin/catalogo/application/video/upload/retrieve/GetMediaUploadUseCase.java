@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.upload.retrieve;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class GetMediaUploadUseCase
+        extends UseCase<GetMediaUploadCommand, MediaUploadOutput> {
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.application.video.upload.retrieve;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaChunk;
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadStatus;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.time.Instant;
+import java.util.List;
+
+public record MediaUploadOutput(
+        String uploadId,
+        String videoId,
+        VideoMediaType mediaType,
+        String name,
+        String contentType,
+        MediaUploadStatus status,
+        long nextOffset,
+        long size,
+        List<MediaChunk> chunks,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    public static MediaUploadOutput from(final MediaUpload anUpload) {
+        return new MediaUploadOutput(
+                anUpload.getId().getValue(),
+                anUpload.getVideoId().getValue(),
+                anUpload.getType(),
+                anUpload.getName(),
+                anUpload.getContentType(),
+                anUpload.getStatus(),
+                anUpload.nextOffset(),
+                anUpload.size(),
+                anUpload.getChunks(),
+                anUpload.getCreatedAt(),
+                anUpload.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.application.video.upload.signed;
+
+public record CompleteSignedUploadCommand(
+        String videoId,
+        String type,
+        String name,
+        String checksum
+) {
+
+    public static CompleteSignedUploadCommand with(
+            final String aVideoId,
+            final String aType,
+            final String aName,
+            final String aChecksum) {
+        return new CompleteSignedUploadCommand(aVideoId, aType, aName, aChecksum);
+    }
+}
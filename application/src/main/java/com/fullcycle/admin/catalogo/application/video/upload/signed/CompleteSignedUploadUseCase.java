@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.upload.signed;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.UploadMediaOutput;
+
+public abstract class CompleteSignedUploadUseCase
+        extends UseCase<CompleteSignedUploadCommand, UploadMediaOutput> {
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.application.video.upload.signed;
+
+import com.fullcycle.admin.catalogo.application.video.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.*;
+
+import java.util.Objects;
+
+public class DefaultCompleteSignedUploadUseCase extends CompleteSignedUploadUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaSigningGateway mediaSigningGateway;
+
+    public DefaultCompleteSignedUploadUseCase(
+            final VideoGateway videoGateway,
+            final MediaSigningGateway mediaSigningGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaSigningGateway = Objects.requireNonNull(mediaSigningGateway);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final CompleteSignedUploadCommand aCommand) {
+        final var anId = VideoID.from(aCommand.videoId());
+        final var aType = VideoMediaType.of(aCommand.type())
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for VideoMediaType"
+                        .formatted(aCommand.type()))));
+
+        final var aVideo = this.videoGateway.findById(anId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, anId));
+
+        final var anExpectedChecksum = this.mediaSigningGateway.normalizeChecksum(aCommand.checksum())
+                .orElseThrow(() -> NotificationException.with(new Error("Checksum %s is not a valid crc32c"
+                        .formatted(aCommand.checksum()))));
+
+        final var aStagingLocation = this.mediaSigningGateway.stagingLocation(anId, aType);
+        final var aChecksum = this.mediaSigningGateway.checksumOf(aStagingLocation)
+                .orElseThrow(() -> NotFoundException.with(new Error("Resource %s was not uploaded for video %s"
+                        .formatted(aType.name(), anId.getValue()))));
+
+        if (!aChecksum.equals(anExpectedChecksum)) {
+            throw mismatchOf(aCommand.checksum(), aType);
+        }
+
+        // the staged upload can be overwritten until it is promoted, so the promotion checks the checksum again
+        final var aLocation = this.mediaSigningGateway.promote(anId, aType, aChecksum)
+                .orElseThrow(() -> mismatchOf(aCommand.checksum(), aType));
+
+        switch (aType) {
+            case VIDEO -> aVideo.configureVideo(AudioVideoMedia.with(aChecksum, aCommand.name(), aLocation));
+            case TRAILER -> aVideo.configureTrailer(AudioVideoMedia.with(aChecksum, aCommand.name(), aLocation));
+            case BANNER -> aVideo.configureBanner(ImageMedia.with(aChecksum, aCommand.name(), aLocation));
+            case THUMBNAIL -> aVideo.configureThumbnail(ImageMedia.with(aChecksum, aCommand.name(), aLocation));
+            case THUMBNAIL_HALF -> aVideo.configureThumbnailHalf(ImageMedia.with(aChecksum, aCommand.name(), aLocation));
+        }
+
+        return UploadMediaOutput.from(this.videoGateway.update(aVideo), aType);
+    }
+
+    private static DomainException mismatchOf(final String aChecksum, final VideoMediaType aType) {
+        return NotificationException.with(new Error("Checksum %s does not match the uploaded %s"
+                .formatted(aChecksum, aType.name())));
+    }
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.application.video.upload.signed;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.*;
+
+import java.util.Objects;
+
+public class DefaultSignMediaUploadUseCase extends SignMediaUploadUseCase {
+
+    private final VideoGateway videoGateway;
+    private final MediaSigningGateway mediaSigningGateway;
+
+    public DefaultSignMediaUploadUseCase(
+            final VideoGateway videoGateway,
+            final MediaSigningGateway mediaSigningGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaSigningGateway = Objects.requireNonNull(mediaSigningGateway);
+    }
+
+    @Override
+    public SignedMediaUrlOutput execute(final SignMediaUploadCommand aCommand) {
+        final var anId = VideoID.from(aCommand.videoId());
+        final var aType = VideoMediaType.of(aCommand.type())
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for VideoMediaType"
+                        .formatted(aCommand.type()))));
+
+        if (aCommand.contentType() == null || aCommand.contentType().isBlank()) {
+            throw NotificationException.with(new Error("'contentType' should not be null or empty"));
+        }
+
+        this.videoGateway.findById(anId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, anId));
+
+        final var aSignedUrl =
+                this.mediaSigningGateway.signUpload(anId, aType, aCommand.contentType());
+        return SignedMediaUrlOutput.from(anId, aType, aSignedUrl);
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.application.video.upload.signed;
+
+public record SignMediaUploadCommand(
+        String videoId,
+        String type,
+        String contentType
+) {
+
+    public static SignMediaUploadCommand with(
+            final String aVideoId,
+            final String aType,
+            final String aContentType) {
+        return new SignMediaUploadCommand(aVideoId, aType, aContentType);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.upload.signed;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class SignMediaUploadUseCase
+        extends UseCase<SignMediaUploadCommand, SignedMediaUrlOutput> {
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.application.video.upload.signed;
+
+import com.fullcycle.admin.catalogo.domain.video.SignedMediaUrl;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.time.Instant;
+
+public record SignedMediaUrlOutput(
+        String videoId,
+        VideoMediaType mediaType,
+        String url,
+        String method,
+        Instant expiresAt
+) {
+
+    public static SignedMediaUrlOutput from(
+            final VideoID anId,
+            final VideoMediaType aType,
+            final SignedMediaUrl aSignedUrl) {
+        return new SignedMediaUrlOutput(
+                anId.getValue(),
+                aType,
+                aSignedUrl.url(),
+                aSignedUrl.method(),
+                aSignedUrl.expiresAt()
+        );
+    }
+}
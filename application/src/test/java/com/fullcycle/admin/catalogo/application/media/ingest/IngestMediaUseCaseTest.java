@@ -0,0 +1,217 @@
+package com.fullcycle.admin.catalogo.application.media.ingest;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.video.media.ingest.DefaultIngestMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.ingest.IngestMediaCommand;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class IngestMediaUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @InjectMocks
+    private DefaultIngestMediaUseCase ingestMediaUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaResourceGateway, mediaUploadGateway);
+    }
+
+    @Nested
+    @DisplayName("Ingest spooled medias with a valid command")
+    class IngestWithValidCommand {
+
+        @Test
+        void Given_spooled_medias_When_calls_ingest_Then_should_configure_video_and_complete_uploads() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedId = aVideo.getId();
+            final var aVideoUpload = Fixture.Videos.upload(expectedId, VideoMediaType.VIDEO);
+            final var aBannerUpload = Fixture.Videos.upload(expectedId, VideoMediaType.BANNER);
+            final var aVideoResource = VideoResource.with(
+                    Fixture.Videos.resource(VideoMediaType.VIDEO), VideoMediaType.VIDEO);
+            final var aBannerResource = VideoResource.with(
+                    Fixture.Videos.resource(VideoMediaType.BANNER), VideoMediaType.BANNER);
+            final var expectedVideoMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+            final var expectedBannerMedia = Fixture.Videos.image(VideoMediaType.BANNER);
+
+            when(mediaUploadGateway.findByVideoId(any()))
+                    .thenReturn(List.of(aVideoUpload, aBannerUpload));
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaResourceGateway.storeAudioVideo(any(), any()))
+                    .thenReturn(expectedVideoMedia);
+            when(mediaResourceGateway.storeImage(any(), any()))
+                    .thenReturn(expectedBannerMedia);
+            when(videoGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+            when(mediaUploadGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommand = IngestMediaCommand.with(
+                    expectedId.getValue(), List.of(aVideoResource, aBannerResource));
+
+            // When
+            ingestMediaUseCase.execute(aCommand);
+
+            // Then
+            verify(mediaResourceGateway, times(1)).storeAudioVideo(expectedId, aVideoResource);
+            verify(mediaResourceGateway, times(1)).storeImage(expectedId, aBannerResource);
+
+            final var videoCaptor = ArgumentCaptor.forClass(Video.class);
+            verify(videoGateway, times(2)).update(videoCaptor.capture());
+            final var actualVideo = videoCaptor.getValue();
+            assertEquals(expectedVideoMedia, actualVideo.getVideo());
+            assertEquals(expectedBannerMedia, actualVideo.getBanner());
+
+            final var uploadCaptor = ArgumentCaptor.forClass(MediaUpload.class);
+            verify(mediaUploadGateway, times(2)).update(uploadCaptor.capture());
+            uploadCaptor.getAllValues().forEach(actualUpload -> {
+                assertEquals(MediaUploadStatus.COMPLETED, actualUpload.getStatus());
+                assertEquals("Conteudo".length(), actualUpload.size());
+            });
+        }
+
+        @Test
+        void Given_a_failing_storage_When_calls_ingest_Then_should_mark_only_that_upload_as_failed() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedId = aVideo.getId();
+            final var aTrailerUpload = Fixture.Videos.upload(expectedId, VideoMediaType.TRAILER);
+            final var aThumbnailUpload = Fixture.Videos.upload(expectedId, VideoMediaType.THUMBNAIL);
+            final var aTrailerResource = VideoResource.with(
+                    Fixture.Videos.resource(VideoMediaType.TRAILER), VideoMediaType.TRAILER);
+            final var aThumbnailResource = VideoResource.with(
+                    Fixture.Videos.resource(VideoMediaType.THUMBNAIL), VideoMediaType.THUMBNAIL);
+
+            when(mediaUploadGateway.findByVideoId(any()))
+                    .thenReturn(List.of(aTrailerUpload, aThumbnailUpload));
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaResourceGateway.storeAudioVideo(any(), any()))
+                    .thenThrow(new RuntimeException("Storage Unavailable"));
+            when(mediaResourceGateway.storeImage(any(), any()))
+                    .thenReturn(Fixture.Videos.image(VideoMediaType.THUMBNAIL));
+            when(videoGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+            when(mediaUploadGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommand = IngestMediaCommand.with(
+                    expectedId.getValue(), List.of(aTrailerResource, aThumbnailResource));
+
+            // When
+            ingestMediaUseCase.execute(aCommand);
+
+            // Then
+            verify(videoGateway, times(1)).update(any());
+            assertEquals(MediaUploadStatus.FAILED, aTrailerUpload.getStatus());
+            assertEquals(MediaUploadStatus.COMPLETED, aThumbnailUpload.getStatus());
+            verify(mediaUploadGateway, times(1)).update(aTrailerUpload);
+            verify(mediaUploadGateway, times(1)).update(aThumbnailUpload);
+        }
+
+        @Test
+        void Given_a_concurrent_video_update_When_calls_ingest_Then_should_reload_the_video_and_retry() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedId = aVideo.getId();
+            final var aBannerUpload = Fixture.Videos.upload(expectedId, VideoMediaType.BANNER);
+            final var aBannerResource = VideoResource.with(
+                    Fixture.Videos.resource(VideoMediaType.BANNER), VideoMediaType.BANNER);
+            final var expectedBannerMedia = Fixture.Videos.image(VideoMediaType.BANNER);
+
+            when(mediaUploadGateway.findByVideoId(any()))
+                    .thenReturn(List.of(aBannerUpload));
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaResourceGateway.storeImage(any(), any()))
+                    .thenReturn(expectedBannerMedia);
+            when(videoGateway.update(any()))
+                    .thenThrow(ConflictException.with(Video.class, expectedId))
+                    .thenAnswer(returnsFirstArg());
+            when(mediaUploadGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            // When
+            ingestMediaUseCase.execute(IngestMediaCommand.with(expectedId.getValue(), List.of(aBannerResource)));
+
+            // Then
+            verify(mediaResourceGateway, times(1)).storeImage(expectedId, aBannerResource);
+            verify(videoGateway, times(2)).findById(expectedId);
+            verify(videoGateway, times(2)).update(aVideo);
+            assertEquals(expectedBannerMedia, aVideo.getBanner());
+            assertEquals(MediaUploadStatus.COMPLETED, aBannerUpload.getStatus());
+        }
+
+        @Test
+        void Given_a_video_that_keeps_conflicting_When_calls_ingest_Then_should_mark_the_upload_as_failed() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedId = aVideo.getId();
+            final var aBannerUpload = Fixture.Videos.upload(expectedId, VideoMediaType.BANNER);
+            final var aBannerResource = VideoResource.with(
+                    Fixture.Videos.resource(VideoMediaType.BANNER), VideoMediaType.BANNER);
+
+            when(mediaUploadGateway.findByVideoId(any()))
+                    .thenReturn(List.of(aBannerUpload));
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaResourceGateway.storeImage(any(), any()))
+                    .thenReturn(Fixture.Videos.image(VideoMediaType.BANNER));
+            when(videoGateway.update(any()))
+                    .thenThrow(ConflictException.with(Video.class, expectedId));
+            when(mediaUploadGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            // When
+            ingestMediaUseCase.execute(IngestMediaCommand.with(expectedId.getValue(), List.of(aBannerResource)));
+
+            // Then
+            verify(videoGateway, times(3)).update(aVideo);
+            assertEquals(MediaUploadStatus.FAILED, aBannerUpload.getStatus());
+            verify(mediaUploadGateway, times(1)).update(aBannerUpload);
+        }
+
+        @Test
+        void Given_a_resource_without_pending_upload_When_calls_ingest_Then_should_skip_it() {
+            // Given
+            final var expectedId = VideoID.unique();
+            final var aResource = VideoResource.with(
+                    Fixture.Videos.resource(VideoMediaType.BANNER), VideoMediaType.BANNER);
+
+            when(mediaUploadGateway.findByVideoId(any()))
+                    .thenReturn(List.of());
+
+            // When
+            ingestMediaUseCase.execute(IngestMediaCommand.with(expectedId.getValue(), List.of(aResource)));
+
+            // Then
+            verify(mediaResourceGateway, never()).storeImage(any(), any());
+            verify(videoGateway, never()).update(any());
+            verify(mediaUploadGateway, never()).update(any());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalogo.application.media.sign;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.video.media.sign.DefaultSignMediaDownloadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.sign.SignMediaDownloadCommand;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.*;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class SignMediaDownloadUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaSigningGateway mediaSigningGateway;
+
+    @InjectMocks
+    private DefaultSignMediaDownloadUseCase signMediaDownloadUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaSigningGateway);
+    }
+
+    @Nested
+    @DisplayName("Sign a media download with a valid command")
+    class SignWithValidCommand {
+
+        @Test
+        void Given_a_configured_media_When_calls_sign_download_Then_should_sign_its_location() {
+            // Given
+            final var aMedia = Fixture.Videos.image(VideoMediaType.THUMBNAIL);
+            final var aVideo = Fixture.Videos.systemDesign();
+            aVideo.configureThumbnail(aMedia);
+            final var expectedVideoId = aVideo.getId();
+            final var expectedType = VideoMediaType.THUMBNAIL;
+            final var expectedSignedUrl = SignedMediaUrl.with(
+                    "http://storage/" + aMedia.location(), "GET", aMedia.location(), Instant.now());
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaSigningGateway.signDownload(any()))
+                    .thenReturn(expectedSignedUrl);
+
+            final var aCommand = SignMediaDownloadCommand.with(expectedVideoId.getValue(), expectedType.name());
+
+            // When
+            final var actualOutput = signMediaDownloadUseCase.execute(aCommand);
+
+            // Then
+            assertEquals(expectedVideoId.getValue(), actualOutput.videoId());
+            assertEquals(expectedType, actualOutput.mediaType());
+            assertEquals(expectedSignedUrl.url(), actualOutput.url());
+            assertEquals("GET", actualOutput.method());
+            verify(mediaSigningGateway, times(1)).signDownload(eq(aMedia.location()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sign a media download with an invalid command")
+    class SignWithInvalidCommand {
+
+        @Test
+        void Given_a_missing_media_When_calls_sign_download_Then_should_return_not_found() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedVideoId = aVideo.getId();
+            final var expectedErrorMessage = "Resource TRAILER not found for video %s"
+                    .formatted(expectedVideoId.getValue());
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+
+            final var aCommand = SignMediaDownloadCommand.with(
+                    expectedVideoId.getValue(), VideoMediaType.TRAILER.name());
+
+            // When
+            final var actualException = assertThrows(NotFoundException.class,
+                    () -> signMediaDownloadUseCase.execute(aCommand));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            verify(mediaSigningGateway, never()).signDownload(any());
+        }
+    }
+}
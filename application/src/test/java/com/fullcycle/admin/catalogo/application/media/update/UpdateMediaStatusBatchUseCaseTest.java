@@ -0,0 +1,303 @@
+package com.fullcycle.admin.catalogo.application.media.update;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.video.media.update.DefaultUpdateMediaStatusBatchUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class UpdateMediaStatusBatchUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @InjectMocks
+    private DefaultUpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Nested
+    @DisplayName("Update media statuses in batch")
+    class UpdateMediaStatusInBatch {
+
+        @Test
+        void Given_results_for_video_and_trailer_of_the_same_video_When_calls_execute_Then_should_load_and_update_it_once() {
+            // Given
+            final var expectedFolder = "encoded_media";
+            final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+            final var expectedTrailer = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+            final var aVideo = Fixture.Videos.systemDesign()
+                    .configureVideo(expectedVideo)
+                    .configureTrailer(expectedTrailer);
+            final var expectedId = aVideo.getId();
+            final var aVideoFilename = "videoId-%s/type-VIDEO".formatted(expectedId.getValue());
+            final var aTrailerFilename = "videoId-%s/type-TRAILER".formatted(expectedId.getValue());
+
+            when(videoGateway.findAllById(any()))
+                    .thenReturn(List.of(aVideo));
+            when(videoGateway.updateAll(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommands = List.of(
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedId.getValue(),
+                            expectedVideo.id(), expectedFolder, aVideoFilename),
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedId.getValue(),
+                            expectedTrailer.id(), expectedFolder, aTrailerFilename));
+
+            // When
+            final var actualOutput = updateMediaStatusBatchUseCase.execute(aCommands);
+
+            // Then
+            assertEquals(1, actualOutput.updatedVideos());
+            assertTrue(actualOutput.failedCommands().isEmpty());
+
+            verify(videoGateway, times(1)).findAllById(Set.of(expectedId));
+            verify(videoGateway, never()).findById(any());
+            verify(videoGateway, never()).update(any());
+
+            @SuppressWarnings("unchecked") final ArgumentCaptor<List<Video>> captor = ArgumentCaptor.forClass(List.class);
+            verify(videoGateway, times(1)).updateAll(captor.capture());
+            final var actualVideo = captor.getValue().get(0);
+
+            assertEquals(MediaStatus.COMPLETED, actualVideo.getVideo().status());
+            assertEquals(expectedFolder.concat("/").concat(aVideoFilename), actualVideo.getVideo().encodedLocation());
+            assertEquals(MediaStatus.COMPLETED, actualVideo.getTrailer().status());
+            assertEquals(expectedFolder.concat("/").concat(aTrailerFilename), actualVideo.getTrailer().encodedLocation());
+        }
+
+        @Test
+        void Given_results_of_missing_videos_and_malformed_paths_When_calls_execute_Then_should_report_only_those_as_failed() {
+            // Given
+            final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+            final var aVideo = Fixture.Videos.systemDesign()
+                    .configureVideo(expectedVideo);
+            final var aMissingId = VideoID.unique();
+
+            when(videoGateway.findAllById(any()))
+                    .thenReturn(List.of(aVideo));
+            when(videoGateway.updateAll(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommands = List.of(
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedVideo.id(),
+                            "videoId-%s/type-VIDEO".formatted(aMissingId.getValue())),
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedVideo.id(),
+                            "malformed"),
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, aVideo.getId().getValue(),
+                            expectedVideo.id(), "encoded_media",
+                            "videoId-%s/type-VIDEO".formatted(aVideo.getId().getValue())));
+
+            // When
+            final var actualOutput = updateMediaStatusBatchUseCase.execute(aCommands);
+
+            // Then
+            assertEquals(1, actualOutput.updatedVideos());
+            assertEquals(List.of(0, 1), actualOutput.failedCommands());
+            verify(videoGateway, times(1)).updateAll(List.of(aVideo));
+        }
+
+        @Test
+        void Given_an_error_result_for_a_completed_trailer_When_calls_execute_Then_should_fail_only_the_pending_video() {
+            // Given
+            final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+            final var expectedTrailer = Fixture.Videos.audioVideo(VideoMediaType.TRAILER).completed("encoded/trailer");
+            final var aVideo = Fixture.Videos.systemDesign()
+                    .configureVideo(expectedVideo)
+                    .configureTrailer(expectedTrailer);
+            final var anId = aVideo.getId().getValue();
+
+            when(videoGateway.findAllById(any()))
+                    .thenReturn(List.of(aVideo));
+            when(videoGateway.updateAll(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommands = List.of(
+                    UpdateMediaStatusCommand.with(MediaStatus.ERROR, expectedVideo.id(),
+                            "videoId-%s/type-VIDEO".formatted(anId)),
+                    UpdateMediaStatusCommand.with(MediaStatus.ERROR, expectedTrailer.id(),
+                            "videoId-%s/type-TRAILER".formatted(anId)));
+
+            // When
+            final var actualOutput = updateMediaStatusBatchUseCase.execute(aCommands);
+
+            // Then
+            assertEquals(1, actualOutput.updatedVideos());
+            assertEquals(MediaStatus.ERROR, aVideo.getVideo().status());
+            assertEquals(MediaStatus.COMPLETED, aVideo.getTrailer().status());
+            assertEquals("encoded/trailer", aVideo.getTrailer().encodedLocation());
+        }
+
+        @Test
+        void Given_late_results_for_a_completed_video_When_calls_execute_Then_should_keep_it_completed() {
+            // Given
+            final var expectedLocation = "encoded/video";
+            final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO).completed(expectedLocation);
+            final var aVideo = Fixture.Videos.systemDesign()
+                    .configureVideo(expectedVideo);
+            final var aFilename = "videoId-%s/type-VIDEO".formatted(aVideo.getId().getValue());
+
+            when(videoGateway.findAllById(any()))
+                    .thenReturn(List.of(aVideo));
+
+            final var aCommands = List.of(
+                    UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, aVideo.getId().getValue(),
+                            expectedVideo.id(), null, aFilename),
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, aVideo.getId().getValue(),
+                            expectedVideo.id(), "encoded_media", aFilename));
+
+            // When
+            final var actualOutput = updateMediaStatusBatchUseCase.execute(aCommands);
+
+            // Then
+            assertEquals(0, actualOutput.updatedVideos());
+            assertTrue(actualOutput.failedCommands().isEmpty());
+            assertEquals(MediaStatus.COMPLETED, aVideo.getVideo().status());
+            assertEquals(expectedLocation, aVideo.getVideo().encodedLocation());
+            verify(videoGateway, never()).updateAll(any());
+        }
+
+        @Test
+        void Given_results_that_match_no_media_When_calls_execute_Then_should_not_update_anything() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign()
+                    .configureVideo(Fixture.Videos.audioVideo(VideoMediaType.VIDEO));
+
+            when(videoGateway.findAllById(any()))
+                    .thenReturn(List.of(aVideo));
+
+            final var aCommands = List.of(
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, "unknown-resource",
+                            "videoId-%s/type-VIDEO".formatted(aVideo.getId().getValue())));
+
+            // When
+            final var actualOutput = updateMediaStatusBatchUseCase.execute(aCommands);
+
+            // Then
+            assertEquals(0, actualOutput.updatedVideos());
+            assertTrue(actualOutput.failedCommands().isEmpty());
+            verify(videoGateway, never()).updateAll(any());
+        }
+
+        @Test
+        void Given_a_concurrent_write_When_calls_execute_Then_should_reload_and_apply_the_results_again() {
+            // Given
+            final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+            final var aVideo = Fixture.Videos.systemDesign()
+                    .configureVideo(expectedVideo);
+            final var expectedId = aVideo.getId();
+
+            when(videoGateway.findAllById(any()))
+                    .thenAnswer(it -> List.of(Video.with(aVideo)));
+            when(videoGateway.updateAll(any()))
+                    .thenThrow(ConflictException.with(Video.class, expectedId))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommands = List.of(
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedId.getValue(),
+                            expectedVideo.id(), "encoded_media",
+                            "videoId-%s/type-VIDEO".formatted(expectedId.getValue())));
+
+            // When
+            final var actualOutput = updateMediaStatusBatchUseCase.execute(aCommands);
+
+            // Then
+            assertEquals(1, actualOutput.updatedVideos());
+            assertTrue(actualOutput.failedCommands().isEmpty());
+            verify(videoGateway, times(2)).findAllById(Set.of(expectedId));
+            verify(videoGateway, times(2)).updateAll(any());
+        }
+
+        @Test
+        void Given_conflicts_on_every_batch_attempt_When_calls_execute_Then_should_fall_back_to_one_save_per_video() {
+            // Given
+            final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+            final var aVideo = Fixture.Videos.systemDesign()
+                    .configureVideo(expectedVideo);
+            final var expectedId = aVideo.getId();
+            final var expectedAttempts = 3;
+
+            when(videoGateway.findAllById(any()))
+                    .thenAnswer(it -> List.of(Video.with(aVideo)));
+            when(videoGateway.findById(any()))
+                    .thenAnswer(it -> Optional.of(Video.with(aVideo)));
+            when(videoGateway.updateAll(any()))
+                    .thenThrow(ConflictException.with(Video.class, expectedId));
+            when(videoGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommands = List.of(
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, expectedId.getValue(),
+                            expectedVideo.id(), "encoded_media",
+                            "videoId-%s/type-VIDEO".formatted(expectedId.getValue())));
+
+            // When
+            final var actualOutput = updateMediaStatusBatchUseCase.execute(aCommands);
+
+            // Then
+            assertEquals(1, actualOutput.updatedVideos());
+            assertTrue(actualOutput.failedCommands().isEmpty());
+            verify(videoGateway, times(expectedAttempts)).findAllById(Set.of(expectedId));
+            verify(videoGateway, times(expectedAttempts)).updateAll(any());
+            verify(videoGateway, times(1)).update(any());
+        }
+
+        @Test
+        void Given_a_batch_that_fails_to_save_When_calls_execute_Then_should_fail_only_the_results_of_the_failing_video() {
+            // Given
+            final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+            final var aVideo = Fixture.Videos.systemDesign()
+                    .configureVideo(expectedVideo);
+            final var aBrokenVideo = Fixture.Videos.systemDesign()
+                    .configureVideo(Fixture.Videos.audioVideo(VideoMediaType.VIDEO));
+            final var aBrokenMedia = aBrokenVideo.getVideo();
+
+            when(videoGateway.findAllById(any()))
+                    .thenAnswer(it -> List.of(Video.with(aVideo), Video.with(aBrokenVideo)));
+            when(videoGateway.updateAll(any()))
+                    .thenThrow(new IllegalStateException("constraint violation"));
+            when(videoGateway.findById(aVideo.getId()))
+                    .thenAnswer(it -> Optional.of(Video.with(aVideo)));
+            when(videoGateway.findById(aBrokenVideo.getId()))
+                    .thenAnswer(it -> Optional.of(Video.with(aBrokenVideo)));
+            doAnswer(returnsFirstArg())
+                    .when(videoGateway).update(argThat(it -> aVideo.getId().equals(it.getId())));
+            doThrow(new IllegalStateException("constraint violation"))
+                    .when(videoGateway).update(argThat(it -> aBrokenVideo.getId().equals(it.getId())));
+
+            final var aCommands = List.of(
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, aBrokenVideo.getId().getValue(),
+                            aBrokenMedia.id(), "encoded_media",
+                            "videoId-%s/type-VIDEO".formatted(aBrokenVideo.getId().getValue())),
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, aVideo.getId().getValue(),
+                            expectedVideo.id(), "encoded_media",
+                            "videoId-%s/type-VIDEO".formatted(aVideo.getId().getValue())));
+
+            // When
+            final var actualOutput = updateMediaStatusBatchUseCase.execute(aCommands);
+
+            // Then
+            assertEquals(1, actualOutput.updatedVideos());
+            assertEquals(List.of(0), actualOutput.failedCommands());
+            verify(videoGateway, times(1)).updateAll(any());
+            verify(videoGateway, times(2)).update(any());
+        }
+    }
+}
@@ -4,9 +4,9 @@ import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.application.video.media.update.DefaultUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
 import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import org.junit.jupiter.api.*;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
@@ -15,8 +15,8 @@ import java.util.Optional;
 
 import static com.fullcycle.admin.catalogo.domain.utils.IdUtils.videoIdOf;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -54,20 +54,13 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
             final var expectedStatus = MediaStatus.COMPLETED;
             final var expectedFolder = "encoded_media";
             final var expectedFilename = "videoId-696d02e507824064994be29b4b845214/type-VIDEO";
-            final var expectedType = VideoMediaType.VIDEO;
-            final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-            final var aVideo = Fixture.Videos.systemDesign()
-                    .configureVideo(expectedMedia);
+            final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
 
             final var anId = videoIdOf(expectedFilename);
             final var expectedId = VideoID.from(anId);
 
-            when(videoGateway.findById(any()))
-                    .thenReturn(Optional.of(aVideo));
-
-            when(videoGateway.update(any()))
-                    .thenAnswer(returnsFirstArg());
+            when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                    .thenReturn(true);
 
             final var aCommand =
                     UpdateMediaStatusCommand.with(expectedStatus,
@@ -80,21 +73,13 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
             updateMediaStatusUseCase.execute(aCommand);
 
             // Then
-            verify(videoGateway, times(1)).findById(expectedId);
-
-            final var captor = ArgumentCaptor.forClass(Video.class);
-            verify(videoGateway, times(1)).update(captor.capture());
-            final var actualVideo = captor.getValue();
-
-            assertNull(actualVideo.getTrailer());
-
-            final var actualVideoMedia = actualVideo.getVideo();
-
-            assertEquals(expectedMedia.id(), actualVideoMedia.id());
-            assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-            assertEquals(expectedStatus, actualVideoMedia.status());
-            assertEquals(expectedFolder.concat("/").concat(expectedFilename),
-                    actualVideoMedia.encodedLocation());
+            verify(videoGateway, times(1)).updateMediaStatus(
+                    expectedId,
+                    expectedMedia.id(),
+                    expectedStatus,
+                    expectedFolder.concat("/").concat(expectedFilename));
+            verify(videoGateway, never()).findById(any());
+            verify(videoGateway, never()).update(any());
         }
 
         @Test
@@ -102,21 +87,14 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
             // Given
             final var expectedStatus = MediaStatus.COMPLETED;
             final var expectedFolder = "encoded_media";
-            final var expectedFilename = "videoId-696d02e507824064994be29b4b845214/type-VIDEO";
-            final var expectedType = VideoMediaType.TRAILER;
-            final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-            final var aVideo = Fixture.Videos.systemDesign()
-                    .configureTrailer(expectedMedia);
+            final var expectedFilename = "videoId-696d02e507824064994be29b4b845214/type-TRAILER";
+            final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
 
             final var anId = videoIdOf(expectedFilename);
             final var expectedId = VideoID.from(anId);
 
-            when(videoGateway.findById(any()))
-                    .thenReturn(Optional.of(aVideo));
-
-            when(videoGateway.update(any()))
-                    .thenAnswer(returnsFirstArg());
+            when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                    .thenReturn(true);
 
             final var aCommand =
                     UpdateMediaStatusCommand.with(expectedStatus,
@@ -129,43 +107,27 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
             updateMediaStatusUseCase.execute(aCommand);
 
             // Then
-            verify(videoGateway, times(1)).findById(expectedId);
-
-            final var captor = ArgumentCaptor.forClass(Video.class);
-            verify(videoGateway, times(1)).update(captor.capture());
-            final var actualVideo = captor.getValue();
-
-            assertNull(actualVideo.getVideo());
-
-            final var actualVideoMedia = actualVideo.getTrailer();
-
-            assertEquals(expectedMedia.id(), actualVideoMedia.id());
-            assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-            assertEquals(expectedStatus, actualVideoMedia.status());
-            assertEquals(expectedFolder.concat("/").concat(expectedFilename),
-                    actualVideoMedia.encodedLocation());
+            verify(videoGateway, times(1)).updateMediaStatus(
+                    expectedId,
+                    expectedMedia.id(),
+                    expectedStatus,
+                    expectedFolder.concat("/").concat(expectedFilename));
+            verify(videoGateway, never()).update(any());
         }
 
         @Test
-        void Given_a_valid_command_for_video_When_calls_update_for_processing_Then_should_update_media_status_and_encoded_location() {
+        void Given_a_valid_command_for_video_When_calls_update_for_processing_Then_should_update_media_status_and_keep_encoded_location() {
             // Given
             final var expectedStatus = MediaStatus.PROCESSING;
             final String expectedFolder = null;
-            final String expectedFilename = "videoId-696d02e507824064994be29b4b845214/type-VIDEO";
-            final var expectedType = VideoMediaType.VIDEO;
-            final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-            final var aVideo = Fixture.Videos.systemDesign()
-                    .configureVideo(expectedMedia);
+            final var expectedFilename = "videoId-696d02e507824064994be29b4b845214/type-VIDEO";
+            final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
 
             final var anId = videoIdOf(expectedFilename);
             final var expectedId = VideoID.from(anId);
 
-            when(videoGateway.findById(any()))
-                    .thenReturn(Optional.of(aVideo));
-
-            when(videoGateway.update(any()))
-                    .thenAnswer(returnsFirstArg());
+            when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                    .thenReturn(true);
 
             final var aCommand =
                     UpdateMediaStatusCommand.with(expectedStatus,
@@ -178,42 +140,26 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
             updateMediaStatusUseCase.execute(aCommand);
 
             // Then
-            verify(videoGateway, times(1)).findById(expectedId);
-
-            final var captor = ArgumentCaptor.forClass(Video.class);
-            verify(videoGateway, times(1)).update(captor.capture());
-            final var actualVideo = captor.getValue();
-
-            assertNull(actualVideo.getTrailer());
-
-            final var actualVideoMedia = actualVideo.getVideo();
-
-            assertEquals(expectedMedia.id(), actualVideoMedia.id());
-            assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-            assertEquals(expectedStatus, actualVideoMedia.status());
-            assertTrue(actualVideoMedia.encodedLocation().isBlank());
+            verify(videoGateway, times(1)).updateMediaStatus(
+                    expectedId,
+                    expectedMedia.id(),
+                    expectedStatus,
+                    null);
         }
 
         @Test
-        void Given_a_valid_command_for_trailer_When_calls_update_for_processing_Then_should_update_media_status_and_encoded_location() {
+        void Given_a_valid_command_for_trailer_When_calls_update_for_processing_Then_should_update_media_status_and_keep_encoded_location() {
             // Given
             final var expectedStatus = MediaStatus.PROCESSING;
             final String expectedFolder = null;
-            final String expectedFilename = "videoId-696d02e507824064994be29b4b845214/type-VIDEO";
-            final var expectedType = VideoMediaType.TRAILER;
-            final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-            final var aVideo = Fixture.Videos.systemDesign()
-                    .configureTrailer(expectedMedia);
+            final var expectedFilename = "videoId-696d02e507824064994be29b4b845214/type-TRAILER";
+            final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
 
             final var anId = videoIdOf(expectedFilename);
             final var expectedId = VideoID.from(anId);
 
-            when(videoGateway.findById(any()))
-                    .thenReturn(Optional.of(aVideo));
-
-            when(videoGateway.update(any()))
-                    .thenAnswer(returnsFirstArg());
+            when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                    .thenReturn(true);
 
             final var aCommand =
                     UpdateMediaStatusCommand.with(expectedStatus,
@@ -226,20 +172,56 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
             updateMediaStatusUseCase.execute(aCommand);
 
             // Then
-            verify(videoGateway, times(1)).findById(expectedId);
+            verify(videoGateway, times(1)).updateMediaStatus(
+                    expectedId,
+                    expectedMedia.id(),
+                    expectedStatus,
+                    null);
+            verify(videoGateway, never()).update(any());
+        }
+
+        @Test
+        void Given_an_error_command_for_video_When_calls_update_Then_should_mark_the_media_as_error() {
+            // Given
+            final var expectedStatus = MediaStatus.ERROR;
+            final var expectedFilename = "videoId-696d02e507824064994be29b4b845214/type-VIDEO";
+            final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+            final var expectedId = VideoID.from(videoIdOf(expectedFilename));
+
+            when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                    .thenReturn(true);
+
+            final var aCommand =
+                    UpdateMediaStatusCommand.with(expectedStatus,
+                            expectedMedia.id(),
+                            expectedFilename);
+
+            // When
+            updateMediaStatusUseCase.execute(aCommand);
 
-            final var captor = ArgumentCaptor.forClass(Video.class);
-            verify(videoGateway, times(1)).update(captor.capture());
-            final var actualVideo = captor.getValue();
+            // Then
+            verify(videoGateway, times(1)).updateMediaStatus(
+                    expectedId,
+                    expectedMedia.id(),
+                    expectedStatus,
+                    null);
+        }
 
-            assertNull(actualVideo.getVideo());
+        @Test
+        void Given_a_pending_command_When_calls_update_Then_should_do_nothing() {
+            // Given
+            final var aCommand =
+                    UpdateMediaStatusCommand.with(MediaStatus.PENDING,
+                            "696d02e507824064994be29b4b845214",
+                            "resource",
+                            "encoded_media",
+                            "videoId-696d02e507824064994be29b4b845214/type-VIDEO");
 
-            final var actualVideoMedia = actualVideo.getTrailer();
+            // When
+            updateMediaStatusUseCase.execute(aCommand);
 
-            assertEquals(expectedMedia.id(), actualVideoMedia.id());
-            assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-            assertEquals(expectedStatus, actualVideoMedia.status());
-            assertTrue(actualVideoMedia.encodedLocation().isBlank());
+            // Then
+            verifyNoInteractions(videoGateway);
         }
     }
 
@@ -253,8 +235,7 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
             final var expectedStatus = MediaStatus.COMPLETED;
             final var expectedFolder = "encoded_media";
             final var expectedFilename = "videoId-696d02e507824064994be29b4b845214/type-VIDEO";
-            final var expectedType = VideoMediaType.VIDEO;
-            final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+            final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
             final var anInvalidRandomMediaId = "an-invalid-random-media-id";
 
             final var aVideo = Fixture.Videos.systemDesign()
@@ -263,6 +244,8 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
             final var anId = videoIdOf(expectedFilename);
             final var expectedId = VideoID.from(anId);
 
+            when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                    .thenReturn(false);
             when(videoGateway.findById(any()))
                     .thenReturn(Optional.of(aVideo));
 
@@ -277,8 +260,37 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
             updateMediaStatusUseCase.execute(aCommand);
 
             // Then
+            verify(videoGateway, times(1)).updateMediaStatus(
+                    eq(expectedId), eq(anInvalidRandomMediaId), eq(expectedStatus), any());
             verify(videoGateway, times(1)).findById(expectedId);
             verify(videoGateway, never()).update(any());
         }
+
+        @Test
+        void Given_an_unknown_video_When_calls_update_media_status_Then_should_throw_not_found() {
+            // Given
+            final var expectedFilename = "videoId-696d02e507824064994be29b4b845214/type-VIDEO";
+            final var expectedId = VideoID.from(videoIdOf(expectedFilename));
+            final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
+
+            when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+                    .thenReturn(false);
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.empty());
+
+            final var aCommand =
+                    UpdateMediaStatusCommand.with(MediaStatus.COMPLETED,
+                            expectedId.getValue(),
+                            "resource",
+                            "encoded_media",
+                            expectedFilename);
+
+            // When
+            final var actualException = assertThrows(NotFoundException.class,
+                    () -> updateMediaStatusUseCase.execute(aCommand));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+        }
     }
 }
@@ -0,0 +1,246 @@
+package com.fullcycle.admin.catalogo.application.media.upload;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.CompleteSignedUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.DefaultCompleteSignedUploadUseCase;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.*;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CompleteSignedUploadUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaSigningGateway mediaSigningGateway;
+
+    @InjectMocks
+    private DefaultCompleteSignedUploadUseCase completeSignedUploadUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaSigningGateway);
+    }
+
+    @Nested
+    @DisplayName("Complete a signed upload with a valid command")
+    class CompleteWithValidCommand {
+
+        @Test
+        void Given_an_uploaded_video_When_calls_complete_signed_upload_Then_should_configure_video() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedVideoId = aVideo.getId();
+            final var expectedType = VideoMediaType.VIDEO;
+            final var expectedName = "video.mp4";
+            final var expectedChecksum = Fixture.checksum();
+            final var expectedLocation = "videoId-%s/type-VIDEO".formatted(expectedVideoId.getValue());
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaSigningGateway.normalizeChecksum(any()))
+                    .thenReturn(Optional.of(expectedChecksum));
+            when(mediaSigningGateway.stagingLocation(any(), any()))
+                    .thenReturn("staging/" + expectedLocation);
+            when(mediaSigningGateway.checksumOf(any()))
+                    .thenReturn(Optional.of(expectedChecksum));
+            when(mediaSigningGateway.promote(any(), any(), any()))
+                    .thenReturn(Optional.of(expectedLocation));
+            when(videoGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommand = CompleteSignedUploadCommand.with(
+                    expectedVideoId.getValue(), expectedType.name(), expectedName, expectedChecksum);
+
+            // When
+            final var actualOutput = completeSignedUploadUseCase.execute(aCommand);
+
+            // Then
+            assertEquals(expectedVideoId.getValue(), actualOutput.videoId());
+            assertEquals(expectedType, actualOutput.mediaType());
+            verify(mediaSigningGateway, times(1)).checksumOf("staging/" + expectedLocation);
+            verify(mediaSigningGateway, times(1)).promote(expectedVideoId, expectedType, expectedChecksum);
+            verify(videoGateway, times(1)).update(argThat(actualVideo ->
+                    actualVideo.getVideo() != null
+                            && Objects.equals(expectedChecksum, actualVideo.getVideo().checksum())
+                            && Objects.equals(expectedName, actualVideo.getVideo().name())
+                            && Objects.equals(expectedLocation, actualVideo.getVideo().rawLocation())
+                            && Objects.equals(MediaStatus.PENDING, actualVideo.getVideo().status())
+            ));
+        }
+
+        @Test
+        void Given_an_uploaded_banner_When_calls_complete_signed_upload_Then_should_configure_banner() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedVideoId = aVideo.getId();
+            final var expectedType = VideoMediaType.BANNER;
+            final var expectedName = "banner.jpg";
+            final var expectedChecksum = Fixture.checksum();
+            final var expectedLocation = "videoId-%s/type-BANNER".formatted(expectedVideoId.getValue());
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaSigningGateway.normalizeChecksum(any()))
+                    .thenReturn(Optional.of(expectedChecksum));
+            when(mediaSigningGateway.stagingLocation(any(), any()))
+                    .thenReturn("staging/" + expectedLocation);
+            when(mediaSigningGateway.checksumOf(any()))
+                    .thenReturn(Optional.of(expectedChecksum));
+            when(mediaSigningGateway.promote(any(), any(), any()))
+                    .thenReturn(Optional.of(expectedLocation));
+            when(videoGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommand = CompleteSignedUploadCommand.with(
+                    expectedVideoId.getValue(), expectedType.name(), expectedName, expectedChecksum.toUpperCase());
+
+            // When
+            completeSignedUploadUseCase.execute(aCommand);
+
+            // Then
+            verify(videoGateway, times(1)).update(argThat(actualVideo ->
+                    actualVideo.getBanner() != null
+                            && Objects.equals(expectedName, actualVideo.getBanner().name())
+                            && Objects.equals(expectedLocation, actualVideo.getBanner().location())
+            ));
+        }
+    }
+
+    @Nested
+    @DisplayName("Complete a signed upload with an invalid command")
+    class CompleteWithInvalidCommand {
+
+        @Test
+        void Given_a_missing_upload_When_calls_complete_signed_upload_Then_should_return_not_found() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedVideoId = aVideo.getId();
+            final var expectedErrorMessage = "Resource VIDEO was not uploaded for video %s"
+                    .formatted(expectedVideoId.getValue());
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaSigningGateway.normalizeChecksum(any()))
+                    .thenReturn(Optional.of(Fixture.checksum()));
+            when(mediaSigningGateway.stagingLocation(any(), any()))
+                    .thenReturn("staging/videoId-%s/type-VIDEO".formatted(expectedVideoId.getValue()));
+            when(mediaSigningGateway.checksumOf(any()))
+                    .thenReturn(Optional.empty());
+
+            final var aCommand = CompleteSignedUploadCommand.with(
+                    expectedVideoId.getValue(), VideoMediaType.VIDEO.name(), "video.mp4", Fixture.checksum());
+
+            // When
+            final var actualException = assertThrows(NotFoundException.class,
+                    () -> completeSignedUploadUseCase.execute(aCommand));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            verify(videoGateway, never()).update(any());
+        }
+
+        @Test
+        void Given_a_checksum_mismatch_When_calls_complete_signed_upload_Then_should_not_configure_media() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedVideoId = aVideo.getId();
+            final var expectedChecksum = "deadbeef";
+            final var expectedErrorMessage = "Checksum deadbeef does not match the uploaded TRAILER";
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaSigningGateway.normalizeChecksum(any()))
+                    .thenReturn(Optional.of(expectedChecksum));
+            when(mediaSigningGateway.stagingLocation(any(), any()))
+                    .thenReturn("staging/videoId-%s/type-TRAILER".formatted(expectedVideoId.getValue()));
+            when(mediaSigningGateway.checksumOf(any()))
+                    .thenReturn(Optional.of(Fixture.checksum()));
+
+            final var aCommand = CompleteSignedUploadCommand.with(
+                    expectedVideoId.getValue(), VideoMediaType.TRAILER.name(), "trailer.mp4", expectedChecksum);
+
+            // When
+            final var actualException = assertThrows(DomainException.class,
+                    () -> completeSignedUploadUseCase.execute(aCommand));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+            verify(mediaSigningGateway, never()).promote(any(), any(), any());
+            verify(videoGateway, never()).update(any());
+        }
+
+        @Test
+        void Given_an_upload_replaced_before_promotion_When_calls_complete_signed_upload_Then_should_not_configure_media() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedVideoId = aVideo.getId();
+            final var expectedChecksum = Fixture.checksum();
+            final var expectedErrorMessage = "Checksum %s does not match the uploaded VIDEO".formatted(expectedChecksum);
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaSigningGateway.normalizeChecksum(any()))
+                    .thenReturn(Optional.of(expectedChecksum));
+            when(mediaSigningGateway.stagingLocation(any(), any()))
+                    .thenReturn("staging/videoId-%s/type-VIDEO".formatted(expectedVideoId.getValue()));
+            when(mediaSigningGateway.checksumOf(any()))
+                    .thenReturn(Optional.of(expectedChecksum));
+            when(mediaSigningGateway.promote(any(), any(), any()))
+                    .thenReturn(Optional.empty());
+
+            final var aCommand = CompleteSignedUploadCommand.with(
+                    expectedVideoId.getValue(), VideoMediaType.VIDEO.name(), "video.mp4", expectedChecksum);
+
+            // When
+            final var actualException = assertThrows(DomainException.class,
+                    () -> completeSignedUploadUseCase.execute(aCommand));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+            verify(mediaSigningGateway, times(1)).promote(expectedVideoId, VideoMediaType.VIDEO, expectedChecksum);
+            verify(videoGateway, never()).update(any());
+        }
+
+        @Test
+        void Given_a_malformed_checksum_When_calls_complete_signed_upload_Then_should_return_domain_exception() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedVideoId = aVideo.getId();
+            final var expectedChecksum = "not-a-crc";
+            final var expectedErrorMessage = "Checksum not-a-crc is not a valid crc32c";
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaSigningGateway.normalizeChecksum(any()))
+                    .thenReturn(Optional.empty());
+
+            final var aCommand = CompleteSignedUploadCommand.with(
+                    expectedVideoId.getValue(), VideoMediaType.VIDEO.name(), "video.mp4", expectedChecksum);
+
+            // When
+            final var actualException = assertThrows(DomainException.class,
+                    () -> completeSignedUploadUseCase.execute(aCommand));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+            verify(mediaSigningGateway, never()).checksumOf(any());
+            verify(videoGateway, never()).update(any());
+        }
+    }
+}
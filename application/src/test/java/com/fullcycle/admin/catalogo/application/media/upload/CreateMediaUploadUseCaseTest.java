@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalogo.application.media.upload;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.video.upload.create.CreateMediaUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.upload.create.DefaultCreateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CreateMediaUploadUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @InjectMocks
+    private DefaultCreateMediaUploadUseCase createMediaUploadUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaUploadGateway, videoGateway);
+    }
+
+    @Nested
+    @DisplayName("Create a media upload with a valid command")
+    class CreateWithValidCommand {
+
+        @Test
+        void Given_a_valid_command_When_calls_create_upload_Then_should_persist_an_upload_in_progress() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedVideoId = aVideo.getId();
+            final var expectedType = VideoMediaType.VIDEO;
+            final var expectedName = "video.mp4";
+            final var expectedContentType = "video/mp4";
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaUploadGateway.create(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommand = CreateMediaUploadCommand.with(
+                    expectedVideoId.getValue(), expectedType.name(), expectedName, expectedContentType);
+
+            // When
+            final var actualOutput = createMediaUploadUseCase.execute(aCommand);
+
+            // Then
+            assertNotNull(actualOutput.uploadId());
+            assertEquals(expectedVideoId.getValue(), actualOutput.videoId());
+            assertEquals(expectedType, actualOutput.mediaType());
+            verify(mediaUploadGateway, times(1)).create(argThat(actualUpload ->
+                    Objects.equals(expectedVideoId, actualUpload.getVideoId())
+                            && Objects.equals(expectedType, actualUpload.getType())
+                            && Objects.equals(expectedName, actualUpload.getName())
+                            && Objects.equals(expectedContentType, actualUpload.getContentType())
+                            && Objects.equals(MediaUploadStatus.IN_PROGRESS, actualUpload.getStatus())
+                            && actualUpload.getChunks().isEmpty()
+            ));
+        }
+    }
+
+    @Nested
+    @DisplayName("Create a media upload with an invalid command")
+    class CreateWithInvalidCommand {
+
+        @Test
+        void Given_an_invalid_video_id_When_calls_create_upload_Then_should_return_not_found() {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var expectedErrorMessage = "Video with ID %s was not found"
+                    .formatted(expectedVideoId.getValue());
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.empty());
+
+            final var aCommand = CreateMediaUploadCommand.with(
+                    expectedVideoId.getValue(), "VIDEO", "video.mp4", "video/mp4");
+
+            // When
+            Executable invalidMethodCall = () -> createMediaUploadUseCase.execute(aCommand);
+
+            // Then
+            final var actualException = assertThrows(NotFoundException.class, invalidMethodCall);
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            verify(mediaUploadGateway, never()).create(any());
+        }
+
+        @Test
+        void Given_an_invalid_type_When_calls_create_upload_Then_should_return_error() {
+            // Given
+            final var expectedErrorMessage = "Invalid INVALID for VideoMediaType";
+
+            final var aCommand = CreateMediaUploadCommand.with(
+                    VideoID.unique().getValue(), "INVALID", "video.mp4", "video/mp4");
+
+            // When
+            Executable invalidMethodCall = () -> createMediaUploadUseCase.execute(aCommand);
+
+            // Then
+            final var actualException = assertThrows(DomainException.class, invalidMethodCall);
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            verify(videoGateway, never()).findById(any());
+            verify(mediaUploadGateway, never()).create(any());
+        }
+    }
+}
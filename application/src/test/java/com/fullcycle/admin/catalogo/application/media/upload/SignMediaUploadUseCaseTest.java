@@ -0,0 +1,120 @@
+package com.fullcycle.admin.catalogo.application.media.upload;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.DefaultSignMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.SignMediaUploadCommand;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.*;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class SignMediaUploadUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaSigningGateway mediaSigningGateway;
+
+    @InjectMocks
+    private DefaultSignMediaUploadUseCase signMediaUploadUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaSigningGateway);
+    }
+
+    @Nested
+    @DisplayName("Sign a media upload with a valid command")
+    class SignWithValidCommand {
+
+        @Test
+        void Given_a_valid_command_When_calls_sign_upload_Then_should_return_signed_url() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedVideoId = aVideo.getId();
+            final var expectedType = VideoMediaType.VIDEO;
+            final var expectedContentType = "video/mp4";
+            final var expectedLocation = "videoId-%s/type-VIDEO".formatted(expectedVideoId.getValue());
+            final var expectedSignedUrl = SignedMediaUrl.with(
+                    "http://storage/" + expectedLocation, "PUT", expectedLocation, Instant.now());
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaSigningGateway.signUpload(any(), any(), any()))
+                    .thenReturn(expectedSignedUrl);
+
+            final var aCommand = SignMediaUploadCommand.with(
+                    expectedVideoId.getValue(), expectedType.name(), expectedContentType);
+
+            // When
+            final var actualOutput = signMediaUploadUseCase.execute(aCommand);
+
+            // Then
+            assertEquals(expectedVideoId.getValue(), actualOutput.videoId());
+            assertEquals(expectedType, actualOutput.mediaType());
+            assertEquals(expectedSignedUrl.url(), actualOutput.url());
+            assertEquals(expectedSignedUrl.method(), actualOutput.method());
+            assertEquals(expectedSignedUrl.expiresAt(), actualOutput.expiresAt());
+            verify(mediaSigningGateway, times(1))
+                    .signUpload(eq(expectedVideoId), eq(expectedType), eq(expectedContentType));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sign a media upload with an invalid command")
+    class SignWithInvalidCommand {
+
+        @Test
+        void Given_an_invalid_video_id_When_calls_sign_upload_Then_should_return_not_found() {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var expectedErrorMessage = "Video with ID %s was not found"
+                    .formatted(expectedVideoId.getValue());
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.empty());
+
+            final var aCommand = SignMediaUploadCommand.with(
+                    expectedVideoId.getValue(), VideoMediaType.VIDEO.name(), "video/mp4");
+
+            // When
+            final var actualException = assertThrows(NotFoundException.class,
+                    () -> signMediaUploadUseCase.execute(aCommand));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            verify(mediaSigningGateway, never()).signUpload(any(), any(), any());
+        }
+
+        @Test
+        void Given_an_empty_content_type_When_calls_sign_upload_Then_should_return_domain_exception() {
+            // Given
+            final var expectedErrorMessage = "'contentType' should not be null or empty";
+
+            final var aCommand = SignMediaUploadCommand.with(
+                    VideoID.unique().getValue(), VideoMediaType.BANNER.name(), " ");
+
+            // When
+            final var actualException = assertThrows(DomainException.class,
+                    () -> signMediaUploadUseCase.execute(aCommand));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+            verify(videoGateway, never()).findById(any());
+        }
+    }
+}
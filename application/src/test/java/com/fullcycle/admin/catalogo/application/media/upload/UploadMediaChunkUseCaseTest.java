@@ -0,0 +1,141 @@
+package com.fullcycle.admin.catalogo.application.media.upload;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.video.upload.chunk.DefaultUploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.chunk.UploadMediaChunkCommand;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class UploadMediaChunkUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @InjectMocks
+    private DefaultUploadMediaChunkUseCase uploadMediaChunkUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaUploadGateway, mediaResourceGateway);
+    }
+
+    @Nested
+    @DisplayName("Upload a media chunk with a valid command")
+    class UploadChunkWithValidCommand {
+
+        @Test
+        void Given_a_valid_chunk_When_calls_upload_chunk_Then_should_stage_it_and_record_its_state() {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var anUpload = Fixture.Videos.upload(expectedVideoId, VideoMediaType.VIDEO);
+            final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+            final var expectedNumber = 1;
+            final var expectedOffset = 0L;
+            final var expectedNextOffset = (long) expectedResource.content().length;
+
+            when(mediaUploadGateway.findById(any()))
+                    .thenReturn(Optional.of(anUpload));
+            when(mediaUploadGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommand = UploadMediaChunkCommand.with(
+                    expectedVideoId.getValue(),
+                    anUpload.getId().getValue(),
+                    expectedNumber,
+                    expectedOffset,
+                    expectedResource);
+
+            // When
+            final var actualOutput = uploadMediaChunkUseCase.execute(aCommand);
+
+            // Then
+            assertEquals(anUpload.getId().getValue(), actualOutput.uploadId());
+            assertEquals(expectedNumber, actualOutput.number());
+            assertEquals(expectedNextOffset, actualOutput.nextOffset());
+
+            final var expectedChunk = MediaChunk.with(
+                    expectedNumber, expectedOffset, expectedNextOffset, expectedResource.checksum());
+            verify(mediaResourceGateway, times(1))
+                    .storeChunk(any(), eq(expectedChunk), eq(expectedResource));
+            verify(mediaUploadGateway, times(1)).update(argThat(actualUpload ->
+                    actualUpload.getChunks().contains(expectedChunk)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Upload a media chunk with an invalid command")
+    class UploadChunkWithInvalidCommand {
+
+        @Test
+        void Given_an_unknown_upload_When_calls_upload_chunk_Then_should_return_not_found() {
+            // Given
+            final var anUploadId = MediaUploadID.unique();
+            final var expectedErrorMessage = "MediaUpload with ID %s was not found"
+                    .formatted(anUploadId.getValue());
+
+            when(mediaUploadGateway.findById(any()))
+                    .thenReturn(Optional.empty());
+
+            final var aCommand = UploadMediaChunkCommand.with(
+                    VideoID.unique().getValue(),
+                    anUploadId.getValue(),
+                    1,
+                    0,
+                    Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+            // When
+            Executable invalidMethodCall = () -> uploadMediaChunkUseCase.execute(aCommand);
+
+            // Then
+            final var actualException = assertThrows(NotFoundException.class, invalidMethodCall);
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            verify(mediaResourceGateway, never()).storeChunk(any(), any(), any());
+        }
+
+        @Test
+        void Given_a_negative_offset_When_calls_upload_chunk_Then_should_return_error() {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var anUpload = Fixture.Videos.upload(expectedVideoId, VideoMediaType.VIDEO);
+            final var expectedErrorMessage = "'offset' should not be negative";
+
+            when(mediaUploadGateway.findById(any()))
+                    .thenReturn(Optional.of(anUpload));
+
+            final var aCommand = UploadMediaChunkCommand.with(
+                    expectedVideoId.getValue(),
+                    anUpload.getId().getValue(),
+                    1,
+                    -1,
+                    Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+            // When
+            Executable invalidMethodCall = () -> uploadMediaChunkUseCase.execute(aCommand);
+
+            // Then
+            final var actualException = assertThrows(DomainException.class, invalidMethodCall);
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            verify(mediaResourceGateway, never()).storeChunk(any(), any(), any());
+            verify(mediaUploadGateway, never()).update(any());
+        }
+    }
+}
@@ -5,10 +5,8 @@ import com.fullcycle.admin.catalogo.application.video.upload.DefaultUploadMediaU
 import com.fullcycle.admin.catalogo.application.video.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
-import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
-import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
-import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
-import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.video.*;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.function.Executable;
 import org.mockito.InjectMocks;
@@ -18,8 +16,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -33,12 +30,15 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
     @Mock
     private VideoGateway videoGateway;
 
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
     @InjectMocks
     private DefaultUploadMediaUseCase uploadMediaUseCase;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(mediaResourceGateway, videoGateway);
+        return List.of(mediaResourceGateway, videoGateway, mediaUploadGateway);
     }
 
     @Nested
@@ -261,4 +261,112 @@ public class UploadMediaUseCaseTest extends UseCaseTest {
             assertEquals(expectedErrorMessage, actualException.getMessage());
         }
     }
+
+    @Nested
+    @DisplayName("Complete a chunked upload with a valid command")
+    class CompleteChunkedUploadWithValidCommand {
+
+        @Test
+        void Given_a_valid_upload_When_calls_upload_Then_should_compose_chunks_and_update_video_media() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedId = aVideo.getId();
+            final var expectedType = VideoMediaType.VIDEO;
+            final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+            final var anUpload = Fixture.Videos.upload(expectedId, expectedType);
+            anUpload.addChunk(MediaChunk.with(1, 0, 10, "abc"));
+            anUpload.addChunk(MediaChunk.with(2, 10, 10, "def"));
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaUploadGateway.findById(any()))
+                    .thenReturn(Optional.of(MediaUpload.with(anUpload)));
+            when(mediaResourceGateway.composeAudioVideo(any()))
+                    .thenReturn(expectedMedia);
+            when(videoGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+            when(mediaUploadGateway.update(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            final var aCommand = UploadMediaCommand
+                    .fromUpload(expectedId.getValue(), anUpload.getId().getValue());
+
+            // When
+            final var actualOutput = uploadMediaUseCase.execute(aCommand);
+
+            // Then
+            assertEquals(expectedType, actualOutput.mediaType());
+            assertEquals(expectedId.getValue(), actualOutput.videoId());
+            verify(mediaUploadGateway, times(1)).findById(anUpload.getId());
+            verify(mediaResourceGateway, times(1)).composeAudioVideo(argThat(actualUpload ->
+                    Objects.equals(anUpload.getId(), actualUpload.getId())
+                            && actualUpload.getChunks().size() == 2));
+            verify(videoGateway, times(1)).update(argThat(actualVideo ->
+                    Objects.equals(expectedMedia, actualVideo.getVideo())));
+            verify(mediaUploadGateway, times(1)).update(argThat(MediaUpload::isCompleted));
+            verify(mediaResourceGateway, times(1)).clearChunks(any());
+            verify(mediaResourceGateway, never()).storeAudioVideo(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Complete a chunked upload with an invalid command")
+    class CompleteChunkedUploadWithInvalidCommand {
+
+        @Test
+        void Given_an_upload_of_another_video_When_calls_upload_Then_should_return_not_found() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedId = aVideo.getId();
+            final var anUpload = Fixture.Videos.upload(VideoID.unique(), VideoMediaType.VIDEO);
+
+            final var expectedErrorMessage = "MediaUpload with ID %s was not found"
+                    .formatted(anUpload.getId().getValue());
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaUploadGateway.findById(any()))
+                    .thenReturn(Optional.of(anUpload));
+
+            final var aCommand = UploadMediaCommand
+                    .fromUpload(expectedId.getValue(), anUpload.getId().getValue());
+
+            // When
+            Executable invalidMethodCall = () -> uploadMediaUseCase.execute(aCommand);
+
+            // Then
+            final var actualException = assertThrows(NotFoundException.class, invalidMethodCall);
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            verify(mediaResourceGateway, never()).composeAudioVideo(any());
+            verify(videoGateway, never()).update(any());
+        }
+
+        @Test
+        void Given_an_upload_with_missing_chunks_When_calls_upload_Then_should_return_error() {
+            // Given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedId = aVideo.getId();
+            final var anUpload = Fixture.Videos.upload(expectedId, VideoMediaType.TRAILER);
+            anUpload.addChunk(MediaChunk.with(2, 10, 10, "def"));
+
+            final var expectedErrorMessage = "Chunk 1 is missing";
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(aVideo));
+            when(mediaUploadGateway.findById(any()))
+                    .thenReturn(Optional.of(anUpload));
+
+            final var aCommand = UploadMediaCommand
+                    .fromUpload(expectedId.getValue(), anUpload.getId().getValue());
+
+            // When
+            Executable invalidMethodCall = () -> uploadMediaUseCase.execute(aCommand);
+
+            // Then
+            final var actualException = assertThrows(NotificationException.class, invalidMethodCall);
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+            verify(mediaResourceGateway, never()).composeAudioVideo(any());
+            verify(mediaUploadGateway, never()).update(any());
+        }
+    }
 }
@@ -8,6 +8,7 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalogo.domain.exceptions.UnavailableException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
@@ -22,6 +23,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -47,13 +49,34 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Mock
+    private MediaIngestionGateway mediaIngestionGateway;
+
+    @Mock
+    private MediaIngestionGateway.Ingestion ingestion;
+
+    @Mock
+    private Executor executor;
+
     @InjectMocks
     private DefaultCreateVideoUseCase createVideoUseCase;
 
 
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(it -> {
+            it.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(executor).execute(any());
+    }
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
+        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway,
+                mediaUploadGateway, mediaIngestionGateway, ingestion, executor);
     }
 
     @Nested
@@ -763,6 +786,260 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
 
             verify(videoGateway, times(1)).create(any());
         }
+
+        @Test
+        void Given_a_valid_command_When_one_of_the_stores_fails_Then_should_call_clear_resources_and_not_persist() {
+            // given
+            final var expectedErrorMessage = "An error on create video was observed [videoId: ";
+
+            final var expectedCategories = Set.of(Fixture.Categories.aulas().getId());
+            final var expectedGenres = Set.of(Fixture.Genres.tech().getId());
+            final var expectedCastMembers = Set.of(Fixture.CastMembers.wesley().getId());
+
+            final var aCommand =
+                    CreateVideoCommand.with(
+                            Fixture.title(),
+                            Fixture.Videos.description(),
+                            Fixture.year(),
+                            Fixture.duration(),
+                            Fixture.Videos.releaseStatus(),
+                            Fixture.Videos.publishingStatus(),
+                            Fixture.Videos.rating().getName(),
+                            asString(expectedCategories),
+                            asString(expectedGenres),
+                            asString(expectedCastMembers),
+                            Fixture.Videos.resource(VideoMediaType.VIDEO),
+                            Fixture.Videos.resource(VideoMediaType.TRAILER),
+                            Fixture.Videos.resource(VideoMediaType.BANNER),
+                            Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+                            Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF)
+                    );
+
+            when(categoryGateway.existsByIds(any()))
+                    .thenReturn(new ArrayList<>(expectedCategories));
+
+            when(genreGateway.existsByIds(any()))
+                    .thenReturn(new ArrayList<>(expectedGenres));
+
+            when(castMemberGateway.existsByIds(any()))
+                    .thenReturn(new ArrayList<>(expectedCastMembers));
+
+            mockAudioVideoMedia();
+
+            when(mediaResourceGateway.storeImage(any(), any()))
+                    .thenThrow(new RuntimeException("Storage Unavailable"));
+
+            // when
+            Executable invalidMethodCall = () -> createVideoUseCase.execute(aCommand);
+
+            // then
+            final var actualException = assertThrows(InternalErrorException.class, invalidMethodCall);
+
+            assertTrue(actualException.getMessage().startsWith(expectedErrorMessage));
+
+            verify(executor, times(5)).execute(any());
+            verify(mediaResourceGateway, times(2)).storeAudioVideo(any(), any());
+            verify(mediaResourceGateway, times(3)).storeImage(any(), any());
+            verify(mediaResourceGateway, times(1)).clearResources(any());
+            verify(videoGateway, never()).create(any());
+        }
+
+        @Test
+        void Given_an_async_command_When_calls_create_video_Then_should_persist_video_and_hand_medias_to_ingestion() {
+            // given
+            final var expectedCategories = Set.of(Fixture.Categories.aulas().getId());
+            final var expectedGenres = Set.of(Fixture.Genres.tech().getId());
+            final var expectedCastMembers = Set.of(Fixture.CastMembers.wesley().getId());
+            final var expectedTypes = List.of(VideoMediaType.VIDEO, VideoMediaType.BANNER);
+
+            final var aCommand =
+                    CreateVideoCommand.with(
+                            Fixture.title(),
+                            Fixture.Videos.description(),
+                            Fixture.year(),
+                            Fixture.duration(),
+                            Fixture.Videos.releaseStatus(),
+                            Fixture.Videos.publishingStatus(),
+                            Fixture.Videos.rating().getName(),
+                            asString(expectedCategories),
+                            asString(expectedGenres),
+                            asString(expectedCastMembers),
+                            Fixture.Videos.resource(VideoMediaType.VIDEO),
+                            null,
+                            Fixture.Videos.resource(VideoMediaType.BANNER),
+                            null,
+                            null
+                    ).asAsync();
+
+            when(categoryGateway.existsByIds(any()))
+                    .thenReturn(new ArrayList<>(expectedCategories));
+
+            when(genreGateway.existsByIds(any()))
+                    .thenReturn(new ArrayList<>(expectedGenres));
+
+            when(castMemberGateway.existsByIds(any()))
+                    .thenReturn(new ArrayList<>(expectedCastMembers));
+
+            when(videoGateway.create(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            when(mediaUploadGateway.create(any()))
+                    .thenAnswer(returnsFirstArg());
+
+            when(mediaIngestionGateway.submit(any(), any()))
+                    .thenReturn(ingestion);
+
+            // when
+            final var actualOutput = createVideoUseCase.execute(aCommand);
+
+            // then
+            assertNotNull(actualOutput);
+            final var expectedId = VideoID.from(actualOutput.id());
+
+            verify(videoGateway, times(1)).create(argThat(aVideo ->
+                    Objects.isNull(aVideo.getVideo()) && Objects.isNull(aVideo.getBanner())));
+            verify(mediaUploadGateway, times(2)).create(argThat(anUpload ->
+                    Objects.equals(expectedId, anUpload.getVideoId())
+                            && expectedTypes.contains(anUpload.getType())
+                            && MediaUploadStatus.IN_PROGRESS == anUpload.getStatus()));
+            verify(mediaIngestionGateway, times(1)).submit(eq(expectedId), argThat(resources ->
+                    resources.stream().map(VideoResource::type).toList().equals(expectedTypes)));
+            verify(ingestion, times(1)).start();
+            verify(ingestion, never()).cancel();
+            verify(mediaResourceGateway, never()).storeAudioVideo(any(), any());
+            verify(mediaResourceGateway, never()).storeImage(any(), any());
+            verify(executor, never()).execute(any());
+        }
+
+        @Test
+        void Given_an_async_command_When_ingestion_cannot_be_scheduled_Then_should_not_persist_the_video() {
+            // given
+            final var expectedErrorMessage = "An error on create video was observed [videoId: ";
+            final var expectedCategories = Set.of(Fixture.Categories.aulas().getId());
+            final var expectedGenres = Set.of(Fixture.Genres.tech().getId());
+            final var expectedCastMembers = Set.of(Fixture.CastMembers.wesley().getId());
+
+            final var aCommand =
+                    CreateVideoCommand.with(
+                            Fixture.title(),
+                            Fixture.Videos.description(),
+                            Fixture.year(),
+                            Fixture.duration(),
+                            Fixture.Videos.releaseStatus(),
+                            Fixture.Videos.publishingStatus(),
+                            Fixture.Videos.rating().getName(),
+                            asString(expectedCategories),
+                            asString(expectedGenres),
+                            asString(expectedCastMembers),
+                            null,
+                            Fixture.Videos.resource(VideoMediaType.TRAILER),
+                            null,
+                            null,
+                            null
+                    ).asAsync();
+
+            when(categoryGateway.existsByIds(any()))
+                    .thenReturn(new ArrayList<>(expectedCategories));
+
+            when(genreGateway.existsByIds(any()))
+                    .thenReturn(new ArrayList<>(expectedGenres));
+
+            when(castMemberGateway.existsByIds(any()))
+                    .thenReturn(new ArrayList<>(expectedCastMembers));
+
+            doThrow(new RuntimeException("Spool Unavailable"))
+                    .when(mediaIngestionGateway).submit(any(), any());
+
+            // when
+            Executable invalidMethodCall = () -> createVideoUseCase.execute(aCommand);
+
+            // then
+            final var actualException = assertThrows(InternalErrorException.class, invalidMethodCall);
+
+            assertTrue(actualException.getMessage().startsWith(expectedErrorMessage));
+            verify(videoGateway, never()).create(any());
+            verify(mediaUploadGateway, never()).create(any());
+        }
+
+        @Test
+        void Given_an_async_command_When_ingestion_is_saturated_Then_should_report_unavailable_without_persisting_the_video() {
+            // given
+            final var expectedErrorMessage = "Media ingestion is saturated, try again later";
+
+            final var aCommand =
+                    CreateVideoCommand.with(
+                            Fixture.title(),
+                            Fixture.Videos.description(),
+                            Fixture.year(),
+                            Fixture.duration(),
+                            Fixture.Videos.releaseStatus(),
+                            Fixture.Videos.publishingStatus(),
+                            Fixture.Videos.rating().getName(),
+                            Set.of(),
+                            Set.of(),
+                            Set.of(),
+                            null,
+                            null,
+                            Fixture.Videos.resource(VideoMediaType.BANNER),
+                            null,
+                            null
+                    ).asAsync();
+
+            doThrow(UnavailableException.with(expectedErrorMessage, null))
+                    .when(mediaIngestionGateway).submit(any(), any());
+
+            // when
+            Executable invalidMethodCall = () -> createVideoUseCase.execute(aCommand);
+
+            // then
+            final var actualException = assertThrows(UnavailableException.class, invalidMethodCall);
+
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            verify(videoGateway, never()).create(any());
+            verify(mediaUploadGateway, never()).create(any());
+        }
+
+        @Test
+        void Given_an_async_command_When_video_cannot_be_persisted_Then_should_cancel_the_ingestion() {
+            // given
+            final var expectedErrorMessage = "Gateway error";
+
+            final var aCommand =
+                    CreateVideoCommand.with(
+                            Fixture.title(),
+                            Fixture.Videos.description(),
+                            Fixture.year(),
+                            Fixture.duration(),
+                            Fixture.Videos.releaseStatus(),
+                            Fixture.Videos.publishingStatus(),
+                            Fixture.Videos.rating().getName(),
+                            Set.of(),
+                            Set.of(),
+                            Set.of(),
+                            Fixture.Videos.resource(VideoMediaType.VIDEO),
+                            null,
+                            null,
+                            null,
+                            null
+                    ).asAsync();
+
+            when(mediaIngestionGateway.submit(any(), any()))
+                    .thenReturn(ingestion);
+
+            when(videoGateway.create(any()))
+                    .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+            // when
+            Executable invalidMethodCall = () -> createVideoUseCase.execute(aCommand);
+
+            // then
+            final var actualException = assertThrows(IllegalStateException.class, invalidMethodCall);
+
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            verify(ingestion, times(1)).cancel();
+            verify(ingestion, never()).start();
+            verify(mediaUploadGateway, never()).create(any());
+        }
     }
 
     @Nested
@@ -17,10 +17,9 @@ import java.util.Optional;
 import java.util.Set;
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 public class GetVideoByIdUseCaseTest extends UseCaseTest {
@@ -28,12 +27,15 @@ public class GetVideoByIdUseCaseTest extends UseCaseTest {
     @Mock
     private VideoGateway videoGateway;
 
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
     @InjectMocks
     private DefaultGetVideoByIdUseCase getVideoByIdUseCase;
 
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway);
+        return List.of(videoGateway, mediaUploadGateway);
     }
 
     @Nested
@@ -107,6 +109,32 @@ public class GetVideoByIdUseCaseTest extends UseCaseTest {
             assertEquals(expectedBanner, actualOutput.banner());
             assertEquals(expectedThumbnail, actualOutput.thumbnail());
             assertEquals(expectedThumbnailHalf, actualOutput.thumbnailHalf());
+            assertTrue(actualOutput.uploads().isEmpty());
+        }
+
+        @Test
+        void Given_a_video_with_ongoing_ingestion_When_calls_get_video_by_id_Then_should_return_upload_progress() {
+            // given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedId = aVideo.getId();
+            final var anUpload = Fixture.Videos.upload(expectedId, VideoMediaType.VIDEO);
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(Video.with(aVideo)));
+            when(mediaUploadGateway.findByVideoId(any()))
+                    .thenReturn(List.of(anUpload));
+
+            // when
+            final var actualOutput = getVideoByIdUseCase.execute(expectedId.getValue());
+
+            // then
+            assertNull(actualOutput.video());
+            assertEquals(1, actualOutput.uploads().size());
+            final var actualUpload = actualOutput.uploads().get(0);
+            assertEquals(anUpload.getId().getValue(), actualUpload.uploadId());
+            assertEquals(VideoMediaType.VIDEO, actualUpload.mediaType());
+            assertEquals(MediaUploadStatus.IN_PROGRESS, actualUpload.status());
+            verify(mediaUploadGateway, times(1)).findByVideoId(expectedId);
         }
     }
 
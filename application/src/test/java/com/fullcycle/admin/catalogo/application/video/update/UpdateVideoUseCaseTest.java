@@ -6,6 +6,7 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
@@ -19,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -44,12 +46,23 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Mock
+    private Executor executor;
+
     @InjectMocks
     private DefaultUpdateVideoUseCase updateVideoUseCase;
 
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(it -> {
+            it.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(executor).execute(any());
+    }
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
+        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway, executor);
     }
 
     @Nested
@@ -842,6 +855,80 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("Update a video modified concurrently")
+    class UpdateWithConcurrentWriters {
+
+        @Test
+        void Given_a_command_with_a_stale_version_When_calls_update_video_Then_should_throw_conflict_with_the_current_version() {
+            // given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedId = aVideo.getId();
+            final var expectedCurrentVersion = aVideo.getVersion();
+            final var aStaleVersion = expectedCurrentVersion + 1;
+
+            final var aCommand = commandOf(aVideo).withVersion(aStaleVersion);
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(Video.with(aVideo)));
+
+            // when
+            final var actualException = assertThrows(ConflictException.class,
+                    () -> updateVideoUseCase.execute(aCommand));
+
+            // then
+            assertEquals(expectedCurrentVersion, actualException.getCurrentVersion());
+            assertTrue(actualException.getMessage().contains(expectedId.getValue()));
+
+            verify(videoGateway, never()).update(any());
+            verify(mediaResourceGateway, never()).storeImage(any(), any());
+            verify(mediaResourceGateway, never()).storeAudioVideo(any(), any());
+        }
+
+        @Test
+        void Given_a_concurrent_write_When_calls_update_video_Then_should_throw_conflict_with_the_current_version() {
+            // given
+            final var aVideo = Fixture.Videos.systemDesign();
+            final var expectedId = aVideo.getId();
+            final var expectedCurrentVersion = aVideo.getVersion();
+
+            final var aCommand = commandOf(aVideo);
+
+            when(videoGateway.findById(any()))
+                    .thenReturn(Optional.of(Video.with(aVideo)))
+                    .thenReturn(Optional.of(Video.with(aVideo)));
+
+            when(videoGateway.update(any()))
+                    .thenThrow(ConflictException.with(Video.class, expectedId));
+
+            // when
+            final var actualException = assertThrows(ConflictException.class,
+                    () -> updateVideoUseCase.execute(aCommand));
+
+            // then
+            assertEquals(expectedCurrentVersion, actualException.getCurrentVersion());
+
+            verify(videoGateway, times(2)).findById(expectedId);
+            verify(videoGateway, times(1)).update(any());
+        }
+
+        private UpdateVideoCommand commandOf(final Video aVideo) {
+            return UpdateVideoCommand.with(
+                    aVideo.getId().getValue(),
+                    aVideo.getTitle(),
+                    aVideo.getDescription(),
+                    aVideo.getLaunchedAt().getValue(),
+                    aVideo.getDuration(),
+                    aVideo.getReleaseStatus(),
+                    aVideo.getPublishingStatus(),
+                    aVideo.getRating().getName(),
+                    Set.of(),
+                    Set.of(),
+                    Set.of()
+            );
+        }
+    }
+
     @Nested
     @DisplayName("Update a video with invalid command values")
     class UpdateWithInvalidCommandValues {
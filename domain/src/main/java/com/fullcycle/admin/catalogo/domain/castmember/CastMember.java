@@ -33,7 +33,9 @@ public class CastMember extends AggregateRoot<CastMemberID> {
     public static CastMember newCastMember(final String aName, final CastMemberType aType) {
         final var aNow = InstantUtils.now();
         final var anId = CastMemberID.unique();
-        return new CastMember(anId, aName, aType, aNow, aNow);
+        final var aCastMember = new CastMember(anId, aName, aType, aNow, aNow);
+        aCastMember.registerEvent(new CastMemberCreated(anId.getValue()));
+        return aCastMember;
     }
 
     public static CastMember with(
@@ -60,6 +62,7 @@ public class CastMember extends AggregateRoot<CastMemberID> {
         this.type = aType;
         this.updatedAt = InstantUtils.now();
         selfValidate();
+        onUpdated();
         return this;
     }
 
@@ -84,6 +87,12 @@ public class CastMember extends AggregateRoot<CastMemberID> {
         return updatedAt;
     }
 
+    private void onUpdated() {
+        if (getDomainEvents().isEmpty()) {
+            registerEvent(new CastMemberUpdated(getId().getValue()));
+        }
+    }
+
     private void selfValidate() {
         final var notification = Notification.create();
         validate(notification);
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.domain.castmember;
+
+import com.fullcycle.admin.catalogo.domain.event.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+
+import java.time.Instant;
+
+public record CastMemberCreated(
+        String id,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public CastMemberCreated(String id) {
+        this(id, InstantUtils.now());
+    }
+}
@@ -61,7 +61,9 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     public static Category newCategory(final String aName, final String aDescription) {
         final var aNow = InstantUtils.now();
         final CategoryID anId = CategoryID.unique();
-        return new Category(anId, aName, aDescription, aNow, aNow);
+        final var aCategory = new Category(anId, aName, aDescription, aNow, aNow);
+        aCategory.registerEvent(new CategoryCreated(anId.getValue()));
+        return aCategory;
     }
 
     public static Category with(
@@ -94,6 +96,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.activationStatus = ActivationStatus.INACTIVE;
 //        this.validate(new ThrowsValidationHandler());
         this.validate(notification);
+        onUpdated();
         return this;
     }
 
@@ -103,6 +106,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.activationStatus = ActivationStatus.ACTIVE;
 //        this.validate(new ThrowsValidationHandler());
         this.validate(notification);
+        onUpdated();
         return this;
     }
 
@@ -112,6 +116,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.description = aDescription;
 //        this.validate(new ThrowsValidationHandler());
         this.validate(notification);
+        onUpdated();
         return this;
     }
 
@@ -172,6 +177,12 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         new CategoryValidator(this, handler).validate();
     }
 
+    private void onUpdated() {
+        if (getDomainEvents().isEmpty()) {
+            registerEvent(new CategoryUpdated(getId().getValue()));
+        }
+    }
+
     @Override
     public Category clone() {
         try {
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.event.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+
+import java.time.Instant;
+
+public record CategoryCreated(
+        String id,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public CategoryCreated(String id) {
+        this(id, InstantUtils.now());
+    }
+}
@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.domain.exceptions;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ConflictException extends DomainException {
+
+    private final Long currentVersion;
+
+    protected ConflictException(final String aMessage, final List<Error> anErrors, final Long aCurrentVersion) {
+        super(aMessage, anErrors);
+        this.currentVersion = aCurrentVersion;
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier anId) {
+        final var anError = "%s with ID %s was modified concurrently".formatted(
+                anAggregate.getSimpleName(), anId.getValue()
+        );
+        return new ConflictException(anError, Collections.emptyList(), null);
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier anId,
+            final long aCurrentVersion) {
+        final var anError = "%s with ID %s was modified concurrently, current version is %d".formatted(
+                anAggregate.getSimpleName(), anId.getValue(), aCurrentVersion
+        );
+        return new ConflictException(anError, Collections.emptyList(), aCurrentVersion);
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
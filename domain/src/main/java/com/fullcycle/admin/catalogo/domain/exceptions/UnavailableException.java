@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.domain.exceptions;
+
+public class UnavailableException extends NoStacktraceException {
+
+    protected UnavailableException(final String aMessage, final Throwable aCause) {
+        super(aMessage, aCause);
+    }
+
+    public static UnavailableException with(final String aMessage, final Throwable aCause) {
+        return new UnavailableException(aMessage, aCause);
+    }
+}
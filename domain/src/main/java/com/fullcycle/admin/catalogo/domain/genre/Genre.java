@@ -73,7 +73,9 @@ public class Genre extends AggregateRoot<GenreID> {
     public static Genre newGenre(final String aName) {
         final var aNow = InstantUtils.now();
         final var anId = GenreID.unique();
-        return new Genre(anId, aName, aNow, aNow);
+        final var aGenre = new Genre(anId, aName, aNow, aNow);
+        aGenre.registerEvent(new GenreCreated(anId.getValue()));
+        return aGenre;
     }
 
     public static Genre with(
@@ -129,6 +131,7 @@ public class Genre extends AggregateRoot<GenreID> {
         this.updatedAt = InstantUtils.now();
         this.activationStatus = ActivationStatus.INACTIVE;
         selfValidate();
+        onUpdated();
         return this;
     }
 
@@ -137,6 +140,7 @@ public class Genre extends AggregateRoot<GenreID> {
         this.updatedAt = InstantUtils.now();
         this.activationStatus = ActivationStatus.ACTIVE;
         selfValidate();
+        onUpdated();
         return this;
     }
 
@@ -146,6 +150,7 @@ public class Genre extends AggregateRoot<GenreID> {
         this.name = aName;
         this.categories = new ArrayList<>(aCategories);
         selfValidate();
+        onUpdated();
         return this;
     }
 
@@ -157,6 +162,7 @@ public class Genre extends AggregateRoot<GenreID> {
         updatedCategories.add(aCategoryID);
         this.categories = updatedCategories;
         this.updatedAt = InstantUtils.now();
+        onUpdated();
         return this;
     }
 
@@ -168,6 +174,7 @@ public class Genre extends AggregateRoot<GenreID> {
         updatedCategories.addAll(aCategories);
         this.categories = updatedCategories;
         this.updatedAt = InstantUtils.now();
+        onUpdated();
         return this;
     }
 
@@ -179,6 +186,7 @@ public class Genre extends AggregateRoot<GenreID> {
         updatedCategories.remove(aCategoryID);
         this.categories = updatedCategories;
         this.updatedAt = InstantUtils.now();
+        onUpdated();
         return this;
     }
 
@@ -187,6 +195,12 @@ public class Genre extends AggregateRoot<GenreID> {
         new GenreValidator(this, handler).validate();
     }
 
+    private void onUpdated() {
+        if (getDomainEvents().isEmpty()) {
+            registerEvent(new GenreUpdated(getId().getValue()));
+        }
+    }
+
     private void selfValidate() {
         final var notification = Notification.create();
         validate(notification);
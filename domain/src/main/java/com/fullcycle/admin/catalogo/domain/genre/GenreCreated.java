@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.domain.genre;
+
+import com.fullcycle.admin.catalogo.domain.event.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+
+import java.time.Instant;
+
+public record GenreCreated(
+        String id,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public GenreCreated(String id) {
+        this(id, InstantUtils.now());
+    }
+}
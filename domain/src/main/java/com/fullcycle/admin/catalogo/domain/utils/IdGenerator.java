@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+@FunctionalInterface
+public interface IdGenerator {
+
+    String generate();
+
+    static IdGenerator random() {
+        return RandomIdGenerator.INSTANCE;
+    }
+
+    static IdGenerator timeOrdered() {
+        return TimeOrderedIdGenerator.INSTANCE;
+    }
+}
@@ -1,14 +1,31 @@
 package com.fullcycle.admin.catalogo.domain.utils;
 
-import java.util.UUID;
+import java.util.Objects;
 
 public final class IdUtils {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static volatile IdGenerator generator = IdGenerator.timeOrdered();
+
     private IdUtils() {
     }
 
     public static String uuid() {
-        return UUID.randomUUID().toString().toLowerCase().replace("-", "");
+        return generator.generate();
+    }
+
+    public static void use(final IdGenerator aGenerator) {
+        generator = Objects.requireNonNull(aGenerator);
+    }
+
+    static String hex(final long msb, final long lsb) {
+        final var chars = new char[32];
+        for (int i = 15; i >= 0; i--) {
+            chars[i] = HEX_DIGITS[(int) (msb >>> ((15 - i) * 4)) & 0xF];
+            chars[i + 16] = HEX_DIGITS[(int) (lsb >>> ((15 - i) * 4)) & 0xF];
+        }
+        return new String(chars);
     }
 
     public static String videoIdOf(final String filePath) {
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.util.UUID;
+
+final class RandomIdGenerator implements IdGenerator {
+
+    static final RandomIdGenerator INSTANCE = new RandomIdGenerator();
+
+    private RandomIdGenerator() {
+    }
+
+    @Override
+    public String generate() {
+        final var aUuid = UUID.randomUUID();
+        return IdUtils.hex(aUuid.getMostSignificantBits(), aUuid.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+final class TimeOrderedIdGenerator implements IdGenerator {
+
+    static final TimeOrderedIdGenerator INSTANCE = new TimeOrderedIdGenerator(System::currentTimeMillis);
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier clock;
+    private final AtomicLong lastTick;
+
+    TimeOrderedIdGenerator(final LongSupplier clock) {
+        this.clock = clock;
+        this.lastTick = new AtomicLong();
+    }
+
+    @Override
+    public String generate() {
+        final var tick = nextTick();
+        final var timestamp = tick >>> SEQUENCE_BITS;
+        final var sequence = tick & ((1L << SEQUENCE_BITS) - 1);
+        final var msb = (timestamp << 16) | VERSION | sequence;
+        final var lsb = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return IdUtils.hex(msb, lsb);
+    }
+
+    private long nextTick() {
+        final var now = this.clock.getAsLong() << SEQUENCE_BITS;
+        while (true) {
+            final var last = this.lastTick.get();
+            final var next = Math.max(now, last + 1);
+            if (this.lastTick.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
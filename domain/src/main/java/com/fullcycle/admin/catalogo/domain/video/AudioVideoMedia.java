@@ -107,6 +107,17 @@ public class AudioVideoMedia extends ValueObject {
         );
     }
 
+    public AudioVideoMedia failed() {
+        return AudioVideoMedia.with(
+                id(),
+                checksum(),
+                name(),
+                rawLocation(),
+                encodedLocation(),
+                MediaStatus.ERROR
+        );
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.ValueObject;
+
+import java.util.Objects;
+
+public class MediaChunk extends ValueObject {
+
+    private final int number;
+    private final long offset;
+    private final long size;
+    private final String checksum;
+
+    private MediaChunk(
+            final int number,
+            final long offset,
+            final long size,
+            final String checksum) {
+        if (number < 1) {
+            throw new IllegalArgumentException("'number' should be greater than zero");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("'offset' should not be negative");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("'size' should be greater than zero");
+        }
+        if (checksum == null || checksum.isBlank()) {
+            throw new IllegalArgumentException("'checksum' should not be empty or null");
+        }
+        this.number = number;
+        this.offset = offset;
+        this.size = size;
+        this.checksum = checksum;
+    }
+
+    public static MediaChunk with(
+            final int aNumber,
+            final long anOffset,
+            final long aSize,
+            final String aChecksum
+    ) {
+        return new MediaChunk(aNumber, anOffset, aSize, aChecksum);
+    }
+
+    public int number() {
+        return number;
+    }
+
+    public long offset() {
+        return offset;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public String checksum() {
+        return checksum;
+    }
+
+    public long end() {
+        return offset + size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaChunk that = (MediaChunk) o;
+        return number == that.number
+                && offset == that.offset
+                && size == that.size
+                && Objects.equals(checksum, that.checksum);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(number, offset, size, checksum);
+    }
+}
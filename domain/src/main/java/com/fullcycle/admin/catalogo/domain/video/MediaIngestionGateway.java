@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.util.List;
+
+public interface MediaIngestionGateway {
+
+    /**
+     * Takes an ingestion slot for the medias of a video, failing with an UnavailableException when there is none left.
+     * Nothing is stored until the returned ingestion is started, so the video can be persisted in between.
+     */
+    Ingestion submit(VideoID anId, List<VideoResource> resources);
+
+    interface Ingestion {
+
+        void start();
+
+        void cancel();
+    }
+}
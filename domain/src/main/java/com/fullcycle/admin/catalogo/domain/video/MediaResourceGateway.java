@@ -13,4 +13,12 @@ public interface MediaResourceGateway {
     Optional<Resource> getResource(VideoID anId, VideoMediaType aType);
 
     void clearResources(VideoID anId);
+
+    void storeChunk(MediaUpload anUpload, MediaChunk aChunk, Resource aResource);
+
+    AudioVideoMedia composeAudioVideo(MediaUpload anUpload);
+
+    ImageMedia composeImage(MediaUpload anUpload);
+
+    void clearChunks(MediaUpload anUpload);
 }
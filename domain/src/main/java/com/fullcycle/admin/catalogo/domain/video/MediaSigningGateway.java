@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.util.Optional;
+
+public interface MediaSigningGateway {
+
+    SignedMediaUrl signUpload(VideoID anId, VideoMediaType aType, String aContentType);
+
+    SignedMediaUrl signDownload(String aLocation);
+
+    String uploadLocation(VideoID anId, VideoMediaType aType);
+
+    String stagingLocation(VideoID anId, VideoMediaType aType);
+
+    /**
+     * Moves the staged upload to its live location, as long as it still has the given checksum.
+     *
+     * @return the live location, or empty when the staged upload changed or is gone
+     */
+    Optional<String> promote(VideoID anId, VideoMediaType aType, String aChecksum);
+
+    Optional<String> checksumOf(String aLocation);
+
+    Optional<String> normalizeChecksum(String aChecksum);
+}
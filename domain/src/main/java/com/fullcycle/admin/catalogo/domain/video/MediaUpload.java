@@ -0,0 +1,232 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.AggregateRoot;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+
+import java.time.Instant;
+import java.util.*;
+
+public class MediaUpload extends AggregateRoot<MediaUploadID> {
+
+    private final VideoID videoId;
+    private final VideoMediaType type;
+    private final String name;
+    private final String contentType;
+    private MediaUploadStatus status;
+    private final SortedMap<Integer, MediaChunk> chunks;
+    private final Instant createdAt;
+    private Instant updatedAt;
+
+    private MediaUpload(
+            final MediaUploadID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aType,
+            final String aName,
+            final String aContentType,
+            final MediaUploadStatus aStatus,
+            final Collection<MediaChunk> aChunks,
+            final Instant aCreatedAt,
+            final Instant anUpdatedAt) {
+        super(anId);
+        this.videoId = aVideoId;
+        this.type = aType;
+        this.name = aName;
+        this.contentType = aContentType;
+        this.status = Objects.requireNonNull(aStatus);
+        this.chunks = new TreeMap<>();
+        if (aChunks != null) {
+            aChunks.forEach(it -> this.chunks.put(it.number(), it));
+        }
+        this.createdAt = Objects.requireNonNull(aCreatedAt);
+        this.updatedAt = Objects.requireNonNull(anUpdatedAt);
+        selfValidate();
+    }
+
+    public static MediaUpload newUpload(
+            final VideoID aVideoId,
+            final VideoMediaType aType,
+            final String aName,
+            final String aContentType) {
+        final var aNow = InstantUtils.now();
+        return new MediaUpload(
+                MediaUploadID.unique(),
+                aVideoId,
+                aType,
+                aName,
+                aContentType,
+                MediaUploadStatus.IN_PROGRESS,
+                Collections.emptyList(),
+                aNow,
+                aNow);
+    }
+
+    public static MediaUpload with(
+            final MediaUploadID anId,
+            final VideoID aVideoId,
+            final VideoMediaType aType,
+            final String aName,
+            final String aContentType,
+            final MediaUploadStatus aStatus,
+            final Collection<MediaChunk> aChunks,
+            final Instant aCreatedAt,
+            final Instant anUpdatedAt) {
+        return new MediaUpload(
+                anId,
+                aVideoId,
+                aType,
+                aName,
+                aContentType,
+                aStatus,
+                aChunks,
+                aCreatedAt,
+                anUpdatedAt);
+    }
+
+    public static MediaUpload with(final MediaUpload anUpload) {
+        return new MediaUpload(
+                anUpload.getId(),
+                anUpload.getVideoId(),
+                anUpload.getType(),
+                anUpload.getName(),
+                anUpload.getContentType(),
+                anUpload.getStatus(),
+                anUpload.getChunks(),
+                anUpload.getCreatedAt(),
+                anUpload.getUpdatedAt());
+    }
+
+    public MediaUpload addChunk(final MediaChunk aChunk) {
+        Objects.requireNonNull(aChunk);
+        if (isCompleted()) {
+            throw DomainException.with(new Error("Upload %s was already completed"
+                    .formatted(getId().getValue())));
+        }
+        this.chunks.put(aChunk.number(), aChunk);
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    public MediaUpload complete() {
+        if (isCompleted()) {
+            throw DomainException.with(new Error("Upload %s was already completed"
+                    .formatted(getId().getValue())));
+        }
+        final var notification = Notification.create();
+        checkChunksConstraints(notification);
+        if (notification.hasErrors()) {
+            throw new NotificationException("Failed to complete Upload", notification);
+        }
+        this.status = MediaUploadStatus.COMPLETED;
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    public MediaUpload fail() {
+        if (isCompleted()) {
+            throw DomainException.with(new Error("Upload %s was already completed"
+                    .formatted(getId().getValue())));
+        }
+        this.status = MediaUploadStatus.FAILED;
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    public long nextOffset() {
+        var expectedNumber = 1;
+        var anOffset = 0L;
+        for (final var aChunk : this.chunks.values()) {
+            if (aChunk.number() != expectedNumber || aChunk.offset() != anOffset) {
+                break;
+            }
+            anOffset = aChunk.end();
+            expectedNumber++;
+        }
+        return anOffset;
+    }
+
+    public long size() {
+        return this.chunks.values().stream()
+                .mapToLong(MediaChunk::size)
+                .sum();
+    }
+
+    public boolean isCompleted() {
+        return MediaUploadStatus.COMPLETED == this.status;
+    }
+
+    public boolean isInProgress() {
+        return MediaUploadStatus.IN_PROGRESS == this.status;
+    }
+
+    @Override
+    public void validate(final ValidationHandler aHandler) {
+        new MediaUploadValidator(this, aHandler).validate();
+    }
+
+    public VideoID getVideoId() {
+        return videoId;
+    }
+
+    public VideoMediaType getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public MediaUploadStatus getStatus() {
+        return status;
+    }
+
+    public List<MediaChunk> getChunks() {
+        return List.copyOf(this.chunks.values());
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    private void checkChunksConstraints(final ValidationHandler aHandler) {
+        if (this.chunks.isEmpty()) {
+            aHandler.append(new Error("'chunks' should not be empty"));
+            return;
+        }
+        var expectedNumber = 1;
+        var expectedOffset = 0L;
+        for (final var aChunk : this.chunks.values()) {
+            if (aChunk.number() != expectedNumber) {
+                aHandler.append(new Error("Chunk %s is missing".formatted(expectedNumber)));
+                return;
+            }
+            if (aChunk.offset() != expectedOffset) {
+                aHandler.append(new Error("Chunk %s should start at offset %s but starts at %s"
+                        .formatted(aChunk.number(), expectedOffset, aChunk.offset())));
+                return;
+            }
+            expectedOffset = aChunk.end();
+            expectedNumber++;
+        }
+    }
+
+    private void selfValidate() {
+        final var notification = Notification.create();
+        validate(notification);
+        if (notification.hasErrors()) {
+            throw new NotificationException("Failed to create Aggregate MediaUpload", notification);
+        }
+    }
+}
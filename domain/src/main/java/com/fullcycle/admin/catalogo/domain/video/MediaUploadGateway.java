@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MediaUploadGateway {
+
+    MediaUpload create(MediaUpload anUpload);
+
+    Optional<MediaUpload> findById(MediaUploadID anId);
+
+    List<MediaUpload> findByVideoId(VideoID anId);
+
+    MediaUpload update(MediaUpload anUpload);
+
+    void deleteById(MediaUploadID anId);
+}
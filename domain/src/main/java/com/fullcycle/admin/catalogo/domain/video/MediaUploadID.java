@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+public class MediaUploadID extends Identifier {
+
+    private final String value;
+
+    public MediaUploadID(final String value) {
+        if (value == null || value.isBlank()) {
+            throw DomainException.with(List.of(new Error("'value' should not be null or empty")));
+        }
+        this.value = value;
+    }
+
+    public static MediaUploadID from(final String anId) {
+        return new MediaUploadID(anId.toLowerCase());
+    }
+
+    public static MediaUploadID unique() {
+        return MediaUploadID.from(IdUtils.uuid());
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaUploadID that = (MediaUploadID) o;
+        return Objects.equals(getValue(), that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getValue());
+    }
+}
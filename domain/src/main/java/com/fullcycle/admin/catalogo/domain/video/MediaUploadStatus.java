@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+public enum MediaUploadStatus {
+
+    IN_PROGRESS, COMPLETED, FAILED
+}
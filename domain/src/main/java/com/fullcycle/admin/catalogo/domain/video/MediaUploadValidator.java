@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.ValidationHandler;
+import com.fullcycle.admin.catalogo.domain.validation.Validator;
+
+import java.util.Objects;
+
+public class MediaUploadValidator extends Validator {
+
+    private static final int NAME_MAX_LENGTH = 255;
+
+    private final MediaUpload upload;
+
+    protected MediaUploadValidator(final MediaUpload anUpload, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.upload = Objects.requireNonNull(anUpload);
+    }
+
+    @Override
+    public void validate() {
+        checkVideoIdConstraints();
+        checkTypeConstraints();
+        checkNameConstraints();
+        checkContentTypeConstraints();
+    }
+
+    private void checkVideoIdConstraints() {
+        if (this.upload.getVideoId() == null) {
+            this.validationHandler().append(new Error("'videoId' should not be null"));
+        }
+    }
+
+    private void checkTypeConstraints() {
+        if (this.upload.getType() == null) {
+            this.validationHandler().append(new Error("'type' should not be null"));
+        }
+    }
+
+    private void checkNameConstraints() {
+        final var name = this.upload.getName();
+        if (name == null) {
+            this.validationHandler().append(new Error("'name' should not be null"));
+            return;
+        }
+        if (name.isBlank()) {
+            this.validationHandler().append(new Error("'name' should not be empty"));
+            return;
+        }
+        if (name.trim().length() > NAME_MAX_LENGTH) {
+            this.validationHandler().append(new Error("'name' must be between 1 and 255 characters"));
+        }
+    }
+
+    private void checkContentTypeConstraints() {
+        final var contentType = this.upload.getContentType();
+        if (contentType == null) {
+            this.validationHandler().append(new Error("'contentType' should not be null"));
+            return;
+        }
+        if (contentType.isBlank()) {
+            this.validationHandler().append(new Error("'contentType' should not be empty"));
+        }
+    }
+}
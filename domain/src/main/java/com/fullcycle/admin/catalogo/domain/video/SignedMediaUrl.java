@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.ValueObject;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public class SignedMediaUrl extends ValueObject {
+
+    private final String url;
+    private final String method;
+    private final String location;
+    private final Instant expiresAt;
+
+    private SignedMediaUrl(
+            final String anUrl,
+            final String aMethod,
+            final String aLocation,
+            final Instant anExpiresAt) {
+        this.url = Objects.requireNonNull(anUrl);
+        this.method = Objects.requireNonNull(aMethod);
+        this.location = Objects.requireNonNull(aLocation);
+        this.expiresAt = Objects.requireNonNull(anExpiresAt);
+    }
+
+    public static SignedMediaUrl with(
+            final String anUrl,
+            final String aMethod,
+            final String aLocation,
+            final Instant anExpiresAt) {
+        return new SignedMediaUrl(anUrl, aMethod, aLocation, anExpiresAt);
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String location() {
+        return location;
+    }
+
+    public Instant expiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final SignedMediaUrl that = (SignedMediaUrl) o;
+        return Objects.equals(url, that.url) && Objects.equals(method, that.method);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(url, method);
+    }
+}
@@ -38,6 +38,8 @@ public class Video extends AggregateRoot<VideoID> {
     private Set<GenreID> genres;
     private Set<CastMemberID> castMembers;
 
+    private final long version;
+
     public static class Builder {
         private VideoID id;
         private final String title;
@@ -58,6 +60,7 @@ public class Video extends AggregateRoot<VideoID> {
         private Set<GenreID> genres;
         private Set<CastMemberID> castMembers;
         private List<DomainEvent> domainEvents;
+        private long version;
 
         public Builder(
                 final String aTitle,
@@ -144,6 +147,11 @@ public class Video extends AggregateRoot<VideoID> {
             this.domainEvents = aDomainEvents;
             return this;
         }
+
+        public Builder version(final long aVersion) {
+            this.version = aVersion;
+            return this;
+        }
     }
 
     private Video(final Builder aBuilder) {
@@ -165,6 +173,7 @@ public class Video extends AggregateRoot<VideoID> {
         this.thumbnailHalf = aBuilder.thumbnailHalf;
         this.trailer = aBuilder.trailer;
         this.video = aBuilder.video;
+        this.version = aBuilder.version;
         this.validate(new ThrowsValidationHandler());
     }
 
@@ -239,7 +248,8 @@ public class Video extends AggregateRoot<VideoID> {
                 .video(aVideo.getVideo())
                 .categories(new HashSet<>(aVideo.getCategories()))
                 .genres(new HashSet<>(aVideo.getGenres()))
-                .castMembers(new HashSet<>(aVideo.getCastMembers()));
+                .castMembers(new HashSet<>(aVideo.getCastMembers()))
+                .version(aVideo.getVersion());
         return new Video(aBuilder);
     }
 
@@ -264,6 +274,7 @@ public class Video extends AggregateRoot<VideoID> {
                 .banner(aBuilder.banner)
                 .thumbnail(aBuilder.thumbnail)
                 .thumbnailHalf(aBuilder.thumbnailHalf)
+                .version(aBuilder.version)
         );
     }
 
@@ -323,6 +334,10 @@ public class Video extends AggregateRoot<VideoID> {
         return trailer;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public Video configureBanner(final ImageMedia banner) {
         this.banner = banner;
         this.updatedAt = InstantUtils.now();
@@ -381,6 +396,19 @@ public class Video extends AggregateRoot<VideoID> {
         return this;
     }
 
+    public Video failed(final VideoMediaType aType) {
+        if (VideoMediaType.VIDEO == aType) {
+            if (getVideo() != null && MediaStatus.COMPLETED != getVideo().status()) {
+                configureVideo(getVideo().failed());
+            }
+        } else if (VideoMediaType.TRAILER == aType) {
+            if (getTrailer() != null && MediaStatus.COMPLETED != getTrailer().status()) {
+                configureTrailer(getTrailer().failed());
+            }
+        }
+        return this;
+    }
+
     public Set<CategoryID> getCategories() {
         return categories != null ? Collections.unmodifiableSet(categories) : Collections.emptySet();
     }
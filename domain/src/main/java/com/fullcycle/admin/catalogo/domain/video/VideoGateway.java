@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.domain.video;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface VideoGateway {
@@ -12,7 +13,13 @@ public interface VideoGateway {
 
     Optional<Video> findById(VideoID anId);
 
+    List<Video> findAllById(Iterable<VideoID> anIds);
+
     Video update(Video aVideo);
 
+    List<Video> updateAll(List<Video> aVideos);
+
+    boolean updateMediaStatus(VideoID anId, String aResourceId, MediaStatus aStatus, String anEncodedPath);
+
     Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
 }
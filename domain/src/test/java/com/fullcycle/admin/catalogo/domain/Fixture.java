@@ -186,5 +186,10 @@ public final class Fixture {
             return Resource.with(checksum, content, contentType,
                     aType.name().toLowerCase());
         }
+
+        public static MediaUpload upload(final VideoID aVideoId, final VideoMediaType aType) {
+            final var aResource = resource(aType);
+            return MediaUpload.newUpload(aVideoId, aType, aResource.name(), aResource.contentType());
+        }
     }
 }
@@ -224,4 +224,32 @@ class CastMemberTest extends UnitTest {
             assertEquals(expectedErrorCount, actualException.getErrors().size());
         }
     }
+
+    @Nested
+    class DomainEvents {
+
+        @Test
+        void Given_valid_params_When_calls_newCastMember_Then_should_register_a_created_event() {
+            // when
+            final var actualCastMember = CastMember.newCastMember("Vin Diesel", CastMemberType.ACTOR);
+            // then
+            assertEquals(1, actualCastMember.getDomainEvents().size());
+            final var actualEvent = (CastMemberCreated) actualCastMember.getDomainEvents().get(0);
+            assertEquals(actualCastMember.getId().getValue(), actualEvent.id());
+            assertNotNull(actualEvent.occurredOn());
+        }
+
+        @Test
+        void Given_a_persisted_cast_member_When_calls_update_twice_Then_should_register_a_single_updated_event() {
+            // given
+            final var aCastMember = CastMember.newCastMember("Vin", CastMemberType.DIRECTOR);
+            aCastMember.publishDomainEvents(event -> {});
+            // when
+            aCastMember.update("Vin Diesel", CastMemberType.DIRECTOR).update("Vin Diesel", CastMemberType.ACTOR);
+            // then
+            assertEquals(1, aCastMember.getDomainEvents().size());
+            final var actualEvent = (CastMemberUpdated) aCastMember.getDomainEvents().get(0);
+            assertEquals(aCastMember.getId().getValue(), actualEvent.id());
+        }
+    }
 }
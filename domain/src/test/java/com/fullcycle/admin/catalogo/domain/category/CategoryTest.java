@@ -580,4 +580,32 @@ class CategoryTest extends UnitTest {
             assertNull(actualCategory.getDeletedAt());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class DomainEvents {
+
+        @Test
+        void Given_a_valid_param_When_call_newCategory_Then_should_register_a_created_event() {
+            // when
+            final var actualCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            // then
+            assertEquals(1, actualCategory.getDomainEvents().size());
+            final var actualEvent = (CategoryCreated) actualCategory.getDomainEvents().get(0);
+            assertEquals(actualCategory.getId().getValue(), actualEvent.id());
+            assertNotNull(actualEvent.occurredOn());
+        }
+
+        @Test
+        void Given_a_persisted_category_When_call_update_and_deactivate_Then_should_register_a_single_updated_event() {
+            // given
+            final var aCategory = Category.newCategory("Film", "A categoria");
+            aCategory.publishDomainEvents(event -> {});
+            // when
+            aCategory.update("Filmes", "A categoria mais assistida").deactivate();
+            // then
+            assertEquals(1, aCategory.getDomainEvents().size());
+            final var actualEvent = (CategoryUpdated) aCategory.getDomainEvents().get(0);
+            assertEquals(aCategory.getId().getValue(), actualEvent.id());
+        }
+    }
+}
@@ -562,4 +562,32 @@ class GenreTest extends UnitTest {
             assertEquals(expectedErrorCount, actualException.getErrors().size());
         }
     }
+
+    @Nested
+    class DomainEvents {
+
+        @Test
+        void Given_a_valid_param_When_call_newGenre_Then_should_register_a_created_event() {
+            // when
+            final var actualGenre = Genre.newGenre("Ação");
+            // then
+            assertEquals(1, actualGenre.getDomainEvents().size());
+            final var actualEvent = (GenreCreated) actualGenre.getDomainEvents().get(0);
+            assertEquals(actualGenre.getId().getValue(), actualEvent.id());
+            assertNotNull(actualEvent.occurredOn());
+        }
+
+        @Test
+        void Given_a_persisted_genre_When_call_update_and_add_category_Then_should_register_a_single_updated_event() {
+            // given
+            final var aGenre = Genre.newGenre("Acao");
+            aGenre.publishDomainEvents(event -> {});
+            // when
+            aGenre.update("Ação", new ArrayList<>()).addCategory(CategoryID.from("123")).deactivate();
+            // then
+            assertEquals(1, aGenre.getDomainEvents().size());
+            final var actualEvent = (GenreUpdated) aGenre.getDomainEvents().get(0);
+            assertEquals(aGenre.getId().getValue(), actualEvent.id());
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalogo.domain.utils;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IdGeneratorTest extends UnitTest {
+
+    @AfterEach
+    void tearDown() {
+        IdUtils.use(IdGenerator.timeOrdered());
+    }
+
+    @Nested
+    class TimeOrdered {
+
+        @Test
+        void Given_a_time_ordered_generator_When_calls_generate_Then_should_return_a_version_7_uuid_as_hex() {
+            // when
+            final var actualId = IdGenerator.timeOrdered().generate();
+            // then
+            final var actualUuid = uuidOf(actualId);
+            assertEquals(32, actualId.length());
+            assertEquals(7, actualUuid.version());
+            assertEquals(2, actualUuid.variant());
+            assertEquals(actualId, actualId.toLowerCase());
+        }
+
+        @Test
+        void Given_a_frozen_clock_When_calls_generate_many_times_Then_should_return_strictly_increasing_ids() {
+            // given
+            final var expectedMillis = 1_700_000_000_000L;
+            final var aGenerator = new TimeOrderedIdGenerator(() -> expectedMillis);
+            final var actualIds = new ArrayList<String>();
+            // when
+            for (int i = 0; i < 10_000; i++) {
+                actualIds.add(aGenerator.generate());
+            }
+            // then
+            for (int i = 1; i < actualIds.size(); i++) {
+                assertTrue(actualIds.get(i - 1).compareTo(actualIds.get(i)) < 0);
+            }
+            assertEquals(expectedMillis, uuidOf(actualIds.get(0)).getMostSignificantBits() >>> 16);
+        }
+
+        @Test
+        void Given_a_clock_moving_backwards_When_calls_generate_Then_should_keep_ids_increasing() {
+            // given
+            final var aClock = new long[]{1_700_000_000_000L};
+            final var aGenerator = new TimeOrderedIdGenerator(() -> aClock[0]);
+            final var aFirstId = aGenerator.generate();
+            aClock[0] -= 1_000;
+            // when
+            final var actualId = aGenerator.generate();
+            // then
+            assertTrue(aFirstId.compareTo(actualId) < 0);
+        }
+    }
+
+    @Nested
+    class Pluggable {
+
+        @Test
+        void Given_the_random_generator_When_calls_unique_Then_should_return_a_version_4_uuid_as_hex() {
+            // given
+            IdUtils.use(IdGenerator.random());
+            // when
+            final var actualId = CategoryID.unique().getValue();
+            // then
+            assertEquals(32, actualId.length());
+            assertEquals(4, uuidOf(actualId).version());
+        }
+
+        @Test
+        void Given_a_custom_generator_When_calls_uuid_Then_should_delegate_to_it() {
+            // given
+            final var expectedId = "custom";
+            IdUtils.use(() -> expectedId);
+            // when
+            final var actualId = IdUtils.uuid();
+            // then
+            assertEquals(expectedId, actualId);
+        }
+    }
+
+    private static UUID uuidOf(final String anId) {
+        return UUID.fromString(anId.replaceFirst("(.{8})(.{4})(.{4})(.{4})(.{12})", "$1-$2-$3-$4-$5"));
+    }
+}
@@ -0,0 +1,209 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class MediaUploadTest extends UnitTest {
+
+    @DisplayName("Create a media upload with valid params")
+    @Nested
+    class CreateWithValidParams {
+
+        @Test
+        void Given_valid_params_When_calls_newUpload_Then_should_instantiate_an_upload_in_progress() {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var expectedType = VideoMediaType.VIDEO;
+            final var expectedName = "video.mp4";
+            final var expectedContentType = "video/mp4";
+            final var expectedStatus = MediaUploadStatus.IN_PROGRESS;
+
+            // When
+            final var actualUpload = MediaUpload.newUpload(
+                    expectedVideoId, expectedType, expectedName, expectedContentType);
+
+            // Then
+            assertNotNull(actualUpload.getId());
+            assertEquals(expectedVideoId, actualUpload.getVideoId());
+            assertEquals(expectedType, actualUpload.getType());
+            assertEquals(expectedName, actualUpload.getName());
+            assertEquals(expectedContentType, actualUpload.getContentType());
+            assertEquals(expectedStatus, actualUpload.getStatus());
+            assertTrue(actualUpload.getChunks().isEmpty());
+            assertEquals(0, actualUpload.nextOffset());
+            assertNotNull(actualUpload.getCreatedAt());
+            assertNotNull(actualUpload.getUpdatedAt());
+        }
+    }
+
+    @DisplayName("Create a media upload with invalid params")
+    @Nested
+    class CreateWithInvalidParams {
+
+        @Test
+        void Given_a_null_name_When_calls_newUpload_Then_should_receive_error() {
+            // Given
+            final var expectedErrorMessage = "'name' should not be null";
+
+            // When
+            Executable invalidMethodCall = () -> MediaUpload.newUpload(
+                    VideoID.unique(), VideoMediaType.VIDEO, null, "video/mp4");
+
+            // Then
+            final var actualException = assertThrows(NotificationException.class, invalidMethodCall);
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        }
+    }
+
+    @DisplayName("Add chunks and complete a media upload")
+    @Nested
+    class CompleteWithValidChunks {
+
+        @Test
+        void Given_contiguous_chunks_When_calls_complete_Then_should_mark_it_as_completed() {
+            // Given
+            final var anUpload = MediaUpload.newUpload(
+                    VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+            final var expectedSize = 15L;
+
+            anUpload.addChunk(MediaChunk.with(2, 10, 5, "def"));
+            anUpload.addChunk(MediaChunk.with(1, 0, 10, "abc"));
+
+            // When
+            anUpload.complete();
+
+            // Then
+            assertEquals(MediaUploadStatus.COMPLETED, anUpload.getStatus());
+            assertEquals(expectedSize, anUpload.size());
+            assertEquals(expectedSize, anUpload.nextOffset());
+            assertEquals(1, anUpload.getChunks().get(0).number());
+            assertEquals(2, anUpload.getChunks().get(1).number());
+        }
+
+        @Test
+        void Given_a_resent_chunk_When_calls_addChunk_Then_should_replace_the_previous_one() {
+            // Given
+            final var anUpload = MediaUpload.newUpload(
+                    VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+            final var expectedChunk = MediaChunk.with(1, 0, 10, "def");
+
+            anUpload.addChunk(MediaChunk.with(1, 0, 8, "abc"));
+
+            // When
+            anUpload.addChunk(expectedChunk);
+
+            // Then
+            assertEquals(1, anUpload.getChunks().size());
+            assertEquals(expectedChunk, anUpload.getChunks().get(0));
+            assertEquals(10, anUpload.nextOffset());
+        }
+    }
+
+    @DisplayName("Complete a media upload with invalid chunks")
+    @Nested
+    class CompleteWithInvalidChunks {
+
+        @Test
+        void Given_a_missing_chunk_When_calls_complete_Then_should_receive_error() {
+            // Given
+            final var anUpload = MediaUpload.newUpload(
+                    VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+            final var expectedErrorMessage = "Chunk 2 is missing";
+
+            anUpload.addChunk(MediaChunk.with(1, 0, 10, "abc"));
+            anUpload.addChunk(MediaChunk.with(3, 20, 10, "ghi"));
+
+            // When
+            Executable invalidMethodCall = anUpload::complete;
+
+            // Then
+            final var actualException = assertThrows(NotificationException.class, invalidMethodCall);
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+            assertEquals(MediaUploadStatus.IN_PROGRESS, anUpload.getStatus());
+            assertEquals(10, anUpload.nextOffset());
+        }
+
+        @Test
+        void Given_an_overlapping_chunk_When_calls_complete_Then_should_receive_error() {
+            // Given
+            final var anUpload = MediaUpload.newUpload(
+                    VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+            final var expectedErrorMessage = "Chunk 2 should start at offset 10 but starts at 8";
+
+            anUpload.addChunk(MediaChunk.with(1, 0, 10, "abc"));
+            anUpload.addChunk(MediaChunk.with(2, 8, 10, "def"));
+
+            // When
+            Executable invalidMethodCall = anUpload::complete;
+
+            // Then
+            final var actualException = assertThrows(NotificationException.class, invalidMethodCall);
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        }
+
+        @Test
+        void Given_a_completed_upload_When_calls_addChunk_Then_should_receive_error() {
+            // Given
+            final var anUpload = MediaUpload.newUpload(
+                    VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+            anUpload.addChunk(MediaChunk.with(1, 0, 10, "abc"));
+            anUpload.complete();
+
+            final var expectedErrorMessage = "Upload %s was already completed"
+                    .formatted(anUpload.getId().getValue());
+
+            // When
+            Executable invalidMethodCall = () -> anUpload.addChunk(MediaChunk.with(2, 10, 10, "def"));
+
+            // Then
+            final var actualException = assertThrows(DomainException.class, invalidMethodCall);
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+        }
+    }
+
+    @DisplayName("Fail a media upload")
+    @Nested
+    class FailUpload {
+
+        @Test
+        void Given_an_upload_in_progress_When_calls_fail_Then_should_mark_it_as_failed() {
+            // Given
+            final var anUpload = MediaUpload.newUpload(
+                    VideoID.unique(), VideoMediaType.BANNER, "banner.jpg", "image/jpg");
+
+            // When
+            anUpload.fail();
+
+            // Then
+            assertEquals(MediaUploadStatus.FAILED, anUpload.getStatus());
+            assertFalse(anUpload.isInProgress());
+            assertFalse(anUpload.isCompleted());
+        }
+
+        @Test
+        void Given_a_completed_upload_When_calls_fail_Then_should_receive_error() {
+            // Given
+            final var anUpload = MediaUpload.newUpload(
+                    VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+            anUpload.addChunk(MediaChunk.with(1, 0, 10, "abc"));
+            anUpload.complete();
+
+            final var expectedErrorMessage = "Upload %s was already completed"
+                    .formatted(anUpload.getId().getValue());
+
+            // When
+            Executable invalidMethodCall = anUpload::fail;
+
+            // Then
+            final var actualException = assertThrows(DomainException.class, invalidMethodCall);
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            assertEquals(MediaUploadStatus.COMPLETED, anUpload.getStatus());
+        }
+    }
+}
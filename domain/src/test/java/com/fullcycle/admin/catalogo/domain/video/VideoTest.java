@@ -113,6 +113,34 @@ class VideoTest extends UnitTest {
             // then
             assertNotNull(actualVideo.getDomainEvents());
         }
+
+        @Test
+        void Given_a_versioned_video_When_calls_with_and_update_Then_should_keep_the_version_it_was_read_with() {
+            // given
+            final var expectedVersion = 7L;
+            final var aVideo = Video.with(new Video.Builder("A title",
+                    "A description",
+                    Year.of(1900),
+                    Rating.AGE_10)
+                    .id(VideoID.unique())
+                    .releaseStatus(ReleaseStatus.NOT_RELEASED)
+                    .publishingStatus(PublishingStatus.NOT_PUBLISHED)
+                    .createdAt(InstantUtils.now())
+                    .updatedAt(InstantUtils.now())
+                    .version(expectedVersion));
+
+            // when
+            final var actualVideo = Video.with(aVideo)
+                    .update(new Video.Builder("Another title", "A description", Year.of(1900), Rating.AGE_10)
+                            .releaseStatus(ReleaseStatus.RELEASED)
+                            .publishingStatus(PublishingStatus.PUBLISHED));
+
+            // then
+            assertEquals(expectedVersion, actualVideo.getVersion());
+            assertEquals(0, Video.newVideo(new Video.Builder("A title", "A description", Year.of(1900), Rating.AGE_10)
+                    .releaseStatus(ReleaseStatus.NOT_RELEASED)
+                    .publishingStatus(PublishingStatus.NOT_PUBLISHED)).getVersion());
+        }
     }
 
     @DisplayName("Update a video with valid params")
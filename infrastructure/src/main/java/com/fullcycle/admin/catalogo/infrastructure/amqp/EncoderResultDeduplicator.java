@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.DeduplicationProperties;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.ProcessedEncoderResultRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class EncoderResultDeduplicator {
+
+    private static final Logger log = LoggerFactory.getLogger(EncoderResultDeduplicator.class);
+
+    private final boolean enabled;
+    private final DeduplicationProperties props;
+    private final ProcessedEncoderResultRepository processedEncoderResultRepository;
+    private final Cache<String, Boolean> processed;
+    private final Counter duplicates;
+
+    public EncoderResultDeduplicator(
+            final DeduplicationProperties props,
+            final ProcessedEncoderResultRepository processedEncoderResultRepository,
+            final MeterRegistry registry) {
+        this.props = Objects.requireNonNull(props);
+        this.enabled = props.isEnabled();
+        this.processedEncoderResultRepository = Objects.requireNonNull(processedEncoderResultRepository);
+        this.processed = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(1, props.getCacheSize()))
+                .expireAfterWrite(props.getCacheTtl())
+                .build();
+        this.duplicates = Counter.builder("amqp.listener.duplicates")
+                .register(registry);
+    }
+
+    public boolean isDuplicate(final EncoderResultKey aKey) {
+        if (!this.enabled) {
+            return false;
+        }
+        final var anId = aKey.id();
+        if (this.processed.getIfPresent(anId) != null) {
+            this.duplicates.increment();
+            return true;
+        }
+        if (this.processedEncoderResultRepository.existsById(anId)) {
+            this.processed.put(anId, Boolean.TRUE);
+            this.duplicates.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public void markProcessed(final EncoderResultKey aKey) {
+        if (!this.enabled) {
+            return;
+        }
+        final var anId = aKey.id();
+        try {
+            this.processedEncoderResultRepository.markProcessed(
+                    anId, String.valueOf(aKey.resourceId()), aKey.status().name(), InstantUtils.now());
+            this.processed.put(anId, Boolean.TRUE);
+        } catch (RuntimeException e) {
+            log.warn("[message:video.listener.dedup] [status:mark_failed] [key:{}] [error:{}]", aKey, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${amqp.deduplication.purge-interval}")
+    public void purge() {
+        if (!this.enabled) {
+            return;
+        }
+        final var purged = this.processedEncoderResultRepository
+                .deleteProcessedBefore(InstantUtils.now().minus(this.props.getRetention()));
+        log.debug("[message:video.listener.dedup] [status:purged] [count:{}]", purged);
+    }
+}
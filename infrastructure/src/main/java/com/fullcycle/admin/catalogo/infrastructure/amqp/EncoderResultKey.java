@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+
+public record EncoderResultKey(
+        String resourceId,
+        MediaStatus status,
+        String encodedPath
+) {
+
+    public static EncoderResultKey from(final UpdateMediaStatusCommand aCommand) {
+        return new EncoderResultKey(
+                aCommand.resourceId(),
+                aCommand.status(),
+                "%s/%s".formatted(aCommand.folder(), aCommand.filename()));
+    }
+
+    public String id() {
+        return HashingUtils.fingerprint(String.join("\n", String.valueOf(resourceId), status.name(), String.valueOf(encodedPath)));
+    }
+}
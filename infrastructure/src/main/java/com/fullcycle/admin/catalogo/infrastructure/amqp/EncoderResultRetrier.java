@@ -0,0 +1,125 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.RetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+@Component
+public class EncoderResultRetrier {
+
+    private static final Logger log = LoggerFactory.getLogger(EncoderResultRetrier.class);
+
+    static final String ATTEMPT_HEADER = "x-retry-attempt";
+    static final String REASON_HEADER = "x-retry-reason";
+
+    private final RetryProperties props;
+    private final QueueProperties queueProps;
+    private final RabbitOperations ops;
+    private final Counter retried;
+    private final Counter parked;
+    private final Counter replayed;
+
+    public EncoderResultRetrier(
+            final RetryProperties props,
+            @VideoEncodedQueue final QueueProperties queueProps,
+            @Lazy final RabbitOperations ops,
+            final MeterRegistry registry) {
+        this.props = Objects.requireNonNull(props);
+        this.queueProps = Objects.requireNonNull(queueProps);
+        this.ops = Objects.requireNonNull(ops);
+        this.retried = Counter.builder("amqp.listener.retried")
+                .register(registry);
+        this.parked = Counter.builder("amqp.listener.parked")
+                .register(registry);
+        this.replayed = Counter.builder("amqp.listener.replayed")
+                .register(registry);
+    }
+
+    public void retry(final Message aMessage, final String aReason) {
+        final var anAttempt = attemptOf(aMessage) + 1;
+        if (anAttempt > this.props.getMaxAttempts()) {
+            park(aMessage, aReason);
+            return;
+        }
+
+        final var aRetry = MessageBuilder.fromClonedMessage(aMessage)
+                .setHeader(ATTEMPT_HEADER, anAttempt)
+                .setHeader(REASON_HEADER, String.valueOf(aReason))
+                .build();
+        publish(this.props.delayQueueOf(anAttempt), aRetry);
+        this.retried.increment();
+        log.warn("[message:video.listener.retry] [status:scheduled] [attempt:{}] [delay:{}] [reason:{}]",
+                anAttempt, this.props.delayOf(anAttempt), aReason);
+    }
+
+    public void park(final Message aMessage, final String aReason) {
+        final var aParked = MessageBuilder.fromClonedMessage(aMessage)
+                .setHeader(REASON_HEADER, String.valueOf(aReason))
+                .build();
+        publish(this.props.getParkingLotQueue(), aParked);
+        this.parked.increment();
+        log.error("[message:video.listener.retry] [status:parked] [attempts:{}] [reason:{}]",
+                attemptOf(aMessage), aReason);
+    }
+
+    public int replayParked(final int max) {
+        final var count = this.ops.execute(channel -> {
+            channel.confirmSelect();
+            var replayed = 0;
+            while (replayed < max) {
+                final var response = channel.basicGet(this.props.getParkingLotQueue(), false);
+                if (response == null) {
+                    break;
+                }
+                final var headers = new HashMap<String, Object>();
+                if (response.getProps().getHeaders() != null) {
+                    headers.putAll(response.getProps().getHeaders());
+                }
+                headers.remove(ATTEMPT_HEADER);
+                headers.remove(REASON_HEADER);
+                headers.remove("x-death");
+
+                channel.basicPublish(
+                        this.queueProps.getExchange(),
+                        this.queueProps.getRoutingKey(),
+                        response.getProps().builder().headers(headers).build(),
+                        response.getBody());
+                // the parked copy is only dropped once the broker has the replayed one
+                channel.waitForConfirmsOrDie(this.props.getConfirmTimeout().toMillis());
+                channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+                replayed++;
+            }
+            return replayed;
+        });
+        final var replayedCount = count == null ? 0 : count;
+        this.replayed.increment(replayedCount);
+        log.info("[message:video.listener.retry] [status:replayed] [count:{}]", replayedCount);
+        return replayedCount;
+    }
+
+    // the caller acks the original delivery right after this returns, so the copy must be confirmed first
+    private void publish(final String aRoutingKey, final Message aMessage) {
+        this.ops.invoke(operations -> {
+            operations.send(this.props.getExchange(), aRoutingKey, aMessage);
+            operations.waitForConfirmsOrDie(this.props.getConfirmTimeout().toMillis());
+            return null;
+        });
+    }
+
+    static int attemptOf(final Message aMessage) {
+        final Object anAttempt = aMessage.getMessageProperties().getHeader(ATTEMPT_HEADER);
+        return anAttempt instanceof Number number ? number.intValue() : 0;
+    }
+}
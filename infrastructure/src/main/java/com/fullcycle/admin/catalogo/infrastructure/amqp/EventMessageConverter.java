@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.EventFormat;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public class EventMessageConverter implements MessageConverter {
+
+    private final MessageConverter json;
+
+    public EventMessageConverter(final MessageConverter json) {
+        this.json = Objects.requireNonNull(json);
+    }
+
+    @Override
+    public Message toMessage(final Object object, final MessageProperties messageProperties) {
+        return this.json.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(final Message message) {
+        final var properties = message.getMessageProperties();
+        final var format = EventFormat.of(properties.getContentType());
+        final var target = properties.getInferredArgumentType();
+        if (format.isEmpty() || target == null) {
+            return this.json.fromMessage(message);
+        }
+        if (format.get().isText()) {
+            return String.class.equals(target)
+                    ? new String(message.getBody(), charsetOf(properties))
+                    : this.json.fromMessage(message);
+        }
+        try {
+            return format.get().readValue(message.getBody(), target);
+        } catch (RuntimeException e) {
+            throw new MessageConversionException("Failed to read %s message".formatted(format.get()), e);
+        }
+    }
+
+    private static Charset charsetOf(final MessageProperties properties) {
+        final var encoding = properties.getContentEncoding();
+        return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+    }
+}
@@ -0,0 +1,175 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusBatchUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderError;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderResult;
+import com.rabbitmq.client.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+@Component
+@ConditionalOnProperty(name = "amqp.listener.batch-enabled", havingValue = "true")
+public class VideoEncoderBatchListener {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoEncoderBatchListener.class);
+
+    static final String LISTENER_ID = "videoEncodedBatchListener";
+
+    private final UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase;
+    private final EncoderResultDeduplicator deduplicator;
+    private final EncoderResultRetrier retrier;
+
+    public VideoEncoderBatchListener(
+            final UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase,
+            final EncoderResultDeduplicator deduplicator,
+            final EncoderResultRetrier retrier) {
+        this.updateMediaStatusBatchUseCase = Objects.requireNonNull(updateMediaStatusBatchUseCase);
+        this.deduplicator = Objects.requireNonNull(deduplicator);
+        this.retrier = Objects.requireNonNull(retrier);
+    }
+
+    // like the single listener, batches are taken from the shards VideoEncoderShardRouter fills: each shard has a
+    // single active consumer across every instance, so results of a video never end up in two batches at once
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "#{@listenerProperties.shardQueues}",
+            containerFactory = "batchRabbitListenerContainerFactory")
+    public void onVideoEncodedMessages(final List<Message> messages, final Channel channel) throws IOException {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        final var commands = new ArrayList<UpdateMediaStatusCommand>();
+        final var commandMessages = new ArrayList<Message>();
+        final var unsettled = new HashSet<Long>();
+
+        for (final var message : messages) {
+            final VideoEncoderResult result;
+            try {
+                result = VideoEncoderListener.resultOf(message);
+            } catch (RuntimeException e) {
+                log.error("[message:video.listener.income] [status:unreadable] [tag:{}] [error:{}]",
+                        tagOf(message), e.getMessage());
+                park(message, "unreadable encoder result", unsettled);
+                continue;
+            }
+
+            if (result instanceof VideoEncoderCompleted dto) {
+                commands.add(VideoEncoderListener.commandOf(dto));
+                commandMessages.add(message);
+            } else if (result instanceof VideoEncoderError dto && dto.message() != null) {
+                log.error("[message:video.listener.income] [status:error] [payload:{}]", result);
+                commands.add(VideoEncoderListener.commandOf(dto));
+                commandMessages.add(message);
+            } else if (result instanceof VideoEncoderError dto) {
+                log.error("[message:video.listener.income] [status:error_without_media] [payload:{}]", result);
+                park(message, VideoEncoderListener.reasonOf(dto), unsettled);
+            } else {
+                log.error("[message:video.listener.income] [status:unknown] [payload:{}]", result);
+                park(message, "unknown encoder result", unsettled);
+            }
+        }
+
+        if (!commands.isEmpty()) {
+            for (final var index : execute(commands)) {
+                log.error("[message:video.listener.income] [status:failed] [command:{}]", commands.get(index));
+                retry(commandMessages.get(index), "batch command failed", unsettled);
+            }
+        }
+
+        settle(messages, unsettled, channel);
+    }
+
+    // results whose retry or parking copy was not confirmed go back to the shard, the rest of the batch is acked
+    private static void settle(final List<Message> messages, final Set<Long> unsettled, final Channel channel) throws IOException {
+        if (unsettled.isEmpty()) {
+            final var lastTag = messages.stream()
+                    .mapToLong(VideoEncoderBatchListener::tagOf)
+                    .max()
+                    .getAsLong();
+            channel.basicAck(lastTag, true);
+            return;
+        }
+        for (final var message : messages) {
+            final var tag = tagOf(message);
+            if (unsettled.contains(tag)) {
+                channel.basicNack(tag, false, true);
+            } else {
+                channel.basicAck(tag, false);
+            }
+        }
+    }
+
+    private void park(final Message aMessage, final String aReason, final Set<Long> unsettled) {
+        try {
+            this.retrier.park(aMessage, aReason);
+        } catch (AmqpException e) {
+            log.warn("[message:video.listener.income] [status:requeued] [tag:{}] [error:{}]", tagOf(aMessage), e.getMessage());
+            unsettled.add(tagOf(aMessage));
+        }
+    }
+
+    private void retry(final Message aMessage, final String aReason, final Set<Long> unsettled) {
+        try {
+            this.retrier.retry(aMessage, aReason);
+        } catch (AmqpException e) {
+            log.warn("[message:video.listener.income] [status:requeued] [tag:{}] [error:{}]", tagOf(aMessage), e.getMessage());
+            unsettled.add(tagOf(aMessage));
+        }
+    }
+
+    private static long tagOf(final Message aMessage) {
+        return aMessage.getMessageProperties().getDeliveryTag();
+    }
+
+    private List<Integer> execute(final List<UpdateMediaStatusCommand> commands) {
+        final var keys = commands.stream().map(EncoderResultKey::from).toList();
+        final var fresh = IntStream.range(0, commands.size())
+                .filter(index -> !isDuplicate(keys.get(index)))
+                .boxed()
+                .toList();
+        if (fresh.isEmpty()) {
+            return List.of();
+        }
+
+        final var failed = executeFresh(fresh.stream().map(commands::get).toList()).stream()
+                .map(fresh::get)
+                .toList();
+        fresh.stream()
+                .filter(index -> !failed.contains(index))
+                .forEach(index -> this.deduplicator.markProcessed(keys.get(index)));
+        return failed;
+    }
+
+    private boolean isDuplicate(final EncoderResultKey aKey) {
+        if (this.deduplicator.isDuplicate(aKey)) {
+            log.info("[message:video.listener.income] [status:duplicate] [key:{}]", aKey);
+            return true;
+        }
+        return false;
+    }
+
+    private List<Integer> executeFresh(final List<UpdateMediaStatusCommand> commands) {
+        try {
+            return this.updateMediaStatusBatchUseCase.execute(commands).failedCommands();
+        } catch (RuntimeException e) {
+            log.error("[message:video.listener.income] [status:batch_failed] [size:{}] [error:{}]", commands.size(), e.getMessage());
+            return IntStream.range(0, commands.size()).boxed().toList();
+        }
+    }
+}
@@ -2,15 +2,20 @@ package com.fullcycle.admin.catalogo.infrastructure.amqp;
 
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.EventFormat;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderError;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderResult;
 import com.rabbitmq.client.Channel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
@@ -18,7 +23,10 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.util.Objects;
 
+import static com.fullcycle.admin.catalogo.domain.utils.IdUtils.videoIdOf;
+
 @Component
+@ConditionalOnProperty(name = "amqp.listener.batch-enabled", havingValue = "false", matchIfMissing = true)
 public class VideoEncoderListener {
 
     private static final Logger log = LoggerFactory.getLogger(VideoEncoderListener.class);
@@ -26,31 +34,97 @@ public class VideoEncoderListener {
     static final String LISTENER_ID = "videoEncodedListener";
 
     private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private final EncoderResultDeduplicator deduplicator;
+    private final EncoderResultRetrier retrier;
 
     public VideoEncoderListener(
-            final UpdateMediaStatusUseCase updateMediaStatusUseCase) {
+            final UpdateMediaStatusUseCase updateMediaStatusUseCase,
+            final EncoderResultDeduplicator deduplicator,
+            final EncoderResultRetrier retrier) {
         this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+        this.deduplicator = Objects.requireNonNull(deduplicator);
+        this.retrier = Objects.requireNonNull(retrier);
     }
 
-    @RabbitListener(id = LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
+    // results reach the shards through VideoEncoderShardRouter, each shard is consumed by a single consumer
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "#{@listenerProperties.shardQueues}",
+            containerFactory = "shardRabbitListenerContainerFactory")
     public void onVideoEncodedMessage(@Payload final VideoEncoderResult message,
+                                      final Message aMessage,
                                       Channel channel,
                                       @Header(AmqpHeaders.DELIVERY_TAG) long tag) throws IOException {
-        if (message instanceof VideoEncoderCompleted dto) {
-            log.info("[message:video.listener.income] [status:completed] [payload:{}]", message);
-            final var aCommand =
-                    UpdateMediaStatusCommand.with(
-                            MediaStatus.COMPLETED,
-                            dto.id(),
-                            dto.video().resourceId(),
-                            dto.video().encodedVideoFolder(),
-                            dto.video().filePath());
+        try {
+            if (message instanceof VideoEncoderCompleted dto) {
+                log.info("[message:video.listener.income] [status:completed] [payload:{}]", message);
+                handle(commandOf(dto), aMessage);
+            } else if (message instanceof VideoEncoderError dto && dto.message() != null) {
+                log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
+                handle(commandOf(dto), aMessage);
+            } else if (message instanceof VideoEncoderError dto) {
+                log.error("[message:video.listener.income] [status:error_without_media] [payload:{}]", message);
+                this.retrier.park(aMessage, reasonOf(dto));
+            } else {
+                log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+                this.retrier.park(aMessage, "unknown encoder result");
+            }
+        } catch (AmqpException e) {
+            // the retry or parking copy was not confirmed: keep the original on the shard instead of losing it
+            log.warn("[message:video.listener.income] [status:requeued] [tag:{}] [error:{}]", tag, e.getMessage());
+            channel.basicNack(tag, false, true);
+            return;
+        }
+        channel.basicAck(tag, false);
+    }
+
+    private void handle(final UpdateMediaStatusCommand aCommand, final Message aMessage) {
+        final var aKey = EncoderResultKey.from(aCommand);
+        try {
+            if (this.deduplicator.isDuplicate(aKey)) {
+                log.info("[message:video.listener.income] [status:duplicate] [key:{}]", aKey);
+                return;
+            }
             this.updateMediaStatusUseCase.execute(aCommand);
-            channel.basicAck(tag, false);
-        } else if (message instanceof VideoEncoderError) {
-            log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
-        } else {
-            log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+            this.deduplicator.markProcessed(aKey);
+        } catch (DomainException e) {
+            this.retrier.park(aMessage, e.getMessage());
+        } catch (RuntimeException e) {
+            this.retrier.retry(aMessage, e.getMessage());
+        }
+    }
+
+    static UpdateMediaStatusCommand commandOf(final VideoEncoderCompleted dto) {
+        return UpdateMediaStatusCommand.with(
+                MediaStatus.COMPLETED,
+                dto.id(),
+                dto.video().resourceId(),
+                dto.video().encodedVideoFolder(),
+                dto.video().filePath());
+    }
+
+    static UpdateMediaStatusCommand commandOf(final VideoEncoderError dto) {
+        return UpdateMediaStatusCommand.with(
+                MediaStatus.ERROR,
+                dto.message().resourceId(),
+                dto.message().filePath());
+    }
+
+    static String reasonOf(final VideoEncoderError dto) {
+        return "encoder error without media: %s".formatted(dto.error());
+    }
+
+    static VideoEncoderResult resultOf(final Message message) {
+        return EventFormat.of(message.getMessageProperties().getContentType())
+                .orElse(EventFormat.JSON)
+                .readValue(message.getBody(), VideoEncoderResult.class);
+    }
+
+    static String orderingKeyOf(final String filePath) {
+        try {
+            return videoIdOf(filePath);
+        } catch (RuntimeException e) {
+            return String.valueOf(filePath);
         }
     }
 }
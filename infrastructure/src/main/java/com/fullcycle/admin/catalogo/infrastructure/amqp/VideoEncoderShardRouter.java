@@ -0,0 +1,184 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.AmqpPublishExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.ListenerProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.PublisherConfirmProperties;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderError;
+import com.rabbitmq.client.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class VideoEncoderShardRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoEncoderShardRouter.class);
+
+    static final String LISTENER_ID = "videoEncodedShardRouter";
+
+    private static final long MIN_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = Duration.ofSeconds(5).toMillis();
+
+    private final ListenerProperties props;
+    private final EncoderResultRetrier retrier;
+    private final RabbitOperations ops;
+    private final Executor executor;
+    private final Duration confirmTimeout;
+    private final Semaphore window;
+    private final AtomicInteger failures;
+
+    public VideoEncoderShardRouter(
+            final ListenerProperties props,
+            final PublisherConfirmProperties confirmProps,
+            final EncoderResultRetrier retrier,
+            @Lazy final RabbitOperations ops,
+            @AmqpPublishExecutor final Executor executor) {
+        this.props = Objects.requireNonNull(props);
+        this.retrier = Objects.requireNonNull(retrier);
+        this.ops = Objects.requireNonNull(ops);
+        this.executor = Objects.requireNonNull(executor);
+        this.confirmTimeout = Objects.requireNonNull(confirmProps.getTimeout());
+        this.window = new Semaphore(Math.max(1, confirmProps.getMaxInFlight()));
+        this.failures = new AtomicInteger();
+    }
+
+    // a single exclusive consumer keeps the order the encoder published in while moving results to their shard
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.queue}",
+            exclusive = true,
+            concurrency = "1")
+    public void onVideoEncodedMessage(final Message aMessage,
+                                      Channel channel,
+                                      @Header(AmqpHeaders.DELIVERY_TAG) long tag) {
+        backoff();
+        final var aKey = shardKeyOf(aMessage);
+        if (!acquire()) {
+            requeue(channel, tag, aKey, "no confirm within " + this.confirmTimeout);
+            return;
+        }
+
+        final var aRouted = MessageBuilder.fromClonedMessage(aMessage)
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+        final var correlation = new CorrelationData(IdUtils.uuid());
+        try {
+            this.ops.send(this.props.getShardExchange(), aKey, aRouted, correlation);
+        } catch (AmqpException e) {
+            this.window.release();
+            recover(aMessage, channel, tag, aKey, e.getMessage());
+            return;
+        }
+
+        // the original delivery is acked once the broker confirmed the routed copy, without holding the consumer
+        correlation.getFuture()
+                .orTimeout(this.confirmTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    this.window.release();
+                    if (error == null && confirm.isAck()) {
+                        this.failures.set(0);
+                        ack(channel, tag);
+                    } else {
+                        recover(aMessage, channel, tag, aKey, error != null ? error.toString() : confirm.getReason());
+                    }
+                });
+    }
+
+    // the retrier waits for its own confirm, so it must not run on the connection thread completing this one.
+    // A retried result comes back after later results of its video; the status update never moves a
+    // completed media back, so the late copy cannot undo a newer result
+    private void recover(final Message aMessage, final Channel channel, final long tag, final String aKey, final String aReason) {
+        this.failures.incrementAndGet();
+        log.warn("[message:video.listener.shard] [status:failed] [key:{}] [error:{}]", aKey, aReason);
+        try {
+            this.executor.execute(() -> {
+                try {
+                    this.retrier.retry(aMessage, "shard routing failed: " + aReason);
+                    ack(channel, tag);
+                } catch (AmqpException e) {
+                    requeue(channel, tag, aKey, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            requeue(channel, tag, aKey, "retry rejected");
+        }
+    }
+
+    // repeated failures slow the consumer down instead of spinning on the requeued head of the queue
+    private void backoff() {
+        final var count = this.failures.get();
+        if (count == 0) {
+            return;
+        }
+        final var aDelay = Math.min(MAX_BACKOFF_MILLIS, MIN_BACKOFF_MILLIS << Math.min(count - 1, 16));
+        try {
+            Thread.sleep(aDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return this.window.tryAcquire(this.confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void requeue(final Channel channel, final long tag, final String aKey, final String aReason) {
+        this.failures.incrementAndGet();
+        log.warn("[message:video.listener.shard] [status:requeued] [key:{}] [error:{}]", aKey, aReason);
+        try {
+            channel.basicNack(tag, false, true);
+        } catch (Exception e) {
+            log.warn("[message:video.listener.shard] [status:unsettled] [tag:{}] [error:{}]", tag, e.getMessage());
+        }
+    }
+
+    private static void ack(final Channel channel, final long tag) {
+        try {
+            channel.basicAck(tag, false);
+        } catch (Exception e) {
+            // a closed channel redelivers the result, and the status update ignores the duplicate
+            log.warn("[message:video.listener.shard] [status:unsettled] [tag:{}] [error:{}]", tag, e.getMessage());
+        }
+    }
+
+    static String shardKeyOf(final Message aMessage) {
+        try {
+            final var aResult = VideoEncoderListener.resultOf(aMessage);
+            if (aResult instanceof VideoEncoderCompleted dto) {
+                return VideoEncoderListener.orderingKeyOf(dto.video().filePath());
+            }
+            if (aResult instanceof VideoEncoderError dto && dto.message() != null) {
+                return VideoEncoderListener.orderingKeyOf(dto.message().filePath());
+            }
+        } catch (RuntimeException e) {
+            log.debug("[message:video.listener.shard] [status:unreadable] [error:{}]", e.getMessage());
+        }
+        // results without a video have nothing to be ordered with, the listener parks them
+        return String.valueOf(aMessage.getMessageProperties().getMessageId());
+    }
+}
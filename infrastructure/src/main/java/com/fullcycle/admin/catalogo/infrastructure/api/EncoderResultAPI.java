@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.video.models.ReplayParkedResultsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@RequestMapping(value = "encoder_results")
+@Tag(name = "Encoder results")
+public interface EncoderResultAPI {
+
+    @PostMapping(
+            value = "parked/replay",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Replay encoder results parked after exhausting their retries")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Parked results replayed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<ReplayParkedResultsResponse> replayParked(
+            @RequestParam(name = "max", required = false, defaultValue = "100") int max
+    );
+}
@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RequestMapping(value = "storage")
+@Tag(name = "Storage")
+public interface StorageAPI {
+
+    @PutMapping(value = "{*name}")
+    @Operation(summary = "Store an object through a signed upload URL")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Object stored successfully"),
+            @ApiResponse(responseCode = "403", description = "Signature is invalid or expired"),
+    })
+    ResponseEntity<Void> put(
+            @PathVariable(name = "name") String name,
+            @RequestParam(name = "expires") long expires,
+            @RequestParam(name = "signature") String signature,
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestBody byte[] content
+    );
+
+    @GetMapping(value = "{*name}")
+    @Operation(summary = "Read an object through a signed download URL")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Object retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Signature is invalid or expired"),
+            @ApiResponse(responseCode = "404", description = "Object was not found"),
+    })
+    ResponseEntity<byte[]> get(
+            @PathVariable(name = "name") String name,
+            @RequestParam(name = "expires") long expires,
+            @RequestParam(name = "signature") String signature
+    );
+}
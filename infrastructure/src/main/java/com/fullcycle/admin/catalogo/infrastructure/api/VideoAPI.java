@@ -1,10 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.GetVideoByIdResponse;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -46,7 +43,8 @@ public interface VideoAPI {
             @RequestParam(name = "trailer_file", required = false) MultipartFile trailerFile,
             @RequestParam(name = "banner_file", required = false) MultipartFile bannerFile,
             @RequestParam(name = "thumbnail_file", required = false) MultipartFile thumbnailFile,
-            @RequestParam(name = "thumbnail_half_file", required = false) MultipartFile thumbnailHalfFile);
+            @RequestParam(name = "thumbnail_half_file", required = false) MultipartFile thumbnailHalfFile,
+            @RequestParam(name = "async", required = false, defaultValue = "false") boolean async);
 
     @PostMapping(
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -81,6 +79,7 @@ public interface VideoAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Video updated successfully"),
             @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "409", description = "Video was modified concurrently"),
             @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
@@ -141,4 +140,128 @@ public interface VideoAPI {
             @PathVariable(name = "type") String type,
             @RequestParam(name = "media_file") MultipartFile media
     );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/uploads",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Start a resumable upload of a video media by its type")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> createMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CreateMediaUploadRequest aRequest
+    );
+
+    @GetMapping(
+            value = "{id}/uploads/{uploadId}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get the state of a resumable upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    MediaUploadResponse getMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+
+    @PutMapping(
+            value = "{id}/uploads/{uploadId}/chunks/{number}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Upload a numbered chunk of a resumable upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk stored successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> uploadMediaChunk(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "uploadId") String uploadId,
+            @PathVariable(name = "number") int number,
+            @RequestParam(name = "offset") long offset,
+            @RequestBody byte[] content
+    );
+
+    @PostMapping(
+            value = "{id}/uploads/{uploadId}/complete",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Assemble the chunks of a resumable upload into the video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or upload was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> completeMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/signed-uploads",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Issue a short-lived signed URL to upload a video media directly to storage")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Signed URL issued successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> signMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody SignMediaUploadRequest aRequest
+    );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/signed-uploads/complete",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Verify a media uploaded through a signed URL and attach it to the video",
+            description = "The checksum is the big-endian CRC32C of the uploaded bytes, "
+                    + "either as 8 hex digits or base64 encoded as in the x-goog-hash header"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or uploaded media was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> completeSignedMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CompleteSignedUploadRequest aRequest
+    );
+
+    @GetMapping(
+            value = "{id}/medias/{type}/signed-download",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Issue a short-lived signed URL to download a video media directly from storage")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Signed URL issued successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or media was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    SignedMediaUrlResponse signMediaDownload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type
+    );
 }
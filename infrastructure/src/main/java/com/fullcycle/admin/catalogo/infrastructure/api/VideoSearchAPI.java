@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.video.models.RebuildVideoSearchResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoSearchCheckResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@RequestMapping(value = "video_search")
+@Tag(name = "Video search")
+public interface VideoSearchAPI {
+
+    @PostMapping(
+            value = "rebuild",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Rebuild the video search read model from the videos table")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Read model rebuilt successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<RebuildVideoSearchResponse> rebuild(
+            @RequestParam(name = "batch_size", required = false, defaultValue = "500") int batchSize
+    );
+
+    @GetMapping(
+            value = "check",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Compare the video search read model against the videos table")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Read model checked successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<VideoSearchCheckResponse> check(
+            @RequestParam(name = "batch_size", required = false, defaultValue = "500") int batchSize
+    );
+}
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.infrastructure.amqp.EncoderResultRetrier;
+import com.fullcycle.admin.catalogo.infrastructure.api.EncoderResultAPI;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.ReplayParkedResultsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+@RestController
+public class EncoderResultController implements EncoderResultAPI {
+
+    private final EncoderResultRetrier encoderResultRetrier;
+
+    public EncoderResultController(final EncoderResultRetrier encoderResultRetrier) {
+        this.encoderResultRetrier = Objects.requireNonNull(encoderResultRetrier);
+    }
+
+    @Override
+    public ResponseEntity<ReplayParkedResultsResponse> replayParked(final int max) {
+        final var replayed = this.encoderResultRetrier.replayParked(Math.max(1, max));
+        return ResponseEntity.ok(new ReplayParkedResultsResponse(replayed));
+    }
+}
@@ -1,7 +1,10 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.UnavailableException;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +21,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(exception));
     }
 
+    @ExceptionHandler(value = ConflictException.class)
+    public ResponseEntity<?> handleConflictException(final ConflictException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiConflict.from(exception));
+    }
+
+    @ExceptionHandler(value = UnavailableException.class)
+    public ResponseEntity<?> handleUnavailableException(final UnavailableException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ApiError(exception.getMessage(), List.of()));
+    }
+
     @ExceptionHandler(value = DomainException.class)
     public ResponseEntity<?> handleDomainException(final DomainException exception) {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(exception));
@@ -31,4 +45,14 @@ public class GlobalExceptionHandler {
             return new ApiError(exception.getMessage(), exception.getErrors());
         }
     }
+
+    record ApiConflict(
+            String message,
+            List<Error> errors,
+            @JsonProperty("current_version") Long currentVersion
+    ) {
+        static ApiConflict from(final ConflictException exception) {
+            return new ApiConflict(exception.getMessage(), exception.getErrors(), exception.getCurrentVersion());
+        }
+    }
 }
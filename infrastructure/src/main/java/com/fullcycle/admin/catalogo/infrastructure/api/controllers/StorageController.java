@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.api.StorageAPI;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.HmacSignedStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+@RestController
+@Profile({"test-integration | test-e2e | development | filesystem"})
+public class StorageController implements StorageAPI {
+
+    private final HmacSignedStorageService signedStorageService;
+    private final StorageService storageService;
+
+    public StorageController(
+            final HmacSignedStorageService signedStorageService,
+            final StorageService storageService) {
+        this.signedStorageService = Objects.requireNonNull(signedStorageService);
+        this.storageService = Objects.requireNonNull(storageService);
+    }
+
+    @Override
+    public ResponseEntity<Void> put(
+            final String aName,
+            final long expires,
+            final String aSignature,
+            final String aContentType,
+            final byte[] aContent) {
+        final var name = nameOf(aName);
+        if (!this.signedStorageService.verify("PUT", name, aContentType, expires, aSignature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        this.storageService.store(name, Resource.with(
+                HashingUtils.checksum(aContent),
+                aContent,
+                aContentType,
+                name));
+        return ResponseEntity.ok().build();
+    }
+
+    @Override
+    public ResponseEntity<byte[]> get(final String aName, final long expires, final String aSignature) {
+        final var name = nameOf(aName);
+        if (!this.signedStorageService.verify("GET", name, "", expires, aSignature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return this.storageService.get(name)
+                .map(aResource -> ResponseEntity.ok()
+                        .contentType(MediaType.valueOf(aResource.contentType()))
+                        .contentLength(aResource.content().length)
+                        .body(aResource.content()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private String nameOf(final String aName) {
+        return aName.startsWith("/") ? aName.substring(1) : aName;
+    }
+}
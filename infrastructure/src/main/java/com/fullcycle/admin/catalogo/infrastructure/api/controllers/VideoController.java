@@ -5,12 +5,24 @@ import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.sign.SignMediaDownloadCommand;
+import com.fullcycle.admin.catalogo.application.video.media.sign.SignMediaDownloadUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
 import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoCommand;
 import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.chunk.UploadMediaChunkCommand;
+import com.fullcycle.admin.catalogo.application.video.upload.chunk.UploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.create.CreateMediaUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.upload.create.CreateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.retrieve.GetMediaUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.upload.retrieve.GetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.CompleteSignedUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.CompleteSignedUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.SignMediaUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.SignMediaUploadUseCase;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
@@ -22,10 +34,7 @@ import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import com.fullcycle.admin.catalogo.infrastructure.api.VideoAPI;
 import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.GetVideoByIdResponse;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.*;
 import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -49,6 +58,12 @@ public class VideoController implements VideoAPI {
     private final ListVideosUseCase listVideosUseCase;
     private final GetMediaUseCase getMediaUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final CreateMediaUploadUseCase createMediaUploadUseCase;
+    private final GetMediaUploadUseCase getMediaUploadUseCase;
+    private final UploadMediaChunkUseCase uploadMediaChunkUseCase;
+    private final SignMediaUploadUseCase signMediaUploadUseCase;
+    private final CompleteSignedUploadUseCase completeSignedUploadUseCase;
+    private final SignMediaDownloadUseCase signMediaDownloadUseCase;
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
@@ -57,7 +72,13 @@ public class VideoController implements VideoAPI {
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideosUseCase listVideosUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase) {
+            final UploadMediaUseCase uploadMediaUseCase,
+            final CreateMediaUploadUseCase createMediaUploadUseCase,
+            final GetMediaUploadUseCase getMediaUploadUseCase,
+            final UploadMediaChunkUseCase uploadMediaChunkUseCase,
+            final SignMediaUploadUseCase signMediaUploadUseCase,
+            final CompleteSignedUploadUseCase completeSignedUploadUseCase,
+            final SignMediaDownloadUseCase signMediaDownloadUseCase) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
@@ -65,6 +86,12 @@ public class VideoController implements VideoAPI {
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.createMediaUploadUseCase = Objects.requireNonNull(createMediaUploadUseCase);
+        this.getMediaUploadUseCase = Objects.requireNonNull(getMediaUploadUseCase);
+        this.uploadMediaChunkUseCase = Objects.requireNonNull(uploadMediaChunkUseCase);
+        this.signMediaUploadUseCase = Objects.requireNonNull(signMediaUploadUseCase);
+        this.completeSignedUploadUseCase = Objects.requireNonNull(completeSignedUploadUseCase);
+        this.signMediaDownloadUseCase = Objects.requireNonNull(signMediaDownloadUseCase);
     }
 
     @Override
@@ -83,7 +110,8 @@ public class VideoController implements VideoAPI {
             final MultipartFile aTrailerFile,
             final MultipartFile aBannerFile,
             final MultipartFile aThumbnailFile,
-            final MultipartFile aThumbnailHalfFile) {
+            final MultipartFile aThumbnailHalfFile,
+            final boolean async) {
         final var aCommand = CreateVideoCommand.with(
                 aTitle,
                 aDescription,
@@ -101,7 +129,7 @@ public class VideoController implements VideoAPI {
                 resourceOf(aThumbnailFile),
                 resourceOf(aThumbnailHalfFile)
         );
-        final var output = this.createVideoUseCase.execute(aCommand);
+        final var output = this.createVideoUseCase.execute(async ? aCommand.asAsync() : aCommand);
         return ResponseEntity.created(URI.create("/videos/%s".formatted(output.id())))
                 .body(output);
     }
@@ -145,7 +173,7 @@ public class VideoController implements VideoAPI {
                 aRequest.categories(),
                 aRequest.genres(),
                 aRequest.castMembers()
-        );
+        ).withVersion(aRequest.version());
         final var output = this.updateVideoUseCase.execute(aCommand);
         return ResponseEntity.ok(output);
     }
@@ -205,6 +233,82 @@ public class VideoController implements VideoAPI {
                 .body(output);
     }
 
+    @Override
+    public ResponseEntity<?> createMediaUpload(
+            final String aVideoId, final String aType, final CreateMediaUploadRequest aRequest) {
+        final var aCommand = CreateMediaUploadCommand.with(
+                aVideoId,
+                aType,
+                aRequest.name(),
+                aRequest.contentType());
+        final var output = this.createMediaUploadUseCase.execute(aCommand);
+        return ResponseEntity
+                .created(URI.create("/videos/%s/uploads/%s".formatted(aVideoId, output.uploadId())))
+                .body(output);
+    }
+
+    @Override
+    public MediaUploadResponse getMediaUpload(final String aVideoId, final String anUploadId) {
+        return VideoApiPresenter.present(this.getMediaUploadUseCase
+                .execute(GetMediaUploadCommand.with(aVideoId, anUploadId)));
+    }
+
+    @Override
+    public ResponseEntity<?> uploadMediaChunk(
+            final String aVideoId,
+            final String anUploadId,
+            final int aNumber,
+            final long anOffset,
+            final byte[] aContent) {
+        final var aResource = Resource.with(
+                HashingUtils.checksum(aContent),
+                aContent,
+                MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                "chunk-%s".formatted(aNumber));
+        final var aCommand =
+                UploadMediaChunkCommand.with(aVideoId, anUploadId, aNumber, anOffset, aResource);
+        return ResponseEntity.ok(this.uploadMediaChunkUseCase.execute(aCommand));
+    }
+
+    @Override
+    public ResponseEntity<?> completeMediaUpload(final String aVideoId, final String anUploadId) {
+        final var aCommand = UploadMediaCommand.fromUpload(aVideoId, anUploadId);
+        final var output = this.uploadMediaUseCase.execute(aCommand);
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(aVideoId, output.mediaType().name())))
+                .body(output);
+    }
+
+    @Override
+    public ResponseEntity<?> signMediaUpload(
+            final String aVideoId, final String aType, final SignMediaUploadRequest aRequest) {
+        final var aCommand = SignMediaUploadCommand.with(aVideoId, aType, aRequest.contentType());
+        final var output = this.signMediaUploadUseCase.execute(aCommand);
+        return ResponseEntity
+                .created(URI.create(output.url()))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> completeSignedMediaUpload(
+            final String aVideoId, final String aType, final CompleteSignedUploadRequest aRequest) {
+        final var aCommand = CompleteSignedUploadCommand.with(
+                aVideoId,
+                aType,
+                aRequest.name(),
+                aRequest.checksum());
+        final var output = this.completeSignedUploadUseCase.execute(aCommand);
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(aVideoId, output.mediaType().name())))
+                .body(output);
+    }
+
+    @Override
+    public SignedMediaUrlResponse signMediaDownload(final String aVideoId, final String aType) {
+        return VideoApiPresenter.present(this.signMediaDownloadUseCase
+                .execute(SignMediaDownloadCommand.with(aVideoId, aType)));
+    }
+
     private PublishingStatus publishingStatusOf(final Boolean aPublished) {
         return aPublished == Boolean.TRUE ? PublishingStatus.PUBLISHED : PublishingStatus.NOT_PUBLISHED;
     }
@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.infrastructure.api.VideoSearchAPI;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoSearchIndexer;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.RebuildVideoSearchResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoSearchCheckResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+@RestController
+public class VideoSearchController implements VideoSearchAPI {
+
+    private final VideoSearchIndexer videoSearchIndexer;
+
+    public VideoSearchController(final VideoSearchIndexer videoSearchIndexer) {
+        this.videoSearchIndexer = Objects.requireNonNull(videoSearchIndexer);
+    }
+
+    @Override
+    public ResponseEntity<RebuildVideoSearchResponse> rebuild(final int batchSize) {
+        final var result = this.videoSearchIndexer.rebuild(Math.max(1, batchSize));
+        return ResponseEntity.ok(new RebuildVideoSearchResponse(result.indexed(), result.removed()));
+    }
+
+    @Override
+    public ResponseEntity<VideoSearchCheckResponse> check(final int batchSize) {
+        final var result = this.videoSearchIndexer.check(Math.max(1, batchSize));
+        return ResponseEntity.ok(new VideoSearchCheckResponse(
+                result.consistent(),
+                result.checked(),
+                result.missing(),
+                result.stale(),
+                result.orphaned()
+        ));
+    }
+}
@@ -1,19 +1,23 @@
 package com.fullcycle.admin.catalogo.infrastructure.castmember;
 
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberDeleted;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CatalogEvents;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -24,36 +28,47 @@ import java.util.stream.StreamSupport;
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
     private final CastMemberRepository castMemberRepository;
+    private final EventService eventService;
 
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            @CatalogEvents final EventService eventService
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.eventService = Objects.requireNonNull(eventService);
     }
 
+    @Transactional
     @Override
     public CastMember create(final CastMember aCastMember) {
         return save(aCastMember);
     }
 
+    @Transactional
     @Override
     public void deleteById(final CastMemberID aCastMemberId) {
         final var anId = aCastMemberId.getValue();
         final var exists = this.castMemberRepository.existsById(anId);
         if (exists) {
             this.castMemberRepository.deleteById(anId);
+            this.eventService.sendAsync(new CastMemberDeleted(anId));
         }
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<CastMember> findById(final CastMemberID anId) {
         return this.castMemberRepository.findById(anId.getValue())
                 .map(CastMemberJpaEntity::toAggregate);
     }
 
+    @Transactional
     @Override
     public CastMember update(final CastMember aCastMember) {
         return this.save(aCastMember);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
         final var pageRequest = PageRequest.of(
@@ -74,6 +89,7 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         );
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> aCastMemberIDs) {
         final var ids = StreamSupport.stream(aCastMemberIDs.spliterator(), false)
@@ -85,8 +101,10 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     private CastMember save(final CastMember aCastMember) {
-        return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
+        final var result = this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
                 .toAggregate();
+        aCastMember.publishDomainEvents(this.eventService::sendAsync);
+        return result;
     }
 
     private Specification<CastMemberJpaEntity> filterLikeName(String terms) {
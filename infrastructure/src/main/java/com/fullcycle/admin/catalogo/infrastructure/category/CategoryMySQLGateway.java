@@ -1,12 +1,15 @@
 package com.fullcycle.admin.catalogo.infrastructure.category;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeleted;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CatalogEvents;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -14,6 +17,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
@@ -25,42 +29,55 @@ import java.util.stream.StreamSupport;
 public class CategoryMySQLGateway implements CategoryGateway {
 
     private final CategoryRepository categoryRepository;
+    private final EventService eventService;
 
-    public CategoryMySQLGateway(final CategoryRepository categoryRepository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository categoryRepository,
+            @CatalogEvents final EventService eventService
+    ) {
         Objects.requireNonNull(categoryRepository);
         this.categoryRepository = categoryRepository;
+        this.eventService = Objects.requireNonNull(eventService);
     }
 
+    @Transactional
     @Override
     public Category create(final Category aCategory) {
         return save(aCategory);
     }
 
+    @Transactional
     @Override
     public void deleteById(final CategoryID anId) {
         final var anIdValue = anId.getValue();
         final var exists = this.categoryRepository.existsById(anIdValue);
         if (exists) {
             this.categoryRepository.deleteById(anIdValue);
+            this.eventService.sendAsync(new CategoryDeleted(anIdValue));
         }
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<Category> findById(final CategoryID anId) {
         return this.categoryRepository.findById(anId.getValue())
                 .map(CategoryJpaEntity::toAggregate);
     }
 
+    @Transactional
     @Override
     public Category update(final Category aCategory) {
         return save(aCategory);
     }
 
     private Category save(final Category aCategory) {
-        return this.categoryRepository.save(CategoryJpaEntity.from(aCategory))
+        final var result = this.categoryRepository.save(CategoryJpaEntity.from(aCategory))
                 .toAggregate();
+        aCategory.publishDomainEvents(this.eventService::sendAsync);
+        return result;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
         final var page = aQuery.page();
@@ -83,6 +100,7 @@ public class CategoryMySQLGateway implements CategoryGateway {
         );
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIDs) {
         final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
@@ -7,11 +7,17 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fullcycle.admin.catalogo.infrastructure.amqp.EventMessageConverter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CatalogEvents;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEvents;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.DeduplicationProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.ListenerProperties;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.RetryProperties;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.DirectRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
@@ -23,6 +29,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.util.ArrayList;
+
 @Configuration
 public class AmqpConfig {
 
@@ -40,6 +48,31 @@ public class AmqpConfig {
         return new QueueProperties();
     }
 
+    @Bean
+    @ConfigurationProperties("amqp.queues.catalog-events")
+    @CatalogEvents
+    public QueueProperties catalogEventsQueueProperties() {
+        return new QueueProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.listener")
+    public ListenerProperties listenerProperties() {
+        return new ListenerProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.deduplication")
+    public DeduplicationProperties deduplicationProperties() {
+        return new DeduplicationProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.retry")
+    public RetryProperties retryProperties() {
+        return new RetryProperties();
+    }
+
     @Configuration
     static class Admin {
 
@@ -49,6 +82,12 @@ public class AmqpConfig {
             return new DirectExchange(props.getExchange());
         }
 
+        @Bean
+        @CatalogEvents
+        public Exchange catalogEventsExchange(@CatalogEvents QueueProperties props) {
+            return new TopicExchange(props.getExchange());
+        }
+
         @Bean
         @VideoCreatedQueue
         public Queue videoCreatedQueue(@VideoCreatedQueue QueueProperties props) {
@@ -85,21 +124,104 @@ public class AmqpConfig {
         ) {
             return BindingBuilder.bind(queue).to(exchange).with(props.getRoutingKey());
         }
+
+        @Bean
+        public Declarables videoEncodedRetryDeclarables(
+                @VideoEncodedQueue QueueProperties props,
+                RetryProperties retryProps
+        ) {
+            final var exchange = new DirectExchange(retryProps.getExchange());
+            final var declarables = new ArrayList<Declarable>();
+            declarables.add(exchange);
+
+            for (int attempt = 1; attempt <= retryProps.getMaxAttempts(); attempt++) {
+                final var delayQueue = QueueBuilder.durable(retryProps.delayQueueOf(attempt))
+                        .ttl((int) retryProps.delayOf(attempt).toMillis())
+                        .deadLetterExchange(props.getExchange())
+                        .deadLetterRoutingKey(props.getRoutingKey())
+                        .build();
+                declarables.add(delayQueue);
+                declarables.add(BindingBuilder.bind(delayQueue).to(exchange).with(delayQueue.getName()));
+            }
+
+            final var parkingLot = QueueBuilder.durable(retryProps.getParkingLotQueue()).build();
+            declarables.add(parkingLot);
+            declarables.add(BindingBuilder.bind(parkingLot).to(exchange).with(parkingLot.getName()));
+            return new Declarables(declarables);
+        }
+
+        @Bean
+        public Declarables videoEncodedShardDeclarables(ListenerProperties props) {
+            // hashing the video id keeps all results of a video on one shard, and a single active
+            // consumer per shard keeps them in order across every instance of the service
+            final var exchange = new CustomExchange(props.getShardExchange(), "x-consistent-hash", true, false);
+            final var declarables = new ArrayList<Declarable>();
+            declarables.add(exchange);
+
+            for (final var name : props.getShardQueues()) {
+                final var shard = QueueBuilder.durable(name)
+                        .withArgument("x-single-active-consumer", true)
+                        .withArgument("x-dead-letter-exchange", "dlx")
+                        .build();
+                declarables.add(shard);
+                // the binding key of a consistent-hash exchange is the weight of the queue
+                declarables.add(BindingBuilder.bind(shard).to(exchange).with("1").noargs());
+            }
+            return new Declarables(declarables);
+        }
     }
 
     @Bean("rabbitListenerContainerFactory")
     @Profile({"!development"})
     public RabbitListenerContainerFactory<?> rabbitFactory
-            (ConnectionFactory connectionFactory) {
+            (ConnectionFactory connectionFactory, ListenerProperties props) {
+        var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        // only the shard router uses it, with a single exclusive consumer: concurrency is the batch listener's
+        factory.setPrefetchCount(Math.max(1, props.getPrefetch()));
+        factory.setMessageConverter(eventMessageConverter());
+        factory.setDefaultRequeueRejected(false);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    @Bean("shardRabbitListenerContainerFactory")
+    public RabbitListenerContainerFactory<?> shardRabbitFactory
+            (ConnectionFactory connectionFactory, ListenerProperties props) {
+        var factory = new DirectRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        // one consumer per shard queue, so results of the same video are handled one after the other
+        factory.setConsumersPerQueue(1);
+        factory.setPrefetchCount(Math.max(1, props.getPrefetch()));
+        factory.setMessageConverter(eventMessageConverter());
+        factory.setDefaultRequeueRejected(false);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    @Bean("batchRabbitListenerContainerFactory")
+    @Profile({"!development"})
+    public RabbitListenerContainerFactory<?> batchRabbitFactory
+            (ConnectionFactory connectionFactory, ListenerProperties props) {
         var factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(Math.max(1, props.getConcurrency()));
+        factory.setMaxConcurrentConsumers(Math.max(props.getConcurrency(), props.getMaxConcurrency()));
+        factory.setPrefetchCount(Math.max(props.getPrefetch(), props.getBatchSize()));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(Math.max(1, props.getBatchSize()));
+        factory.setReceiveTimeout(props.getBatchTimeout().toMillis());
+        factory.setDefaultRequeueRejected(false);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    private static MessageConverter eventMessageConverter() {
         ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder()
                 .dateFormat(new StdDateFormat())
                 .modules(new JavaTimeModule(), new Jdk8Module())
                 .build();
-        factory.setMessageConverter(new Jackson2JsonMessageConverter(objectMapper));
-        factory.setDefaultRequeueRejected(false);
-        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
-        return factory;
+        return new EventMessageConverter(new Jackson2JsonMessageConverter(objectMapper));
     }
 }
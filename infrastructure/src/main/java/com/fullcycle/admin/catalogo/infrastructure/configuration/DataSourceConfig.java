@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.PrimaryDataSource;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.ReplicaDataSource;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.datasource.ReplicaProperties;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.routing.ReadYourWritesFilter;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.fullcycle.admin.catalogo.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public ReplicaProperties replicaProperties() {
+        return new ReplicaProperties();
+    }
+
+    @Bean
+    @PrimaryDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties props) {
+        return props.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ReplicaDataSource
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(final ReplicaProperties props) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(props.getDriverClassName())
+                .url(props.getUrl())
+                .username(props.getUsername())
+                .password(props.getPassword())
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @ReplicaDataSource final HikariDataSource replica,
+            final ReplicaProperties props,
+            final MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(replica, props, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @PrimaryDataSource final HikariDataSource primary,
+            @ReplicaDataSource final HikariDataSource replica,
+            final ReplicaLagMonitor lagMonitor,
+            final ReplicaProperties props
+    ) {
+        // the proxy defers fetching a connection until the first statement, when the transaction is
+        // already flagged read-only and the routing decision can see it
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primary, replica, lagMonitor, props.getReadYourWritesWindow()));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(final ReplicaProperties props) {
+        return new ReadYourWritesFilter(props.getReadYourWritesWindow());
+    }
+}
@@ -1,24 +1,104 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.AmqpPublishExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CatalogEvents;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.EventPublisher;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.AsyncDispatchProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.PublisherConfirmProperties;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxEventService;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
-import com.fullcycle.admin.catalogo.infrastructure.services.impl.RabbitEventService;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.AsyncEventService;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.AsyncEventService.OverflowPolicy;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.RabbitEventServiceFactory;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.RoutingEventService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryEventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.amqp.RabbitTemplateConfigurer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 @Configuration
 public class EventConfig {
 
+    @Bean
+    @ConfigurationProperties("amqp.outbox")
+    public OutboxProperties outboxProperties() {
+        return new OutboxProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.publisher-confirms")
+    public PublisherConfirmProperties publisherConfirmProperties() {
+        return new PublisherConfirmProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.async-dispatch")
+    public AsyncDispatchProperties asyncDispatchProperties() {
+        return new AsyncDispatchProperties();
+    }
+
+    @Bean
+    RabbitEventServiceFactory rabbitEventServiceFactory(
+            @EventPublisher final ObjectProvider<RabbitOperations> publisherOps,
+            final RabbitOperations ops,
+            @CatalogEvents final QueueProperties catalogProps,
+            final RabbitTemplateConfigurer configurer,
+            final ConnectionFactory connectionFactory,
+            final PublisherConfirmProperties confirmProps,
+            @AmqpPublishExecutor final Executor executor
+    ) {
+        final var mandatoryOps = publisherOps.getIfAvailable(() -> {
+            // not a bean, so the auto-configured template stays in place without mandatory publishing
+            final var template = new RabbitTemplate();
+            configurer.configure(template, connectionFactory);
+            template.setMandatory(true);
+            return template;
+        });
+        // catalog events go to a topic exchange this service binds nothing to, so they use the non-mandatory template
+        return new RabbitEventServiceFactory(
+                mandatoryOps, ops, Set.of(catalogProps.getExchange()), confirmProps, executor);
+    }
+
     @Bean
     @VideoCreatedQueue
     @Profile({"development"})
-    EventService videoCreatedInMemoryEventService() {
-        return new InMemoryEventService();
+    EventService videoCreatedInMemoryEventService(
+            @VideoCreatedQueue final QueueProperties props,
+            final OutboxEventRepository outboxEventRepository,
+            final AsyncDispatchProperties asyncProps,
+            final MeterRegistry meterRegistry
+    ) {
+        return dispatcher("video-created", new InMemoryEventService(),
+                () -> new OutboxEventService(props.getExchange(), props.getRoutingKey(), outboxEventRepository, props.getFormat()),
+                asyncProps, meterRegistry);
+    }
+
+    @Bean
+    @VideoCreatedQueue
+    @Profile({"!development"})
+    @ConditionalOnProperty(name = "amqp.outbox.enabled", havingValue = "true")
+    EventService videoCreatedOutboxEventService(
+            @VideoCreatedQueue final QueueProperties props,
+            final OutboxEventRepository outboxEventRepository
+    ) {
+        return new OutboxEventService(props.getExchange(), props.getRoutingKey(), outboxEventRepository, props.getFormat());
     }
 
     @Bean
@@ -26,8 +106,83 @@ public class EventConfig {
     @ConditionalOnMissingBean
     EventService videoCreatedEventService(
             @VideoCreatedQueue final QueueProperties props,
-            final RabbitOperations ops
+            final RabbitEventServiceFactory publishers,
+            final OutboxEventRepository outboxEventRepository,
+            final AsyncDispatchProperties asyncProps,
+            final MeterRegistry meterRegistry
             ) {
-        return new RabbitEventService(props.getExchange(), props.getRoutingKey(), ops);
+        return dispatcher("video-created",
+                publishers.create(props.getExchange(), props.getRoutingKey(), props.getFormat()),
+                () -> new OutboxEventService(props.getExchange(), props.getRoutingKey(), outboxEventRepository, props.getFormat()),
+                asyncProps, meterRegistry);
+    }
+
+    @Bean
+    @CatalogEvents
+    @Profile({"development | test-integration | test-e2e"})
+    EventService catalogInMemoryEventService(
+            @CatalogEvents final QueueProperties props,
+            final OutboxEventRepository outboxEventRepository,
+            final AsyncDispatchProperties asyncProps,
+            final MeterRegistry meterRegistry
+    ) {
+        return dispatcher("catalog-events", new InMemoryEventService(),
+                () -> catalogOutbox(props, outboxEventRepository),
+                asyncProps, meterRegistry);
+    }
+
+    @Bean
+    @CatalogEvents
+    @Profile({"!development & !test-integration & !test-e2e"})
+    @ConditionalOnProperty(name = "amqp.outbox.enabled", havingValue = "true")
+    EventService catalogOutboxEventService(
+            @CatalogEvents final QueueProperties props,
+            final OutboxEventRepository outboxEventRepository
+    ) {
+        return catalogOutbox(props, outboxEventRepository);
+    }
+
+    @Bean
+    @CatalogEvents
+    @Profile({"!development & !test-integration & !test-e2e"})
+    @ConditionalOnProperty(name = "amqp.outbox.enabled", havingValue = "false", matchIfMissing = true)
+    EventService catalogEventService(
+            @CatalogEvents final QueueProperties props,
+            final RabbitEventServiceFactory publishers,
+            final OutboxEventRepository outboxEventRepository,
+            final AsyncDispatchProperties asyncProps,
+            final MeterRegistry meterRegistry
+    ) {
+        return dispatcher("catalog-events",
+                new RoutingEventService(routingKey ->
+                        publishers.create(props.getExchange(), routingKey, props.getFormat())),
+                () -> catalogOutbox(props, outboxEventRepository),
+                asyncProps, meterRegistry);
+    }
+
+    private static EventService catalogOutbox(
+            final QueueProperties props,
+            final OutboxEventRepository outboxEventRepository
+    ) {
+        return new RoutingEventService(routingKey ->
+                new OutboxEventService(props.getExchange(), routingKey, outboxEventRepository, props.getFormat()));
+    }
+
+    private static EventService dispatcher(
+            final String aName,
+            final EventService delegate,
+            final Supplier<EventService> spillover,
+            final AsyncDispatchProperties props,
+            final MeterRegistry meterRegistry
+    ) {
+        if (!props.isEnabled()) {
+            return delegate;
+        }
+        return new AsyncEventService(
+                aName,
+                delegate,
+                props.getOverflowPolicy() == OverflowPolicy.SPILL ? spillover.get() : null,
+                props,
+                meterRegistry);
     }
 }
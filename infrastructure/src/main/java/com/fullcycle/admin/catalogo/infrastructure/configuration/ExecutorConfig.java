@@ -0,0 +1,86 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.AmqpPublishExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.MediaCleanupExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.MediaIngestionExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.MediaStorageExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.executor.ExecutorProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Bean
+    @ConfigurationProperties("executors.media-storage")
+    @MediaStorageExecutor
+    public ExecutorProperties mediaStorageExecutorProperties() {
+        return new ExecutorProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("executors.media-ingestion")
+    @MediaIngestionExecutor
+    public ExecutorProperties mediaIngestionExecutorProperties() {
+        return new ExecutorProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("executors.media-cleanup")
+    @MediaCleanupExecutor
+    public ExecutorProperties mediaCleanupExecutorProperties() {
+        return new ExecutorProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("executors.amqp-publish")
+    @AmqpPublishExecutor
+    public ExecutorProperties amqpPublishExecutorProperties() {
+        return new ExecutorProperties();
+    }
+
+    @Bean
+    @MediaStorageExecutor
+    public ThreadPoolTaskExecutor mediaStorageExecutor(@MediaStorageExecutor final ExecutorProperties props) {
+        return executorOf(props, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean
+    @MediaIngestionExecutor
+    public ThreadPoolTaskExecutor mediaIngestionExecutor(@MediaIngestionExecutor final ExecutorProperties props) {
+        // running an ingestion on the request thread would block it for the whole upload: reject instead
+        return executorOf(props, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    @MediaCleanupExecutor
+    public ThreadPoolTaskExecutor mediaCleanupExecutor(@MediaCleanupExecutor final ExecutorProperties props) {
+        return executorOf(props, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean
+    @AmqpPublishExecutor
+    public ThreadPoolTaskExecutor amqpPublishExecutor(@AmqpPublishExecutor final ExecutorProperties props) {
+        // the caller is the connection thread completing confirms, which must never publish: reject instead
+        return executorOf(props, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ThreadPoolTaskExecutor executorOf(
+            final ExecutorProperties props,
+            final RejectedExecutionHandler aRejectionHandler
+    ) {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(props.getCorePoolSize());
+        executor.setMaxPoolSize(props.getMaxPoolSize());
+        executor.setQueueCapacity(props.getQueueCapacity());
+        executor.setThreadNamePrefix(props.getThreadNamePrefix());
+        executor.setRejectedExecutionHandler(aRejectionHandler);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
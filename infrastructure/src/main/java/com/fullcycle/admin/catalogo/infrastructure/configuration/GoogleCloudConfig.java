@@ -19,7 +19,7 @@ import java.io.IOException;
 import java.util.Base64;
 
 @Configuration
-@Profile({"!development & !test-integration & !test-e2e"})
+@Profile({"!development & !test-integration & !test-e2e & !filesystem"})
 public class GoogleCloudConfig {
 
     @Bean
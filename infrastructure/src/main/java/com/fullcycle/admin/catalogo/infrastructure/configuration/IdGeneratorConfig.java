@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdGenerator;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+
+@Configuration
+public class IdGeneratorConfig implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGeneratorConfig.class);
+
+    private final String generator;
+
+    public IdGeneratorConfig(@Value("${ids.generator:time-ordered}") final String generator) {
+        this.generator = Objects.requireNonNull(generator);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        IdUtils.use(switch (this.generator) {
+            case "time-ordered" -> IdGenerator.timeOrdered();
+            case "random" -> IdGenerator.random();
+            default -> throw new IllegalArgumentException("Unknown id generator '%s'".formatted(this.generator));
+        });
+        log.info("Using the {} id generator", this.generator);
+    }
+}
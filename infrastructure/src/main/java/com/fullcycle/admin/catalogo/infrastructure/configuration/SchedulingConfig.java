@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnExpression("${storage.catalogo-videos.cleanup.reaper-enabled:false} or ${storage.catalogo-videos.ingestion.sweep-enabled:false} or (" + OutboxRelay.ENABLED + ") or ${amqp.deduplication.enabled:false} or ${datasource.replica.enabled:false}")
+public class SchedulingConfig {
+}
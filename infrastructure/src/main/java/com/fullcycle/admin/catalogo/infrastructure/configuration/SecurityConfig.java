@@ -53,6 +53,8 @@ public class SecurityConfig {
                 })
                 .authorizeHttpRequests(authorizeConfigurer -> {
                     authorizeConfigurer
+                            .requestMatchers(antMatcher("/storage/**")).permitAll()
+                            .requestMatchers(antMatcher("/actuator/health/**")).permitAll()
                             .requestMatchers(antMatcher("/cast_members*")).hasAnyRole(ROLE_ADMIN, ROLE_CAST_MEMBERS)
                             .requestMatchers(antMatcher("/categories*")).hasAnyRole(ROLE_ADMIN, ROLE_CATEGORIES)
                             .requestMatchers(new AntPathRequestMatcher("/genres*")).hasAnyRole(ROLE_ADMIN, ROLE_GENRES)
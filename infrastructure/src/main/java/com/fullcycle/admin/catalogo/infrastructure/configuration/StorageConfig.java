@@ -1,17 +1,31 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.google.GoogleStorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.CleanupProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.DiskCacheProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.FileSystemStorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.InMemoryStorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.SignedUrlProperties;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.SignedStorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.cache.DiskCacheStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.GCSignedStorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.impl.GCStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.FileSystemStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.HmacSignedStorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.metrics.InstrumentedStorageService;
 import com.google.cloud.storage.Storage;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+
 @Configuration
 public class StorageConfig {
 
@@ -21,18 +35,96 @@ public class StorageConfig {
         return new StorageProperties();
     }
 
+    @Bean
+    @ConfigurationProperties(value = "storage.catalogo-videos.cleanup")
+    public CleanupProperties cleanupProperties() {
+        return new CleanupProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "storage.catalogo-videos.signed-url")
+    public SignedUrlProperties signedUrlProperties() {
+        return new SignedUrlProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "storage.catalogo-videos.cache")
+    public DiskCacheProperties diskCacheProperties() {
+        return new DiskCacheProperties();
+    }
+
+    @Bean
+    @Profile("filesystem")
+    @ConfigurationProperties(value = "storage.catalogo-videos.filesystem")
+    public FileSystemStorageProperties fileSystemStorageProperties() {
+        return new FileSystemStorageProperties();
+    }
+
     @Bean(name = "storageService")
-    @Profile({"test-integration", "test-e2e", "development"})
-    public StorageService inMemoryStorageService() {
-        return new InMemoryStorageService();
+    @Profile("filesystem")
+    public StorageService fileSystemStorageService(
+            final FileSystemStorageProperties props,
+            final StorageProperties storageProps,
+            final MeterRegistry meterRegistry
+    ) {
+        return new InstrumentedStorageService(
+                new FileSystemStorageService(Path.of(props.getRoot())),
+                storageProps.getFilenamePattern(),
+                meterRegistry);
+    }
+
+    @Bean
+    @Profile({"(test-integration | test-e2e | development) & !filesystem"})
+    @ConfigurationProperties(value = "storage.catalogo-videos.in-memory")
+    public InMemoryStorageProperties inMemoryStorageProperties() {
+        return new InMemoryStorageProperties();
+    }
+
+    @Bean(name = "storageService")
+    @Profile({"(test-integration | test-e2e | development) & !filesystem"})
+    public StorageService inMemoryStorageService(final InMemoryStorageProperties props) {
+        final var spillDirectory = props.getSpillDirectory() == null || props.getSpillDirectory().isBlank()
+                ? null
+                : Path.of(props.getSpillDirectory());
+        return new InMemoryStorageService(props.getMaxMemory().toBytes(), spillDirectory);
     }
 
     @Bean(name = "storageService")
     @ConditionalOnMissingBean
     public StorageService gcStorageService(
+            final GoogleStorageProperties props,
+            final StorageProperties storageProps,
+            final DiskCacheProperties cacheProps,
+            final Storage storage,
+            final MeterRegistry meterRegistry
+    ) {
+        StorageService storageService = new GCStorageService(props.getBucket(), storage);
+        if (cacheProps.isEnabled()) {
+            storageService = new DiskCacheStorageService(
+                    storageService,
+                    Path.of(cacheProps.getDirectory()),
+                    cacheProps.getMaxSize().toBytes(),
+                    cacheProps.getMaxEntrySize().toBytes(),
+                    meterRegistry);
+        }
+        return new InstrumentedStorageService(storageService, storageProps.getFilenamePattern(), meterRegistry);
+    }
+
+    @Bean(name = "signedStorageService")
+    @Profile({"test-integration | test-e2e | development | filesystem"})
+    public HmacSignedStorageService hmacSignedStorageService(
+            final SignedUrlProperties props,
+            final StorageService storageService
+    ) {
+        return new HmacSignedStorageService(props.getBaseUrl(), props.getSecret(), storageService);
+    }
+
+    @Bean(name = "signedStorageService")
+    @ConditionalOnMissingBean(SignedStorageService.class)
+    public SignedStorageService gcSignedStorageService(
             final GoogleStorageProperties props,
             final Storage storage
     ) {
-        return new GCStorageService(props.getBucket(), storage);
+        return new GCSignedStorageService(props.getBucket(), storage);
     }
 }
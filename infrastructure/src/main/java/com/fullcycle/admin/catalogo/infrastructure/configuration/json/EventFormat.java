@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum EventFormat {
+
+    JSON("application/json", new JsonFactory()),
+    SMILE("application/x-jackson-smile", new SmileFactory()),
+    CBOR("application/cbor", new CBORFactory());
+
+    private final String contentType;
+    private final ObjectMapper mapper;
+
+    EventFormat(final String contentType, final JsonFactory factory) {
+        this.contentType = contentType;
+        this.mapper = Json.builder().factory(factory).build();
+    }
+
+    public static Optional<EventFormat> of(final String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        final var mimeType = contentType.split(";", 2)[0].trim();
+        return Arrays.stream(values())
+                .filter(it -> it.contentType.equalsIgnoreCase(mimeType))
+                .findFirst();
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public boolean isText() {
+        return this == JSON;
+    }
+
+    public byte[] writeValueAsBytes(final Object obj) {
+        return Json.invoke(() -> this.mapper.writeValueAsBytes(obj));
+    }
+
+    public <T> T readValue(final byte[] content, final Type type) {
+        return Json.invoke(() -> this.mapper.readValue(content, this.mapper.constructType(type)));
+    }
+}
@@ -24,30 +24,41 @@ public enum Json {
         return invoke(() -> INSTANCE.mapper.writeValueAsString(obj));
     }
 
+    public static byte[] writeValueAsBytes(final Object obj) {
+        return invoke(() -> INSTANCE.mapper.writeValueAsBytes(obj));
+    }
+
     public static <T> T readValue(final String json, final Class<T> clazz) {
         return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
     }
 
-    private final ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
-            .dateFormat(new StdDateFormat())
-            .featuresToDisable(
-                    DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
-                    DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES,
-                    DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES,
-                    SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
+    public static <T> T readValue(final byte[] json, final Class<T> clazz) {
+        return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
+    }
 
-            )
-            .modules(new JavaTimeModule(), new Jdk8Module(), afterburnerModule())
-            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
-            .build();
+    private final ObjectMapper mapper = builder().build();
+
+    static Jackson2ObjectMapperBuilder builder() {
+        return new Jackson2ObjectMapperBuilder()
+                .dateFormat(new StdDateFormat())
+                .featuresToDisable(
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+                        DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES,
+                        DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES,
+                        SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
+
+                )
+                .modules(new JavaTimeModule(), new Jdk8Module(), afterburnerModule())
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    }
 
-    private AfterburnerModule afterburnerModule() {
+    private static AfterburnerModule afterburnerModule() {
         var module = new AfterburnerModule();
         module.setUseValueClassLoader(false);
         return module;
     }
 
-    private static <T> T invoke(Callable<T> callable) {
+    static <T> T invoke(Callable<T> callable) {
         try {
             return callable.call();
         } catch (final Exception e) {
@@ -0,0 +1,93 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp;
+
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.AsyncEventService.OverflowPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class AsyncDispatchProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncDispatchProperties.class);
+
+    private boolean enabled;
+
+    private int capacity = 8192;
+
+    private int batchSize = 256;
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    private Duration blockTimeout = Duration.ofMillis(100);
+
+    private Duration shutdownTimeout = Duration.ofSeconds(5);
+
+    public AsyncDispatchProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public Duration getBlockTimeout() {
+        return blockTimeout;
+    }
+
+    public void setBlockTimeout(Duration blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncDispatchProperties{" +
+                "enabled=" + enabled +
+                ", capacity=" + capacity +
+                ", batchSize=" + batchSize +
+                ", overflowPolicy=" + overflowPolicy +
+                ", blockTimeout=" + blockTimeout +
+                ", shutdownTimeout=" + shutdownTimeout +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class DeduplicationProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DeduplicationProperties.class);
+
+    private boolean enabled = true;
+
+    private long cacheSize = 10_000;
+
+    private Duration cacheTtl = Duration.ofMinutes(10);
+
+    private Duration retention = Duration.ofDays(7);
+
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    public DeduplicationProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(long cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public void setCacheTtl(Duration cacheTtl) {
+        this.cacheTtl = cacheTtl;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "DeduplicationProperties{" +
+                "enabled=" + enabled +
+                ", cacheSize=" + cacheSize +
+                ", cacheTtl=" + cacheTtl +
+                ", retention=" + retention +
+                ", purgeInterval=" + purgeInterval +
+                '}';
+    }
+}
@@ -0,0 +1,136 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+public class ListenerProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ListenerProperties.class);
+
+    private int concurrency = 1;
+
+    private int maxConcurrency = 1;
+
+    private int prefetch = 250;
+
+    private int shards = 8;
+
+    private String shardExchange = "video.encoded.shards";
+
+    private String shardQueuePrefix = "video.encoded.shard";
+
+    private boolean batchEnabled;
+
+    private int batchSize = 100;
+
+    private Duration batchTimeout = Duration.ofMillis(200);
+
+    public ListenerProperties() {
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    public String getShardExchange() {
+        return shardExchange;
+    }
+
+    public void setShardExchange(String shardExchange) {
+        this.shardExchange = shardExchange;
+    }
+
+    public String getShardQueuePrefix() {
+        return shardQueuePrefix;
+    }
+
+    public void setShardQueuePrefix(String shardQueuePrefix) {
+        this.shardQueuePrefix = shardQueuePrefix;
+    }
+
+    public String shardQueueOf(final int shard) {
+        return "%s.%d".formatted(this.shardQueuePrefix, shard);
+    }
+
+    public String[] getShardQueues() {
+        return IntStream.rangeClosed(1, Math.max(1, this.shards))
+                .mapToObj(this::shardQueueOf)
+                .toArray(String[]::new);
+    }
+
+    public boolean isBatchEnabled() {
+        return batchEnabled;
+    }
+
+    public void setBatchEnabled(boolean batchEnabled) {
+        this.batchEnabled = batchEnabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    public void setBatchTimeout(Duration batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerProperties{" +
+                "concurrency=" + concurrency +
+                ", maxConcurrency=" + maxConcurrency +
+                ", prefetch=" + prefetch +
+                ", shards=" + shards +
+                ", shardExchange='" + shardExchange + '\'' +
+                ", shardQueuePrefix='" + shardQueuePrefix + '\'' +
+                ", batchEnabled=" + batchEnabled +
+                ", batchSize=" + batchSize +
+                ", batchTimeout=" + batchTimeout +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class OutboxProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxProperties.class);
+
+    private boolean enabled;
+
+    private int batchSize;
+
+    private int maxBatchesPerRun;
+
+    private Duration relayInterval;
+
+    public OutboxProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public Duration getRelayInterval() {
+        return relayInterval;
+    }
+
+    public void setRelayInterval(Duration relayInterval) {
+        this.relayInterval = relayInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxProperties{" +
+                "enabled=" + enabled +
+                ", batchSize=" + batchSize +
+                ", maxBatchesPerRun=" + maxBatchesPerRun +
+                ", relayInterval=" + relayInterval +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class PublisherConfirmProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PublisherConfirmProperties.class);
+
+    private boolean enabled;
+
+    private Duration timeout = Duration.ofSeconds(5);
+
+    private int maxInFlight = 256;
+
+    private int maxAttempts = 3;
+
+    public PublisherConfirmProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "PublisherConfirmProperties{" +
+                "enabled=" + enabled +
+                ", timeout=" + timeout +
+                ", maxInFlight=" + maxInFlight +
+                ", maxAttempts=" + maxAttempts +
+                '}';
+    }
+}
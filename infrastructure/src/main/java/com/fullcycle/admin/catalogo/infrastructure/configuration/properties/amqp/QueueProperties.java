@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.EventFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -11,6 +12,7 @@ public class QueueProperties implements InitializingBean {
     private String exchange;
     private String routingKey;
     private String queue;
+    private EventFormat format = EventFormat.JSON;
 
     public QueueProperties() {
     }
@@ -21,6 +23,7 @@ public class QueueProperties implements InitializingBean {
                 "exchange='" + exchange + '\'' +
                 ", routingKey='" + routingKey + '\'' +
                 ", queue='" + queue + '\'' +
+                ", format=" + format +
                 '}';
     }
 
@@ -52,4 +55,12 @@ public class QueueProperties implements InitializingBean {
     public void setQueue(String queue) {
         this.queue = queue;
     }
+
+    public EventFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(EventFormat format) {
+        this.format = format;
+    }
 }
@@ -0,0 +1,125 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class RetryProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryProperties.class);
+
+    private String exchange;
+
+    private String delayQueuePrefix;
+
+    private String parkingLotQueue;
+
+    private int maxAttempts = 3;
+
+    private Duration initialDelay = Duration.ofSeconds(1);
+
+    private double multiplier = 4.0;
+
+    private Duration maxDelay = Duration.ofMinutes(5);
+
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+
+    public RetryProperties() {
+    }
+
+    public Duration delayOf(final int anAttempt) {
+        final var delay = this.initialDelay.toMillis() * Math.pow(this.multiplier, Math.max(0, anAttempt - 1));
+        return Duration.ofMillis((long) Math.min(delay, this.maxDelay.toMillis()));
+    }
+
+    // the TTL is part of the name: redeclaring a queue with different arguments fails with
+    // PRECONDITION_FAILED, so changing a delay declares a new queue instead
+    public String delayQueueOf(final int anAttempt) {
+        return "%s.%d.%dms".formatted(this.delayQueuePrefix, anAttempt, delayOf(anAttempt).toMillis());
+    }
+
+    public String getExchange() {
+        return exchange;
+    }
+
+    public void setExchange(String exchange) {
+        this.exchange = exchange;
+    }
+
+    public String getDelayQueuePrefix() {
+        return delayQueuePrefix;
+    }
+
+    public void setDelayQueuePrefix(String delayQueuePrefix) {
+        this.delayQueuePrefix = delayQueuePrefix;
+    }
+
+    public String getParkingLotQueue() {
+        return parkingLotQueue;
+    }
+
+    public void setParkingLotQueue(String parkingLotQueue) {
+        this.parkingLotQueue = parkingLotQueue;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public void setInitialDelay(Duration initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public void setMultiplier(double multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    public Duration getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    public void setConfirmTimeout(Duration confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "RetryProperties{" +
+                "exchange='" + exchange + '\'' +
+                ", delayQueuePrefix='" + delayQueuePrefix + '\'' +
+                ", parkingLotQueue='" + parkingLotQueue + '\'' +
+                ", maxAttempts=" + maxAttempts +
+                ", initialDelay=" + initialDelay +
+                ", multiplier=" + multiplier +
+                ", maxDelay=" + maxDelay +
+                ", confirmTimeout=" + confirmTimeout +
+                '}';
+    }
+}
@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ReplicaProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaProperties.class);
+
+    private boolean enabled;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private String driverClassName;
+
+    private Duration maxLag = Duration.ofSeconds(1);
+
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    public ReplicaProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getDriverClassName() {
+        return driverClassName;
+    }
+
+    public void setDriverClassName(String driverClassName) {
+        this.driverClassName = driverClassName;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    public Duration getLagCheckInterval() {
+        return lagCheckInterval;
+    }
+
+    public void setLagCheckInterval(Duration lagCheckInterval) {
+        this.lagCheckInterval = lagCheckInterval;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaProperties{" +
+                "enabled=" + enabled +
+                ", url='" + url + '\'' +
+                ", username='" + username + '\'' +
+                ", driverClassName='" + driverClassName + '\'' +
+                ", maxLag=" + maxLag +
+                ", lagQuery='" + lagQuery + '\'' +
+                ", lagCheckInterval=" + lagCheckInterval +
+                ", readYourWritesWindow=" + readYourWritesWindow +
+                '}';
+    }
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ExecutorProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorProperties.class);
+
+    private int corePoolSize;
+    private int maxPoolSize;
+    private int queueCapacity;
+    private String threadNamePrefix;
+
+    public ExecutorProperties() {
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorProperties{" +
+                "corePoolSize=" + corePoolSize +
+                ", maxPoolSize=" + maxPoolSize +
+                ", queueCapacity=" + queueCapacity +
+                ", threadNamePrefix='" + threadNamePrefix + '\'' +
+                '}';
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    public void setCorePoolSize(int corePoolSize) {
+        this.corePoolSize = corePoolSize;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+}
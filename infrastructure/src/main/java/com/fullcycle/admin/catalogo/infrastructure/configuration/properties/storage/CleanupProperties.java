@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CleanupProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CleanupProperties.class);
+
+    private int batchSize;
+
+    private int parallelism;
+
+    private int maxAttempts;
+
+    private Duration retryDelay;
+
+    private Duration reaperGracePeriod;
+
+    private Duration reaperStagingMaxAge;
+
+    public CleanupProperties() {
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    public void setRetryDelay(Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    public Duration getReaperGracePeriod() {
+        return reaperGracePeriod;
+    }
+
+    public void setReaperGracePeriod(Duration reaperGracePeriod) {
+        this.reaperGracePeriod = reaperGracePeriod;
+    }
+
+    public Duration getReaperStagingMaxAge() {
+        return reaperStagingMaxAge;
+    }
+
+    public void setReaperStagingMaxAge(Duration reaperStagingMaxAge) {
+        this.reaperStagingMaxAge = reaperStagingMaxAge;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CleanupProperties{" +
+                "batchSize=" + batchSize +
+                ", parallelism=" + parallelism +
+                ", maxAttempts=" + maxAttempts +
+                ", retryDelay=" + retryDelay +
+                ", reaperGracePeriod=" + reaperGracePeriod +
+                ", reaperStagingMaxAge=" + reaperStagingMaxAge +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.unit.DataSize;
+
+public class DiskCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskCacheProperties.class);
+
+    private boolean enabled;
+
+    private String directory;
+
+    private DataSize maxSize;
+
+    private DataSize maxEntrySize;
+
+    public DiskCacheProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public DataSize getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public void setMaxEntrySize(DataSize maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "DiskCacheProperties{" +
+                "enabled=" + enabled +
+                ", directory='" + directory + '\'' +
+                ", maxSize=" + maxSize +
+                ", maxEntrySize=" + maxEntrySize +
+                '}';
+    }
+}
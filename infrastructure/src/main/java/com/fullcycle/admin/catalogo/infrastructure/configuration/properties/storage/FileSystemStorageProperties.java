@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class FileSystemStorageProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSystemStorageProperties.class);
+
+    private String root;
+
+    public FileSystemStorageProperties() {
+    }
+
+    public String getRoot() {
+        return root;
+    }
+
+    public void setRoot(String root) {
+        this.root = root;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "FileSystemStorageProperties{" +
+                "root='" + root + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.unit.DataSize;
+
+public class InMemoryStorageProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryStorageProperties.class);
+
+    private DataSize maxMemory = DataSize.ofBytes(0);
+
+    private String spillDirectory;
+
+    public InMemoryStorageProperties() {
+    }
+
+    public DataSize getMaxMemory() {
+        return maxMemory;
+    }
+
+    public void setMaxMemory(DataSize maxMemory) {
+        this.maxMemory = maxMemory;
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    public void setSpillDirectory(String spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryStorageProperties{" +
+                "maxMemory=" + maxMemory +
+                ", spillDirectory='" + spillDirectory + '\'' +
+                '}';
+    }
+}
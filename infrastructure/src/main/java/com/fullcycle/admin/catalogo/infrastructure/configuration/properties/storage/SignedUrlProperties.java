@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class SignedUrlProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SignedUrlProperties.class);
+
+    private Duration ttl;
+
+    private String baseUrl;
+
+    private String secret;
+
+    public SignedUrlProperties() {
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "SignedUrlProperties{" +
+                "ttl=" + ttl +
+                ", baseUrl='" + baseUrl + '\'' +
+                '}';
+    }
+}
@@ -12,6 +12,12 @@ public class StorageProperties implements InitializingBean {
 
     private String filenamePattern;
 
+    private String chunkPattern;
+
+    private String blobPattern;
+
+    private boolean contentAddressed;
+
     public StorageProperties() {
     }
 
@@ -31,6 +37,30 @@ public class StorageProperties implements InitializingBean {
         this.filenamePattern = filenamePattern;
     }
 
+    public String getChunkPattern() {
+        return chunkPattern;
+    }
+
+    public void setChunkPattern(String chunkPattern) {
+        this.chunkPattern = chunkPattern;
+    }
+
+    public String getBlobPattern() {
+        return blobPattern;
+    }
+
+    public void setBlobPattern(String blobPattern) {
+        this.blobPattern = blobPattern;
+    }
+
+    public boolean isContentAddressed() {
+        return contentAddressed;
+    }
+
+    public void setContentAddressed(boolean contentAddressed) {
+        this.contentAddressed = contentAddressed;
+    }
+
     @Override
     public void afterPropertiesSet() {
         log.debug(toString());
@@ -41,6 +71,9 @@ public class StorageProperties implements InitializingBean {
         return "StorageProperties{" +
                 "locationPattern='" + locationPattern + '\'' +
                 ", filenamePattern='" + filenamePattern + '\'' +
+                ", chunkPattern='" + chunkPattern + '\'' +
+                ", blobPattern='" + blobPattern + '\'' +
+                ", contentAddressed=" + contentAddressed +
                 '}';
     }
 }
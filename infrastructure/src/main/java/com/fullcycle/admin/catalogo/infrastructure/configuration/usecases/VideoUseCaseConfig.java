@@ -6,7 +6,13 @@ import com.fullcycle.admin.catalogo.application.video.delete.DefaultDeleteVideoU
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.DefaultGetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.ingest.DefaultIngestMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.ingest.IngestMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.sign.DefaultSignMediaDownloadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.sign.SignMediaDownloadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.DefaultUpdateMediaStatusBatchUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.DefaultUpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusBatchUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
@@ -16,15 +22,30 @@ import com.fullcycle.admin.catalogo.application.video.update.DefaultUpdateVideoU
 import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.upload.DefaultUploadMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.chunk.DefaultUploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.chunk.UploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.create.CreateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.create.DefaultCreateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.retrieve.DefaultGetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.retrieve.GetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.CompleteSignedUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.DefaultCompleteSignedUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.DefaultSignMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.SignMediaUploadUseCase;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaIngestionGateway;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaSigningGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.MediaStorageExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 @Configuration
 public class VideoUseCaseConfig {
@@ -34,18 +55,27 @@ public class VideoUseCaseConfig {
     private final GenreGateway genreGateway;
     private final CastMemberGateway castMemberGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+    private final MediaSigningGateway mediaSigningGateway;
+    private final Executor mediaStorageExecutor;
 
     public VideoUseCaseConfig(
             final VideoGateway videoGateway,
             final CategoryGateway categoryGateway,
             final GenreGateway genreGateway,
             final CastMemberGateway castMemberGateway,
-            final MediaResourceGateway mediaResourceGateway) {
+            final MediaResourceGateway mediaResourceGateway,
+            final MediaUploadGateway mediaUploadGateway,
+            final MediaSigningGateway mediaSigningGateway,
+            @MediaStorageExecutor final Executor mediaStorageExecutor) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.mediaSigningGateway = Objects.requireNonNull(mediaSigningGateway);
+        this.mediaStorageExecutor = Objects.requireNonNull(mediaStorageExecutor);
     }
 
     @Bean
@@ -54,18 +84,31 @@ public class VideoUseCaseConfig {
     }
 
     @Bean
-    public CreateVideoUseCase createVideoUseCase() {
+    public UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase() {
+        return new DefaultUpdateMediaStatusBatchUseCase(videoGateway);
+    }
+
+    @Bean
+    public CreateVideoUseCase createVideoUseCase(final MediaIngestionGateway mediaIngestionGateway) {
         return new DefaultCreateVideoUseCase(
                 videoGateway,
                 categoryGateway,
                 genreGateway,
                 castMemberGateway,
-                mediaResourceGateway);
+                mediaResourceGateway,
+                mediaUploadGateway,
+                mediaIngestionGateway,
+                mediaStorageExecutor);
     }
 
     @Bean
     public GetVideoByIdUseCase getVideoByIdUseCase() {
-        return new DefaultGetVideoByIdUseCase(videoGateway);
+        return new DefaultGetVideoByIdUseCase(videoGateway, mediaUploadGateway);
+    }
+
+    @Bean
+    public IngestMediaUseCase ingestMediaUseCase() {
+        return new DefaultIngestMediaUseCase(videoGateway, mediaResourceGateway, mediaUploadGateway);
     }
 
     @Bean
@@ -75,7 +118,8 @@ public class VideoUseCaseConfig {
                 categoryGateway,
                 genreGateway,
                 castMemberGateway,
-                mediaResourceGateway
+                mediaResourceGateway,
+                mediaStorageExecutor
         );
     }
 
@@ -96,6 +140,36 @@ public class VideoUseCaseConfig {
 
     @Bean
     public UploadMediaUseCase uploadMediaUseCase() {
-        return new DefaultUploadMediaUseCase(mediaResourceGateway, videoGateway);
+        return new DefaultUploadMediaUseCase(mediaResourceGateway, videoGateway, mediaUploadGateway);
+    }
+
+    @Bean
+    public CreateMediaUploadUseCase createMediaUploadUseCase() {
+        return new DefaultCreateMediaUploadUseCase(mediaUploadGateway, videoGateway);
+    }
+
+    @Bean
+    public GetMediaUploadUseCase getMediaUploadUseCase() {
+        return new DefaultGetMediaUploadUseCase(mediaUploadGateway);
+    }
+
+    @Bean
+    public UploadMediaChunkUseCase uploadMediaChunkUseCase() {
+        return new DefaultUploadMediaChunkUseCase(mediaUploadGateway, mediaResourceGateway);
+    }
+
+    @Bean
+    public SignMediaUploadUseCase signMediaUploadUseCase() {
+        return new DefaultSignMediaUploadUseCase(videoGateway, mediaSigningGateway);
+    }
+
+    @Bean
+    public CompleteSignedUploadUseCase completeSignedUploadUseCase() {
+        return new DefaultCompleteSignedUploadUseCase(videoGateway, mediaSigningGateway);
+    }
+
+    @Bean
+    public SignMediaDownloadUseCase signMediaDownloadUseCase() {
+        return new DefaultSignMediaDownloadUseCase(videoGateway, mediaSigningGateway);
     }
 }
@@ -1,20 +1,23 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre;
 
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreDeleted;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CatalogEvents;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
-import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -25,25 +28,34 @@ import java.util.stream.StreamSupport;
 public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
+    private final EventService eventService;
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            @CatalogEvents final EventService eventService
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.eventService = Objects.requireNonNull(eventService);
     }
 
+    @Transactional
     @Override
     public Genre create(final Genre aGenre) {
         return this.save(aGenre);
     }
 
+    @Transactional
     @Override
     public void deleteById(final GenreID anId) {
         final var anIdValue = anId.getValue();
         final var exists = this.genreRepository.existsById(anIdValue);
         if (exists) {
             this.genreRepository.deleteById(anIdValue);
+            this.eventService.sendAsync(new GenreDeleted(anIdValue));
         }
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<Genre> findById(GenreID anId) {
         return this.genreRepository.findById(anId.getValue())
@@ -56,6 +68,7 @@ public class GenreMySQLGateway implements GenreGateway {
         return this.save(aGenre);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
         final var page = aQuery.page();
@@ -76,6 +89,7 @@ public class GenreMySQLGateway implements GenreGateway {
         );
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<GenreID> existsByIds(final Iterable<GenreID> aGenreIDs) {
         final var ids = StreamSupport.stream(aGenreIDs.spliterator(), false)
@@ -87,8 +101,10 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     private Genre save(final Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre))
+        final var result = this.genreRepository.save(GenreJpaEntity.from(aGenre))
                 .toAggregate();
+        aGenre.publishDomainEvents(this.eventService::sendAsync);
+        return result;
     }
 
     private Specification<GenreJpaEntity> filterLikeName(String terms) {
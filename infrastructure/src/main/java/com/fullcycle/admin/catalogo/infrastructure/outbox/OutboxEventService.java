@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.EventFormat;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+
+import java.util.Objects;
+
+public class OutboxEventService implements EventService {
+
+    private final String exchange;
+    private final String routingKey;
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventFormat format;
+
+    public OutboxEventService(
+            final String exchange,
+            final String routingKey,
+            final OutboxEventRepository outboxEventRepository,
+            final EventFormat format) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+        this.format = Objects.requireNonNull(format);
+    }
+
+    @Override
+    public void send(final Object event) {
+        this.outboxEventRepository.save(OutboxEventJpaEntity.from(this.exchange, this.routingKey, event, this.format));
+    }
+}
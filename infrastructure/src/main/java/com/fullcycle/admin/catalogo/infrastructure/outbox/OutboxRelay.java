@@ -0,0 +1,128 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.RabbitEventService;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.RabbitEventServiceFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnExpression(OutboxRelay.ENABLED)
+public class OutboxRelay {
+
+    // async dispatches spill into the outbox on overflow, so it needs relaying even when publishing bypasses it
+    public static final String ENABLED = "${amqp.outbox.enabled:false} or (${amqp.async-dispatch.enabled:false}"
+            + " and '${amqp.async-dispatch.overflow-policy:block}'.equalsIgnoreCase('spill'))";
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final RabbitEventServiceFactory publisherFactory;
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, RabbitEventService> publishers;
+    private final AtomicLong lag;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer batches;
+
+    public OutboxRelay(
+            final OutboxProperties props,
+            final RabbitEventServiceFactory publisherFactory,
+            final OutboxEventRepository outboxEventRepository,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry registry) {
+        this.batchSize = Math.max(1, props.getBatchSize());
+        this.maxBatchesPerRun = Math.max(1, props.getMaxBatchesPerRun());
+        this.publisherFactory = Objects.requireNonNull(publisherFactory);
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.publishers = new ConcurrentHashMap<>();
+        this.lag = new AtomicLong();
+        this.published = Counter.builder("outbox.relay.published")
+                .register(registry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .register(registry);
+        this.batches = Timer.builder("outbox.relay.batch")
+                .register(registry);
+        Gauge.builder("outbox.relay.lag", this.lag, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${amqp.outbox.relay-interval}")
+    public void run() {
+        drain();
+    }
+
+    public int drain() {
+        var relayed = 0;
+        try {
+            for (int i = 0; i < this.maxBatchesPerRun; i++) {
+                final var count = this.batches.record(() -> this.transactionTemplate.execute(status -> relayBatch()));
+                relayed += count;
+                if (count < this.batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            this.failures.increment();
+            log.warn("[message:outbox.relay] [status:failed] [relayed:{}] [error:{}]", relayed, e.getMessage());
+        }
+        updateLag();
+        return relayed;
+    }
+
+    private int relayBatch() {
+        final var events = this.outboxEventRepository.lockPending(PageRequest.of(0, this.batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        final var destinations = new LinkedHashMap<String, List<OutboxEventJpaEntity>>();
+        events.forEach(anEvent -> destinations
+                .computeIfAbsent(destinationOf(anEvent), key -> new ArrayList<>())
+                .add(anEvent));
+        destinations.values().forEach(aBatch -> publisherOf(aBatch.get(0))
+                .sendAll(aBatch.stream()
+                        .map(anEvent -> RabbitEventService.messageOf(anEvent.getContentType(), anEvent.getPayload()))
+                        .toList()));
+
+        this.outboxEventRepository.deleteAllInBatch(events);
+        this.published.increment(events.size());
+        return events.size();
+    }
+
+    private RabbitEventService publisherOf(final OutboxEventJpaEntity anEvent) {
+        return this.publishers.computeIfAbsent(destinationOf(anEvent), key ->
+                this.publisherFactory.create(anEvent.getExchange(), anEvent.getRoutingKey()));
+    }
+
+    private static String destinationOf(final OutboxEventJpaEntity anEvent) {
+        return anEvent.getExchange().concat("/").concat(anEvent.getRoutingKey());
+    }
+
+    private void updateLag() {
+        final var oldest = this.outboxEventRepository.oldestCreatedAt();
+        this.lag.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, InstantUtils.now()).toMillis()));
+    }
+}
@@ -0,0 +1,126 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.EventFormat;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "events_outbox")
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "exchange", nullable = false)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public OutboxEventJpaEntity() {
+    }
+
+    private OutboxEventJpaEntity(
+            final String exchange,
+            final String routingKey,
+            final String eventType,
+            final String contentType,
+            final byte[] payload,
+            final Instant createdAt
+    ) {
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.eventType = eventType;
+        this.contentType = contentType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxEventJpaEntity from(
+            final String exchange,
+            final String routingKey,
+            final Object event,
+            final EventFormat format
+    ) {
+        return new OutboxEventJpaEntity(
+                exchange,
+                routingKey,
+                event.getClass().getName(),
+                format.contentType(),
+                format.writeValueAsBytes(event),
+                InstantUtils.now()
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getExchange() {
+        return exchange;
+    }
+
+    public void setExchange(String exchange) {
+        this.exchange = exchange;
+    }
+
+    public String getRoutingKey() {
+        return routingKey;
+    }
+
+    public void setRoutingKey(String routingKey) {
+        this.routingKey = routingKey;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e order by e.id asc")
+    List<OutboxEventJpaEntity> lockPending(Pageable page);
+
+    @Query("select min(e.createdAt) from OutboxEvent e")
+    Instant oldestCreatedAt();
+}
@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence.routing;
+
+import java.time.Duration;
+
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Long> STICKY_UNTIL = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void markWrite(final Duration aWindow) {
+        stickUntil(System.currentTimeMillis() + aWindow.toMillis());
+    }
+
+    public static void stickUntil(final long anEpochMillis) {
+        final var current = STICKY_UNTIL.get();
+        if (current == null || current < anEpochMillis) {
+            STICKY_UNTIL.set(anEpochMillis);
+        }
+    }
+
+    public static boolean isSticky() {
+        final var until = STICKY_UNTIL.get();
+        if (until == null) {
+            return false;
+        }
+        if (until <= System.currentTimeMillis()) {
+            STICKY_UNTIL.remove();
+            return false;
+        }
+        return true;
+    }
+
+    public static void clear() {
+        STICKY_UNTIL.remove();
+    }
+}
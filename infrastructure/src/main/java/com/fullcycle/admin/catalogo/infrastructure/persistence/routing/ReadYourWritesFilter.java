@@ -0,0 +1,73 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "read-primary-until";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(final Duration window) {
+        this.window = Objects.requireNonNull(window);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain
+    ) throws ServletException, IOException {
+        try {
+            final var latest = System.currentTimeMillis() + this.window.toMillis();
+            // the cookie is client controlled, so it can never pin reads past one window from now
+            stickyUntilOf(request.getCookies())
+                    .ifPresent(until -> ReadYourWrites.stickUntil(Math.min(until, latest)));
+            if (WRITE_METHODS.contains(request.getMethod())) {
+                // the cookie has to be written before the body commits the response
+                ReadYourWrites.stickUntil(latest);
+                response.addCookie(cookieOf(request, latest));
+            }
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private Cookie cookieOf(final HttpServletRequest request, final long until) {
+        final var cookie = new Cookie(COOKIE, Long.toString(until));
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        cookie.setMaxAge((int) Math.max(1, this.window.toSeconds()));
+        cookie.setHttpOnly(true);
+        return cookie;
+    }
+
+    private static OptionalLong stickyUntilOf(final Cookie[] cookies) {
+        if (cookies == null) {
+            return OptionalLong.empty();
+        }
+        for (final var cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return OptionalLong.of(Long.parseLong(cookie.getValue()));
+                } catch (NumberFormatException e) {
+                    return OptionalLong.empty();
+                }
+            }
+        }
+        return OptionalLong.empty();
+    }
+}
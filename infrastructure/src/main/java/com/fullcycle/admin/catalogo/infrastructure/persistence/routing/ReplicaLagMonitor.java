@@ -0,0 +1,87 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence.routing;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.datasource.ReplicaProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String REPLICA_LAG = "datasource.replica.lag";
+    private static final List<String> LAG_COLUMNS = List.of("Seconds_Behind_Source", "Seconds_Behind_Master");
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration staleAfter;
+    private volatile long lagSeconds = -1;
+    private volatile long checkedAt;
+
+    public ReplicaLagMonitor(
+            final DataSource replica,
+            final ReplicaProperties props,
+            final MeterRegistry registry
+    ) {
+        this.replica = Objects.requireNonNull(replica);
+        this.lagQuery = Objects.requireNonNull(props.getLagQuery());
+        this.maxLag = Objects.requireNonNull(props.getMaxLag());
+        this.staleAfter = props.getLagCheckInterval().multipliedBy(3);
+
+        Gauge.builder(REPLICA_LAG, this, it -> it.lagSeconds)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval}")
+    public void refresh() {
+        try (final var conn = this.replica.getConnection();
+             final var stmt = conn.createStatement();
+             final var rs = stmt.executeQuery(this.lagQuery)) {
+            // a server that is not replicating from anyone returns no rows and is as fresh as it gets
+            final var lag = rs.next() ? lagOf(rs) : OptionalLong.of(0);
+            this.lagSeconds = lag.orElse(-1);
+        } catch (SQLException | RuntimeException e) {
+            this.lagSeconds = -1;
+            log.warn("[message:datasource.replica] [status:lag_check_failed] [error:{}]", e.getMessage());
+        }
+        this.checkedAt = System.currentTimeMillis();
+    }
+
+    public boolean isAvailable() {
+        final var lag = this.lagSeconds;
+        return lag >= 0
+                && TimeUnit.SECONDS.toMillis(lag) <= this.maxLag.toMillis()
+                && System.currentTimeMillis() - this.checkedAt <= this.staleAfter.toMillis();
+    }
+
+    public long lagSeconds() {
+        return this.lagSeconds;
+    }
+
+    private static OptionalLong lagOf(final ResultSet rs) throws SQLException {
+        final var metadata = rs.getMetaData();
+        var column = 1;
+        for (int i = 1; i <= metadata.getColumnCount(); i++) {
+            if (LAG_COLUMNS.contains(metadata.getColumnLabel(i))) {
+                column = i;
+                break;
+            }
+        }
+        final var lag = rs.getLong(column);
+        // a null lag means the replication threads are stopped
+        return rs.wasNull() ? OptionalLong.empty() : OptionalLong.of(lag);
+    }
+}
@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Duration readYourWritesWindow;
+
+    public ReplicaRoutingDataSource(
+            final DataSource primary,
+            final DataSource replica,
+            final ReplicaLagMonitor lagMonitor,
+            final Duration readYourWritesWindow
+    ) {
+        this.lagMonitor = Objects.requireNonNull(lagMonitor);
+        this.readYourWritesWindow = Objects.requireNonNull(readYourWritesWindow);
+        setTargetDataSources(Map.of(
+                Target.PRIMARY, Objects.requireNonNull(primary),
+                Target.REPLICA, Objects.requireNonNull(replica)));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWrites.markWrite(this.readYourWritesWindow);
+            }
+            return Target.PRIMARY;
+        }
+        if (ReadYourWrites.isSticky() || !this.lagMonitor.isAvailable()) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+}
@@ -1,6 +1,15 @@
 package com.fullcycle.admin.catalogo.infrastructure.services;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface EventService {
 
     void send(Object event);
+
+    // publishers that can track the broker confirm complete the future once it arrives instead of holding the caller.
+    // The others send inline, so a failure still reaches the caller's transaction
+    default CompletableFuture<Void> sendAsync(final Object event) {
+        send(event);
+        return CompletableFuture.completedFuture(null);
+    }
 }
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.infrastructure.services;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface SignedStorageService {
+
+    String signUpload(String name, String contentType, Instant expiresAt);
+
+    String signDownload(String name, Instant expiresAt);
+
+    Optional<String> checksumOf(String name);
+
+    // false when the source is gone or no longer has the expected checksum
+    boolean promote(String source, String target, String expectedChecksum);
+}
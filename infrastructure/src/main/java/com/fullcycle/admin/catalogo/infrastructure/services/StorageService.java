@@ -5,14 +5,32 @@ import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface StorageService {
 
-    void deleteAll(Collection<String> names);
+    List<String> deleteAll(Collection<String> names);
 
     Optional<Resource> get(String name);
 
+    default Optional<String> versionOf(final String name) {
+        return get(name).map(Resource::checksum);
+    }
+
     List<String> list(String prefix);
 
+    default Stream<String> stream(final String prefix) {
+        return list(prefix).stream();
+    }
+
+    default Stream<String> folders(final String prefix) {
+        return stream(prefix)
+                .filter(name -> name.indexOf('/', prefix.length()) >= 0)
+                .map(name -> name.substring(0, name.indexOf('/', prefix.length()) + 1))
+                .distinct();
+    }
+
     void store(String name, Resource resource);
+
+    String compose(String name, List<String> sources, String contentType);
 }
@@ -0,0 +1,253 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.*;
+
+public class DiskCacheStorageService implements StorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskCacheStorageService.class);
+
+    private static final String EXTENSION = ".cache";
+
+    private final StorageService delegate;
+    private final Path directory;
+    private final long maxSize;
+    private final long maxEntrySize;
+    private final LinkedHashMap<String, CacheEntry> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bytesSaved;
+    private long size;
+
+    public DiskCacheStorageService(
+            final StorageService delegate,
+            final Path directory,
+            final long maxSize,
+            final long maxEntrySize,
+            final MeterRegistry registry
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.directory = Objects.requireNonNull(directory).toAbsolutePath().normalize();
+        this.maxSize = maxSize;
+        this.maxEntrySize = Math.min(maxEntrySize, maxSize);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = Counter.builder("storage.cache.requests")
+                .tag("result", "hit")
+                .register(registry);
+        this.misses = Counter.builder("storage.cache.requests")
+                .tag("result", "miss")
+                .register(registry);
+        this.bytesSaved = Counter.builder("storage.cache.bytes.saved")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("storage.cache.hit.ratio", this, DiskCacheStorageService::hitRatio)
+                .register(registry);
+        Gauge.builder("storage.cache.size", this, DiskCacheStorageService::size)
+                .baseUnit("bytes")
+                .register(registry);
+        purge();
+    }
+
+    public double hitRatio() {
+        final var total = this.hits.count() + this.misses.count();
+        return total == 0 ? 0 : this.hits.count() / total;
+    }
+
+    public synchronized long size() {
+        return this.size;
+    }
+
+    @Override
+    public List<String> deleteAll(final Collection<String> names) {
+        try {
+            return this.delegate.deleteAll(names);
+        } finally {
+            names.forEach(this::evict);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var version = this.delegate.versionOf(name);
+        if (version.isEmpty()) {
+            evict(name);
+            return Optional.empty();
+        }
+
+        final var cached = lookup(name)
+                .filter(anEntry -> anEntry.version().equals(version.get()))
+                .flatMap(this::read);
+        if (cached.isPresent()) {
+            this.hits.increment();
+            this.bytesSaved.increment(cached.get().content().length);
+            return cached;
+        }
+
+        this.misses.increment();
+        final var aResource = this.delegate.get(name);
+        aResource.ifPresentOrElse(it -> admit(name, version.get(), it), () -> evict(name));
+        return aResource;
+    }
+
+    @Override
+    public Optional<String> versionOf(final String name) {
+        return this.delegate.versionOf(name);
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        return this.delegate.list(prefix);
+    }
+
+    @Override
+    public Stream<String> stream(final String prefix) {
+        return this.delegate.stream(prefix);
+    }
+
+    @Override
+    public Stream<String> folders(final String prefix) {
+        return this.delegate.folders(prefix);
+    }
+
+    @Override
+    public void store(final String name, final Resource resource) {
+        try {
+            this.delegate.store(name, resource);
+        } finally {
+            evict(name);
+        }
+    }
+
+    @Override
+    public String compose(final String name, final List<String> sources, final String contentType) {
+        try {
+            return this.delegate.compose(name, sources, contentType);
+        } finally {
+            evict(name);
+        }
+    }
+
+    private synchronized Optional<CacheEntry> lookup(final String name) {
+        return Optional.ofNullable(this.entries.get(name));
+    }
+
+    private Optional<Resource> read(final CacheEntry anEntry) {
+        try (final var channel = FileChannel.open(anEntry.file(), READ)) {
+            final var bytes = new byte[(int) channel.size()];
+            channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes.length).get(bytes);
+            return Optional.of(Resource.with(anEntry.checksum(), bytes, anEntry.contentType(), anEntry.resourceName()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("[message:storage.cache] [status:unreadable] [name:{}] [error:{}]", anEntry.name(), e.getMessage());
+            evict(anEntry.name());
+            return Optional.empty();
+        }
+    }
+
+    private void admit(final String name, final String version, final Resource aResource) {
+        final var length = aResource.content().length;
+        if (length > this.maxEntrySize) {
+            return;
+        }
+        final Path file;
+        try {
+            file = write(aResource.content());
+        } catch (IOException e) {
+            log.warn("[message:storage.cache] [status:unwritable] [name:{}] [error:{}]", name, e.getMessage());
+            return;
+        }
+
+        final var evicted = new ArrayList<CacheEntry>();
+        synchronized (this) {
+            Optional.ofNullable(this.entries.put(name, new CacheEntry(
+                    name, version, aResource.checksum(), aResource.contentType(), aResource.name(), file, length)))
+                    .ifPresent(evicted::add);
+            this.size += length - evicted.stream().mapToLong(CacheEntry::length).sum();
+
+            final var eldest = this.entries.values().iterator();
+            while (this.size > this.maxSize && eldest.hasNext()) {
+                final var anEntry = eldest.next();
+                eldest.remove();
+                this.size -= anEntry.length();
+                evicted.add(anEntry);
+            }
+        }
+        evicted.forEach(this::delete);
+    }
+
+    private void evict(final String name) {
+        final CacheEntry anEntry;
+        synchronized (this) {
+            anEntry = this.entries.remove(name);
+            if (anEntry != null) {
+                this.size -= anEntry.length();
+            }
+        }
+        if (anEntry != null) {
+            delete(anEntry);
+        }
+    }
+
+    private Path write(final byte[] content) throws IOException {
+        final var file = Files.createTempFile(this.directory, "entry-", EXTENSION);
+        try (final var channel = FileChannel.open(file, WRITE, TRUNCATE_EXISTING)) {
+            final var buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private void delete(final CacheEntry anEntry) {
+        try {
+            Files.deleteIfExists(anEntry.file());
+        } catch (IOException e) {
+            log.debug("[message:storage.cache] [status:undeletable] [name:{}] [error:{}]", anEntry.name(), e.getMessage());
+        }
+    }
+
+    private void purge() {
+        try {
+            Files.createDirectories(this.directory);
+            try (final var files = Files.list(this.directory)) {
+                files.filter(it -> it.getFileName().toString().endsWith(EXTENSION))
+                        .forEach(it -> it.toFile().delete());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record CacheEntry(
+            String name,
+            String version,
+            String checksum,
+            String contentType,
+            String resourceName,
+            Path file,
+            long length
+    ) {
+    }
+}
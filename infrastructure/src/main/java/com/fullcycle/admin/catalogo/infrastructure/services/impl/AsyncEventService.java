@@ -0,0 +1,220 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.AsyncDispatchProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncEventService implements EventService, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncEventService.class);
+
+    private static final String QUEUE_DEPTH = "events.dispatch.queue.depth";
+    private static final String QUEUE_CAPACITY = "events.dispatch.queue.capacity";
+    private static final String BATCH_SIZE = "events.dispatch.batch.size";
+    private static final String DROPPED = "events.dispatch.dropped";
+    private static final String SPILLED = "events.dispatch.spilled";
+    private static final String FAILED = "events.dispatch.failed";
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP,
+        SPILL
+    }
+
+    private final String name;
+    private final EventService delegate;
+    private final EventService spillover;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration blockTimeout;
+    private final Duration shutdownTimeout;
+    private final int batchSize;
+    private final BlockingQueue<Object> buffer;
+    private final DistributionSummary batches;
+    private final Counter dropped;
+    private final Counter spilled;
+    private final Counter failed;
+    private final Thread publisher;
+    private volatile boolean running;
+
+    public AsyncEventService(
+            final String name,
+            final EventService delegate,
+            final EventService spillover,
+            final AsyncDispatchProperties props,
+            final MeterRegistry registry
+    ) {
+        this.name = Objects.requireNonNull(name);
+        this.delegate = Objects.requireNonNull(delegate);
+        this.overflowPolicy = Objects.requireNonNull(props.getOverflowPolicy());
+        this.spillover = this.overflowPolicy == OverflowPolicy.SPILL
+                ? Objects.requireNonNull(spillover, "'spillover' is required by the SPILL overflow policy")
+                : spillover;
+        this.blockTimeout = Objects.requireNonNull(props.getBlockTimeout());
+        this.shutdownTimeout = Objects.requireNonNull(props.getShutdownTimeout());
+        this.batchSize = Math.max(1, props.getBatchSize());
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, props.getCapacity()));
+
+        Gauge.builder(QUEUE_DEPTH, this.buffer, BlockingQueue::size)
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder(QUEUE_CAPACITY, this.buffer, it -> it.size() + it.remainingCapacity())
+                .tag("name", name)
+                .register(registry);
+        this.batches = DistributionSummary.builder(BATCH_SIZE).tag("name", name).register(registry);
+        this.dropped = registry.counter(DROPPED, "name", name);
+        this.spilled = registry.counter(SPILLED, "name", name);
+        this.failed = registry.counter(FAILED, "name", name);
+
+        this.running = true;
+        this.publisher = new Thread(this::drain, "event-dispatch-" + name);
+        this.publisher.setDaemon(true);
+        this.publisher.start();
+    }
+
+    @Override
+    public void send(final Object event) {
+        Objects.requireNonNull(event);
+        if (!this.running) {
+            publish(event);
+            return;
+        }
+        if (!this.buffer.offer(event)) {
+            overflow(event);
+        }
+    }
+
+    public int depth() {
+        return this.buffer.size();
+    }
+
+    @Override
+    public void close() {
+        this.running = false;
+        try {
+            this.publisher.join(this.shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (this.publisher.isAlive()) {
+            log.warn("[message:event.dispatch] [status:shutdown_timeout] [name:{}] [pending:{}]", this.name, depth());
+            return;
+        }
+        final var pending = new ArrayList<>();
+        this.buffer.drainTo(pending);
+        pending.forEach(this::publish);
+    }
+
+    private void overflow(final Object event) {
+        switch (this.overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (this.buffer.offer(event, this.blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                drop(event);
+            }
+            case DROP -> drop(event);
+            case SPILL -> spill(event);
+        }
+    }
+
+    private void drain() {
+        final var batch = new ArrayList<>(this.batchSize);
+        while (this.running || !this.buffer.isEmpty()) {
+            try {
+                final var first = this.buffer.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                this.buffer.drainTo(batch, this.batchSize - 1);
+                publishAll(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // the publisher thread must outlive any single batch, or the buffer fills up for good
+                log.error("[message:event.dispatch] [status:batch_failed] [name:{}] [error:{}]",
+                        this.name, e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // the whole batch is handed to the delegate before the first confirm is awaited
+    private void publishAll(final List<Object> batch) {
+        this.batches.record(batch.size());
+        final var results = batch.stream()
+                .map(this::publishAsync)
+                .toList();
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                results.get(i).join();
+            } catch (CompletionException e) {
+                failed(batch.get(i), e.getCause());
+            }
+        }
+    }
+
+    private CompletableFuture<Void> publishAsync(final Object event) {
+        try {
+            return this.delegate.sendAsync(event);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void publish(final Object event) {
+        try {
+            this.delegate.send(event);
+        } catch (RuntimeException e) {
+            failed(event, e);
+        }
+    }
+
+    private void failed(final Object event, final Throwable error) {
+        this.failed.increment();
+        log.error("[message:event.dispatch] [status:failed] [name:{}] [event:{}] [error:{}]",
+                this.name, event.getClass().getSimpleName(), error.getMessage());
+        if (this.spillover != null) {
+            spill(event);
+        }
+    }
+
+    private void spill(final Object event) {
+        try {
+            this.spillover.send(event);
+            this.spilled.increment();
+        } catch (RuntimeException e) {
+            drop(event);
+            log.error("[message:event.dispatch] [status:spill_failed] [name:{}] [event:{}] [error:{}]",
+                    this.name, event.getClass().getSimpleName(), e.getMessage(), e);
+        }
+    }
+
+    private void drop(final Object event) {
+        this.dropped.increment();
+        log.warn("[message:event.dispatch] [status:dropped] [name:{}] [event:{}]",
+                this.name, event.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,101 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.infrastructure.services.SignedStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public class GCSignedStorageService implements SignedStorageService {
+
+    private static final int PRECONDITION_FAILED = 412;
+
+    private final String bucket;
+    private final Storage storage;
+
+    public GCSignedStorageService(final String bucket, final Storage storage) {
+        this.bucket = Objects.requireNonNull(bucket);
+        this.storage = Objects.requireNonNull(storage);
+    }
+
+    @Override
+    public String signUpload(final String name, final String contentType, final Instant expiresAt) {
+        final var blobInfo = BlobInfo.newBuilder(this.bucket, name)
+                .setContentType(contentType)
+                .build();
+        return this.storage.signUrl(
+                blobInfo,
+                secondsUntil(expiresAt),
+                TimeUnit.SECONDS,
+                Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                Storage.SignUrlOption.withContentType(),
+                Storage.SignUrlOption.withV4Signature()
+        ).toString();
+    }
+
+    @Override
+    public String signDownload(final String name, final Instant expiresAt) {
+        final var blobInfo = BlobInfo.newBuilder(this.bucket, name).build();
+        return this.storage.signUrl(
+                blobInfo,
+                secondsUntil(expiresAt),
+                TimeUnit.SECONDS,
+                Storage.SignUrlOption.httpMethod(HttpMethod.GET),
+                Storage.SignUrlOption.withV4Signature()
+        ).toString();
+    }
+
+    @Override
+    public Optional<String> checksumOf(final String name) {
+        return Optional.ofNullable(this.storage.get(this.bucket, name,
+                        Storage.BlobGetOption.fields(Storage.BlobField.CRC32C)))
+                .map(Blob::getCrc32cToHexString)
+                .map(HashingUtils::checksumFromBigEndian);
+    }
+
+    @Override
+    public boolean promote(final String source, final String target, final String expectedChecksum) {
+        final var aBlob = this.storage.get(this.bucket, source,
+                Storage.BlobGetOption.fields(Storage.BlobField.CRC32C, Storage.BlobField.GENERATION));
+        if (aBlob == null || !expectedChecksum.equals(HashingUtils.checksumFromBigEndian(aBlob.getCrc32cToHexString()))) {
+            return false;
+        }
+        // pinned to the checked generation: an upload that lands in between fails the copy instead of being promoted
+        final var aGeneration = Storage.BlobSourceOption.generationMatch(aBlob.getGeneration());
+        try {
+            this.storage.copy(Storage.CopyRequest.newBuilder()
+                            .setSource(BlobId.of(this.bucket, source))
+                            .setSourceOptions(aGeneration)
+                            .setTarget(BlobId.of(this.bucket, target))
+                            .build())
+                    .getResult();
+        } catch (StorageException e) {
+            if (e.getCode() == PRECONDITION_FAILED) {
+                return false;
+            }
+            throw e;
+        }
+        try {
+            this.storage.delete(BlobId.of(this.bucket, source), aGeneration);
+        } catch (StorageException e) {
+            if (e.getCode() != PRECONDITION_FAILED) {
+                throw e;
+            }
+            // a newer upload replaced the staged one after the copy: it is left to the reaper
+        }
+        return true;
+    }
+
+    private long secondsUntil(final Instant expiresAt) {
+        return Math.max(1, Duration.between(Instant.now(), expiresAt).toSeconds());
+    }
+}
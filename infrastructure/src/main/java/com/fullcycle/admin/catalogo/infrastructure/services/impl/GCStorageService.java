@@ -2,18 +2,25 @@ package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class GCStorageService implements StorageService {
 
+    private static final int MAX_COMPOSE_SOURCES = 32;
+    private static final long LIST_PAGE_SIZE = 1000;
+
     private final String bucket;
     private final Storage storage;
 
@@ -23,39 +30,110 @@ public class GCStorageService implements StorageService {
     }
 
     @Override
-    public void deleteAll(final Collection<String> names) {
-        final var blobs = names.stream()
+    public List<String> deleteAll(final Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        final var ids = List.copyOf(names);
+        final var blobs = ids.stream()
                 .map(name -> BlobId.of(this.bucket, name))
                 .toList();
-        this.storage.delete(blobs);
+        final var deleted = this.storage.delete(blobs);
+        final var failed = new ArrayList<String>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (!Boolean.TRUE.equals(deleted.get(i))) {
+                failed.add(ids.get(i));
+            }
+        }
+        return failed;
     }
 
     @Override
     public Optional<Resource> get(final String name) {
         return Optional.ofNullable(this.storage.get(this.bucket, name))
                 .map(blob -> Resource.with(
-                        blob.getCrc32cToHexString(),
+                        checksumOf(blob),
                         blob.getContent(),
                         blob.getContentType(),
                         blob.getName()));
     }
 
+    @Override
+    public Optional<String> versionOf(final String name) {
+        return Optional.ofNullable(this.storage.get(this.bucket, name,
+                        Storage.BlobGetOption.fields(Storage.BlobField.CRC32C, Storage.BlobField.GENERATION)))
+                .map(blob -> checksumOf(blob).concat("-").concat(String.valueOf(blob.getGeneration())));
+    }
+
     @Override
     public List<String> list(final String prefix) {
-        final var blobs =
-                this.storage.list(this.bucket, Storage.BlobListOption.prefix(prefix));
+        try (final var names = stream(prefix)) {
+            return names.toList();
+        }
+    }
+
+    @Override
+    public Stream<String> stream(final String prefix) {
+        final var blobs = this.storage.list(this.bucket,
+                Storage.BlobListOption.prefix(prefix),
+                Storage.BlobListOption.pageSize(LIST_PAGE_SIZE));
         return StreamSupport.stream(blobs.iterateAll().spliterator(), false)
                 .map(BlobInfo::getBlobId)
-                .map(BlobId::getName)
-                .toList();
+                .map(BlobId::getName);
+    }
+
+    @Override
+    public Stream<String> folders(final String prefix) {
+        final var blobs = this.storage.list(this.bucket,
+                Storage.BlobListOption.prefix(prefix),
+                Storage.BlobListOption.currentDirectory(),
+                Storage.BlobListOption.pageSize(LIST_PAGE_SIZE));
+        return StreamSupport.stream(blobs.iterateAll().spliterator(), false)
+                .filter(BlobInfo::isDirectory)
+                .map(BlobInfo::getName);
     }
 
     @Override
     public void store(final String name, final Resource resource) {
         final var blobInfo = BlobInfo.newBuilder(this.bucket, name)
                 .setContentType(resource.contentType())
-                .setCrc32cFromHexString(resource.checksum())
+                .setCrc32cFromHexString(HashingUtils.checksumToBigEndian(resource.checksum()))
                 .build();
         this.storage.create(blobInfo, resource.content());
     }
+
+    @Override
+    public String compose(final String name, final List<String> sources, final String contentType) {
+        final var intermediates = new ArrayList<String>();
+        var pending = sources;
+        while (pending.size() > MAX_COMPOSE_SOURCES) {
+            final var composed = new ArrayList<String>();
+            for (int i = 0; i < pending.size(); i += MAX_COMPOSE_SOURCES) {
+                final var intermediate = "%s.compose-%s".formatted(name, intermediates.size());
+                compose(intermediate, pending.subList(i, Math.min(i + MAX_COMPOSE_SOURCES, pending.size())), contentType);
+                intermediates.add(intermediate);
+                composed.add(intermediate);
+            }
+            pending = composed;
+        }
+        final var blob = compose(name, pending, contentType);
+        if (!intermediates.isEmpty()) {
+            deleteAll(intermediates);
+        }
+        return checksumOf(blob);
+    }
+
+    private static String checksumOf(final Blob blob) {
+        return HashingUtils.checksumFromBigEndian(blob.getCrc32cToHexString());
+    }
+
+    private Blob compose(final String name, final List<String> sources, final String contentType) {
+        final var target = BlobInfo.newBuilder(this.bucket, name)
+                .setContentType(contentType)
+                .build();
+        return this.storage.compose(Storage.ComposeRequest.newBuilder()
+                .addSource(sources)
+                .setTarget(target)
+                .build());
+    }
 }
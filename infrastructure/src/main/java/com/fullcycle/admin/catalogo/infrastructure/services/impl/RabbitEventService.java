@@ -1,30 +1,205 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
-import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.EventFormat;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.PublisherConfirmProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 public class RabbitEventService implements EventService {
 
+    private static final Logger log = LoggerFactory.getLogger(RabbitEventService.class);
+
     private final String exchange;
     private final String routingKey;
     private final RabbitOperations ops;
+    private final EventFormat format;
+    private final Executor executor;
+    private final boolean confirms;
+    private final Duration confirmTimeout;
+    private final int maxInFlight;
+    private final int maxAttempts;
+    private final Semaphore window;
 
     public RabbitEventService(
             final String exchange,
             final String routingKey,
-            final RabbitOperations ops) {
+            final RabbitOperations ops,
+            final PublisherConfirmProperties props,
+            final EventFormat format,
+            final Executor executor) {
         this.exchange = Objects.requireNonNull(exchange);
         this.routingKey = Objects.requireNonNull(routingKey);
         this.ops = Objects.requireNonNull(ops);
+        this.format = Objects.requireNonNull(format);
+        this.executor = Objects.requireNonNull(executor);
+        this.confirms = props.isEnabled();
+        this.confirmTimeout = Objects.requireNonNull(props.getTimeout());
+        this.maxInFlight = Math.max(1, props.getMaxInFlight());
+        this.maxAttempts = Math.max(1, props.getMaxAttempts());
+        this.window = new Semaphore(this.maxInFlight);
     }
 
     @Override
     public void send(Object event) {
-        final var message = Json.writeValueAsString(event);
-        this.ops.convertAndSend(this.exchange, this.routingKey,
-                message);
+        final var message = messageOf(this.format, this.format.writeValueAsBytes(event));
+        if (!this.confirms) {
+            this.ops.send(this.exchange, this.routingKey, message);
+            return;
+        }
+        await(publish(message, true));
+    }
+
+    // never waits for a slot in the window: a full window fails the future right away
+    @Override
+    public CompletableFuture<Void> sendAsync(final Object event) {
+        final var message = messageOf(this.format, this.format.writeValueAsBytes(event));
+        if (!this.confirms) {
+            this.ops.send(this.exchange, this.routingKey, message);
+            return CompletableFuture.completedFuture(null);
+        }
+        return publish(message, false);
+    }
+
+    public void sendAll(final List<Message> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        CompletableFuture.allOf(messages.stream()
+                        .map(message -> publish(message, true))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    public int inFlight() {
+        return this.maxInFlight - this.window.availablePermits();
+    }
+
+    public static Message messageOf(final String contentType, final byte[] body) {
+        return messageOf(EventFormat.of(contentType).orElse(EventFormat.JSON), body);
+    }
+
+    private static Message messageOf(final EventFormat format, final byte[] body) {
+        final var properties = new MessageProperties();
+        properties.setContentType(format.contentType());
+        properties.setContentLength(body.length);
+        if (format.isText()) {
+            properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        }
+        return new Message(body, properties);
+    }
+
+    private static void await(final CompletableFuture<Void> result) {
+        try {
+            result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Void> publish(final Message message, final boolean wait) {
+        final var result = new CompletableFuture<Void>();
+        if (!acquire(wait)) {
+            result.completeExceptionally(new AmqpException(wait
+                    ? "No publisher confirm slot was released within %s".formatted(this.confirmTimeout)
+                    : "No publisher confirm slot is available"));
+            return result;
+        }
+        publish(message, 1, result);
+        return result;
+    }
+
+    // holds a slot of the window until the message is settled, so a republish never waits for one
+    private void publish(final Message message, final int attempt, final CompletableFuture<Void> result) {
+        final var correlation = new CorrelationData(IdUtils.uuid());
+        try {
+            this.ops.send(this.exchange, this.routingKey, message, correlation);
+        } catch (RuntimeException e) {
+            retryOrFail(message, attempt, result, e.getMessage());
+            return;
+        }
+
+        correlation.getFuture()
+                .orTimeout(this.confirmTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> settle(message, attempt, result, correlation, confirm, error));
+    }
+
+    // confirms complete on the connection thread, which must not publish: a saturated executor fails fast instead
+    private void settle(
+            final Message message,
+            final int attempt,
+            final CompletableFuture<Void> result,
+            final CorrelationData correlation,
+            final CorrelationData.Confirm confirm,
+            final Throwable error
+    ) {
+        try {
+            this.executor.execute(() -> {
+                if (error == null && confirm.isAck() && correlation.getReturned() == null) {
+                    this.window.release();
+                    result.complete(null);
+                } else if (correlation.getReturned() != null) {
+                    fail(correlation.getId(), result, "returned: " + correlation.getReturned().getReplyText());
+                } else {
+                    retryOrFail(message, attempt, result, error != null ? error.toString() : confirm.getReason());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fail(correlation.getId(), result, "publisher executor is saturated");
+        }
+    }
+
+    private void retryOrFail(
+            final Message message,
+            final int attempt,
+            final CompletableFuture<Void> result,
+            final String reason
+    ) {
+        if (attempt < this.maxAttempts) {
+            log.debug("[message:amqp.publish] [status:retry] [exchange:{}] [routingKey:{}] [attempt:{}] [reason:{}]",
+                    this.exchange, this.routingKey, attempt, reason);
+            publish(message, attempt + 1, result);
+            return;
+        }
+        fail(null, result, reason);
+    }
+
+    private void fail(final String correlationId, final CompletableFuture<Void> result, final String reason) {
+        this.window.release();
+        log.warn("[message:amqp.publish] [status:unconfirmed] [exchange:{}] [routingKey:{}] [correlationId:{}] [reason:{}]",
+                this.exchange, this.routingKey, correlationId, reason);
+        result.completeExceptionally(new AmqpException("Message was not confirmed by the broker: " + reason));
+    }
+
+    private boolean acquire(final boolean wait) {
+        if (!wait) {
+            return this.window.tryAcquire();
+        }
+        try {
+            return this.window.tryAcquire(this.confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 }
@@ -0,0 +1,48 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.EventFormat;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.PublisherConfirmProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+public class RabbitEventServiceFactory {
+
+    private final RabbitOperations ops;
+    private final RabbitOperations fanOutOps;
+    private final Set<String> fanOutExchanges;
+    private final PublisherConfirmProperties confirmProps;
+    private final Executor executor;
+
+    public RabbitEventServiceFactory(
+            final RabbitOperations ops,
+            final PublisherConfirmProperties confirmProps,
+            final Executor executor) {
+        this(ops, ops, Set.of(), confirmProps, executor);
+    }
+
+    public RabbitEventServiceFactory(
+            final RabbitOperations ops,
+            final RabbitOperations fanOutOps,
+            final Set<String> fanOutExchanges,
+            final PublisherConfirmProperties confirmProps,
+            final Executor executor) {
+        this.ops = Objects.requireNonNull(ops);
+        this.fanOutOps = Objects.requireNonNull(fanOutOps);
+        this.fanOutExchanges = Set.copyOf(fanOutExchanges);
+        this.confirmProps = Objects.requireNonNull(confirmProps);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public RabbitEventService create(final String exchange, final String routingKey) {
+        return create(exchange, routingKey, EventFormat.JSON);
+    }
+
+    public RabbitEventService create(final String exchange, final String routingKey, final EventFormat format) {
+        // nobody has to subscribe to a fan-out exchange, so an unroutable event there is not a failure
+        final var anOps = this.fanOutExchanges.contains(exchange) ? this.fanOutOps : this.ops;
+        return new RabbitEventService(exchange, routingKey, anOps, this.confirmProps, format, this.executor);
+    }
+}
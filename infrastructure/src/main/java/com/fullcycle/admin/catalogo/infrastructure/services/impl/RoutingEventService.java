@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class RoutingEventService implements EventService {
+
+    private final Function<String, EventService> delegateFactory;
+    private final Map<String, EventService> delegates;
+
+    public RoutingEventService(final Function<String, EventService> delegateFactory) {
+        this.delegateFactory = Objects.requireNonNull(delegateFactory);
+        this.delegates = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void send(final Object event) {
+        this.delegates.computeIfAbsent(routingKeyOf(event), this.delegateFactory)
+                .send(event);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendAsync(final Object event) {
+        return this.delegates.computeIfAbsent(routingKeyOf(event), this.delegateFactory)
+                .sendAsync(event);
+    }
+
+    static String routingKeyOf(final Object event) {
+        final var words = event.getClass().getSimpleName().split("(?<=[a-z0-9])(?=[A-Z])");
+        final var aggregate = new StringBuilder();
+        for (int i = 0; i < words.length - 1; i++) {
+            if (i > 0) {
+                aggregate.append('_');
+            }
+            aggregate.append(words[i].toLowerCase());
+        }
+        return aggregate.isEmpty()
+                ? words[0].toLowerCase()
+                : aggregate.append('.').append(words[words.length - 1].toLowerCase()).toString();
+    }
+}
@@ -0,0 +1,281 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.*;
+
+public class FileSystemStorageService implements StorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSystemStorageService.class);
+
+    private static final String METADATA_FOLDER = ".metadata";
+    private static final String TEMPORARY_FOLDER = ".tmp";
+    private static final String CHECKSUM = "checksum";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String NAME = "name";
+
+    private final Path root;
+    private final Path metadata;
+    private final Path temporary;
+
+    public FileSystemStorageService(final Path root) {
+        this.root = Objects.requireNonNull(root).toAbsolutePath().normalize();
+        this.metadata = this.root.resolve(METADATA_FOLDER);
+        this.temporary = this.root.resolve(TEMPORARY_FOLDER);
+    }
+
+    public Path root() {
+        return this.root;
+    }
+
+    @Override
+    public List<String> deleteAll(final Collection<String> names) {
+        final var failed = new ArrayList<String>();
+        names.forEach(name -> {
+            try {
+                Files.deleteIfExists(contentOf(name));
+                Files.deleteIfExists(metadataOf(name));
+            } catch (IOException e) {
+                log.warn("[message:storage.delete] [status:failed] [name:{}] [error:{}]", name, e.toString());
+                failed.add(name);
+            }
+        });
+        return failed;
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var content = contentOf(name);
+        try (final var channel = FileChannel.open(content, READ)) {
+            final var props = readMetadata(name);
+            return Optional.of(Resource.with(
+                    props.getProperty(CHECKSUM),
+                    read(channel),
+                    props.getProperty(CONTENT_TYPE),
+                    props.getProperty(NAME)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        if (prefix == null) {
+            return Collections.emptyList();
+        }
+        try (final Stream<Path> candidates = candidatesOf(prefix)) {
+            return candidates
+                    .flatMap(this::walk)
+                    .filter(Files::isRegularFile)
+                    .filter(it -> !it.startsWith(this.metadata) && !it.startsWith(this.temporary))
+                    .map(this::nameOf)
+                    .filter(it -> it.startsWith(prefix))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Stream<String> folders(final String prefix) {
+        if (prefix == null) {
+            return Stream.empty();
+        }
+        final var aPath = contentOf(prefix);
+        final var parent = prefix.isEmpty() || prefix.endsWith("/") ? aPath : aPath.getParent();
+        if (!Files.isDirectory(parent)) {
+            return Stream.empty();
+        }
+        try (final Stream<Path> children = Files.list(parent)) {
+            return children
+                    .filter(Files::isDirectory)
+                    .filter(it -> !it.equals(this.metadata) && !it.equals(this.temporary))
+                    .map(it -> nameOf(it) + "/")
+                    .filter(it -> it.startsWith(prefix))
+                    .sorted()
+                    .toList()
+                    .stream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void store(final String name, final Resource resource) {
+        final var content = contentOf(name);
+        try {
+            final var temp = temporaryFile();
+            try (final var channel = FileChannel.open(temp, CREATE_NEW, WRITE)) {
+                final var buffer = ByteBuffer.wrap(resource.content());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            // the content goes first: a failure in between leaves stale metadata, never metadata without content
+            commit(temp, content);
+            writeMetadata(name, resource.checksum(), resource.contentType(), resource.name());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String compose(final String name, final List<String> sources, final String contentType) {
+        final var content = contentOf(name);
+        try {
+            final var temp = temporaryFile();
+            try (final var target = FileChannel.open(temp, CREATE_NEW, WRITE)) {
+                for (final var source : sources) {
+                    transfer(contentOf(source), target);
+                }
+                target.force(false);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            final var checksum = checksumOf(temp);
+            commit(temp, content);
+            writeMetadata(name, checksum, contentType, name);
+            return checksum;
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("Source %s was not found".formatted(nameOf(Path.of(e.getFile()))), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] read(final FileChannel channel) throws IOException {
+        final var size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Resource is too large to be read in memory");
+        }
+        final var bytes = new byte[(int) size];
+        final var buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        return bytes;
+    }
+
+    private void transfer(final Path aSource, final FileChannel target) throws IOException {
+        try (final var source = FileChannel.open(aSource, READ)) {
+            final var size = source.size();
+            var position = 0L;
+            while (position < size) {
+                position += source.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    private String checksumOf(final Path aPath) throws IOException {
+        try (final var channel = FileChannel.open(aPath, READ)) {
+            return HashingUtils.checksum(channel);
+        }
+    }
+
+    private Path temporaryFile() throws IOException {
+        Files.createDirectories(this.temporary);
+        return this.temporary.resolve(UUID.randomUUID().toString());
+    }
+
+    private void commit(final Path temp, final Path target) throws IOException {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    private Stream<Path> candidatesOf(final String prefix) throws IOException {
+        final var aPath = contentOf(prefix);
+        if (prefix.isEmpty() || prefix.endsWith("/")) {
+            return Files.isDirectory(aPath) ? Stream.of(aPath) : Stream.empty();
+        }
+        final var parent = aPath.getParent();
+        if (!Files.isDirectory(parent)) {
+            return Stream.empty();
+        }
+        final var segment = aPath.getFileName().toString();
+        return Files.list(parent).filter(it -> it.getFileName().toString().startsWith(segment));
+    }
+
+    private Stream<Path> walk(final Path aPath) {
+        try {
+            return Files.walk(aPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path contentOf(final String name) {
+        final var aPath = this.root.resolve(name).normalize();
+        if (!aPath.startsWith(this.root) || aPath.startsWith(this.metadata) || aPath.startsWith(this.temporary)) {
+            throw new IllegalArgumentException("Invalid name %s".formatted(name));
+        }
+        return aPath;
+    }
+
+    private Path metadataOf(final String name) {
+        return this.metadata.resolve(name + ".properties").normalize();
+    }
+
+    private String nameOf(final Path aPath) {
+        return this.root.relativize(aPath).toString().replace('\\', '/');
+    }
+
+    private Properties readMetadata(final String name) throws IOException {
+        final var props = new Properties();
+        final var aPath = metadataOf(name);
+        if (Files.exists(aPath)) {
+            props.load(new StringReader(Files.readString(aPath, StandardCharsets.UTF_8)));
+        }
+        return props;
+    }
+
+    private void writeMetadata(
+            final String name,
+            final String checksum,
+            final String contentType,
+            final String originalName) throws IOException {
+        final var props = new Properties();
+        props.setProperty(CHECKSUM, checksum);
+        props.setProperty(CONTENT_TYPE, contentType);
+        props.setProperty(NAME, originalName);
+        final var writer = new StringWriter();
+        props.store(writer, null);
+        final var temp = temporaryFile();
+        try {
+            Files.writeString(temp, writer.toString(), StandardCharsets.UTF_8, CREATE_NEW, WRITE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        commit(temp, metadataOf(name));
+    }
+}
@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.SignedStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class HmacSignedStorageService implements SignedStorageService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final String baseUrl;
+    private final byte[] secret;
+    private final StorageService storageService;
+
+    public HmacSignedStorageService(
+            final String baseUrl,
+            final String secret,
+            final StorageService storageService) {
+        this.baseUrl = Objects.requireNonNull(baseUrl);
+        this.secret = Objects.requireNonNull(secret).getBytes(StandardCharsets.UTF_8);
+        this.storageService = Objects.requireNonNull(storageService);
+    }
+
+    @Override
+    public String signUpload(final String name, final String contentType, final Instant expiresAt) {
+        return url(name, "PUT", contentType, expiresAt.getEpochSecond());
+    }
+
+    @Override
+    public String signDownload(final String name, final Instant expiresAt) {
+        return url(name, "GET", "", expiresAt.getEpochSecond());
+    }
+
+    @Override
+    public Optional<String> checksumOf(final String name) {
+        return this.storageService.get(name).map(Resource::checksum);
+    }
+
+    @Override
+    public boolean promote(final String source, final String target, final String expectedChecksum) {
+        // the checksum is checked on the very copy that is stored, not on an earlier read
+        final var aResource = this.storageService.get(source)
+                .filter(it -> Objects.equals(expectedChecksum, it.checksum()));
+        if (aResource.isEmpty()) {
+            return false;
+        }
+        this.storageService.store(target, Resource.with(
+                aResource.get().checksum(),
+                aResource.get().content(),
+                aResource.get().contentType(),
+                target));
+        this.storageService.deleteAll(List.of(source));
+        return true;
+    }
+
+    public boolean verify(
+            final String method,
+            final String name,
+            final String contentType,
+            final long expires,
+            final String signature) {
+        if (signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        final var expected = sign(method, name, contentType == null ? "" : contentType, expires);
+        return MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8),
+                signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String url(final String name, final String method, final String contentType, final long expires) {
+        final var url = new StringBuilder(baseUrl)
+                .append("/storage/")
+                .append(name)
+                .append("?expires=").append(expires);
+        if (!contentType.isEmpty()) {
+            url.append("&content_type=").append(URLEncoder.encode(contentType, StandardCharsets.UTF_8));
+        }
+        return url.append("&signature=")
+                .append(sign(method, name, contentType, expires))
+                .toString();
+    }
+
+    private String sign(final String method, final String name, final String contentType, final long expires) {
+        final var payload = String.join("\n", method, name, contentType, String.valueOf(expires));
+        try {
+            final var mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,34 +2,94 @@ package com.fullcycle.admin.catalogo.infrastructure.services.local;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
-public class InMemoryStorageService implements StorageService {
+public class InMemoryStorageService implements StorageService, AutoCloseable {
 
+    private static final Logger log = LoggerFactory.getLogger(InMemoryStorageService.class);
+
+    private static final long UNBOUNDED = 0;
+
+    private final ConcurrentNavigableMap<String, StoredEntry> entries;
     private final Map<String, Resource> storage;
+    private final AtomicLong memoryUsed;
+    private final long maxMemory;
+    private final Path spillDirectory;
 
     public InMemoryStorageService() {
-        this.storage = new ConcurrentHashMap<>();
+        this(UNBOUNDED, null);
+    }
+
+    public InMemoryStorageService(final long maxMemory, final Path spillDirectory) {
+        this.entries = new ConcurrentSkipListMap<>();
+        this.storage = new StorageView();
+        this.memoryUsed = new AtomicLong();
+        this.maxMemory = Math.max(UNBOUNDED, maxMemory);
+        this.spillDirectory = spillDirectory;
     }
 
     public Map<String, Resource> storage() {
         return this.storage;
     }
 
+    public long memoryUsed() {
+        return this.memoryUsed.get();
+    }
+
     public void reset() {
-        this.storage.clear();
+        final var failures = new ArrayList<UncheckedIOException>();
+        this.entries.keySet().forEach(name -> {
+            try {
+                remove(name);
+            } catch (UncheckedIOException e) {
+                failures.add(e);
+            }
+        });
+        if (!failures.isEmpty()) {
+            final var error = new UncheckedIOException("Could not delete %d spilled files".formatted(failures.size()),
+                    failures.get(0).getCause());
+            failures.stream().skip(1).forEach(error::addSuppressed);
+            throw error;
+        }
+    }
+
+    @Override
+    public void close() {
+        reset();
     }
 
     @Override
-    public void deleteAll(final Collection<String> names) {
-        names.forEach(this.storage::remove);
+    public List<String> deleteAll(final Collection<String> names) {
+        final var failed = new ArrayList<String>();
+        names.forEach(name -> {
+            try {
+                remove(name);
+            } catch (UncheckedIOException e) {
+                log.warn("[message:storage.delete] [status:failed] [name:{}] [error:{}]", name, e.getCause().toString());
+                failed.add(name);
+            }
+        });
+        return failed;
     }
 
     @Override
     public Optional<Resource> get(final String name) {
-        return Optional.ofNullable(this.storage.get(name));
+        return Optional.ofNullable(name)
+                .map(this.entries::get)
+                .map(StoredEntry::load);
     }
 
     @Override
@@ -37,13 +97,203 @@ public class InMemoryStorageService implements StorageService {
         if (prefix == null) {
             return Collections.emptyList();
         }
-        return this.storage.keySet().stream()
-                .filter(it -> it.startsWith(prefix))
-                .toList();
+        try (final var names = stream(prefix)) {
+            return names.toList();
+        }
+    }
+
+    @Override
+    public Stream<String> stream(final String prefix) {
+        if (prefix == null) {
+            return Stream.empty();
+        }
+        return this.entries.tailMap(prefix, true).keySet().stream()
+                .takeWhile(name -> name.startsWith(prefix));
     }
 
     @Override
     public void store(final String name, final Resource resource) {
-        this.storage.put(name, resource);
+        put(name, resource);
+    }
+
+    @Override
+    public String compose(final String name, final List<String> sources, final String contentType) {
+        final var content = new ByteArrayOutputStream();
+        sources.forEach(source -> content.writeBytes(get(source)
+                .orElseThrow(() -> new IllegalArgumentException("Source %s was not found".formatted(source)))
+                .content()));
+        final var bytes = content.toByteArray();
+        final var checksum = HashingUtils.checksum(bytes);
+        put(name, Resource.with(checksum, bytes, contentType, name));
+        return checksum;
+    }
+
+    private void put(final String name, final Resource resource) {
+        release(this.entries.put(name, entryOf(resource)));
+    }
+
+    private void remove(final Object name) {
+        release(this.entries.remove(name));
+    }
+
+    private static Resource loadOf(final StoredEntry anEntry) {
+        return anEntry == null ? null : anEntry.load();
+    }
+
+    private StoredEntry entryOf(final Resource resource) {
+        final var size = resource.content().length;
+        if (this.maxMemory == UNBOUNDED || reserve(size)) {
+            return new InHeap(resource);
+        }
+        return spill(resource);
+    }
+
+    private boolean reserve(final long size) {
+        while (true) {
+            final var used = this.memoryUsed.get();
+            if (used + size > this.maxMemory) {
+                return false;
+            }
+            if (this.memoryUsed.compareAndSet(used, used + size)) {
+                return true;
+            }
+        }
+    }
+
+    private void release(final StoredEntry anEntry) {
+        if (anEntry == null) {
+            return;
+        }
+        if (anEntry instanceof InHeap inHeap) {
+            if (this.maxMemory != UNBOUNDED) {
+                this.memoryUsed.addAndGet(-inHeap.resource().content().length);
+            }
+        } else if (anEntry instanceof Spilled spilled) {
+            try {
+                Files.deleteIfExists(spilled.file());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private Spilled spill(final Resource resource) {
+        try {
+            final var file = this.spillDirectory == null
+                    ? Files.createTempFile("catalogo-videos-", ".bin")
+                    : Files.createTempFile(Files.createDirectories(this.spillDirectory), "catalogo-videos-", ".bin");
+            try {
+                Files.write(file, resource.content());
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            return new Spilled(resource.checksum(), resource.contentType(), resource.name(), file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private sealed interface StoredEntry permits InHeap, Spilled {
+
+        Resource load();
+    }
+
+    private record InHeap(Resource resource) implements StoredEntry {
+
+        @Override
+        public Resource load() {
+            return resource;
+        }
+    }
+
+    private record Spilled(String checksum, String contentType, String name, Path file) implements StoredEntry {
+
+        @Override
+        public Resource load() {
+            try {
+                return Resource.with(checksum, Files.readAllBytes(file), contentType, name);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private class StorageView extends AbstractMap<String, Resource> {
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return entries.containsKey(key);
+        }
+
+        @Override
+        public Resource get(final Object key) {
+            return loadOf(entries.get(key));
+        }
+
+        @Override
+        public Resource put(final String key, final Resource value) {
+            final var previous = entries.put(key, entryOf(value));
+            final var aResource = loadOf(previous);
+            release(previous);
+            return aResource;
+        }
+
+        @Override
+        public Resource remove(final Object key) {
+            final var previous = entries.remove(key);
+            final var aResource = loadOf(previous);
+            release(previous);
+            return aResource;
+        }
+
+        @Override
+        public void clear() {
+            reset();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return Collections.unmodifiableSet(entries.keySet());
+        }
+
+        @Override
+        public Set<Map.Entry<String, Resource>> entrySet() {
+            return new AbstractSet<>() {
+
+                @Override
+                public Iterator<Map.Entry<String, Resource>> iterator() {
+                    final var iterator = entries.entrySet().iterator();
+                    return new Iterator<>() {
+
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<String, Resource> next() {
+                            final var next = iterator.next();
+                            return new SimpleImmutableEntry<>(next.getKey(), next.getValue().load());
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return entries.size();
+                }
+            };
+        }
     }
 }
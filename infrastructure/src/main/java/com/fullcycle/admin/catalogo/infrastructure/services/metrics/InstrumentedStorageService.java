@@ -0,0 +1,182 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.metrics;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import io.micrometer.core.instrument.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class InstrumentedStorageService implements StorageService {
+
+    private static final String OPERATION = "storage.operation";
+    private static final String OPERATION_ERRORS = "storage.operation.errors";
+    private static final String OPERATION_ACTIVE = "storage.operation.active";
+    private static final String BYTES = "storage.bytes";
+    private static final String UNKNOWN = "unknown";
+    private static final String MIXED = "mixed";
+
+    private final StorageService delegate;
+    private final MeterRegistry registry;
+    private final Pattern mediaTypePattern;
+    private final Map<String, AtomicInteger> active;
+
+    public InstrumentedStorageService(
+            final StorageService delegate,
+            final String filenamePattern,
+            final MeterRegistry registry
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.registry = Objects.requireNonNull(registry);
+        this.mediaTypePattern = Pattern.compile(Pattern.quote(Objects.requireNonNull(filenamePattern))
+                .replace("{type}", "\\E([A-Z_]+)\\Q"));
+        this.active = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public List<String> deleteAll(final Collection<String> names) {
+        return record("deleteAll", mediaTypeOf(names), () -> this.delegate.deleteAll(names));
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var mediaType = mediaTypeOf(name);
+        final var aResource = record("get", mediaType, () -> this.delegate.get(name));
+        aResource.ifPresent(it -> bytes("get", mediaType, it.content().length));
+        return aResource;
+    }
+
+    @Override
+    public Optional<String> versionOf(final String name) {
+        return record("versionOf", mediaTypeOf(name), () -> this.delegate.versionOf(name));
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        return record("list", mediaTypeOf(prefix), () -> this.delegate.list(prefix));
+    }
+
+    @Override
+    public Stream<String> stream(final String prefix) {
+        return recordStream("stream", mediaTypeOf(prefix), () -> this.delegate.stream(prefix));
+    }
+
+    @Override
+    public Stream<String> folders(final String prefix) {
+        return recordStream("folders", mediaTypeOf(prefix), () -> this.delegate.folders(prefix));
+    }
+
+    @Override
+    public void store(final String name, final Resource resource) {
+        final var mediaType = mediaTypeOf(name);
+        record("store", mediaType, () -> {
+            this.delegate.store(name, resource);
+            return null;
+        });
+        bytes("store", mediaType, resource.content().length);
+    }
+
+    @Override
+    public String compose(final String name, final List<String> sources, final String contentType) {
+        return record("compose", mediaTypeOf(name), () -> this.delegate.compose(name, sources, contentType));
+    }
+
+    private Stream<String> recordStream(
+            final String operation,
+            final String mediaType,
+            final Supplier<Stream<String>> aCall
+    ) {
+        final var inFlight = activeOf(operation);
+        final var sample = Timer.start(this.registry);
+        inFlight.incrementAndGet();
+        try {
+            return aCall.get()
+                    .onClose(() -> {
+                        inFlight.decrementAndGet();
+                        sample.stop(timer(operation, mediaType, "success"));
+                    });
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            sample.stop(timer(operation, mediaType, "error"));
+            error(operation, mediaType, e);
+            throw e;
+        }
+    }
+
+    private <T> T record(final String operation, final String mediaType, final Supplier<T> aCall) {
+        final var inFlight = activeOf(operation);
+        final var sample = Timer.start(this.registry);
+        var outcome = "success";
+        inFlight.incrementAndGet();
+        try {
+            return aCall.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            error(operation, mediaType, e);
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+            sample.stop(timer(operation, mediaType, outcome));
+        }
+    }
+
+    private Timer timer(final String operation, final String mediaType, final String outcome) {
+        return Timer.builder(OPERATION)
+                .tag("operation", operation)
+                .tag("media_type", mediaType)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(this.registry);
+    }
+
+    private void error(final String operation, final String mediaType, final RuntimeException e) {
+        Counter.builder(OPERATION_ERRORS)
+                .tag("operation", operation)
+                .tag("media_type", mediaType)
+                .tag("exception", e.getClass().getSimpleName())
+                .register(this.registry)
+                .increment();
+    }
+
+    private void bytes(final String operation, final String mediaType, final long size) {
+        DistributionSummary.builder(BYTES)
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .tag("media_type", mediaType)
+                .register(this.registry)
+                .record(size);
+    }
+
+    private AtomicInteger activeOf(final String operation) {
+        return this.active.computeIfAbsent(operation, key -> {
+            final var inFlight = new AtomicInteger();
+            Gauge.builder(OPERATION_ACTIVE, inFlight, AtomicInteger::get)
+                    .tag("operation", key)
+                    .register(this.registry);
+            return inFlight;
+        });
+    }
+
+    private String mediaTypeOf(final Collection<String> names) {
+        final var types = names.stream()
+                .map(this::mediaTypeOf)
+                .collect(Collectors.toSet());
+        if (types.isEmpty()) {
+            return UNKNOWN;
+        }
+        return types.size() == 1 ? types.iterator().next() : MIXED;
+    }
+
+    private String mediaTypeOf(final String name) {
+        if (name == null) {
+            return UNKNOWN;
+        }
+        final var matcher = this.mediaTypePattern.matcher(name);
+        return matcher.find() ? matcher.group(1) : UNKNOWN;
+    }
+}
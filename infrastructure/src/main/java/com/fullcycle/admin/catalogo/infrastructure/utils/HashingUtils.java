@@ -1,11 +1,24 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 public final class HashingUtils {
 
     private static final HashFunction CHECKSUM = Hashing.crc32c();
+    private static final HashFunction FINGERPRINT = Hashing.sha256();
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CHECKSUM_BYTES = 4;
+    private static final Pattern CHECKSUM_HEX = Pattern.compile("[0-9a-fA-F]{8}");
 
     private HashingUtils() {
     }
@@ -13,4 +26,63 @@ public final class HashingUtils {
     public static String checksum(final byte[] content) {
         return CHECKSUM.hashBytes(content).toString();
     }
+
+    public static String checksum(final ReadableByteChannel aChannel) throws IOException {
+        final var hasher = CHECKSUM.newHasher();
+        final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        while (aChannel.read(buffer) >= 0) {
+            buffer.flip();
+            hasher.putBytes(buffer);
+            buffer.clear();
+        }
+        return hasher.hash().toString();
+    }
+
+    // checksums are the little-endian hex of HashCode#toString, while object stores such as GCS
+    // report the crc32c as a big-endian integer, so the byte order is swapped at that boundary
+    public static String checksumFromBigEndian(final String aHex) {
+        return reverseBytes(aHex);
+    }
+
+    public static String checksumToBigEndian(final String aChecksum) {
+        return reverseBytes(aChecksum);
+    }
+
+    // clients send the crc32c the way every other tool prints it: big-endian, either as 8 hex
+    // digits or base64 encoded like the GCS x-goog-hash header
+    public static Optional<String> checksumFromClient(final String aChecksum) {
+        if (aChecksum == null) {
+            return Optional.empty();
+        }
+        final var aValue = aChecksum.trim();
+        if (CHECKSUM_HEX.matcher(aValue).matches()) {
+            return Optional.of(checksumFromBigEndian(aValue.toLowerCase()));
+        }
+        try {
+            final var bytes = Base64.getDecoder().decode(aValue);
+            return bytes.length == CHECKSUM_BYTES
+                    ? Optional.of(checksumFromBigEndian(HashCode.fromBytes(bytes).toString()))
+                    : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String reverseBytes(final String aHex) {
+        final var bytes = HashCode.fromString(aHex).asBytes();
+        for (int i = 0, j = bytes.length - 1; i < j; i++, j--) {
+            final var aByte = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = aByte;
+        }
+        return HashCode.fromBytes(bytes).toString();
+    }
+
+    public static String fingerprint(final String content) {
+        return FINGERPRINT.hashString(content, StandardCharsets.UTF_8).toString();
+    }
+
+    public static String fingerprint(final byte[] content) {
+        return FINGERPRINT.hashBytes(content).toString();
+    }
 }
@@ -9,6 +9,10 @@ public final class SqlUtils {
         return "%" + term + "%";
     }
 
+    public static String startsWith(final String term) {
+        return term + "%";
+    }
+
     public static String upper(final String term) {
         return term.toUpperCase();
     }
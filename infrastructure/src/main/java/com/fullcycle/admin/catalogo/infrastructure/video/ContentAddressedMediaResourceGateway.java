@@ -0,0 +1,175 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobReferenceID;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobReferenceJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobReferenceRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Primary
+@Component
+@ConditionalOnProperty(name = "storage.catalogo-videos.content-addressed", havingValue = "true")
+public class ContentAddressedMediaResourceGateway implements MediaResourceGateway {
+
+    private final String blobPattern;
+    private final String filenamePattern;
+    private final String locationPattern;
+    private final StorageService storageService;
+    private final MediaBlobRepository mediaBlobRepository;
+    private final MediaBlobReferenceRepository mediaBlobReferenceRepository;
+    private final DefaultMediaResourceGateway delegate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ContentAddressedMediaResourceGateway(
+            final StorageProperties props,
+            final StorageService storageService,
+            final MediaBlobRepository mediaBlobRepository,
+            final MediaBlobReferenceRepository mediaBlobReferenceRepository,
+            final DefaultMediaResourceGateway delegate,
+            final PlatformTransactionManager transactionManager
+    ) {
+        this.blobPattern = Objects.requireNonNull(props.getBlobPattern());
+        this.filenamePattern = Objects.requireNonNull(props.getFilenamePattern());
+        this.locationPattern = Objects.requireNonNull(props.getLocationPattern());
+        this.storageService = Objects.requireNonNull(storageService);
+        this.mediaBlobRepository = Objects.requireNonNull(mediaBlobRepository);
+        this.mediaBlobReferenceRepository = Objects.requireNonNull(mediaBlobReferenceRepository);
+        this.delegate = Objects.requireNonNull(delegate);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+    }
+
+    @Override
+    public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource aVideoResource) {
+        final var aResource = aVideoResource.resource();
+        final var blobLocation = acquire(anId, aVideoResource.type(), aResource);
+        final var filepath = filepath(anId, aVideoResource.type());
+        this.storageService.compose(filepath, List.of(blobLocation), aResource.contentType());
+        return AudioVideoMedia.with(aResource.checksum(), aResource.name(), filepath);
+    }
+
+    @Override
+    public ImageMedia storeImage(final VideoID anId, final VideoResource aVideoResource) {
+        final var aResource = aVideoResource.resource();
+        final var blobLocation = acquire(anId, aVideoResource.type(), aResource);
+        return ImageMedia.with(aResource.checksum(), aResource.name(), blobLocation);
+    }
+
+    @Override
+    public Optional<Resource> getResource(final VideoID anId, final VideoMediaType aType) {
+        final var aReference = this.mediaBlobReferenceRepository
+                .findById(MediaBlobReferenceID.from(anId.getValue(), aType));
+        if (aReference.isEmpty()) {
+            return this.delegate.getResource(anId, aType);
+        }
+        return this.mediaBlobRepository.findById(aReference.get().getBlobId())
+                .flatMap(aBlob -> this.storageService.get(aBlob.getLocation()));
+    }
+
+    @Override
+    public void clearResources(final VideoID anId) {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            final var references = this.mediaBlobReferenceRepository.findAllByIdVideoId(anId.getValue());
+            this.mediaBlobReferenceRepository.deleteAll(references);
+            references.forEach(aReference -> release(aReference.getBlobId()));
+        });
+        this.delegate.clearResources(anId);
+    }
+
+    @Override
+    public void storeChunk(final MediaUpload anUpload, final MediaChunk aChunk, final Resource aResource) {
+        this.delegate.storeChunk(anUpload, aChunk, aResource);
+    }
+
+    @Override
+    public AudioVideoMedia composeAudioVideo(final MediaUpload anUpload) {
+        final var aMedia = this.delegate.composeAudioVideo(anUpload);
+        detach(anUpload.getVideoId(), anUpload.getType());
+        return aMedia;
+    }
+
+    @Override
+    public ImageMedia composeImage(final MediaUpload anUpload) {
+        final var aMedia = this.delegate.composeImage(anUpload);
+        detach(anUpload.getVideoId(), anUpload.getType());
+        return aMedia;
+    }
+
+    @Override
+    public void clearChunks(final MediaUpload anUpload) {
+        this.delegate.clearChunks(anUpload);
+    }
+
+    private String acquire(final VideoID anId, final VideoMediaType aType, final Resource aResource) {
+        final var size = aResource.content().length;
+        // the crc32c checksum catches corruption but collides too easily to tell two contents apart
+        final var digest = HashingUtils.fingerprint(aResource.content());
+        final var blobId = blobId(digest, size);
+        final var blobLocation = blobPattern
+                .replace("{digest}", digest)
+                .replace("{size}", String.valueOf(size));
+
+        final var referenceId = MediaBlobReferenceID.from(anId.getValue(), aType);
+        return this.transactionTemplate.execute(status -> {
+            final var previous = this.mediaBlobReferenceRepository.findById(referenceId)
+                    .map(MediaBlobReferenceJpaEntity::getBlobId);
+
+            if (previous.filter(blobId::equals).isPresent()) {
+                return blobLocation;
+            }
+
+            this.mediaBlobRepository.acquire(blobId, aResource.checksum(), size, blobLocation, Instant.now());
+            final var aBlob = this.mediaBlobRepository.findById(blobId).orElseThrow();
+            if (aBlob.getRefCount() == 1 || this.storageService.versionOf(aBlob.getLocation()).isEmpty()) {
+                this.storageService.store(aBlob.getLocation(), aResource);
+            }
+
+            this.mediaBlobReferenceRepository.save(MediaBlobReferenceJpaEntity.with(referenceId, blobId));
+            previous.ifPresent(this::release);
+            return aBlob.getLocation();
+        });
+    }
+
+    private void detach(final VideoID anId, final VideoMediaType aType) {
+        final var referenceId = MediaBlobReferenceID.from(anId.getValue(), aType);
+        this.transactionTemplate.executeWithoutResult(status ->
+                this.mediaBlobReferenceRepository.findById(referenceId).ifPresent(aReference -> {
+                    this.mediaBlobReferenceRepository.delete(aReference);
+                    release(aReference.getBlobId());
+                }));
+    }
+
+    // runs in the caller's transaction: the row lock of the conditional delete holds back a concurrent
+    // acquire of the same blob until the object is gone, and that acquire then sees ref_count 1 and stores it again
+    private void release(final String aBlobId) {
+        this.mediaBlobRepository.release(aBlobId);
+        this.mediaBlobRepository.findById(aBlobId).ifPresent(aBlob -> {
+            if (this.mediaBlobRepository.deleteUnreferenced(aBlobId) == 1) {
+                this.storageService.deleteAll(List.of(aBlob.getLocation()));
+            }
+        });
+    }
+
+    private String blobId(final String aDigest, final long aSize) {
+        return aDigest.concat("-").concat(String.valueOf(aSize));
+    }
+
+    private String filepath(final VideoID anId, final VideoMediaType aType) {
+        return locationPattern.replace("{videoId}", anId.getValue())
+                .concat("/")
+                .concat(filenamePattern.replace("{type}", aType.name()));
+    }
+}
@@ -0,0 +1,147 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.application.video.media.ingest.IngestMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.ingest.IngestMediaUseCase;
+import com.fullcycle.admin.catalogo.domain.exceptions.UnavailableException;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.MediaIngestionGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.MediaIngestionExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class DefaultMediaIngestionGateway implements MediaIngestionGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(DefaultMediaIngestionGateway.class);
+
+    // the caller only persists the video and its uploads before starting, which never takes this long
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(1);
+
+    private final IngestMediaUseCase ingestMediaUseCase;
+    private final Executor executor;
+
+    public DefaultMediaIngestionGateway(
+            final IngestMediaUseCase ingestMediaUseCase,
+            @MediaIngestionExecutor final Executor executor) {
+        this.ingestMediaUseCase = Objects.requireNonNull(ingestMediaUseCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public Ingestion submit(final VideoID anId, final List<VideoResource> resources) {
+        final var spools = spool(resources);
+        final var anIngestion = new PendingIngestion(new CompletableFuture<>());
+        try {
+            this.executor.execute(() -> push(anId, spools, anIngestion));
+        } catch (RejectedExecutionException e) {
+            spools.forEach(Spool::delete);
+            log.warn("[message:video.ingestion] [status:rejected] [videoId:{}]", anId.getValue());
+            throw UnavailableException.with("Media ingestion is saturated, try again later", e);
+        }
+        return anIngestion;
+    }
+
+    private void push(final VideoID anId, final List<Spool> spools, final PendingIngestion anIngestion) {
+        try {
+            if (!anIngestion.awaitStart()) {
+                log.info("[message:video.ingestion] [status:cancelled] [videoId:{}]", anId.getValue());
+                return;
+            }
+            // one media at a time, so a worker never holds more than one of them in heap
+            for (final var aSpool : spools) {
+                this.ingestMediaUseCase.execute(IngestMediaCommand.with(anId.getValue(), List.of(aSpool.read())));
+            }
+            log.info("[message:video.ingestion] [status:completed] [videoId:{}]", anId.getValue());
+        } catch (Exception e) {
+            log.error("[message:video.ingestion] [status:error] [videoId:{}]", anId.getValue(), e);
+        } finally {
+            spools.forEach(Spool::delete);
+        }
+    }
+
+    private List<Spool> spool(final List<VideoResource> resources) {
+        final var spools = new ArrayList<Spool>();
+        try {
+            for (final var aVideoResource : resources) {
+                final var aResource = aVideoResource.resource();
+                final var aPath = Files.createTempFile("ingestion-", "-" + aVideoResource.type().name());
+                spools.add(new Spool(aPath, aVideoResource.type(), aResource.checksum(),
+                        aResource.contentType(), aResource.name()));
+                Files.write(aPath, aResource.content());
+            }
+            return spools;
+        } catch (IOException e) {
+            spools.forEach(Spool::delete);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record PendingIngestion(CompletableFuture<Boolean> started) implements Ingestion {
+
+        @Override
+        public void start() {
+            this.started.complete(true);
+        }
+
+        @Override
+        public void cancel() {
+            this.started.complete(false);
+        }
+
+        boolean awaitStart() {
+            try {
+                return this.started.get(START_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException | TimeoutException e) {
+                return false;
+            }
+        }
+    }
+
+    private record Spool(
+            Path path,
+            VideoMediaType type,
+            String checksum,
+            String contentType,
+            String name
+    ) {
+
+        VideoResource read() {
+            try {
+                return VideoResource.with(
+                        Resource.with(checksum, Files.readAllBytes(path), contentType, name), type);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void delete() {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("[message:video.ingestion] [status:spool-leak] [path:{}]", path, e);
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.stor
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -14,14 +15,19 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
     private final String filenamePattern;
     private final String locationPattern;
+    private final String chunkPattern;
     private final StorageService storageService;
+    private final MediaResourceCleaner mediaResourceCleaner;
 
     public DefaultMediaResourceGateway(
             final StorageProperties props,
-            final StorageService storageService) {
+            final StorageService storageService,
+            final MediaResourceCleaner mediaResourceCleaner) {
         this.filenamePattern = Objects.requireNonNull(props.getFilenamePattern());
         this.locationPattern = Objects.requireNonNull(props.getLocationPattern());
+        this.chunkPattern = Objects.requireNonNull(props.getChunkPattern());
         this.storageService = Objects.requireNonNull(storageService);
+        this.mediaResourceCleaner = Objects.requireNonNull(mediaResourceCleaner);
     }
 
     @Override
@@ -42,8 +48,7 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
     @Override
     public void clearResources(final VideoID anId) {
-        final var ids = this.storageService.list(folder(anId));
-        this.storageService.deleteAll(ids);
+        this.mediaResourceCleaner.clear(folder(anId).concat("/"));
     }
 
     @Override
@@ -51,6 +56,30 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
         return this.storageService.get(filepath(anId, aType));
     }
 
+    @Override
+    public void storeChunk(final MediaUpload anUpload, final MediaChunk aChunk, final Resource aResource) {
+        store(chunkpath(anUpload, String.valueOf(aChunk.number())), aResource);
+    }
+
+    @Override
+    public AudioVideoMedia composeAudioVideo(final MediaUpload anUpload) {
+        final var filepath = filepath(anUpload.getVideoId(), anUpload.getType());
+        final var checksum = compose(filepath, anUpload);
+        return AudioVideoMedia.with(checksum, anUpload.getName(), filepath);
+    }
+
+    @Override
+    public ImageMedia composeImage(final MediaUpload anUpload) {
+        final var filepath = filepath(anUpload.getVideoId(), anUpload.getType());
+        final var checksum = compose(filepath, anUpload);
+        return ImageMedia.with(checksum, anUpload.getName(), filepath);
+    }
+
+    @Override
+    public void clearChunks(final MediaUpload anUpload) {
+        this.mediaResourceCleaner.clear(chunkpath(anUpload, ""));
+    }
+
     private String filename(final VideoMediaType aType) {
         return filenamePattern.replace("{type}", aType.name());
     }
@@ -65,6 +94,21 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
                 .concat(filename(aType));
     }
 
+    private String chunkpath(final MediaUpload anUpload, final String aNumber) {
+        return folder(anUpload.getVideoId())
+                .concat("/")
+                .concat(chunkPattern
+                        .replace("{uploadId}", anUpload.getId().getValue())
+                        .replace("{number}", aNumber));
+    }
+
+    private String compose(final String filepath, final MediaUpload anUpload) {
+        final List<String> sources = anUpload.getChunks().stream()
+                .map(aChunk -> chunkpath(anUpload, String.valueOf(aChunk.number())))
+                .toList();
+        return this.storageService.compose(filepath, sources, anUpload.getContentType());
+    }
+
     private void store(final String filepath, final Resource aResource) {
         this.storageService.store(filepath, aResource);
     }
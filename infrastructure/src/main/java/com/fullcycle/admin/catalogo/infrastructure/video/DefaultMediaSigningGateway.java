@@ -0,0 +1,86 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaSigningGateway;
+import com.fullcycle.admin.catalogo.domain.video.SignedMediaUrl;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.SignedUrlProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.SignedStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class DefaultMediaSigningGateway implements MediaSigningGateway {
+
+    static final String STAGING_PREFIX = "staging/";
+
+    private final String filenamePattern;
+    private final String locationPattern;
+    private final Duration ttl;
+    private final SignedStorageService signedStorageService;
+
+    public DefaultMediaSigningGateway(
+            final StorageProperties props,
+            final SignedUrlProperties signedUrlProps,
+            final SignedStorageService signedStorageService) {
+        this.filenamePattern = Objects.requireNonNull(props.getFilenamePattern());
+        this.locationPattern = Objects.requireNonNull(props.getLocationPattern());
+        this.ttl = Objects.requireNonNull(signedUrlProps.getTtl());
+        this.signedStorageService = Objects.requireNonNull(signedStorageService);
+    }
+
+    @Override
+    public SignedMediaUrl signUpload(final VideoID anId, final VideoMediaType aType, final String aContentType) {
+        final var aLocation = stagingLocation(anId, aType);
+        final var expiresAt = expiresAt();
+        final var anUrl = this.signedStorageService.signUpload(aLocation, aContentType, expiresAt);
+        return SignedMediaUrl.with(anUrl, "PUT", aLocation, expiresAt);
+    }
+
+    @Override
+    public SignedMediaUrl signDownload(final String aLocation) {
+        final var expiresAt = expiresAt();
+        final var anUrl = this.signedStorageService.signDownload(aLocation, expiresAt);
+        return SignedMediaUrl.with(anUrl, "GET", aLocation, expiresAt);
+    }
+
+    @Override
+    public String uploadLocation(final VideoID anId, final VideoMediaType aType) {
+        return locationPattern.replace("{videoId}", anId.getValue())
+                .concat("/")
+                .concat(filenamePattern.replace("{type}", aType.name()));
+    }
+
+    @Override
+    public String stagingLocation(final VideoID anId, final VideoMediaType aType) {
+        return STAGING_PREFIX.concat(uploadLocation(anId, aType));
+    }
+
+    @Override
+    public Optional<String> promote(final VideoID anId, final VideoMediaType aType, final String aChecksum) {
+        final var aLocation = uploadLocation(anId, aType);
+        return this.signedStorageService.promote(stagingLocation(anId, aType), aLocation, aChecksum)
+                ? Optional.of(aLocation)
+                : Optional.empty();
+    }
+
+    @Override
+    public Optional<String> checksumOf(final String aLocation) {
+        return this.signedStorageService.checksumOf(aLocation);
+    }
+
+    @Override
+    public Optional<String> normalizeChecksum(final String aChecksum) {
+        return HashingUtils.checksumFromClient(aChecksum);
+    }
+
+    private Instant expiresAt() {
+        return Instant.now().plus(ttl);
+    }
+}
@@ -0,0 +1,69 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaUpload;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadID;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaUploadJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaUploadRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class DefaultMediaUploadGateway implements MediaUploadGateway {
+
+    private final MediaUploadRepository mediaUploadRepository;
+
+    public DefaultMediaUploadGateway(final MediaUploadRepository mediaUploadRepository) {
+        this.mediaUploadRepository = Objects.requireNonNull(mediaUploadRepository);
+    }
+
+    @Transactional
+    @Override
+    public MediaUpload create(final MediaUpload anUpload) {
+        return this.save(anUpload);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<MediaUpload> findById(final MediaUploadID anId) {
+        return this.mediaUploadRepository.findById(anId.getValue())
+                .map(MediaUploadJpaEntity::toAggregate);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<MediaUpload> findByVideoId(final VideoID anId) {
+        return this.mediaUploadRepository.findAllByVideoId(anId.getValue()).stream()
+                .map(MediaUploadJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Transactional
+    @Override
+    public MediaUpload update(final MediaUpload anUpload) {
+        return this.mediaUploadRepository.findById(anUpload.getId().getValue())
+                .map(anEntity -> anEntity.merge(anUpload))
+                .map(this.mediaUploadRepository::saveAndFlush)
+                .map(MediaUploadJpaEntity::toAggregate)
+                .orElseGet(() -> this.save(anUpload));
+    }
+
+    @Transactional
+    @Override
+    public void deleteById(final MediaUploadID anId) {
+        final var anUploadId = anId.getValue();
+        if (this.mediaUploadRepository.existsById(anUploadId)) {
+            this.mediaUploadRepository.deleteById(anUploadId);
+        }
+    }
+
+    private MediaUpload save(final MediaUpload anUpload) {
+        return this.mediaUploadRepository.save(MediaUploadJpaEntity.from(anUpload))
+                .toAggregate();
+    }
+}
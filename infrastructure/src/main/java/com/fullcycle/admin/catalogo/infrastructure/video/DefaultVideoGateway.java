@@ -1,34 +1,49 @@
 package com.fullcycle.admin.catalogo.infrastructure.video;
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.AudioVideoMediaRepository;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRelation;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-
-import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.toStrings;
-import static com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils.like;
-import static com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils.upper;
+import java.util.Set;
+import java.util.stream.StreamSupport;
 
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
     private final EventService eventService;
     private final VideoRepository videoRepository;
+    private final VideoSearchRepository videoSearchRepository;
+    private final AudioVideoMediaRepository audioVideoMediaRepository;
 
     public DefaultVideoGateway(
             final @VideoCreatedQueue EventService eventService,
-            final VideoRepository videoRepository) {
+            final VideoRepository videoRepository,
+            final VideoSearchRepository videoSearchRepository,
+            final AudioVideoMediaRepository audioVideoMediaRepository) {
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.videoSearchRepository = Objects.requireNonNull(videoSearchRepository);
+        this.audioVideoMediaRepository = Objects.requireNonNull(audioVideoMediaRepository);
         this.eventService = Objects.requireNonNull(eventService);
     }
 
@@ -38,12 +53,14 @@ public class DefaultVideoGateway implements VideoGateway {
         return this.save(aVideo);
     }
 
+    @Transactional
     @Override
     public void deleteById(final VideoID anId) {
         final var aVideoId = anId.getValue();
         final var exists = this.videoRepository.existsById(aVideoId);
         if (exists) {
             this.videoRepository.deleteById(aVideoId);
+            this.videoSearchRepository.deleteAllByIds(List.of(aVideoId));
         }
     }
 
@@ -54,11 +71,51 @@ public class DefaultVideoGateway implements VideoGateway {
                 .map(VideoJpaEntity::toAggregate);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<Video> findAllById(final Iterable<VideoID> anIds) {
+        final var ids = StreamSupport.stream(anIds.spliterator(), false)
+                .map(VideoID::getValue)
+                .toList();
+        return this.videoRepository.findAllById(ids).stream()
+                .map(VideoJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Transactional
     @Override
     public Video update(final Video aVideo) {
-        return this.save(aVideo);
+        return this.saveVersioned(aVideo);
+    }
+
+    @Transactional
+    @Override
+    public List<Video> updateAll(final List<Video> aVideos) {
+        return aVideos.stream()
+                .map(this::saveVersioned)
+                .toList();
+    }
+
+    @Transactional
+    @Override
+    public boolean updateMediaStatus(
+            final VideoID anId,
+            final String aResourceId,
+            final MediaStatus aStatus,
+            final String anEncodedPath
+    ) {
+        final var aVideoId = anId.getValue();
+        final var updated = this.audioVideoMediaRepository
+                .updateStatus(aVideoId, aResourceId, aStatus, anEncodedPath) > 0;
+        if (updated) {
+            final var now = InstantUtils.now();
+            this.videoRepository.touch(aVideoId, now);
+            this.videoSearchRepository.touch(aVideoId, now);
+        }
+        return updated;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
         final var pageRequest = PageRequest.of(
@@ -66,13 +123,12 @@ public class DefaultVideoGateway implements VideoGateway {
                 aQuery.perPage(),
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
-        final var actualPage = this.videoRepository.findAll(
-                like(upper(aQuery.terms())),
-                toStrings(aQuery.castMembers(), Identifier::getValue),
-                toStrings(aQuery.categories(), Identifier::getValue),
-                toStrings(aQuery.genres(), Identifier::getValue),
-                pageRequest
-        );
+        final var specifications = Specification.where(filterTerms(aQuery.terms()))
+                .and(filterAnyOf(VideoSearchRelation.Type.CAST_MEMBER, aQuery.castMembers()))
+                .and(filterAnyOf(VideoSearchRelation.Type.CATEGORY, aQuery.categories()))
+                .and(filterAnyOf(VideoSearchRelation.Type.GENRE, aQuery.genres()));
+        final var actualPage = this.videoSearchRepository.findAll(specifications, pageRequest)
+                .map(VideoSearchJpaEntity::toPreview);
         return new Pagination<>(
                 actualPage.getNumber(),
                 actualPage.getSize(),
@@ -81,10 +137,54 @@ public class DefaultVideoGateway implements VideoGateway {
         );
     }
 
+    private Specification<VideoSearchJpaEntity> filterTerms(final String terms) {
+        return VideoSearchJpaEntity.termsOf(terms).stream()
+                .map(this::hasTermStartingWith)
+                .reduce(Specification::and)
+                .orElseGet(SpecificationUtils::oneEqualsOne);
+    }
+
+    private Specification<VideoSearchJpaEntity> hasTermStartingWith(final String aTerm) {
+        return (root, query, cb) -> {
+            final var subquery = query.subquery(Integer.class);
+            final var term = subquery.correlate(root).<VideoSearchJpaEntity, String>join("terms");
+            return cb.exists(subquery.select(cb.literal(1))
+                    .where(cb.like(term, SqlUtils.startsWith(aTerm))));
+        };
+    }
+
+    private Specification<VideoSearchJpaEntity> filterAnyOf(
+            final VideoSearchRelation.Type aType,
+            final Set<? extends Identifier> anIds
+    ) {
+        if (anIds == null || anIds.isEmpty()) {
+            return SpecificationUtils.oneEqualsOne();
+        }
+        final var relationIds = anIds.stream().map(Identifier::getValue).toList();
+        return (root, query, cb) -> {
+            final var subquery = query.subquery(Integer.class);
+            final var relation = subquery.correlate(root).<VideoSearchJpaEntity, VideoSearchRelation>join("relations");
+            return cb.exists(subquery.select(cb.literal(1))
+                    .where(
+                            cb.equal(relation.get("type"), aType),
+                            relation.get("relationId").in(relationIds)
+                    ));
+        };
+    }
+
+    private Video saveVersioned(final Video aVideo) {
+        try {
+            return this.save(aVideo);
+        } catch (OptimisticLockingFailureException e) {
+            throw ConflictException.with(Video.class, aVideo.getId());
+        }
+    }
+
     private Video save(final Video aVideo) {
-        final var result = this.videoRepository.save(VideoJpaEntity.from(aVideo))
+        final var result = this.videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo))
                 .toAggregate();
-        aVideo.publishDomainEvents(this.eventService::send);
+        this.videoSearchRepository.save(VideoSearchJpaEntity.from(result));
+        aVideo.publishDomainEvents(this.eventService::sendAsync);
         return result;
     }
 }
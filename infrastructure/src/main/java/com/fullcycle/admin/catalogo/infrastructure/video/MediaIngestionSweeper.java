@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadStatus;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaUploadRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+@Component
+@ConditionalOnProperty(name = "storage.catalogo-videos.ingestion.sweep-enabled", havingValue = "true")
+public class MediaIngestionSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaIngestionSweeper.class);
+
+    private final Duration staleAfter;
+    private final MediaUploadRepository mediaUploadRepository;
+
+    public MediaIngestionSweeper(
+            final MediaUploadRepository mediaUploadRepository,
+            @Value("${storage.catalogo-videos.ingestion.stale-after}") final Duration staleAfter) {
+        this.mediaUploadRepository = Objects.requireNonNull(mediaUploadRepository);
+        this.staleAfter = Objects.requireNonNull(staleAfter);
+    }
+
+    @Scheduled(
+            initialDelayString = "${storage.catalogo-videos.ingestion.sweep-initial-delay}",
+            fixedDelayString = "${storage.catalogo-videos.ingestion.sweep-interval}"
+    )
+    public void run() {
+        final var swept = sweep();
+        if (swept > 0) {
+            log.warn("[message:video.ingestion] [status:swept] [uploads:{}]", swept);
+        }
+    }
+
+    // ingestions lost with their node, or never started, leave their uploads in progress and without chunks
+    // forever; chunked uploads idle that long without a first chunk are as good as abandoned too
+    public int sweep() {
+        final var aNow = InstantUtils.now();
+        return this.mediaUploadRepository.updateStaleStatus(
+                MediaUploadStatus.IN_PROGRESS, MediaUploadStatus.FAILED, aNow.minus(this.staleAfter), aNow);
+    }
+}
@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.MediaCleanupExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.CleanupProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+@Component
+public class MediaResourceCleaner {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaResourceCleaner.class);
+
+    private final StorageService storageService;
+    private final Executor executor;
+    private final int batchSize;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+
+    public MediaResourceCleaner(
+            final StorageService storageService,
+            final CleanupProperties props,
+            @MediaCleanupExecutor final Executor executor) {
+        this.storageService = Objects.requireNonNull(storageService);
+        this.executor = Objects.requireNonNull(executor);
+        this.batchSize = Math.max(1, props.getBatchSize());
+        this.parallelism = Math.max(1, props.getParallelism());
+        this.maxAttempts = Math.max(1, props.getMaxAttempts());
+        this.retryDelay = Objects.requireNonNull(props.getRetryDelay());
+    }
+
+    public List<String> clear(final String prefix) {
+        final var permits = new Semaphore(parallelism);
+        final var deletions = new ArrayList<CompletableFuture<List<String>>>();
+        final var batch = new ArrayList<String>(batchSize);
+
+        try (final var names = this.storageService.stream(prefix)) {
+            names.forEach(name -> {
+                batch.add(name);
+                if (batch.size() == batchSize) {
+                    deletions.add(submit(List.copyOf(batch), permits));
+                    batch.clear();
+                }
+            });
+        }
+        if (!batch.isEmpty()) {
+            deletions.add(submit(List.copyOf(batch), permits));
+        }
+
+        final var failed = deletions.stream()
+                .map(CompletableFuture::join)
+                .flatMap(List::stream)
+                .toList();
+
+        if (!failed.isEmpty()) {
+            log.warn("[message:storage.cleanup] [status:incomplete] [prefix:{}] [failed:{}]", prefix, failed.size());
+        }
+        return failed;
+    }
+
+    private CompletableFuture<List<String>> submit(final List<String> aBatch, final Semaphore permits) {
+        permits.acquireUninterruptibly();
+        try {
+            return CompletableFuture.supplyAsync(() -> deleteWithRetry(aBatch), this.executor)
+                    .whenComplete((result, error) -> permits.release());
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private List<String> deleteWithRetry(final List<String> aBatch) {
+        var pending = aBatch;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                pending = this.storageService.deleteAll(pending);
+            } catch (RuntimeException e) {
+                log.debug("[message:storage.cleanup] [attempt:{}] [size:{}] [error:{}]",
+                        attempt, pending.size(), e.getMessage());
+            }
+            if (pending.isEmpty() || attempt == maxAttempts || !backoff(attempt)) {
+                break;
+            }
+        }
+        return pending;
+    }
+
+    private boolean backoff(final int attempt) {
+        try {
+            Thread.sleep(retryDelay.multipliedBy(attempt).toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
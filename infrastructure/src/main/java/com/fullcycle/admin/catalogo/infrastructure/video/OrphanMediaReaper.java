@@ -0,0 +1,145 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.CleanupProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "storage.catalogo-videos.cleanup.reaper-enabled", havingValue = "true")
+public class OrphanMediaReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanMediaReaper.class);
+
+    private final String locationPattern;
+    private final String folderPrefix;
+    private final int batchSize;
+    private final Duration gracePeriod;
+    private final Duration stagingMaxAge;
+    private final StorageService storageService;
+    private final VideoRepository videoRepository;
+    private final MediaResourceCleaner mediaResourceCleaner;
+    private final Map<String, Instant> suspects;
+    private final Map<String, Instant> staged;
+
+    public OrphanMediaReaper(
+            final StorageProperties storageProps,
+            final CleanupProperties cleanupProps,
+            final StorageService storageService,
+            final VideoRepository videoRepository,
+            final MediaResourceCleaner mediaResourceCleaner) {
+        this.locationPattern = Objects.requireNonNull(storageProps.getLocationPattern());
+        this.folderPrefix = locationPattern.substring(0, locationPattern.indexOf("{videoId}"));
+        this.batchSize = Math.max(1, cleanupProps.getBatchSize());
+        this.gracePeriod = Objects.requireNonNull(cleanupProps.getReaperGracePeriod());
+        this.stagingMaxAge = Objects.requireNonNull(cleanupProps.getReaperStagingMaxAge());
+        this.storageService = Objects.requireNonNull(storageService);
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.mediaResourceCleaner = Objects.requireNonNull(mediaResourceCleaner);
+        this.suspects = new ConcurrentHashMap<>();
+        this.staged = new ConcurrentHashMap<>();
+    }
+
+    @Scheduled(
+            initialDelayString = "${storage.catalogo-videos.cleanup.reaper-interval}",
+            fixedDelayString = "${storage.catalogo-videos.cleanup.reaper-interval}"
+    )
+    public void run() {
+        final var reaped = reap();
+        final var reapedStaging = reapStaging();
+        log.info("[message:storage.reaper] [status:done] [reaped:{}] [suspects:{}] [reapedStaging:{}] [staged:{}]",
+                reaped, suspects.size(), reapedStaging, staged.size());
+    }
+
+    public int reap() {
+        final var now = InstantUtils.now();
+        final var orphans = orphanIds();
+
+        this.suspects.keySet().retainAll(orphans);
+
+        var reaped = 0;
+        for (final var anId : orphans) {
+            final var firstSeen = this.suspects.putIfAbsent(anId, now);
+            if (firstSeen != null && !firstSeen.plus(gracePeriod).isAfter(now)) {
+                this.mediaResourceCleaner.clear(locationPattern.replace("{videoId}", anId).concat("/"));
+                this.suspects.remove(anId);
+                reaped++;
+            }
+        }
+        return reaped;
+    }
+
+    // signed uploads that were never completed stay under the staging prefix; their age is counted from
+    // the first pass that saw them, so the cutoff must stay well above the signed url ttl
+    public int reapStaging() {
+        final var now = InstantUtils.now();
+        final Set<String> names;
+        try (final var stream = this.storageService.stream(DefaultMediaSigningGateway.STAGING_PREFIX)) {
+            names = stream.collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+
+        this.staged.keySet().retainAll(names);
+
+        final var expired = new ArrayList<String>();
+        for (final var name : names) {
+            final var firstSeen = this.staged.putIfAbsent(name, now);
+            if (firstSeen != null && !firstSeen.plus(stagingMaxAge).isAfter(now)) {
+                expired.add(name);
+            }
+        }
+
+        var reaped = 0;
+        for (var from = 0; from < expired.size(); from += batchSize) {
+            final var batch = expired.subList(from, Math.min(from + batchSize, expired.size()));
+            final var failed = this.storageService.deleteAll(batch);
+            batch.stream()
+                    .filter(name -> !failed.contains(name))
+                    .forEach(this.staged::remove);
+            reaped += batch.size() - failed.size();
+        }
+        return reaped;
+    }
+
+    private Set<String> orphanIds() {
+        final var folders = new LinkedHashSet<String>();
+        try (final var names = this.storageService.folders(folderPrefix)) {
+            names.filter(name -> name.length() > folderPrefix.length() + 1)
+                    .map(IdUtils::videoIdOf)
+                    .forEach(folders::add);
+        }
+
+        final var orphans = new LinkedHashSet<String>();
+        final var batch = new ArrayList<String>(batchSize);
+        for (final var anId : folders) {
+            batch.add(anId);
+            if (batch.size() == batchSize) {
+                orphans.addAll(orphansOf(batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            orphans.addAll(orphansOf(batch));
+        }
+        return orphans;
+    }
+
+    private List<String> orphansOf(final List<String> ids) {
+        final var existing = this.videoRepository.existingIds(ids);
+        return ids.stream()
+                .filter(anId -> !existing.contains(anId))
+                .toList();
+    }
+}
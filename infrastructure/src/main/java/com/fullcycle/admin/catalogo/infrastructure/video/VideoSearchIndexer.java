@@ -0,0 +1,170 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class VideoSearchIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoSearchIndexer.class);
+
+    private static final int BOOTSTRAP_BATCH_SIZE = 500;
+
+    private final VideoRepository videoRepository;
+    private final VideoSearchRepository videoSearchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean bootstrapEnabled;
+
+    public VideoSearchIndexer(
+            final VideoRepository videoRepository,
+            final VideoSearchRepository videoSearchRepository,
+            final PlatformTransactionManager transactionManager,
+            @Value("${video-search.bootstrap-enabled:true}") final boolean bootstrapEnabled) {
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.videoSearchRepository = Objects.requireNonNull(videoSearchRepository);
+        this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        this.bootstrapEnabled = bootstrapEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!this.bootstrapEnabled) {
+            return;
+        }
+        if (this.videoSearchRepository.count() == 0 && this.videoRepository.count() > 0) {
+            rebuild(BOOTSTRAP_BATCH_SIZE);
+        }
+    }
+
+    public RebuildResult rebuild(final int batchSize) {
+        var indexed = 0L;
+        var page = 0;
+        while (true) {
+            final var aPage = page++;
+            final var count = this.transactionTemplate.execute(status -> {
+                final var videos = videosOf(aPage, batchSize);
+                final var expected = videos.map(this::entryOf).toList();
+                final var actual = actualEntriesOf(expected);
+                // a request may have written a newer entry while this page was loaded: never overwrite it
+                this.videoSearchRepository.saveAll(expected.stream()
+                        .filter(anEntry -> isOutdated(actual.get(anEntry.getId()), anEntry))
+                        .toList());
+                return videos.getNumberOfElements();
+            });
+            indexed += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        final var orphans = orphanIds(batchSize);
+        for (int from = 0; from < orphans.size(); from += batchSize) {
+            final var aBatch = orphans.subList(from, Math.min(from + batchSize, orphans.size()));
+            this.transactionTemplate.executeWithoutResult(status -> this.videoSearchRepository.deleteAllByIds(aBatch));
+        }
+
+        log.info("[message:video.search.rebuild] [status:done] [indexed:{}] [removed:{}]", indexed, orphans.size());
+        return new RebuildResult(indexed, orphans.size());
+    }
+
+    public CheckResult check(final int batchSize) {
+        final var missing = new ArrayList<String>();
+        final var stale = new ArrayList<String>();
+        var checked = 0L;
+        var page = 0;
+        while (true) {
+            final var aPage = page++;
+            final var count = this.transactionTemplate.execute(status -> {
+                final var expected = videosOf(aPage, batchSize).map(this::entryOf).toList();
+                final var actual = actualEntriesOf(expected);
+                for (final var anEntry : expected) {
+                    final var actualEntry = actual.get(anEntry.getId());
+                    if (actualEntry == null) {
+                        missing.add(anEntry.getId());
+                    } else if (!anEntry.isSameAs(actualEntry)) {
+                        stale.add(anEntry.getId());
+                    }
+                }
+                return expected.size();
+            });
+            checked += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        final var result = new CheckResult(checked, missing, stale, orphanIds(batchSize));
+        log.info("[message:video.search.check] [status:{}] [checked:{}] [missing:{}] [stale:{}] [orphaned:{}]",
+                result.consistent() ? "consistent" : "inconsistent", checked,
+                missing.size(), stale.size(), result.orphaned().size());
+        return result;
+    }
+
+    private Page<VideoJpaEntity> videosOf(final int aPage, final int batchSize) {
+        return this.videoRepository.findAll(PageRequest.of(aPage, batchSize, Sort.by("id")));
+    }
+
+    private VideoSearchJpaEntity entryOf(final VideoJpaEntity aVideo) {
+        return VideoSearchJpaEntity.from(aVideo.toAggregate());
+    }
+
+    private Map<String, VideoSearchJpaEntity> actualEntriesOf(final List<VideoSearchJpaEntity> expected) {
+        return this.videoSearchRepository
+                .findAllById(expected.stream().map(VideoSearchJpaEntity::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(VideoSearchJpaEntity::getId, Function.identity()));
+    }
+
+    private static boolean isOutdated(final VideoSearchJpaEntity anActual, final VideoSearchJpaEntity anExpected) {
+        return anActual == null
+                || (!anActual.getUpdatedAt().isAfter(anExpected.getUpdatedAt()) && !anExpected.isSameAs(anActual));
+    }
+
+    private List<String> orphanIds(final int batchSize) {
+        final var orphans = new ArrayList<String>();
+        var page = 0;
+        while (true) {
+            final var ids = this.videoSearchRepository
+                    .findAllIds(PageRequest.of(page++, batchSize, Sort.by("id")))
+                    .getContent();
+            if (ids.isEmpty()) {
+                break;
+            }
+            final var existing = this.videoRepository.existingIds(ids);
+            ids.stream()
+                    .filter(anId -> !existing.contains(anId))
+                    .forEach(orphans::add);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return orphans;
+    }
+
+    public record RebuildResult(long indexed, long removed) {
+    }
+
+    public record CheckResult(long checked, List<String> missing, List<String> stale, List<String> orphaned) {
+
+        public boolean consistent() {
+            return missing.isEmpty() && stale.isEmpty() && orphaned.isEmpty();
+        }
+    }
+}
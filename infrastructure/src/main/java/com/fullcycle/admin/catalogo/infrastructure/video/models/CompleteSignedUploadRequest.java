@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+public record CompleteSignedUploadRequest(
+        String name,
+        String checksum
+) {
+}
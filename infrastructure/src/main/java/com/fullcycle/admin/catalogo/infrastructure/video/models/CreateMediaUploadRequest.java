@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateMediaUploadRequest(
+        String name,
+        @JsonProperty("content_type") String contentType
+) {
+}
@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.infrastructure.video.models;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Set;
 
 public record GetVideoByIdResponse(
@@ -23,6 +24,8 @@ public record GetVideoByIdResponse(
         AudioVideoMediaResponse trailer,
         @JsonProperty("categories_id") Set<String> categories,
         @JsonProperty("genres_id") Set<String> genres,
-        @JsonProperty("cast_members_id") Set<String> castMembers
+        @JsonProperty("cast_members_id") Set<String> castMembers,
+        List<MediaUploadResponse> uploads,
+        long version
 ) {
 }
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+public record MediaChunkResponse(
+        int number,
+        long offset,
+        long size,
+        String checksum
+) {
+}
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+public record MediaUploadResponse(
+        @JsonProperty("upload_id") String uploadId,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") String mediaType,
+        String name,
+        @JsonProperty("content_type") String contentType,
+        String status,
+        @JsonProperty("next_offset") long nextOffset,
+        long size,
+        List<MediaChunkResponse> chunks,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt
+) {
+}
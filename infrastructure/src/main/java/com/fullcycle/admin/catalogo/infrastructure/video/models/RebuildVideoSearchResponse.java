@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record RebuildVideoSearchResponse(
+        @JsonProperty("indexed") long indexed,
+        @JsonProperty("removed") long removed
+) {
+}
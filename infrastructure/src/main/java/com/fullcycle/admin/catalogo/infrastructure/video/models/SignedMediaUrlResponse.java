@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record SignedMediaUrlResponse(
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") String mediaType,
+        String url,
+        String method,
+        @JsonProperty("expires_at") Instant expiresAt
+) {
+}
@@ -14,6 +14,7 @@ public record UpdateVideoRequest(
         String rating,
         @JsonProperty("cast_members") Set<String> castMembers,
         Set<String> categories,
-        Set<String> genres
+        Set<String> genres,
+        Long version
 ) {
 }
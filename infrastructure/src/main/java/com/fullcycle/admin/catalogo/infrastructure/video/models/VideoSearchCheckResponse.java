@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record VideoSearchCheckResponse(
+        @JsonProperty("consistent") boolean consistent,
+        @JsonProperty("checked") long checked,
+        @JsonProperty("missing") List<String> missing,
+        @JsonProperty("stale") List<String> stale,
+        @JsonProperty("orphaned") List<String> orphaned
+) {
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AudioVideoMediaRepository extends JpaRepository<AudioVideoMediaJpaEntity, String> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            update AudioVideoMedia m
+            set m.status = :status, m.encodedPath = coalesce(:encodedPath, m.encodedPath)
+            where m.id = :resourceId
+              and m.status <> com.fullcycle.admin.catalogo.domain.video.MediaStatus.COMPLETED
+              and exists (
+                select 1 from Video v
+                where v.id = :videoId and (v.video.id = :resourceId or v.trailer.id = :resourceId)
+              )
+            """)
+    int updateStatus(
+            @Param("videoId") String videoId,
+            @Param("resourceId") String resourceId,
+            @Param("status") MediaStatus status,
+            @Param("encodedPath") String encodedPath
+    );
+}
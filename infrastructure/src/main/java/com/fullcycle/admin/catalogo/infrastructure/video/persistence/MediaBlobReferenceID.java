@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class MediaBlobReferenceID implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4125967310287345581L;
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "media_type", nullable = false)
+    private VideoMediaType type;
+
+    public MediaBlobReferenceID() {
+    }
+
+    private MediaBlobReferenceID(final String aVideoId, final VideoMediaType aType) {
+        this.videoId = aVideoId;
+        this.type = aType;
+    }
+
+    public static MediaBlobReferenceID from(final String aVideoId, final VideoMediaType aType) {
+        return new MediaBlobReferenceID(aVideoId, aType);
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public VideoMediaType getType() {
+        return type;
+    }
+
+    public void setType(VideoMediaType type) {
+        this.type = type;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaBlobReferenceID that = (MediaBlobReferenceID) o;
+        return Objects.equals(getVideoId(), that.getVideoId()) && getType() == that.getType();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getVideoId(), getType());
+    }
+}
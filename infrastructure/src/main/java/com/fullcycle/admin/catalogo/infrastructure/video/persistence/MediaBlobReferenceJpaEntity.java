@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity(name = "MediaBlobReference")
+@Table(name = "videos_media_blob_references")
+public class MediaBlobReferenceJpaEntity {
+
+    @EmbeddedId
+    private MediaBlobReferenceID id;
+
+    @Column(name = "blob_id", nullable = false)
+    private String blobId;
+
+    public MediaBlobReferenceJpaEntity() {
+    }
+
+    private MediaBlobReferenceJpaEntity(final MediaBlobReferenceID anId, final String aBlobId) {
+        this.id = anId;
+        this.blobId = aBlobId;
+    }
+
+    public static MediaBlobReferenceJpaEntity with(final MediaBlobReferenceID anId, final String aBlobId) {
+        return new MediaBlobReferenceJpaEntity(anId, aBlobId);
+    }
+
+    public MediaBlobReferenceID getId() {
+        return id;
+    }
+
+    public void setId(MediaBlobReferenceID id) {
+        this.id = id;
+    }
+
+    public String getBlobId() {
+        return blobId;
+    }
+
+    public void setBlobId(String blobId) {
+        this.blobId = blobId;
+    }
+}
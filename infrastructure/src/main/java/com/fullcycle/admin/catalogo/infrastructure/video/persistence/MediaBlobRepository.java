@@ -0,0 +1,37 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface MediaBlobRepository extends JpaRepository<MediaBlobJpaEntity, String> {
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            insert into videos_media_blobs (id, checksum, blob_size, location, ref_count, created_at)
+            values (:id, :checksum, :size, :location, 1, :createdAt)
+            on duplicate key update ref_count = ref_count + 1
+            """, nativeQuery = true)
+    void acquire(
+            @Param("id") String id,
+            @Param("checksum") String checksum,
+            @Param("size") long size,
+            @Param("location") String location,
+            @Param("createdAt") Instant createdAt
+    );
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update MediaBlob b set b.refCount = b.refCount - 1 where b.id = :id")
+    int release(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from MediaBlob b where b.id = :id and b.refCount <= 0")
+    int deleteUnreferenced(@Param("id") String id);
+}
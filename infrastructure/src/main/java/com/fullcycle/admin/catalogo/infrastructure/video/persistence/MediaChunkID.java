@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class MediaChunkID implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3170839268468617412L;
+
+    @Column(name = "upload_id", nullable = false)
+    private String uploadId;
+
+    @Column(name = "chunk_number", nullable = false)
+    private int number;
+
+    public MediaChunkID() {
+    }
+
+    private MediaChunkID(final String anUploadId, final int aNumber) {
+        this.uploadId = anUploadId;
+        this.number = aNumber;
+    }
+
+    public static MediaChunkID from(final String anUploadId, final int aNumber) {
+        return new MediaChunkID(anUploadId, aNumber);
+    }
+
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public void setUploadId(String uploadId) {
+        this.uploadId = uploadId;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaChunkID that = (MediaChunkID) o;
+        return getNumber() == that.getNumber() && Objects.equals(getUploadId(), that.getUploadId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getUploadId(), getNumber());
+    }
+}
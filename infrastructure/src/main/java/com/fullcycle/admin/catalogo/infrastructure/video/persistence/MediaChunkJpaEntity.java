@@ -0,0 +1,112 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaChunk;
+import jakarta.persistence.*;
+
+import java.util.Objects;
+
+@Entity(name = "MediaChunk")
+@Table(name = "videos_media_upload_chunks")
+public class MediaChunkJpaEntity {
+
+    @EmbeddedId
+    private MediaChunkID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("uploadId")
+    private MediaUploadJpaEntity upload;
+
+    @Column(name = "chunk_offset", nullable = false)
+    private long offset;
+
+    @Column(name = "chunk_size", nullable = false)
+    private long size;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    public MediaChunkJpaEntity() {
+    }
+
+    private MediaChunkJpaEntity(
+            final MediaUploadJpaEntity anUpload,
+            final MediaChunk aChunk) {
+        this.id = MediaChunkID.from(anUpload.getId(), aChunk.number());
+        this.upload = anUpload;
+        this.offset = aChunk.offset();
+        this.size = aChunk.size();
+        this.checksum = aChunk.checksum();
+    }
+
+    public static MediaChunkJpaEntity from(final MediaUploadJpaEntity anUpload, final MediaChunk aChunk) {
+        return new MediaChunkJpaEntity(anUpload, aChunk);
+    }
+
+    public void merge(final MediaChunk aChunk) {
+        this.offset = aChunk.offset();
+        this.size = aChunk.size();
+        this.checksum = aChunk.checksum();
+    }
+
+    public MediaChunk toDomain() {
+        return MediaChunk.with(
+                getId().getNumber(),
+                getOffset(),
+                getSize(),
+                getChecksum()
+        );
+    }
+
+    public MediaChunkID getId() {
+        return id;
+    }
+
+    public void setId(MediaChunkID id) {
+        this.id = id;
+    }
+
+    public MediaUploadJpaEntity getUpload() {
+        return upload;
+    }
+
+    public void setUpload(MediaUploadJpaEntity upload) {
+        this.upload = upload;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public void setOffset(long offset) {
+        this.offset = offset;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaChunkJpaEntity that = (MediaChunkJpaEntity) o;
+        return Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId());
+    }
+}
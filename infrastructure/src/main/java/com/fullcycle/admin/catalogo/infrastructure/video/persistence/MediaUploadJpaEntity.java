@@ -0,0 +1,182 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.*;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+@Entity(name = "MediaUpload")
+@Table(name = "videos_media_uploads")
+public class MediaUploadJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "media_type", nullable = false)
+    private VideoMediaType type;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "upload_status", nullable = false)
+    private MediaUploadStatus status;
+
+    @OneToMany(mappedBy = "upload", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    private Set<MediaChunkJpaEntity> chunks = new HashSet<>();
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public MediaUploadJpaEntity() {
+    }
+
+    private MediaUploadJpaEntity(
+            final String anId,
+            final String aVideoId,
+            final VideoMediaType aType,
+            final String aName,
+            final String aContentType,
+            final MediaUploadStatus aStatus,
+            final Instant aCreatedAt,
+            final Instant anUpdatedAt) {
+        this.id = anId;
+        this.videoId = aVideoId;
+        this.type = aType;
+        this.name = aName;
+        this.contentType = aContentType;
+        this.status = aStatus;
+        this.createdAt = aCreatedAt;
+        this.updatedAt = anUpdatedAt;
+    }
+
+    public static MediaUploadJpaEntity from(final MediaUpload anUpload) {
+        final var anEntity = new MediaUploadJpaEntity(
+                anUpload.getId().getValue(),
+                anUpload.getVideoId().getValue(),
+                anUpload.getType(),
+                anUpload.getName(),
+                anUpload.getContentType(),
+                anUpload.getStatus(),
+                anUpload.getCreatedAt(),
+                anUpload.getUpdatedAt());
+        anUpload.getChunks().forEach(anEntity::addChunk);
+        return anEntity;
+    }
+
+    public MediaUpload toAggregate() {
+        return MediaUpload.with(
+                MediaUploadID.from(getId()),
+                VideoID.from(getVideoId()),
+                getType(),
+                getName(),
+                getContentType(),
+                getStatus(),
+                getChunks().stream()
+                        .map(MediaChunkJpaEntity::toDomain)
+                        .toList(),
+                getCreatedAt(),
+                getUpdatedAt()
+        );
+    }
+
+    public MediaUploadJpaEntity merge(final MediaUpload anUpload) {
+        this.status = anUpload.getStatus();
+        this.updatedAt = anUpload.getUpdatedAt();
+        // chunks are only ever added or overwritten, never removed, so a stale snapshot
+        // coming from a concurrent chunk upload cannot drop rows it has not seen
+        anUpload.getChunks().forEach(aChunk -> this.chunks.stream()
+                .filter(anEntity -> anEntity.getId().getNumber() == aChunk.number())
+                .findFirst()
+                .ifPresentOrElse(anEntity -> anEntity.merge(aChunk), () -> addChunk(aChunk)));
+        return this;
+    }
+
+    private void addChunk(final MediaChunk aChunk) {
+        this.chunks.add(MediaChunkJpaEntity.from(this, aChunk));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(String videoId) {
+        this.videoId = videoId;
+    }
+
+    public VideoMediaType getType() {
+        return type;
+    }
+
+    public void setType(VideoMediaType type) {
+        this.type = type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public MediaUploadStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(MediaUploadStatus status) {
+        this.status = status;
+    }
+
+    public Set<MediaChunkJpaEntity> getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(Set<MediaChunkJpaEntity> chunks) {
+        this.chunks = chunks;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
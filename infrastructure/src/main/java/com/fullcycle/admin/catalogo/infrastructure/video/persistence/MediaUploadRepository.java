@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface MediaUploadRepository extends JpaRepository<MediaUploadJpaEntity, String> {
+
+    List<MediaUploadJpaEntity> findAllByVideoId(String videoId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            update MediaUpload u set u.status = :to, u.updatedAt = :updatedAt
+            where u.status = :from and u.updatedAt < :staleBefore and u.chunks is empty
+            """)
+    int updateStaleStatus(
+            @Param("from") MediaUploadStatus from,
+            @Param("to") MediaUploadStatus to,
+            @Param("staleBefore") Instant staleBefore,
+            @Param("updatedAt") Instant updatedAt
+    );
+}
@@ -0,0 +1,59 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity(name = "ProcessedEncoderResult")
+@Table(name = "videos_processed_encoder_results")
+public class ProcessedEncoderResultJpaEntity {
+
+    @Id
+    private String id;
+
+    @Column(name = "resource_id", nullable = false)
+    private String resourceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "media_status", nullable = false)
+    private MediaStatus status;
+
+    @Column(name = "processed_at", nullable = false)
+    private Instant processedAt;
+
+    public ProcessedEncoderResultJpaEntity() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getResourceId() {
+        return resourceId;
+    }
+
+    public void setResourceId(String resourceId) {
+        this.resourceId = resourceId;
+    }
+
+    public MediaStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(MediaStatus status) {
+        this.status = status;
+    }
+
+    public Instant getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(Instant processedAt) {
+        this.processedAt = processedAt;
+    }
+}
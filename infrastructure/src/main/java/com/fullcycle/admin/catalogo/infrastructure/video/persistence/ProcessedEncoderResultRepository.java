@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface ProcessedEncoderResultRepository extends JpaRepository<ProcessedEncoderResultJpaEntity, String> {
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            insert into videos_processed_encoder_results (id, resource_id, media_status, processed_at)
+            values (:id, :resourceId, :status, :processedAt)
+            on duplicate key update processed_at = processed_at
+            """, nativeQuery = true)
+    void markProcessed(
+            @Param("id") String id,
+            @Param("resourceId") String resourceId,
+            @Param("status") String status,
+            @Param("processedAt") Instant processedAt
+    );
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from ProcessedEncoderResult r where r.processedAt < :threshold")
+    int deleteProcessedBefore(@Param("threshold") Instant threshold);
+}
@@ -76,6 +76,9 @@ public class VideoJpaEntity {
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<VideoCastMemberJpaEntity> castMembers = new HashSet<>();
 
+    @Version
+    private long version;
+
     public VideoJpaEntity() {
     }
 
@@ -95,6 +98,7 @@ public class VideoJpaEntity {
         private ImageMediaJpaEntity banner;
         private ImageMediaJpaEntity thumbnail;
         private ImageMediaJpaEntity thumbnailHalf;
+        private long version;
 
         public Builder(
                 final String aTitle,
@@ -162,6 +166,11 @@ public class VideoJpaEntity {
             this.thumbnailHalf = aThumbnailHalf;
             return this;
         }
+
+        public Builder version(final long aVersion) {
+            this.version = aVersion;
+            return this;
+        }
     }
 
     private VideoJpaEntity(final Builder aBuilder) {
@@ -180,6 +189,7 @@ public class VideoJpaEntity {
         this.banner = aBuilder.banner;
         this.thumbnail = aBuilder.thumbnail;
         this.thumbnailHalf = aBuilder.thumbnailHalf;
+        this.version = aBuilder.version;
     }
 
     public static VideoJpaEntity from(final Video aVideo) {
@@ -199,6 +209,7 @@ public class VideoJpaEntity {
                 .banner(imageMediaJpa(aVideo.getBanner()))
                 .thumbnail(imageMediaJpa(aVideo.getThumbnail()))
                 .thumbnailHalf(imageMediaJpa(aVideo.getThumbnailHalf()))
+                .version(aVideo.getVersion())
         );
         aVideo.getCategories()
                 .forEach(entity::addCategory);
@@ -228,7 +239,8 @@ public class VideoJpaEntity {
                 .thumbnailHalf(thumbnailHalfDomain())
                 .categories(categoriesDomain())
                 .genres(genresDomain())
-                .castMembers(castMembersDomain()));
+                .castMembers(castMembersDomain())
+                .version(getVersion()));
     }
 
     private void addCategory(final CategoryID anId) {
@@ -363,6 +375,14 @@ public class VideoJpaEntity {
         this.thumbnailHalf = thumbnailHalf;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Set<VideoCategoryJpaEntity> getCategories() {
         return categories;
     }
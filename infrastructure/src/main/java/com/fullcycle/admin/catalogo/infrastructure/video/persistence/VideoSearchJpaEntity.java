@@ -0,0 +1,220 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.converter.PublishingStatusToBooleanConverter;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.converter.ReleaseStatusToBooleanConverter;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Entity(name = "VideoSearch")
+@Table(name = "video_search")
+public class VideoSearchJpaEntity {
+
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERM_LENGTH = 100;
+
+    @Id
+    @Column(name = "video_id")
+    private String id;
+
+    private String title;
+
+    private String description;
+
+    @Column(name = "year_launched")
+    private int yearLaunched;
+
+    @Convert(converter = ReleaseStatusToBooleanConverter.class)
+    @Column(name = "opened")
+    private ReleaseStatus releaseStatus;
+
+    @Convert(converter = PublishingStatusToBooleanConverter.class)
+    @Column(name = "published")
+    private PublishingStatus publishingStatus;
+
+    private Rating rating;
+
+    private double duration;
+
+    @ElementCollection
+    @CollectionTable(name = "video_search_relations", joinColumns = @JoinColumn(name = "video_id"))
+    private Set<VideoSearchRelation> relations = new HashSet<>();
+
+    @ElementCollection
+    @CollectionTable(name = "video_search_terms", joinColumns = @JoinColumn(name = "video_id"))
+    @Column(name = "term")
+    private Set<String> terms = new HashSet<>();
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    public VideoSearchJpaEntity() {
+    }
+
+    private VideoSearchJpaEntity(final Video aVideo) {
+        this.id = aVideo.getId().getValue();
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.releaseStatus = aVideo.getReleaseStatus();
+        this.publishingStatus = aVideo.getPublishingStatus();
+        this.rating = aVideo.getRating();
+        this.duration = aVideo.getDuration();
+        addRelations(VideoSearchRelation.Type.CATEGORY, aVideo.getCategories());
+        addRelations(VideoSearchRelation.Type.GENRE, aVideo.getGenres());
+        addRelations(VideoSearchRelation.Type.CAST_MEMBER, aVideo.getCastMembers());
+        this.terms.addAll(termsOf(aVideo.getTitle()));
+        this.createdAt = aVideo.getCreatedAt();
+        this.updatedAt = aVideo.getUpdatedAt();
+    }
+
+    public static VideoSearchJpaEntity from(final Video aVideo) {
+        return new VideoSearchJpaEntity(aVideo);
+    }
+
+    public static Set<String> termsOf(final String aText) {
+        if (aText == null || aText.isBlank()) {
+            return Set.of();
+        }
+        return TERM_SEPARATOR.splitAsStream(aText.toLowerCase(Locale.ROOT))
+                .filter(aTerm -> !aTerm.isEmpty())
+                .map(aTerm -> aTerm.length() > MAX_TERM_LENGTH ? aTerm.substring(0, MAX_TERM_LENGTH) : aTerm)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private void addRelations(final VideoSearchRelation.Type aType, final Collection<? extends Identifier> anIds) {
+        if (anIds != null) {
+            anIds.forEach(anId -> this.relations.add(VideoSearchRelation.with(aType, anId.getValue())));
+        }
+    }
+
+    public VideoPreview toPreview() {
+        return new VideoPreview(
+                getId(),
+                getTitle(),
+                getDescription(),
+                getCreatedAt(),
+                getUpdatedAt()
+        );
+    }
+
+    public boolean isSameAs(final VideoSearchJpaEntity anEntry) {
+        return anEntry != null
+                && Objects.equals(getId(), anEntry.getId())
+                && Objects.equals(getTitle(), anEntry.getTitle())
+                && Objects.equals(getDescription(), anEntry.getDescription())
+                && getYearLaunched() == anEntry.getYearLaunched()
+                && getReleaseStatus() == anEntry.getReleaseStatus()
+                && getPublishingStatus() == anEntry.getPublishingStatus()
+                && getRating() == anEntry.getRating()
+                && Double.compare(getDuration(), anEntry.getDuration()) == 0
+                && Objects.equals(getRelations(), anEntry.getRelations())
+                && Objects.equals(getTerms(), anEntry.getTerms())
+                && Objects.equals(getCreatedAt(), anEntry.getCreatedAt())
+                && Objects.equals(getUpdatedAt(), anEntry.getUpdatedAt());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public int getYearLaunched() {
+        return yearLaunched;
+    }
+
+    public void setYearLaunched(int yearLaunched) {
+        this.yearLaunched = yearLaunched;
+    }
+
+    public ReleaseStatus getReleaseStatus() {
+        return releaseStatus;
+    }
+
+    public void setReleaseStatus(ReleaseStatus releaseStatus) {
+        this.releaseStatus = releaseStatus;
+    }
+
+    public PublishingStatus getPublishingStatus() {
+        return publishingStatus;
+    }
+
+    public void setPublishingStatus(PublishingStatus publishingStatus) {
+        this.publishingStatus = publishingStatus;
+    }
+
+    public Rating getRating() {
+        return rating;
+    }
+
+    public void setRating(Rating rating) {
+        this.rating = rating;
+    }
+
+    public double getDuration() {
+        return duration;
+    }
+
+    public void setDuration(double duration) {
+        this.duration = duration;
+    }
+
+    public Set<VideoSearchRelation> getRelations() {
+        return relations;
+    }
+
+    public void setRelations(Set<VideoSearchRelation> relations) {
+        this.relations = relations;
+    }
+
+    public Set<String> getTerms() {
+        return terms;
+    }
+
+    public void setTerms(Set<String> terms) {
+        this.terms = terms;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.util.Objects;
+
+@Embeddable
+public class VideoSearchRelation {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "relation_type", nullable = false)
+    private Type type;
+
+    @Column(name = "relation_id", nullable = false)
+    private String relationId;
+
+    public VideoSearchRelation() {
+    }
+
+    private VideoSearchRelation(final Type aType, final String aRelationId) {
+        this.type = aType;
+        this.relationId = aRelationId;
+    }
+
+    public static VideoSearchRelation with(final Type aType, final String aRelationId) {
+        return new VideoSearchRelation(aType, aRelationId);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public String getRelationId() {
+        return relationId;
+    }
+
+    public void setRelationId(String relationId) {
+        this.relationId = relationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final VideoSearchRelation that = (VideoSearchRelation) o;
+        return getType() == that.getType() && Objects.equals(getRelationId(), that.getRelationId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getType(), getRelationId());
+    }
+
+    public enum Type {
+        CATEGORY,
+        GENRE,
+        CAST_MEMBER
+    }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface VideoSearchRepository extends JpaRepository<VideoSearchJpaEntity, String> {
+
+    Page<VideoSearchJpaEntity> findAll(Specification<VideoSearchJpaEntity> whereClause, Pageable page);
+
+    @Query("select s.id from VideoSearch s")
+    Page<String> findAllIds(Pageable page);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from VideoSearch s where s.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update VideoSearch s set s.updatedAt = :updatedAt where s.id = :id")
+    int touch(@Param("id") String id, @Param("updatedAt") Instant updatedAt);
+}
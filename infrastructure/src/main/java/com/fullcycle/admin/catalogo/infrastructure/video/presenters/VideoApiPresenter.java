@@ -2,14 +2,14 @@ package com.fullcycle.admin.catalogo.infrastructure.video.presenters;
 
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
+import com.fullcycle.admin.catalogo.application.video.upload.retrieve.MediaUploadOutput;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.SignedMediaUrlOutput;
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaChunk;
 import com.fullcycle.admin.catalogo.domain.video.PublishingStatus;
 import com.fullcycle.admin.catalogo.domain.video.ReleaseStatus;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.AudioVideoMediaResponse;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.GetVideoByIdResponse;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.ImageMediaResponse;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.*;
 
 public interface VideoApiPresenter {
 
@@ -32,7 +32,11 @@ public interface VideoApiPresenter {
                 present(output.trailer()),
                 output.categories(),
                 output.genres(),
-                output.castMembers()
+                output.castMembers(),
+                output.uploads().stream()
+                        .map(VideoApiPresenter::present)
+                        .toList(),
+                output.version()
         );
     }
 
@@ -72,6 +76,43 @@ public interface VideoApiPresenter {
         );
     }
 
+    static MediaUploadResponse present(final MediaUploadOutput output) {
+        return new MediaUploadResponse(
+                output.uploadId(),
+                output.videoId(),
+                output.mediaType().name(),
+                output.name(),
+                output.contentType(),
+                output.status().name(),
+                output.nextOffset(),
+                output.size(),
+                output.chunks().stream()
+                        .map(VideoApiPresenter::present)
+                        .toList(),
+                output.createdAt(),
+                output.updatedAt()
+        );
+    }
+
+    static SignedMediaUrlResponse present(final SignedMediaUrlOutput output) {
+        return new SignedMediaUrlResponse(
+                output.videoId(),
+                output.mediaType().name(),
+                output.url(),
+                output.method(),
+                output.expiresAt()
+        );
+    }
+
+    static MediaChunkResponse present(final MediaChunk aChunk) {
+        return new MediaChunkResponse(
+                aChunk.number(),
+                aChunk.offset(),
+                aChunk.size(),
+                aChunk.checksum()
+        );
+    }
+
     private static boolean openedOf(final ReleaseStatus aReleaseStatus) {
         return ReleaseStatus.RELEASED == aReleaseStatus;
     }
@@ -0,0 +1 @@
+DROP INDEX idx_events_outbox_created_at ON events_outbox;
@@ -0,0 +1,8 @@
+DROP TABLE video_search_terms;
+DROP TABLE video_search_relations;
+
+DELETE FROM video_search;
+
+ALTER TABLE video_search ADD COLUMN categories TEXT NOT NULL;
+ALTER TABLE video_search ADD COLUMN genres TEXT NOT NULL;
+ALTER TABLE video_search ADD COLUMN cast_members TEXT NOT NULL;
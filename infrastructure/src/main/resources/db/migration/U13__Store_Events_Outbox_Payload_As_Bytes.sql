@@ -0,0 +1,2 @@
+ALTER TABLE events_outbox MODIFY payload TEXT NOT NULL;
+ALTER TABLE events_outbox DROP COLUMN content_type;
@@ -0,0 +1 @@
+DROP TABLE videos_processed_encoder_results;
@@ -0,0 +1,21 @@
+CREATE TABLE video_search
+(
+    video_id      CHAR(32)      NOT NULL PRIMARY KEY,
+    title         VARCHAR(255)  NOT NULL,
+    description   VARCHAR(1000) NOT NULL,
+    year_launched SMALLINT      NOT NULL,
+    opened        BOOLEAN       NOT NULL DEFAULT FALSE,
+    published     BOOLEAN       NOT NULL DEFAULT FALSE,
+    rating        VARCHAR(5),
+    duration      DECIMAL(5, 2) NOT NULL,
+    categories    TEXT          NOT NULL,
+    genres        TEXT          NOT NULL,
+    cast_members  TEXT          NOT NULL,
+    created_at    DATETIME(6)   NOT NULL,
+    updated_at    DATETIME(6)   NOT NULL
+);
+
+CREATE INDEX idx_vs_title ON video_search (title);
+CREATE INDEX idx_vs_created_at ON video_search (created_at);
+CREATE INDEX idx_vs_updated_at ON video_search (updated_at);
+CREATE INDEX idx_vs_year_launched ON video_search (year_launched);
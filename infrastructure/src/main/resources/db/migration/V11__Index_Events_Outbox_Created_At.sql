@@ -0,0 +1 @@
+CREATE INDEX idx_events_outbox_created_at ON events_outbox (created_at);
@@ -0,0 +1,28 @@
+-- the packed id columns can only be searched with a leading wildcard, so the relations and the
+-- title words move to side tables indexed by value; the rows are rebuilt on the next startup
+DELETE FROM video_search;
+
+ALTER TABLE video_search DROP COLUMN categories;
+ALTER TABLE video_search DROP COLUMN genres;
+ALTER TABLE video_search DROP COLUMN cast_members;
+
+CREATE TABLE video_search_relations
+(
+    video_id      CHAR(32)    NOT NULL,
+    relation_type VARCHAR(20) NOT NULL,
+    relation_id   CHAR(32)    NOT NULL,
+    CONSTRAINT idx_vsr_video_relation UNIQUE (video_id, relation_type, relation_id),
+    CONSTRAINT fk_vsr_video_id FOREIGN KEY (video_id) REFERENCES video_search (video_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_vsr_relation ON video_search_relations (relation_type, relation_id, video_id);
+
+CREATE TABLE video_search_terms
+(
+    video_id CHAR(32)     NOT NULL,
+    term     VARCHAR(100) NOT NULL,
+    CONSTRAINT idx_vst_video_term UNIQUE (video_id, term),
+    CONSTRAINT fk_vst_video_id FOREIGN KEY (video_id) REFERENCES video_search (video_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_vst_term ON video_search_terms (term, video_id);
@@ -0,0 +1,2 @@
+ALTER TABLE events_outbox ADD COLUMN content_type VARCHAR(100) NOT NULL DEFAULT 'application/json';
+ALTER TABLE events_outbox MODIFY payload LONGBLOB NOT NULL;
@@ -0,0 +1,18 @@
+CREATE TABLE videos_media_blobs
+(
+    id         VARCHAR(100) NOT NULL PRIMARY KEY,
+    checksum   VARCHAR(255) NOT NULL,
+    blob_size  BIGINT       NOT NULL,
+    location   VARCHAR(500) NOT NULL,
+    ref_count  INT          NOT NULL,
+    created_at DATETIME(6)  NOT NULL
+);
+
+CREATE TABLE videos_media_blob_references
+(
+    video_id   CHAR(32)     NOT NULL,
+    media_type VARCHAR(50)  NOT NULL,
+    blob_id    VARCHAR(100) NOT NULL,
+    CONSTRAINT idx_vmbr_video_media_type UNIQUE (video_id, media_type),
+    CONSTRAINT fk_vmbr_blob_id FOREIGN KEY (blob_id) REFERENCES videos_media_blobs (id)
+);
@@ -0,0 +1,9 @@
+CREATE TABLE videos_processed_encoder_results
+(
+    id           CHAR(64)     NOT NULL PRIMARY KEY,
+    resource_id  VARCHAR(255) NOT NULL,
+    media_status VARCHAR(50)  NOT NULL,
+    processed_at DATETIME(6)  NOT NULL
+);
+
+CREATE INDEX idx_vper_processed_at ON videos_processed_encoder_results (processed_at);
@@ -0,0 +1 @@
+ALTER TABLE videos ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.EventPublisher;
 import com.rabbitmq.client.Channel;
 import org.mockito.BDDMockito;
 import org.mockito.Mockito;
@@ -19,6 +20,7 @@ import static org.mockito.Mockito.mock;
 public class AmqpTestConfiguration {
 
     @Bean
+    @EventPublisher
     TestRabbitTemplate rabbitTemplate(final ConnectionFactory connectionFactory) {
         return new TestRabbitTemplate(connectionFactory);
     }
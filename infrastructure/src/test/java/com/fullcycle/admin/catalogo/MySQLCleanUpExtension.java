@@ -3,7 +3,13 @@ package com.fullcycle.admin.catalogo;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobReferenceRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaUploadRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.ProcessedEncoderResultRepository;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.data.repository.CrudRepository;
@@ -18,6 +24,12 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
     public void beforeEach(final ExtensionContext context) throws Exception {
         final var anApplicationContext = SpringExtension.getApplicationContext(context);
         cleanUp(List.of(
+                anApplicationContext.getBean(OutboxEventRepository.class),
+                anApplicationContext.getBean(ProcessedEncoderResultRepository.class),
+                anApplicationContext.getBean(MediaBlobReferenceRepository.class),
+                anApplicationContext.getBean(MediaBlobRepository.class),
+                anApplicationContext.getBean(MediaUploadRepository.class),
+                anApplicationContext.getBean(VideoSearchRepository.class),
                 anApplicationContext.getBean(VideoRepository.class),
                 anApplicationContext.getBean(CastMemberRepository.class),
                 anApplicationContext.getBean(GenreRepository.class),
@@ -0,0 +1,121 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.DeduplicationProperties;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.ProcessedEncoderResultRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class EncoderResultDeduplicatorTest {
+
+    private ProcessedEncoderResultRepository processedEncoderResultRepository;
+    private SimpleMeterRegistry registry;
+    private EncoderResultDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        this.processedEncoderResultRepository = mock(ProcessedEncoderResultRepository.class);
+        this.registry = new SimpleMeterRegistry();
+        this.deduplicator = new EncoderResultDeduplicator(new DeduplicationProperties(), processedEncoderResultRepository, registry);
+    }
+
+    @Test
+    void Given_an_unknown_result_When_calls_is_duplicate_Then_should_check_the_marker_table() {
+        // Given
+        final var aKey = newKey();
+
+        when(processedEncoderResultRepository.existsById(any()))
+                .thenReturn(false);
+
+        // When
+        final var actualDuplicate = deduplicator.isDuplicate(aKey);
+
+        // Then
+        assertFalse(actualDuplicate);
+        verify(processedEncoderResultRepository, times(1)).existsById(aKey.id());
+    }
+
+    @Test
+    void Given_a_marked_result_When_calls_is_duplicate_Then_should_answer_from_the_cache() {
+        // Given
+        final var aKey = newKey();
+        deduplicator.markProcessed(aKey);
+
+        // When
+        final var actualDuplicate = deduplicator.isDuplicate(aKey);
+
+        // Then
+        assertTrue(actualDuplicate);
+        verify(processedEncoderResultRepository, times(1))
+                .markProcessed(eq(aKey.id()), eq(aKey.resourceId()), eq(MediaStatus.COMPLETED.name()), any());
+        verify(processedEncoderResultRepository, never()).existsById(any());
+        assertEquals(1, registry.counter("amqp.listener.duplicates").count());
+    }
+
+    @Test
+    void Given_a_result_marked_by_another_consumer_When_calls_is_duplicate_Then_should_cache_the_marker() {
+        // Given
+        final var aKey = newKey();
+
+        when(processedEncoderResultRepository.existsById(any()))
+                .thenReturn(true);
+
+        // When
+        deduplicator.isDuplicate(aKey);
+        final var actualDuplicate = deduplicator.isDuplicate(aKey);
+
+        // Then
+        assertTrue(actualDuplicate);
+        verify(processedEncoderResultRepository, times(1)).existsById(aKey.id());
+    }
+
+    @Test
+    void Given_results_with_different_encoded_paths_When_calls_id_Then_should_not_collide() {
+        // Given
+        final var aResourceId = IdUtils.uuid();
+        final var aKey = EncoderResultKey.from(UpdateMediaStatusCommand.with(
+                MediaStatus.COMPLETED, IdUtils.uuid(), aResourceId, "encoded", "videoId-a/type-VIDEO"));
+        final var anotherKey = EncoderResultKey.from(UpdateMediaStatusCommand.with(
+                MediaStatus.COMPLETED, IdUtils.uuid(), aResourceId, "encoded", "videoId-b/type-VIDEO"));
+
+        // Then
+        assertNotEquals(aKey.id(), anotherKey.id());
+        assertEquals(64, aKey.id().length());
+    }
+
+    @Test
+    void Given_deduplication_disabled_When_calls_is_duplicate_Then_should_never_touch_the_marker_table() {
+        // Given
+        final var props = new DeduplicationProperties();
+        props.setEnabled(false);
+        final var aDeduplicator = new EncoderResultDeduplicator(props, processedEncoderResultRepository, registry);
+        final var aKey = newKey();
+
+        // When
+        aDeduplicator.markProcessed(aKey);
+        final var actualDuplicate = aDeduplicator.isDuplicate(aKey);
+
+        // Then
+        assertFalse(actualDuplicate);
+        verifyNoInteractions(processedEncoderResultRepository);
+    }
+
+    private static EncoderResultKey newKey() {
+        return EncoderResultKey.from(UpdateMediaStatusCommand.with(
+                MediaStatus.COMPLETED,
+                IdUtils.uuid(),
+                IdUtils.uuid(),
+                "encoded",
+                "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())));
+    }
+}
@@ -0,0 +1,187 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.RetryProperties;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class EncoderResultRetrierTest {
+
+    private RabbitOperations ops;
+    private RetryProperties props;
+    private EncoderResultRetrier retrier;
+
+    @BeforeEach
+    void setUp() {
+        this.ops = mock(RabbitOperations.class);
+        this.props = new RetryProperties();
+        this.props.setExchange("video.events.retry");
+        this.props.setDelayQueuePrefix("video.encoded.retry");
+        this.props.setParkingLotQueue("video.encoded.parking-lot");
+        this.props.setMaxAttempts(3);
+        this.props.setInitialDelay(Duration.ofSeconds(1));
+        this.props.setMultiplier(4.0);
+        this.props.setMaxDelay(Duration.ofSeconds(10));
+
+        final var queueProps = new QueueProperties();
+        queueProps.setExchange("video.events");
+        queueProps.setRoutingKey("video.encoded");
+
+        this.retrier = new EncoderResultRetrier(props, queueProps, ops, new SimpleMeterRegistry());
+
+        when(ops.invoke(any()))
+                .thenAnswer(invocation -> invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(ops));
+    }
+
+    @Test
+    void Given_attempts_When_calls_delay_of_Then_should_back_off_exponentially_up_to_the_max() {
+        assertEquals(Duration.ofSeconds(1), props.delayOf(1));
+        assertEquals(Duration.ofSeconds(4), props.delayOf(2));
+        assertEquals(Duration.ofSeconds(10), props.delayOf(3));
+    }
+
+    @Test
+    void Given_a_first_failure_When_calls_retry_Then_should_send_it_to_the_first_delay_queue() {
+        // Given
+        final var aMessage = message(null);
+
+        // When
+        retrier.retry(aMessage, "Database is down");
+
+        // Then
+        final var captor = ArgumentCaptor.forClass(Message.class);
+        verify(ops, times(1)).send(eq("video.events.retry"), eq("video.encoded.retry.1.1000ms"), captor.capture());
+        verify(ops, times(1)).waitForConfirmsOrDie(5000L);
+        assertEquals(1, EncoderResultRetrier.attemptOf(captor.getValue()));
+        assertEquals("Database is down", captor.getValue().getMessageProperties().getHeader(EncoderResultRetrier.REASON_HEADER));
+        assertArrayEquals(aMessage.getBody(), captor.getValue().getBody());
+    }
+
+    @Test
+    void Given_a_retried_failure_When_calls_retry_Then_should_send_it_to_the_next_delay_queue() {
+        // When
+        retrier.retry(message(2), "Database is down");
+
+        // Then
+        final var captor = ArgumentCaptor.forClass(Message.class);
+        verify(ops, times(1)).send(eq("video.events.retry"), eq("video.encoded.retry.3.10000ms"), captor.capture());
+        assertEquals(3, EncoderResultRetrier.attemptOf(captor.getValue()));
+    }
+
+    @Test
+    void Given_an_exhausted_failure_When_calls_retry_Then_should_park_it() {
+        // When
+        retrier.retry(message(3), "Database is down");
+
+        // Then
+        verify(ops, times(1)).send(eq("video.events.retry"), eq("video.encoded.parking-lot"), any(Message.class));
+        verify(ops, never()).send(eq("video.events.retry"), startsWith("video.encoded.retry."), any(Message.class));
+    }
+
+    @Test
+    void Given_an_unconfirmed_retry_When_calls_retry_Then_should_throw_so_the_delivery_is_not_acked() {
+        // Given
+        doThrow(new AmqpTimeoutException("no confirm"))
+                .when(ops).waitForConfirmsOrDie(anyLong());
+
+        // When
+        assertThrows(AmqpTimeoutException.class, () -> retrier.retry(message(null), "Database is down"));
+
+        // Then
+        verify(ops, times(1)).send(eq("video.events.retry"), eq("video.encoded.retry.1.1000ms"), any(Message.class));
+    }
+
+    @Test
+    void Given_a_changed_initial_delay_When_calls_delay_queue_of_Then_should_name_a_new_queue() {
+        // Given
+        final var aBefore = props.delayQueueOf(1);
+
+        // When
+        props.setInitialDelay(Duration.ofSeconds(2));
+
+        // Then
+        assertNotEquals(aBefore, props.delayQueueOf(1));
+        assertEquals("video.encoded.retry.1.2000ms", props.delayQueueOf(1));
+    }
+
+    @Test
+    void Given_parked_results_When_calls_replay_parked_Then_should_republish_them_without_retry_headers() throws Exception {
+        // Given
+        final var aChannel = mock(Channel.class);
+        final var aProps = new AMQP.BasicProperties.Builder()
+                .headers(Map.of(EncoderResultRetrier.ATTEMPT_HEADER, 3, "x-trace", "abc"))
+                .build();
+        final var aParked = new GetResponse(new Envelope(7L, false, "video.events.retry", "video.encoded.parking-lot"),
+                aProps, "{}".getBytes(StandardCharsets.UTF_8), 1);
+
+        when(aChannel.basicGet("video.encoded.parking-lot", false))
+                .thenReturn(aParked, (GetResponse) null);
+        when(ops.execute(any()))
+                .thenAnswer(invocation -> invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(aChannel));
+
+        // When
+        final var actualReplayed = retrier.replayParked(10);
+
+        // Then
+        assertEquals(1, actualReplayed);
+        final var propsCaptor = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(aChannel, times(1)).basicPublish(eq("video.events"), eq("video.encoded"), propsCaptor.capture(), any());
+        assertFalse(propsCaptor.getValue().getHeaders().containsKey(EncoderResultRetrier.ATTEMPT_HEADER));
+        assertEquals("abc", propsCaptor.getValue().getHeaders().get("x-trace"));
+        final var inOrder = inOrder(aChannel);
+        inOrder.verify(aChannel).waitForConfirmsOrDie(5000L);
+        inOrder.verify(aChannel).basicAck(7L, false);
+    }
+
+    @Test
+    void Given_an_unconfirmed_replay_When_calls_replay_parked_Then_should_keep_the_parked_result() throws Exception {
+        // Given
+        final var aChannel = mock(Channel.class);
+        final var aParked = new GetResponse(new Envelope(7L, false, "video.events.retry", "video.encoded.parking-lot"),
+                new AMQP.BasicProperties.Builder().build(), "{}".getBytes(StandardCharsets.UTF_8), 1);
+
+        when(aChannel.basicGet("video.encoded.parking-lot", false))
+                .thenReturn(aParked);
+        doThrow(new TimeoutException("no confirm"))
+                .when(aChannel).waitForConfirmsOrDie(anyLong());
+        when(ops.execute(any()))
+                .thenAnswer(invocation -> invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(aChannel));
+
+        // When
+        assertThrows(TimeoutException.class, () -> retrier.replayParked(10));
+
+        // Then
+        verify(aChannel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    private static Message message(final Integer anAttempt) {
+        final var properties = new MessageProperties();
+        if (anAttempt != null) {
+            properties.setHeader(EncoderResultRetrier.ATTEMPT_HEADER, anAttempt);
+        }
+        return new Message("{}".getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.EventFormat;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderError;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderResult;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMessage;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class EventMessageConverterTest {
+
+    private final EventMessageConverter converter = new EventMessageConverter(new Jackson2JsonMessageConverter());
+
+    @Test
+    void Given_a_json_message_and_a_string_target_When_calls_fromMessage_Then_should_return_the_raw_payload() {
+        // Given
+        final var expectedPayload = "{\"resource_id\":\"123\"}";
+        final var aMessage = messageOf(EventFormat.JSON, expectedPayload.getBytes(StandardCharsets.UTF_8), String.class);
+
+        // When
+        final var actualPayload = converter.fromMessage(aMessage);
+
+        // Then
+        assertEquals(expectedPayload, actualPayload);
+    }
+
+    @Test
+    void Given_a_smile_message_When_calls_fromMessage_Then_should_decode_it_with_the_binary_mapper() {
+        // Given
+        final var expectedResult = new VideoEncoderError(new VideoMessage("123", "abc"), "Video not found");
+        final var aMessage = messageOf(
+                EventFormat.SMILE, EventFormat.SMILE.writeValueAsBytes(expectedResult), VideoEncoderResult.class);
+
+        // When
+        final var actualResult = converter.fromMessage(aMessage);
+
+        // Then
+        assertEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    void Given_a_cbor_message_with_invalid_content_When_calls_fromMessage_Then_should_throw_conversion_exception() {
+        // Given
+        final var aMessage = messageOf(EventFormat.CBOR, new byte[]{(byte) 0xFF, 0x01}, VideoEncoderResult.class);
+
+        // When
+        final var actualException = assertThrows(MessageConversionException.class, () -> converter.fromMessage(aMessage));
+
+        // Then
+        assertEquals("Failed to read CBOR message", actualException.getMessage());
+    }
+
+    private static Message messageOf(final EventFormat format, final byte[] body, final Type target) {
+        final var properties = new MessageProperties();
+        properties.setContentType(format.contentType() + (format.isText() ? ";charset=UTF-8" : ""));
+        properties.setInferredArgumentType(target);
+        return new Message(body, properties);
+    }
+}
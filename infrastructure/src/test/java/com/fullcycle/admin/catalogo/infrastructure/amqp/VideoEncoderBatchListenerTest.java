@@ -0,0 +1,224 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusBatchOutput;
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusBatchUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderError;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMessage;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMetadata;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class VideoEncoderBatchListenerTest {
+
+    private UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase;
+    private EncoderResultDeduplicator deduplicator;
+    private EncoderResultRetrier retrier;
+    private Channel channel;
+    private VideoEncoderBatchListener listener;
+
+    @BeforeEach
+    void setUp() {
+        this.updateMediaStatusBatchUseCase = mock(UpdateMediaStatusBatchUseCase.class);
+        this.deduplicator = mock(EncoderResultDeduplicator.class);
+        this.retrier = mock(EncoderResultRetrier.class);
+        this.channel = mock(Channel.class);
+        this.listener = new VideoEncoderBatchListener(updateMediaStatusBatchUseCase, deduplicator, retrier);
+    }
+
+    @Test
+    void Given_a_batch_of_completed_results_When_calls_listener_Then_should_execute_once_and_ack_multiple() throws Exception {
+        // Given
+        final var aVideoId = IdUtils.uuid();
+        final var messages = List.of(
+                completed(1, "videoId-%s/type-VIDEO".formatted(aVideoId)),
+                completed(2, "videoId-%s/type-TRAILER".formatted(aVideoId)),
+                completed(3, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())));
+
+        when(updateMediaStatusBatchUseCase.execute(any()))
+                .thenReturn(UpdateMediaStatusBatchOutput.from(2, List.of()));
+
+        // When
+        listener.onVideoEncodedMessages(messages, channel);
+
+        // Then
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<UpdateMediaStatusCommand>> captor = ArgumentCaptor.forClass(List.class);
+        verify(updateMediaStatusBatchUseCase, times(1)).execute(captor.capture());
+        assertEquals(3, captor.getValue().size());
+
+        verify(channel, times(1)).basicAck(3L, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+        verify(deduplicator, times(3)).markProcessed(any());
+    }
+
+    @Test
+    void Given_an_already_processed_result_When_calls_listener_Then_should_skip_it_and_ack_it() throws Exception {
+        // Given
+        final var messages = List.of(
+                completed(1, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())),
+                completed(2, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())));
+
+        when(deduplicator.isDuplicate(any()))
+                .thenReturn(true, false);
+        when(updateMediaStatusBatchUseCase.execute(any()))
+                .thenReturn(UpdateMediaStatusBatchOutput.from(1, List.of()));
+
+        // When
+        listener.onVideoEncodedMessages(messages, channel);
+
+        // Then
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<UpdateMediaStatusCommand>> captor = ArgumentCaptor.forClass(List.class);
+        verify(updateMediaStatusBatchUseCase, times(1)).execute(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        verify(deduplicator, times(1)).markProcessed(any());
+
+        verify(channel, times(1)).basicAck(2L, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void Given_only_already_processed_results_When_calls_listener_Then_should_ack_without_executing() throws Exception {
+        // Given
+        final var messages = List.of(
+                completed(1, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())),
+                completed(2, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())));
+
+        when(deduplicator.isDuplicate(any()))
+                .thenReturn(true);
+
+        // When
+        listener.onVideoEncodedMessages(messages, channel);
+
+        // Then
+        verify(updateMediaStatusBatchUseCase, never()).execute(any());
+        verify(channel, times(1)).basicAck(2L, true);
+    }
+
+    @Test
+    void Given_an_unreadable_and_a_failing_result_When_calls_listener_Then_should_park_and_retry_only_those() throws Exception {
+        // Given
+        final var anUnreadable = message(2, "{not json");
+        final var aFailing = completed(4, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid()));
+        final var messages = List.of(
+                completed(1, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())),
+                anUnreadable,
+                completed(3, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())),
+                aFailing);
+
+        when(updateMediaStatusBatchUseCase.execute(any()))
+                .thenReturn(UpdateMediaStatusBatchOutput.from(2, List.of(2)));
+
+        // When
+        listener.onVideoEncodedMessages(messages, channel);
+
+        // Then
+        verify(retrier, times(1)).park(eq(anUnreadable), any());
+        verify(retrier, times(1)).retry(eq(aFailing), any());
+        verify(channel, times(1)).basicAck(4L, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+        verify(deduplicator, times(2)).markProcessed(any());
+    }
+
+    @Test
+    void Given_an_error_result_When_calls_listener_Then_should_mark_the_media_as_error() throws Exception {
+        // Given
+        final var expectedResourceId = IdUtils.uuid();
+        final var messages = List.of(
+                message(1, Json.writeValueAsString(new VideoEncoderError(
+                        new VideoMessage(expectedResourceId, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())),
+                        "Video not found"))));
+
+        when(updateMediaStatusBatchUseCase.execute(any()))
+                .thenReturn(UpdateMediaStatusBatchOutput.from(1, List.of()));
+
+        // When
+        listener.onVideoEncodedMessages(messages, channel);
+
+        // Then
+        @SuppressWarnings("unchecked") final ArgumentCaptor<List<UpdateMediaStatusCommand>> captor = ArgumentCaptor.forClass(List.class);
+        verify(updateMediaStatusBatchUseCase, times(1)).execute(captor.capture());
+        assertEquals(MediaStatus.ERROR, captor.getValue().get(0).status());
+        assertEquals(expectedResourceId, captor.getValue().get(0).resourceId());
+        verify(channel, times(1)).basicAck(1L, true);
+    }
+
+    @Test
+    void Given_a_use_case_failure_When_calls_listener_Then_should_retry_every_result() throws Exception {
+        // Given
+        final var messages = List.of(
+                completed(1, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())),
+                completed(2, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())));
+
+        when(updateMediaStatusBatchUseCase.execute(any()))
+                .thenThrow(new IllegalStateException("Gateway error"));
+
+        // When
+        listener.onVideoEncodedMessages(messages, channel);
+
+        // Then
+        verify(retrier, times(2)).retry(any(), any());
+        verify(channel, times(1)).basicAck(2L, true);
+        verify(deduplicator, never()).markProcessed(any());
+    }
+
+    @Test
+    void Given_a_retry_that_cannot_be_published_When_calls_listener_Then_should_requeue_only_that_result() throws Exception {
+        // Given
+        final var aFailing = completed(2, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid()));
+        final var messages = List.of(
+                completed(1, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())),
+                aFailing,
+                completed(3, "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())));
+
+        when(updateMediaStatusBatchUseCase.execute(any()))
+                .thenReturn(UpdateMediaStatusBatchOutput.from(2, List.of(1)));
+        doThrow(new AmqpTimeoutException("timed out"))
+                .when(retrier).retry(eq(aFailing), any());
+
+        // When
+        listener.onVideoEncodedMessages(messages, channel);
+
+        // Then
+        verify(channel, times(1)).basicAck(1L, false);
+        verify(channel, times(1)).basicNack(2L, false, true);
+        verify(channel, times(1)).basicAck(3L, false);
+        verify(channel, never()).basicAck(anyLong(), eq(true));
+    }
+
+    private static Message completed(final long aTag, final String aFilePath) {
+        return message(aTag, Json.writeValueAsString(new VideoEncoderCompleted(
+                IdUtils.uuid(),
+                "codeeducationtest",
+                new VideoMetadata("anyfolder", IdUtils.uuid(), aFilePath),
+                "",
+                Instant.now(),
+                Instant.now())));
+    }
+
+    private static Message message(final long aTag, final String aBody) {
+        final var properties = new MessageProperties();
+        properties.setDeliveryTag(aTag);
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message(aBody.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
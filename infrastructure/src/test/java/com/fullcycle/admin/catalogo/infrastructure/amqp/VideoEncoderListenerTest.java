@@ -3,8 +3,11 @@ package com.fullcycle.admin.catalogo.infrastructure.amqp;
 import com.fullcycle.admin.catalogo.AmqpTest;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
@@ -12,19 +15,27 @@ import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderComp
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderError;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMessage;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMetadata;
+import com.rabbitmq.client.Channel;
 import org.junit.jupiter.api.*;
 import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
 import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -40,10 +51,154 @@ public class VideoEncoderListenerTest {
     @MockBean
     private UpdateMediaStatusUseCase updateMediaStatusUseCase;
 
+    @MockBean
+    private EncoderResultRetrier retrier;
+
     @Autowired
     @VideoEncodedQueue
     private QueueProperties queueProperties;
 
+    @Autowired
+    private VideoEncoderListener listener;
+
+    @Nested
+    @DisplayName("Skip redelivered results")
+    class OnDuplicateResults {
+
+        @Test
+        void Given_the_same_result_delivered_twice_When_calls_listener_Then_should_execute_once_and_ack_both() throws Exception {
+            // Given
+            final var aChannel = mock(Channel.class);
+            final var aResult = new VideoEncoderCompleted(
+                    IdUtils.uuid(),
+                    "codeeducationtest",
+                    new VideoMetadata("anyfolder", IdUtils.uuid(), "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())),
+                    "",
+                    Instant.now(),
+                    Instant.now());
+
+            doNothing()
+                    .when(updateMediaStatusUseCase).execute(any());
+
+            // When
+            listener.onVideoEncodedMessage(aResult, aMessage(), aChannel, 1L);
+            listener.onVideoEncodedMessage(aResult, aMessage(), aChannel, 2L);
+
+            // Then
+            verify(updateMediaStatusUseCase, times(1)).execute(any());
+            verify(aChannel, times(1)).basicAck(1L, false);
+            verify(aChannel, times(1)).basicAck(2L, false);
+        }
+    }
+
+    @Nested
+    @DisplayName("Retry failed results")
+    class OnFailedResults {
+
+        @Test
+        void Given_a_transient_failure_When_calls_listener_Then_should_schedule_a_retry_and_ack() throws Exception {
+            // Given
+            final var aChannel = mock(Channel.class);
+            final var aMessage = aMessage();
+
+            doThrow(new IllegalStateException("Database is down"))
+                    .when(updateMediaStatusUseCase).execute(any());
+
+            // When
+            listener.onVideoEncodedMessage(completed(), aMessage, aChannel, 1L);
+
+            // Then
+            verify(retrier, times(1)).retry(aMessage, "Database is down");
+            verify(retrier, never()).park(any(), any());
+            verify(aChannel, times(1)).basicAck(1L, false);
+        }
+
+        @Test
+        void Given_a_result_of_a_missing_video_When_calls_listener_Then_should_park_it_and_ack() throws Exception {
+            // Given
+            final var aChannel = mock(Channel.class);
+            final var aMessage = aMessage();
+
+            doThrow(NotFoundException.with(Video.class, VideoID.unique()))
+                    .when(updateMediaStatusUseCase).execute(any());
+
+            // When
+            listener.onVideoEncodedMessage(completed(), aMessage, aChannel, 1L);
+
+            // Then
+            verify(retrier, times(1)).park(eq(aMessage), any());
+            verify(retrier, never()).retry(any(), any());
+            verify(aChannel, times(1)).basicAck(1L, false);
+        }
+
+        @Test
+        void Given_an_error_result_When_calls_listener_Then_should_mark_the_media_as_error_and_ack() throws Exception {
+            // Given
+            final var aChannel = mock(Channel.class);
+            final var expectedResourceId = IdUtils.uuid();
+            final var expectedFilePath = "videoId-%s/type-VIDEO".formatted(IdUtils.uuid());
+            final var aResult = new VideoEncoderError(
+                    new VideoMessage(expectedResourceId, expectedFilePath), "Video not found");
+
+            // When
+            listener.onVideoEncodedMessage(aResult, aMessage(), aChannel, 1L);
+
+            // Then
+            final var cmdCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
+            verify(updateMediaStatusUseCase, times(1)).execute(cmdCaptor.capture());
+            final var actualCommand = cmdCaptor.getValue();
+            assertEquals(MediaStatus.ERROR, actualCommand.status());
+            assertEquals(expectedResourceId, actualCommand.resourceId());
+            assertEquals(expectedFilePath, actualCommand.filename());
+            verify(aChannel, times(1)).basicAck(1L, false);
+        }
+
+        @Test
+        void Given_an_error_result_without_media_When_calls_listener_Then_should_park_it_as_an_encoder_error() throws Exception {
+            // Given
+            final var aChannel = mock(Channel.class);
+            final var aMessage = aMessage();
+            final var aResult = new VideoEncoderError(null, "Bucket not found");
+
+            // When
+            listener.onVideoEncodedMessage(aResult, aMessage, aChannel, 1L);
+
+            // Then
+            verify(retrier, times(1)).park(aMessage, "encoder error without media: Bucket not found");
+            verify(updateMediaStatusUseCase, never()).execute(any());
+            verify(aChannel, times(1)).basicAck(1L, false);
+        }
+
+        @Test
+        void Given_a_retry_that_cannot_be_published_When_calls_listener_Then_should_requeue_the_result() throws Exception {
+            // Given
+            final var aChannel = mock(Channel.class);
+            final var aMessage = aMessage();
+
+            doThrow(new IllegalStateException("Database is down"))
+                    .when(updateMediaStatusUseCase).execute(any());
+            doThrow(new AmqpTimeoutException("timed out"))
+                    .when(retrier).retry(any(), any());
+
+            // When
+            listener.onVideoEncodedMessage(completed(), aMessage, aChannel, 1L);
+
+            // Then
+            verify(aChannel, times(1)).basicNack(1L, false, true);
+            verify(aChannel, never()).basicAck(anyLong(), anyBoolean());
+        }
+
+        private static VideoEncoderCompleted completed() {
+            return new VideoEncoderCompleted(
+                    IdUtils.uuid(),
+                    "codeeducationtest",
+                    new VideoMetadata("anyfolder", IdUtils.uuid(), "videoId-%s/type-VIDEO".formatted(IdUtils.uuid())),
+                    "",
+                    Instant.now(),
+                    Instant.now());
+        }
+    }
+
     @Nested
     @DisplayName("Listen on error result")
     class OnErrorResult {
@@ -130,4 +285,8 @@ public class VideoEncoderListenerTest {
         }
         **/
     }
+
+    private static Message aMessage() {
+        return new Message("{}".getBytes(StandardCharsets.UTF_8), new MessageProperties());
+    }
 }
@@ -0,0 +1,162 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.ListenerProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.PublisherConfirmProperties;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderError;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMessage;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMetadata;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class VideoEncoderShardRouterTest {
+
+    private static final String SHARD_EXCHANGE = "video.encoded.shards";
+
+    private RabbitOperations ops;
+    private EncoderResultRetrier retrier;
+    private Channel channel;
+    private VideoEncoderShardRouter router;
+
+    @BeforeEach
+    void setUp() {
+        this.ops = mock(RabbitOperations.class);
+        this.retrier = mock(EncoderResultRetrier.class);
+        this.channel = mock(Channel.class);
+
+        final var props = new ListenerProperties();
+        props.setShardExchange(SHARD_EXCHANGE);
+        final var confirmProps = new PublisherConfirmProperties();
+        confirmProps.setTimeout(Duration.ofSeconds(5));
+
+        this.router = new VideoEncoderShardRouter(props, confirmProps, retrier, ops, Runnable::run);
+    }
+
+    @Test
+    void Given_results_of_the_same_video_When_calls_router_Then_should_route_both_by_video_id_and_ack() throws Exception {
+        // Given
+        final var expectedVideoId = IdUtils.uuid();
+        final var aCompleted = message(completed("videoId-%s/type-VIDEO".formatted(expectedVideoId)));
+        final var anError = message(new VideoEncoderError(
+                new VideoMessage(IdUtils.uuid(), "videoId-%s/type-TRAILER".formatted(expectedVideoId)), "Video not found"));
+
+        confirmWith(new CorrelationData.Confirm(true, null));
+
+        // When
+        router.onVideoEncodedMessage(aCompleted, channel, 1L);
+        router.onVideoEncodedMessage(anError, channel, 2L);
+
+        // Then
+        final var captor = ArgumentCaptor.forClass(Message.class);
+        verify(ops, times(2)).send(eq(SHARD_EXCHANGE), eq(expectedVideoId), captor.capture(), any(CorrelationData.class));
+        assertArrayEquals(aCompleted.getBody(), captor.getAllValues().get(0).getBody());
+        assertEquals(MessageDeliveryMode.PERSISTENT, captor.getAllValues().get(0).getMessageProperties().getDeliveryMode());
+        verify(channel, times(1)).basicAck(1L, false);
+        verify(channel, times(1)).basicAck(2L, false);
+    }
+
+    @Test
+    void Given_an_unconfirmed_publish_When_calls_router_Then_should_hand_the_result_to_the_retrier_and_ack() throws Exception {
+        // Given
+        final var aMessage = message(completed("videoId-%s/type-VIDEO".formatted(IdUtils.uuid())));
+
+        confirmWith(new CorrelationData.Confirm(false, "nacked"));
+
+        // When
+        router.onVideoEncodedMessage(aMessage, channel, 1L);
+
+        // Then
+        verify(retrier, times(1)).retry(aMessage, "shard routing failed: nacked");
+        verify(channel, times(1)).basicAck(1L, false);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void Given_an_unconfirmed_publish_and_a_failing_retrier_When_calls_router_Then_should_requeue_the_result() throws Exception {
+        // Given
+        final var aMessage = message(completed("videoId-%s/type-VIDEO".formatted(IdUtils.uuid())));
+
+        confirmWith(new CorrelationData.Confirm(false, "nacked"));
+        doThrow(new AmqpTimeoutException("timed out"))
+                .when(retrier).retry(any(), any());
+
+        // When
+        router.onVideoEncodedMessage(aMessage, channel, 1L);
+
+        // Then
+        verify(channel, times(1)).basicNack(1L, false, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void Given_a_pending_confirm_When_calls_router_Then_should_not_settle_the_result_yet() throws Exception {
+        // Given
+        final var aMessage = message(completed("videoId-%s/type-VIDEO".formatted(IdUtils.uuid())));
+
+        // When
+        router.onVideoEncodedMessage(aMessage, channel, 1L);
+
+        // Then
+        verify(ops, times(1)).send(eq(SHARD_EXCHANGE), anyString(), any(Message.class), any(CorrelationData.class));
+        verifyNoInteractions(channel, retrier);
+    }
+
+    @Test
+    void Given_an_error_result_without_media_When_calls_router_Then_should_route_it_by_message_id() throws Exception {
+        // Given
+        final var aMessage = message(new VideoEncoderError(null, "Bucket not found"));
+        aMessage.getMessageProperties().setMessageId("message-1");
+
+        confirmWith(new CorrelationData.Confirm(true, null));
+
+        // When
+        router.onVideoEncodedMessage(aMessage, channel, 1L);
+
+        // Then
+        verify(ops, times(1)).send(eq(SHARD_EXCHANGE), eq("message-1"), any(Message.class), any(CorrelationData.class));
+        verify(channel, times(1)).basicAck(1L, false);
+    }
+
+    private void confirmWith(final CorrelationData.Confirm aConfirm) {
+        doAnswer(invocation -> {
+            invocation.<CorrelationData>getArgument(3).getFuture().complete(aConfirm);
+            return null;
+        }).when(ops).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private static VideoEncoderCompleted completed(final String aFilePath) {
+        return new VideoEncoderCompleted(
+                IdUtils.uuid(),
+                "codeeducationtest",
+                new VideoMetadata("anyfolder", IdUtils.uuid(), aFilePath),
+                "",
+                Instant.now(),
+                Instant.now());
+    }
+
+    private static Message message(final Object aResult) {
+        final var properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message(Json.writeValueAsBytes(aResult), properties);
+    }
+}
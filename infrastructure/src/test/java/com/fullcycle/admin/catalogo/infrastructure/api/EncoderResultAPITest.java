@@ -0,0 +1,56 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ApiTest;
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.infrastructure.amqp.EncoderResultRetrier;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ControllerTest(controllers = EncoderResultAPI.class)
+public class EncoderResultAPITest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EncoderResultRetrier encoderResultRetrier;
+
+    @Nested
+    @DisplayName("Replay parked encoder results")
+    class ReplayParkedResults {
+
+        @Test
+        void Given_parked_results_When_calls_replay_parked_Then_should_return_how_many_were_replayed() throws Exception {
+            // Given
+            final var expectedMax = 50;
+            final var expectedReplayed = 3;
+
+            when(encoderResultRetrier.replayParked(expectedMax))
+                    .thenReturn(expectedReplayed);
+
+            final var aRequest = post("/encoder_results/parked/replay")
+                    .with(ApiTest.ADMIN_JWT)
+                    .param("max", String.valueOf(expectedMax));
+
+            // When
+            final var response = mockMvc.perform(aRequest)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.replayed", equalTo(expectedReplayed)));
+            verify(encoderResultRetrier, times(1)).replayParked(expectedMax);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.fullcycle.admin.catalogo.application.video.delete.DefaultDeleteVideoU
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaOutput;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.sign.SignMediaDownloadUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.DefaultListVideosUseCase;
@@ -20,9 +21,23 @@ import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoOutput;
 import com.fullcycle.admin.catalogo.application.video.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.upload.UploadMediaOutput;
 import com.fullcycle.admin.catalogo.application.video.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.chunk.UploadMediaChunkCommand;
+import com.fullcycle.admin.catalogo.application.video.upload.chunk.UploadMediaChunkOutput;
+import com.fullcycle.admin.catalogo.application.video.upload.chunk.UploadMediaChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.create.CreateMediaUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.upload.create.CreateMediaUploadOutput;
+import com.fullcycle.admin.catalogo.application.video.upload.create.CreateMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.retrieve.GetMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.retrieve.MediaUploadOutput;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.CompleteSignedUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.CompleteSignedUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.SignMediaUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.SignMediaUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.upload.signed.SignedMediaUrlOutput;
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
@@ -30,7 +45,10 @@ import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CompleteSignedUploadRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateMediaUploadRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.SignMediaUploadRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
 import org.junit.jupiter.api.*;
 import org.mockito.ArgumentCaptor;
@@ -86,6 +104,24 @@ class VideoAPITest {
     @MockBean
     private UploadMediaUseCase uploadMediaUseCase;
 
+    @MockBean
+    private CreateMediaUploadUseCase createMediaUploadUseCase;
+
+    @MockBean
+    private GetMediaUploadUseCase getMediaUploadUseCase;
+
+    @MockBean
+    private UploadMediaChunkUseCase uploadMediaChunkUseCase;
+
+    @MockBean
+    private SignMediaUploadUseCase signMediaUploadUseCase;
+
+    @MockBean
+    private CompleteSignedUploadUseCase completeSignedUploadUseCase;
+
+    @MockBean
+    private SignMediaDownloadUseCase signMediaDownloadUseCase;
+
     @Nested
     @DisplayName("Create a video with valid request")
     class CreateWithValidRequest {
@@ -187,6 +223,49 @@ class VideoAPITest {
             assertEquals(expectedThumbnailHalf.getOriginalFilename(), actualCommand.thumbnailHalf().name());
         }
 
+        @Test
+        void Given_a_valid_request_with_async_flag_When_calls_create_video_full_Then_should_return_created_with_async_command()
+                throws Exception {
+            // Given
+            final var expectedVideo = new MockMultipartFile("video_file", "video.mp4",
+                    "video/mp4", "video".getBytes());
+
+            final var expectedId = VideoID.unique();
+
+            when(createVideoUseCase.execute(any()))
+                    .thenReturn(CreateVideoOutput.from(expectedId));
+
+            final var mockMvcRequest = multipart("/videos")
+                    .file(expectedVideo)
+                    .param("title", Fixture.title())
+                    .param("description", Fixture.Videos.description())
+                    .param("year_launched", Fixture.year().toString())
+                    .param("duration", Fixture.duration().toString())
+                    .param("rating", Fixture.Videos.rating().getName())
+                    .param("async", "true")
+                    .accept(MediaType.APPLICATION_JSON)
+                    .contentType(MediaType.MULTIPART_FORM_DATA)
+                    .with(ApiTest.VIDEOS_JWT);
+
+            // When
+            final var response = mockMvc.perform(mockMvcRequest)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string("Location", "/videos/" + expectedId.getValue()))
+                    .andExpect(jsonPath("$.id", equalTo(expectedId.getValue())));
+
+            final var cmdCaptor = ArgumentCaptor.forClass(CreateVideoCommand.class);
+
+            verify(createVideoUseCase, times(1)).execute(cmdCaptor.capture());
+            final var actualCommand = cmdCaptor.getValue();
+
+            assertTrue(actualCommand.async());
+            assertEquals(expectedVideo.getOriginalFilename(), actualCommand.video().name());
+        }
+
         @Test
         void Given_a_valid_request_When_calls_create_video_partial_Then_should_return_its_identifier()
                 throws Exception {
@@ -257,6 +336,7 @@ class VideoAPITest {
             assertEquals(expectedCategories, actualCommand.categories());
             assertEquals(expectedGenres, actualCommand.genres());
             assertEquals(expectedCastMembers, actualCommand.castMembers());
+            assertEquals(expectedVersion, actualCommand.version());
             assertNull(actualCommand.video());
             assertNull(actualCommand.trailer());
             assertNull(actualCommand.banner());
@@ -508,6 +588,7 @@ class VideoAPITest {
             final var expectedCastMembers = Set.of(wesley.getId().getValue());
 
             final var expectedId = VideoID.unique();
+            final var expectedVersion = 3L;
 
             final var aRequest =
                     new UpdateVideoRequest(
@@ -520,7 +601,8 @@ class VideoAPITest {
                             expectedRating.getName(),
                             expectedCastMembers,
                             expectedCategories,
-                            expectedGenres
+                            expectedGenres,
+                            expectedVersion
                     );
 
             when(updateVideoUseCase.execute(any()))
@@ -601,7 +683,8 @@ class VideoAPITest {
                             expectedRating.getName(),
                             expectedCastMembers,
                             expectedCategories,
-                            expectedGenres
+                            expectedGenres,
+                            null
                     );
 
             final var expectedErrorMessage = "'title' should not be empty";
@@ -630,6 +713,52 @@ class VideoAPITest {
 
             verify(updateVideoUseCase, times(1)).execute(any());
         }
+
+        @Test
+        void Given_a_stale_version_When_calls_update_video_Then_should_return_conflict_with_the_current_version()
+                throws Exception {
+            // Given
+            final var expectedId = VideoID.unique();
+            final var expectedCurrentVersion = 4L;
+
+            final var aRequest =
+                    new UpdateVideoRequest(
+                            Fixture.title(),
+                            Fixture.Videos.description(),
+                            Fixture.duration(),
+                            Fixture.year(),
+                            Fixture.bool(),
+                            Fixture.bool(),
+                            Fixture.Videos.rating().getName(),
+                            Set.of(),
+                            Set.of(),
+                            Set.of(),
+                            3L
+                    );
+
+            final var expectedErrorMessage = "Video with ID %s was modified concurrently, current version is 4"
+                    .formatted(expectedId.getValue());
+
+            when(updateVideoUseCase.execute(any()))
+                    .thenThrow(ConflictException.with(Video.class, expectedId, expectedCurrentVersion));
+
+            final var request = put("/videos/{id}", expectedId.getValue())
+                    .with(ApiTest.VIDEOS_JWT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(aRequest));
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isConflict())
+                    .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)))
+                    .andExpect(jsonPath("$.current_version", equalTo(4)));
+        }
     }
 
     @Nested
@@ -913,6 +1042,249 @@ class VideoAPITest {
         }
     }
 
+    @Nested
+    @DisplayName("Resumable upload of a video media with valid request")
+    class ResumableUploadWithValidRequest {
+
+        @Test
+        void Given_a_valid_request_When_calls_create_media_upload_Then_should_return_upload_id()
+                throws Exception {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var expectedUploadId = MediaUploadID.unique();
+            final var expectedType = VideoMediaType.VIDEO;
+            final var aRequest = new CreateMediaUploadRequest("video.mp4", "video/mp4");
+
+            when(createMediaUploadUseCase.execute(any()))
+                    .thenReturn(new CreateMediaUploadOutput(
+                            expectedUploadId.getValue(), expectedVideoId.getValue(), expectedType));
+
+            final var request = post("/videos/{id}/medias/{type}/uploads",
+                    expectedVideoId.getValue(), expectedType.name())
+                    .with(ApiTest.VIDEOS_JWT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(aRequest));
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(LOCATION, "/videos/%s/uploads/%s"
+                            .formatted(expectedVideoId.getValue(), expectedUploadId.getValue())))
+                    .andExpect(jsonPath("$.upload_id", equalTo(expectedUploadId.getValue())))
+                    .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId.getValue())))
+                    .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+            final var captor = ArgumentCaptor.forClass(CreateMediaUploadCommand.class);
+            verify(createMediaUploadUseCase, times(1)).execute(captor.capture());
+            final var actualCommand = captor.getValue();
+            assertEquals(expectedVideoId.getValue(), actualCommand.videoId());
+            assertEquals(expectedType.name(), actualCommand.type());
+            assertEquals(aRequest.name(), actualCommand.name());
+            assertEquals(aRequest.contentType(), actualCommand.contentType());
+        }
+
+        @Test
+        void Given_a_valid_chunk_When_calls_upload_media_chunk_Then_should_return_next_offset()
+                throws Exception {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var expectedUploadId = MediaUploadID.unique();
+            final var expectedNumber = 2;
+            final var expectedOffset = 7L;
+            final var expectedContent = "chunk".getBytes();
+            final var expectedNextOffset = expectedOffset + expectedContent.length;
+
+            when(uploadMediaChunkUseCase.execute(any()))
+                    .thenReturn(new UploadMediaChunkOutput(
+                            expectedUploadId.getValue(), expectedNumber, expectedNextOffset));
+
+            final var request = put("/videos/{id}/uploads/{uploadId}/chunks/{number}",
+                    expectedVideoId.getValue(), expectedUploadId.getValue(), expectedNumber)
+                    .queryParam("offset", String.valueOf(expectedOffset))
+                    .with(ApiTest.VIDEOS_JWT)
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .content(expectedContent);
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.upload_id", equalTo(expectedUploadId.getValue())))
+                    .andExpect(jsonPath("$.number", equalTo(expectedNumber)))
+                    .andExpect(jsonPath("$.next_offset", equalTo((int) expectedNextOffset)));
+
+            final var captor = ArgumentCaptor.forClass(UploadMediaChunkCommand.class);
+            verify(uploadMediaChunkUseCase, times(1)).execute(captor.capture());
+            final var actualCommand = captor.getValue();
+            assertEquals(expectedVideoId.getValue(), actualCommand.videoId());
+            assertEquals(expectedUploadId.getValue(), actualCommand.uploadId());
+            assertEquals(expectedNumber, actualCommand.number());
+            assertEquals(expectedOffset, actualCommand.offset());
+            assertArrayEquals(expectedContent, actualCommand.resource().content());
+        }
+
+        @Test
+        void Given_a_valid_upload_When_calls_get_media_upload_Then_should_return_its_state()
+                throws Exception {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var anUpload = Fixture.Videos.upload(expectedVideoId, VideoMediaType.TRAILER);
+            anUpload.addChunk(MediaChunk.with(1, 0, 10, "abc"));
+
+            when(getMediaUploadUseCase.execute(any()))
+                    .thenReturn(MediaUploadOutput.from(anUpload));
+
+            final var request = get("/videos/{id}/uploads/{uploadId}",
+                    expectedVideoId.getValue(), anUpload.getId().getValue())
+                    .with(ApiTest.VIDEOS_JWT)
+                    .accept(MediaType.APPLICATION_JSON);
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.upload_id", equalTo(anUpload.getId().getValue())))
+                    .andExpect(jsonPath("$.media_type", equalTo(VideoMediaType.TRAILER.name())))
+                    .andExpect(jsonPath("$.status", equalTo(MediaUploadStatus.IN_PROGRESS.name())))
+                    .andExpect(jsonPath("$.next_offset", equalTo(10)))
+                    .andExpect(jsonPath("$.chunks", hasSize(1)))
+                    .andExpect(jsonPath("$.chunks[0].number", equalTo(1)))
+                    .andExpect(jsonPath("$.chunks[0].checksum", equalTo("abc")));
+        }
+
+        @Test
+        void Given_a_valid_upload_When_calls_complete_media_upload_Then_should_configure_media()
+                throws Exception {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var expectedUploadId = MediaUploadID.unique();
+            final var expectedType = VideoMediaType.VIDEO;
+
+            when(uploadMediaUseCase.execute(any()))
+                    .thenReturn(UploadMediaOutput.from(expectedVideoId.getValue(), expectedType));
+
+            final var request = post("/videos/{id}/uploads/{uploadId}/complete",
+                    expectedVideoId.getValue(), expectedUploadId.getValue())
+                    .with(ApiTest.VIDEOS_JWT)
+                    .accept(MediaType.APPLICATION_JSON);
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(LOCATION, "/videos/%s/medias/%s"
+                            .formatted(expectedVideoId.getValue(), expectedType.name())))
+                    .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId.getValue())))
+                    .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+            final var captor = ArgumentCaptor.forClass(UploadMediaCommand.class);
+            verify(uploadMediaUseCase, times(1)).execute(captor.capture());
+            final var actualCommand = captor.getValue();
+            assertEquals(expectedVideoId.getValue(), actualCommand.videoId());
+            assertEquals(expectedUploadId.getValue(), actualCommand.uploadId());
+            assertNull(actualCommand.videoResource());
+        }
+    }
+
+    @Nested
+    @DisplayName("Signed upload of a video media with valid request")
+    class SignedUploadWithValidRequest {
+
+        @Test
+        void Given_a_valid_request_When_calls_sign_media_upload_Then_should_return_signed_url()
+                throws Exception {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var expectedType = VideoMediaType.VIDEO;
+            final var expectedUrl = "http://localhost:8080/api/storage/videoId-%s/type-VIDEO?signature=abc"
+                    .formatted(expectedVideoId.getValue());
+            final var expectedMethod = "PUT";
+            final var expectedExpiresAt = InstantUtils.now();
+            final var aRequest = new SignMediaUploadRequest("video/mp4");
+
+            when(signMediaUploadUseCase.execute(any()))
+                    .thenReturn(new SignedMediaUrlOutput(
+                            expectedVideoId.getValue(), expectedType, expectedUrl, expectedMethod, expectedExpiresAt));
+
+            final var request = post("/videos/{id}/medias/{type}/signed-uploads",
+                    expectedVideoId.getValue(), expectedType.name())
+                    .with(ApiTest.VIDEOS_JWT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(aRequest));
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(LOCATION, expectedUrl))
+                    .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId.getValue())))
+                    .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())))
+                    .andExpect(jsonPath("$.url", equalTo(expectedUrl)))
+                    .andExpect(jsonPath("$.method", equalTo(expectedMethod)));
+
+            final var captor = ArgumentCaptor.forClass(SignMediaUploadCommand.class);
+            verify(signMediaUploadUseCase, times(1)).execute(captor.capture());
+            final var actualCommand = captor.getValue();
+            assertEquals(expectedVideoId.getValue(), actualCommand.videoId());
+            assertEquals(expectedType.name(), actualCommand.type());
+            assertEquals(aRequest.contentType(), actualCommand.contentType());
+        }
+
+        @Test
+        void Given_an_uploaded_media_When_calls_complete_signed_media_upload_Then_should_configure_media()
+                throws Exception {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var expectedType = VideoMediaType.BANNER;
+            final var aRequest = new CompleteSignedUploadRequest("banner.jpg", "03fe62de");
+
+            when(completeSignedUploadUseCase.execute(any()))
+                    .thenReturn(UploadMediaOutput.from(expectedVideoId.getValue(), expectedType));
+
+            final var request = post("/videos/{id}/medias/{type}/signed-uploads/complete",
+                    expectedVideoId.getValue(), expectedType.name())
+                    .with(ApiTest.VIDEOS_JWT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(aRequest));
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(LOCATION, "/videos/%s/medias/%s"
+                            .formatted(expectedVideoId.getValue(), expectedType.name())))
+                    .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId.getValue())))
+                    .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+            final var captor = ArgumentCaptor.forClass(CompleteSignedUploadCommand.class);
+            verify(completeSignedUploadUseCase, times(1)).execute(captor.capture());
+            final var actualCommand = captor.getValue();
+            assertEquals(expectedVideoId.getValue(), actualCommand.videoId());
+            assertEquals(expectedType.name(), actualCommand.type());
+            assertEquals(aRequest.name(), actualCommand.name());
+            assertEquals(aRequest.checksum(), actualCommand.checksum());
+        }
+    }
+
     private boolean openedOf(final ReleaseStatus aReleaseStatus) {
         return ReleaseStatus.RELEASED == aReleaseStatus;
     }
@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ApiTest;
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoSearchIndexer;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoSearchIndexer.CheckResult;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoSearchIndexer.RebuildResult;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ControllerTest(controllers = VideoSearchAPI.class)
+public class VideoSearchAPITest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VideoSearchIndexer videoSearchIndexer;
+
+    @Nested
+    @DisplayName("Rebuild the video search read model")
+    class Rebuild {
+
+        @Test
+        void Given_a_batch_size_When_calls_rebuild_Then_should_return_how_many_entries_were_indexed_and_removed() throws Exception {
+            // Given
+            final var expectedBatchSize = 200;
+            final var expectedIndexed = 42L;
+            final var expectedRemoved = 2L;
+
+            when(videoSearchIndexer.rebuild(expectedBatchSize))
+                    .thenReturn(new RebuildResult(expectedIndexed, expectedRemoved));
+
+            final var aRequest = post("/video_search/rebuild")
+                    .with(ApiTest.ADMIN_JWT)
+                    .param("batch_size", String.valueOf(expectedBatchSize));
+
+            // When
+            final var response = mockMvc.perform(aRequest)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.indexed", equalTo((int) expectedIndexed)))
+                    .andExpect(jsonPath("$.removed", equalTo((int) expectedRemoved)));
+            verify(videoSearchIndexer, times(1)).rebuild(expectedBatchSize);
+        }
+    }
+
+    @Nested
+    @DisplayName("Check the video search read model")
+    class Check {
+
+        @Test
+        void Given_an_inconsistent_read_model_When_calls_check_Then_should_report_the_divergent_ids() throws Exception {
+            // Given
+            final var expectedMissing = "123";
+            final var expectedStale = "456";
+            final var expectedOrphaned = "789";
+
+            when(videoSearchIndexer.check(anInt()))
+                    .thenReturn(new CheckResult(10, List.of(expectedMissing), List.of(expectedStale), List.of(expectedOrphaned)));
+
+            final var aRequest = get("/video_search/check")
+                    .with(ApiTest.ADMIN_JWT);
+
+            // When
+            final var response = mockMvc.perform(aRequest)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.consistent", equalTo(false)))
+                    .andExpect(jsonPath("$.checked", equalTo(10)))
+                    .andExpect(jsonPath("$.missing[0]", equalTo(expectedMissing)))
+                    .andExpect(jsonPath("$.stale[0]", equalTo(expectedStale)))
+                    .andExpect(jsonPath("$.orphaned[0]", equalTo(expectedOrphaned)));
+            verify(videoSearchIndexer, times(1)).check(500);
+        }
+    }
+}
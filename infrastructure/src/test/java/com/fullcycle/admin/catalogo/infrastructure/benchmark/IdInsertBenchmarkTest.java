@@ -0,0 +1,119 @@
+package com.fullcycle.admin.catalogo.infrastructure.benchmark;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdGenerator;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Testcontainers
+@Tag("benchmark")
+class IdInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(IdInsertBenchmarkTest.class);
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @Test
+    void Given_random_and_time_ordered_ids_When_inserting_rows_Then_should_report_throughput_and_index_size() throws Exception {
+        // Given
+        try (final var conn = connect()) {
+            // warm up the buffer pool and the JIT on a throwaway table
+            insert(conn, "warmup", IdGenerator.timeOrdered(), ROWS / 10);
+
+            // When
+            final var random = insert(conn, "ids_random", IdGenerator.random(), ROWS);
+            final var timeOrdered = insert(conn, "ids_time_ordered", IdGenerator.timeOrdered(), ROWS);
+
+            // Then
+            log.info("[benchmark:id.insert] [rows:{}] [scheme:random] {}", ROWS, random);
+            log.info("[benchmark:id.insert] [rows:{}] [scheme:time-ordered] {}", ROWS, timeOrdered);
+            assertEquals(ROWS, random.rows());
+            assertEquals(ROWS, timeOrdered.rows());
+        }
+    }
+
+    private static Result insert(
+            final Connection conn,
+            final String aTable,
+            final IdGenerator aGenerator,
+            final int aRows
+    ) throws SQLException {
+        try (final var ddl = conn.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS " + aTable);
+            ddl.execute("""
+                    CREATE TABLE %s (
+                        id CHAR(32) NOT NULL PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        created_at DATETIME(6) NOT NULL,
+                        INDEX idx_%s_name (name)
+                    )""".formatted(aTable, aTable));
+        }
+
+        final var start = System.nanoTime();
+        conn.setAutoCommit(false);
+        try (final var stmt = conn.prepareStatement(
+                "INSERT INTO " + aTable + " (id, name, created_at) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= aRows; i++) {
+                stmt.setString(1, aGenerator.generate());
+                stmt.setString(2, "name-" + i);
+                stmt.setTimestamp(3, Timestamp.from(Instant.now()));
+                stmt.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    stmt.executeBatch();
+                    conn.commit();
+                }
+            }
+            stmt.executeBatch();
+            conn.commit();
+        } finally {
+            conn.setAutoCommit(true);
+        }
+        final var elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        try (final var stmt = conn.createStatement()) {
+            stmt.execute("ANALYZE TABLE " + aTable);
+            try (final var rs = stmt.executeQuery("""
+                    SELECT (SELECT COUNT(*) FROM %s), data_length, index_length
+                    FROM information_schema.tables
+                    WHERE table_schema = DATABASE() AND table_name = '%s'""".formatted(aTable, aTable))) {
+                rs.next();
+                return new Result(rs.getInt(1), elapsedMillis, rs.getLong(2), rs.getLong(3));
+            }
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                MYSQL_CONTAINER.getJdbcUrl() + "?rewriteBatchedStatements=true",
+                MYSQL_CONTAINER.getUsername(),
+                MYSQL_CONTAINER.getPassword());
+    }
+
+    private record Result(int rows, long elapsedMillis, long dataLength, long indexLength) {
+
+        @Override
+        public String toString() {
+            return "[elapsed_ms:%d] [rows_per_s:%d] [data_bytes:%d] [index_bytes:%d]"
+                    .formatted(elapsedMillis, rows * 1000L / elapsedMillis, dataLength, indexLength);
+        }
+    }
+}
@@ -3,20 +3,26 @@ package com.fullcycle.admin.catalogo.infrastructure.castmember;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberDeleted;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CatalogEvents;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @MySQLGatewayTest
@@ -28,6 +34,10 @@ class CastMemberMySQLGatewayTest {
     @Autowired
     private CastMemberRepository castMemberRepository;
 
+    @MockBean
+    @CatalogEvents
+    private EventService eventService;
+
     @Nested
     @DisplayName("Create with a valid cast member")
     class CreateWithValidCastMember {
@@ -160,6 +170,7 @@ class CastMemberMySQLGatewayTest {
 
             // Then
             assertEquals(0, castMemberRepository.count());
+            verify(eventService, times(1)).sendAsync(any(CastMemberDeleted.class));
         }
     }
 
@@ -183,6 +194,7 @@ class CastMemberMySQLGatewayTest {
 
             // Then
             assertEquals(1, castMemberRepository.count());
+            verify(eventService, never()).sendAsync(any());
         }
     }
 
@@ -3,16 +3,23 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.ActivationStatus;
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryCreated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeleted;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CatalogEvents;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @MySQLGatewayTest
@@ -24,6 +31,10 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @MockBean
+    @CatalogEvents
+    private EventService eventService;
+
     @Nested
     @DisplayName("Create with a valid category")
     class CreateWithValidCategory {
@@ -51,6 +62,9 @@ class CategoryMySQLGatewayTest {
             assertEquals(aCategory.getDeletedAt(), actualCategory.getDeletedAt());
             assertNull(actualCategory.getDeletedAt());
 
+            verify(eventService, times(1)).sendAsync(any(CategoryCreated.class));
+            assertTrue(aCategory.getDomainEvents().isEmpty());
+
             categoryRepository.findById(expectedId.getValue())
                     .ifPresent(actualEntity -> {
 
@@ -269,6 +283,7 @@ class CategoryMySQLGatewayTest {
 
             // Then
             assertEquals(0, categoryRepository.count());
+            verify(eventService, times(1)).sendAsync(any(CategoryDeleted.class));
         }
     }
 
@@ -294,6 +309,7 @@ class CategoryMySQLGatewayTest {
 
             // Then
             assertEquals(1, categoryRepository.count());
+            verify(eventService, never()).sendAsync(any());
         }
     }
 
@@ -2,10 +2,13 @@ package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CatalogEvents;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
 import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.function.Executable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.dao.DataIntegrityViolationException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -17,6 +20,10 @@ public class CategoryRepositoryTest {
     @Autowired
     private CategoryRepository repository;
 
+    @MockBean
+    @CatalogEvents
+    private EventService eventService;
+
     @Nested
     @DisplayName("Save with an invalid category")
     class SaveWithInvalidCategory {
@@ -5,20 +5,27 @@ import com.fullcycle.admin.catalogo.domain.ActivationStatus;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreCreated;
+import com.fullcycle.admin.catalogo.domain.genre.GenreDeleted;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.CatalogEvents;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.util.Comparator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @MySQLGatewayTest
@@ -33,6 +40,10 @@ class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @MockBean
+    @CatalogEvents
+    private EventService eventService;
+
     @Nested
     @DisplayName("Create with a valid genre")
     class CreateWithValidGenre {
@@ -59,6 +70,7 @@ class GenreMySQLGatewayTest {
 
             // Then
             assertEquals(1, genreRepository.count());
+            verify(eventService, times(1)).sendAsync(any(GenreCreated.class));
 
             assertEquals(expectedId, actualGenre.getId());
             assertEquals(expectedName, actualGenre.getName());
@@ -410,6 +422,7 @@ class GenreMySQLGatewayTest {
 
             // Then
             assertEquals(0, genreRepository.count());
+            verify(eventService, times(1)).sendAsync(any(GenreDeleted.class));
         }
     }
 
@@ -429,6 +442,7 @@ class GenreMySQLGatewayTest {
 
             // Then
             assertEquals(0, genreRepository.count());
+            verify(eventService, never()).sendAsync(any());
         }
     }
 
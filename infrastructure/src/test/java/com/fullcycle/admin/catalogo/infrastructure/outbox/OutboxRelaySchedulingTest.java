@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@IntegrationTest
+@TestPropertySource(properties = "amqp.outbox.enabled=true")
+class OutboxRelaySchedulingTest {
+
+    @Autowired
+    private ScheduledTaskHolder scheduledTaskHolder;
+
+    @Test
+    void Given_the_default_relay_interval_When_the_context_starts_Then_should_schedule_the_relay() {
+        // When
+        final var actualDelays = relayDelaysOf(scheduledTaskHolder);
+
+        // Then
+        assertEquals(List.of(500L), actualDelays);
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+            "amqp.outbox.enabled=false",
+            "amqp.async-dispatch.enabled=true",
+            "amqp.async-dispatch.overflow-policy=spill"
+    })
+    class SpillingAsyncDispatch {
+
+        @Autowired
+        private ScheduledTaskHolder scheduledTaskHolder;
+
+        @Test
+        void Given_a_disabled_outbox_and_a_spilling_dispatch_When_the_context_starts_Then_should_schedule_the_relay() {
+            // When
+            final var actualDelays = relayDelaysOf(scheduledTaskHolder);
+
+            // Then
+            assertEquals(List.of(500L), actualDelays);
+        }
+    }
+
+    private static List<Long> relayDelaysOf(final ScheduledTaskHolder aHolder) {
+        return aHolder.getScheduledTasks().stream()
+                .map(ScheduledTask::getTask)
+                .filter(aTask -> aTask.getRunnable().toString().endsWith("OutboxRelay.run"))
+                .map(aTask -> ((FixedDelayTask) aTask).getInterval())
+                .toList();
+    }
+}
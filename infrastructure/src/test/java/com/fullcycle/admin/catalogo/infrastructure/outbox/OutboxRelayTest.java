@@ -0,0 +1,172 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaCreated;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.EventFormat;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.PublisherConfirmProperties;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.RabbitEventServiceFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Year;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@IntegrationTest
+@TestPropertySource(properties = {"amqp.outbox.enabled=true", "amqp.outbox.relay-interval=PT1H"})
+class OutboxRelayTest {
+
+    private static final String EXCHANGE = "video.events";
+    private static final String ROUTING_KEY = "video.created";
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RabbitOperations ops;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        this.ops = mock(RabbitOperations.class);
+        this.registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void Given_a_video_with_a_pending_media_When_calls_create_Then_should_write_the_event_to_the_outbox() {
+        // Given
+        final var aVideo = newVideo();
+        final var expectedEvent = (VideoMediaCreated) aVideo.getDomainEvents().get(0);
+
+        // When
+        videoGateway.create(aVideo);
+
+        // Then
+        final var actualEvents = outboxEventRepository.findAll();
+        assertEquals(1, actualEvents.size());
+        assertEquals(EXCHANGE, actualEvents.get(0).getExchange());
+        assertEquals(ROUTING_KEY, actualEvents.get(0).getRoutingKey());
+        assertEquals(VideoMediaCreated.class.getName(), actualEvents.get(0).getEventType());
+        assertEquals(EventFormat.JSON.contentType(), actualEvents.get(0).getContentType());
+        assertArrayEquals(Json.writeValueAsBytes(expectedEvent), actualEvents.get(0).getPayload());
+    }
+
+    @Test
+    void Given_pending_events_When_calls_drain_Then_should_publish_in_batches_with_confirms() {
+        // Given
+        videoGateway.create(newVideo());
+        videoGateway.create(newVideo());
+        videoGateway.create(newVideo());
+        final var expectedPayloads = outboxEventRepository.findAll().stream()
+                .map(OutboxEventJpaEntity::getPayload)
+                .toList();
+
+        confirmWith(true);
+        final var aRelay = relay(2);
+
+        // When
+        final var actualRelayed = aRelay.drain();
+
+        // Then
+        assertEquals(3, actualRelayed);
+        assertEquals(0, outboxEventRepository.count());
+        expectedPayloads.forEach(payload -> verify(ops).send(eq(EXCHANGE), eq(ROUTING_KEY),
+                argThat(message -> Arrays.equals(payload, message.getBody())
+                        && "application/json".equals(message.getMessageProperties().getContentType())),
+                any(CorrelationData.class)));
+        assertEquals(3, registry.get("outbox.relay.published").counter().count());
+        assertEquals(0, registry.get("outbox.relay.lag").gauge().value());
+    }
+
+    @Test
+    void Given_an_event_stored_as_smile_When_calls_drain_Then_should_publish_the_stored_bytes_and_content_type() {
+        // Given
+        final var expectedEvent = new VideoMediaCreated("resource", "filepath");
+        new OutboxEventService(EXCHANGE, ROUTING_KEY, outboxEventRepository, EventFormat.SMILE).send(expectedEvent);
+
+        confirmWith(true);
+        final var aRelay = relay(10);
+
+        // When
+        final var actualRelayed = aRelay.drain();
+
+        // Then
+        assertEquals(1, actualRelayed);
+        final var actualMessage = ArgumentCaptor.forClass(Message.class);
+        verify(ops).send(eq(EXCHANGE), eq(ROUTING_KEY), actualMessage.capture(), any(CorrelationData.class));
+        assertEquals(EventFormat.SMILE.contentType(), actualMessage.getValue().getMessageProperties().getContentType());
+        assertEquals(expectedEvent, EventFormat.SMILE.readValue(actualMessage.getValue().getBody(), VideoMediaCreated.class));
+    }
+
+    @Test
+    void Given_a_broker_that_does_not_confirm_When_calls_drain_Then_should_keep_events_in_the_outbox() {
+        // Given
+        videoGateway.create(newVideo());
+        confirmWith(false);
+
+        final var aRelay = relay(10);
+
+        // When
+        final var actualRelayed = aRelay.drain();
+
+        // Then
+        assertEquals(0, actualRelayed);
+        assertEquals(1, outboxEventRepository.count());
+        assertEquals(1, registry.get("outbox.relay.failures").counter().count());
+        verify(ops, times(3)).send(eq(EXCHANGE), eq(ROUTING_KEY), any(Message.class), any(CorrelationData.class));
+    }
+
+    private void confirmWith(final boolean ack) {
+        doAnswer(invocation -> {
+            invocation.<CorrelationData>getArgument(3).getFuture()
+                    .complete(new CorrelationData.Confirm(ack, ack ? null : "nacked"));
+            return null;
+        }).when(ops).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private OutboxRelay relay(final int aBatchSize) {
+        final var props = new OutboxProperties();
+        props.setBatchSize(aBatchSize);
+        props.setMaxBatchesPerRun(10);
+        final var confirmProps = new PublisherConfirmProperties();
+        confirmProps.setEnabled(true);
+        confirmProps.setTimeout(Duration.ofSeconds(5));
+        confirmProps.setMaxAttempts(3);
+        final var publisherFactory = new RabbitEventServiceFactory(ops, confirmProps, Runnable::run);
+        return new OutboxRelay(props, publisherFactory, outboxEventRepository, transactionManager, registry);
+    }
+
+    private static Video newVideo() {
+        return Video.newVideo(new Video.Builder(
+                        Fixture.title(),
+                        Fixture.Videos.description(),
+                        Year.of(Fixture.year()),
+                        Fixture.Videos.rating()))
+                .configureVideo(Fixture.Videos.audioVideo(VideoMediaType.VIDEO));
+    }
+}
@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence.routing;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ReadYourWritesFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void Given_a_write_request_When_filters_Then_should_stick_to_the_primary_and_set_the_cookie() throws Exception {
+        // Given
+        final var aFilter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+        final var aRequest = new MockHttpServletRequest("POST", "/videos");
+        final var aResponse = new MockHttpServletResponse();
+        final var actualSticky = new AtomicBoolean();
+
+        // When
+        aFilter.doFilter(aRequest, aResponse, (req, res) -> actualSticky.set(ReadYourWrites.isSticky()));
+
+        // Then
+        assertTrue(actualSticky.get());
+        assertNotNull(aResponse.getCookie(ReadYourWritesFilter.COOKIE));
+        assertFalse(ReadYourWrites.isSticky());
+    }
+
+    @Test
+    void Given_a_cookie_far_in_the_future_When_filters_Then_should_clamp_it_to_one_window() throws Exception {
+        // Given
+        final var aFilter = new ReadYourWritesFilter(Duration.ofMillis(50));
+        final var aRequest = new MockHttpServletRequest("GET", "/videos");
+        aRequest.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(Long.MAX_VALUE)));
+        final var actualStickyBefore = new AtomicBoolean();
+        final var actualStickyAfter = new AtomicBoolean(true);
+
+        // When
+        aFilter.doFilter(aRequest, new MockHttpServletResponse(), (req, res) -> {
+            actualStickyBefore.set(ReadYourWrites.isSticky());
+            try {
+                Thread.sleep(150);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            actualStickyAfter.set(ReadYourWrites.isSticky());
+        });
+
+        // Then
+        assertTrue(actualStickyBefore.get());
+        assertFalse(actualStickyAfter.get());
+    }
+}
@@ -0,0 +1,106 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence.routing;
+
+import com.fullcycle.admin.catalogo.infrastructure.persistence.routing.ReplicaRoutingDataSource.Target;
+import org.junit.jupiter.api.*;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        this.lagMonitor = mock(ReplicaLagMonitor.class);
+        this.routingDataSource = new ReplicaRoutingDataSource(
+                mock(DataSource.class), mock(DataSource.class), lagMonitor, Duration.ofSeconds(5));
+        ReadYourWrites.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void Given_a_read_only_transaction_and_a_fresh_replica_When_routes_Then_should_use_the_replica() {
+        // Given
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        readOnlyTransaction();
+
+        // When
+        final var actualTarget = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(Target.REPLICA, actualTarget);
+    }
+
+    @Test
+    void Given_a_read_only_transaction_and_a_lagging_replica_When_routes_Then_should_fall_back_to_the_primary() {
+        // Given
+        when(lagMonitor.isAvailable()).thenReturn(false);
+        readOnlyTransaction();
+
+        // When
+        final var actualTarget = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(Target.PRIMARY, actualTarget);
+    }
+
+    @Test
+    void Given_a_read_write_transaction_When_routes_Then_should_use_the_primary_and_stick_to_it_for_later_reads() {
+        // Given
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        final var actualWriteTarget = routingDataSource.determineCurrentLookupKey();
+        readOnlyTransaction();
+        final var actualReadTarget = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(Target.PRIMARY, actualWriteTarget);
+        assertEquals(Target.PRIMARY, actualReadTarget);
+        assertTrue(ReadYourWrites.isSticky());
+    }
+
+    @Test
+    void Given_an_expired_stickiness_window_When_routes_a_read_Then_should_use_the_replica_again() {
+        // Given
+        when(lagMonitor.isAvailable()).thenReturn(true);
+        ReadYourWrites.stickUntil(System.currentTimeMillis() - 1);
+        readOnlyTransaction();
+
+        // When
+        final var actualTarget = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(Target.REPLICA, actualTarget);
+    }
+
+    @Test
+    void Given_no_transaction_When_routes_Then_should_use_the_primary_without_sticking() {
+        // When
+        final var actualTarget = routingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertEquals(Target.PRIMARY, actualTarget);
+        assertFalse(ReadYourWrites.isSticky());
+    }
+
+    private static void readOnlyTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+}
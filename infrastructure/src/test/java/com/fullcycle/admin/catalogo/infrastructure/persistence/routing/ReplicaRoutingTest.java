@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.persistence.routing;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.datasource.ReplicaProperties;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@IntegrationTest
+@TestPropertySource(properties = "datasource.replica.enabled=true")
+public class ReplicaRoutingTest {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private ReplicaProperties replicaProperties;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        final var aDataSource = new DriverManagerDataSource(
+                replicaProperties.getUrl(), replicaProperties.getUsername(), replicaProperties.getPassword());
+        Flyway.configure()
+                .dataSource(aDataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        this.replica = new JdbcTemplate(aDataSource);
+        this.replica.update("DELETE FROM categories");
+        this.replicaLagMonitor.refresh();
+        // the clean up of the primary ran a write on this thread
+        ReadYourWrites.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void Given_a_row_only_on_the_replica_When_calls_find_by_id_Then_should_read_it_from_the_replica() {
+        // Given
+        final var expectedId = insertOnReplica("Filmes");
+
+        // When
+        final var actualCategory = categoryGateway.findById(expectedId);
+
+        // Then
+        assertTrue(replicaLagMonitor.isAvailable());
+        assertTrue(actualCategory.isPresent());
+        assertEquals("Filmes", actualCategory.get().getName());
+    }
+
+    @Test
+    void Given_a_recent_write_When_calls_find_by_id_Then_should_read_it_from_the_primary() {
+        // Given
+        final var aCategory = categoryGateway.create(Fixture.Categories.aulas());
+        final var aReplicaOnlyId = insertOnReplica("Filmes");
+
+        // When
+        final var actualWritten = categoryGateway.findById(aCategory.getId());
+        final var actualReplicaOnly = categoryGateway.findById(aReplicaOnlyId);
+
+        // Then
+        assertTrue(ReadYourWrites.isSticky());
+        assertTrue(actualWritten.isPresent());
+        assertTrue(actualReplicaOnly.isEmpty());
+    }
+
+    private CategoryID insertOnReplica(final String aName) {
+        final var anId = IdUtils.uuid();
+        final var now = Timestamp.from(Instant.now());
+        this.replica.update(
+                "INSERT INTO categories (id, name, description, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                anId, aName, null, true, now, now);
+        return CategoryID.from(anId);
+    }
+}
@@ -0,0 +1,174 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.cache;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class DiskCacheStorageServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private CountingStorageService remote;
+    private SimpleMeterRegistry registry;
+    private DiskCacheStorageService diskCacheStorageService;
+
+    @BeforeEach
+    void setUp() {
+        this.remote = new CountingStorageService();
+        this.registry = new SimpleMeterRegistry();
+        this.diskCacheStorageService = new DiskCacheStorageService(remote, directory, 16, 8, registry);
+    }
+
+    @Nested
+    @DisplayName("Get a resource with valid params")
+    class GetWithValidParams {
+
+        @Test
+        void Given_a_resource_read_twice_When_calls_get_Then_should_serve_the_second_read_from_disk() {
+            // Given
+            final var expectedResource = resource("thumbnail", "Conteudo");
+            remote.store("videoId-1/type-THUMBNAIL", expectedResource);
+
+            // When
+            final var firstRead = diskCacheStorageService.get("videoId-1/type-THUMBNAIL").orElseThrow();
+            final var secondRead = diskCacheStorageService.get("videoId-1/type-THUMBNAIL").orElseThrow();
+
+            // Then
+            assertEquals(expectedResource, firstRead);
+            assertEquals(expectedResource, secondRead);
+            assertEquals(1, remote.reads.get());
+            assertEquals(0.5, diskCacheStorageService.hitRatio());
+            assertEquals(8, registry.get("storage.cache.bytes.saved").counter().count());
+            assertEquals(8, diskCacheStorageService.size());
+        }
+
+        @Test
+        void Given_a_resource_changed_remotely_When_calls_get_Then_should_revalidate_and_refresh_it() {
+            // Given
+            final var previousResource = resource("banner", "Conteudo");
+            final var expectedResource = resource("banner", "Novidade");
+            remote.store("videoId-1/type-BANNER", previousResource);
+            diskCacheStorageService.get("videoId-1/type-BANNER");
+
+            remote.store("videoId-1/type-BANNER", expectedResource);
+
+            // When
+            final var actualResource = diskCacheStorageService.get("videoId-1/type-BANNER").orElseThrow();
+
+            // Then
+            assertEquals(expectedResource, actualResource);
+            assertEquals(2, remote.reads.get());
+            assertEquals(0, diskCacheStorageService.hitRatio());
+        }
+
+        @Test
+        void Given_a_resource_deleted_remotely_When_calls_get_Then_should_return_empty() throws IOException {
+            // Given
+            remote.store("videoId-1/type-BANNER", resource("banner", "Conteudo"));
+            diskCacheStorageService.get("videoId-1/type-BANNER");
+
+            remote.deleteAll(List.of("videoId-1/type-BANNER"));
+
+            // When
+            final var actualResource = diskCacheStorageService.get("videoId-1/type-BANNER");
+
+            // Then
+            assertTrue(actualResource.isEmpty());
+            assertEquals(0, diskCacheStorageService.size());
+            assertEquals(0, cachedFiles());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache resources within the size bounds")
+    class CacheWithinSizeBounds {
+
+        @Test
+        void Given_a_full_cache_When_calls_get_Then_should_evict_the_least_recently_used() throws IOException {
+            // Given
+            List.of("a", "b", "c").forEach(name -> remote.store(name, resource(name, "Conteudo")));
+
+            diskCacheStorageService.get("a");
+            diskCacheStorageService.get("b");
+            diskCacheStorageService.get("a");
+
+            // When
+            diskCacheStorageService.get("c");
+            diskCacheStorageService.get("a");
+            diskCacheStorageService.get("b");
+
+            // Then
+            assertEquals(4, remote.reads.get());
+            assertEquals(16, diskCacheStorageService.size());
+            assertEquals(2, cachedFiles());
+        }
+
+        @Test
+        void Given_a_resource_larger_than_an_entry_When_calls_get_Then_should_not_cache_it() throws IOException {
+            // Given
+            remote.store("videoId-1/type-VIDEO", resource("video", "Conteudo grande"));
+
+            // When
+            diskCacheStorageService.get("videoId-1/type-VIDEO");
+            diskCacheStorageService.get("videoId-1/type-VIDEO");
+
+            // Then
+            assertEquals(2, remote.reads.get());
+            assertEquals(0, cachedFiles());
+        }
+
+        @Test
+        void Given_a_cached_resource_When_calls_store_Then_should_evict_it() {
+            // Given
+            final var expectedResource = resource("banner", "Novidade");
+            remote.store("videoId-1/type-BANNER", resource("banner", "Conteudo"));
+            diskCacheStorageService.get("videoId-1/type-BANNER");
+
+            // When
+            diskCacheStorageService.store("videoId-1/type-BANNER", expectedResource);
+
+            // Then
+            assertEquals(0, diskCacheStorageService.size());
+            assertEquals(expectedResource, diskCacheStorageService.get("videoId-1/type-BANNER").orElseThrow());
+        }
+    }
+
+    private long cachedFiles() throws IOException {
+        try (final var files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static Resource resource(final String aName, final String aContent) {
+        return Resource.with(Integer.toHexString(aContent.hashCode()), aContent.getBytes(), "image/jpg", aName);
+    }
+
+    static class CountingStorageService extends InMemoryStorageService {
+
+        private final AtomicInteger reads = new AtomicInteger();
+
+        @Override
+        public Optional<Resource> get(final String name) {
+            reads.incrementAndGet();
+            return super.get(name);
+        }
+
+        @Override
+        public Optional<String> versionOf(final String name) {
+            return Optional.ofNullable(storage().get(name)).map(Resource::checksum);
+        }
+    }
+}
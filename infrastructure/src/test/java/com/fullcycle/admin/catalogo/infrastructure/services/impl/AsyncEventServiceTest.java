@@ -0,0 +1,184 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.AsyncDispatchProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.AsyncEventService.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AsyncEventServiceTest {
+
+    private SimpleMeterRegistry registry;
+    private List<Object> published;
+    private CountDownLatch started;
+    private CountDownLatch release;
+    private EventService delegate;
+    private AsyncEventService asyncEventService;
+
+    @BeforeEach
+    void setUp() {
+        this.registry = new SimpleMeterRegistry();
+        this.published = new CopyOnWriteArrayList<>();
+        this.started = new CountDownLatch(1);
+        this.release = new CountDownLatch(1);
+        this.delegate = event -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            published.add(event);
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.release.countDown();
+        if (this.asyncEventService != null) {
+            this.asyncEventService.close();
+        }
+    }
+
+    @Test
+    void Given_events_When_calls_send_Then_should_publish_them_in_order_on_the_publisher_thread() throws Exception {
+        // Given
+        this.release.countDown();
+        this.asyncEventService = new AsyncEventService("test", delegate, null, props(OverflowPolicy.BLOCK, 16), registry);
+
+        // When
+        asyncEventService.send("1");
+        asyncEventService.send("2");
+        asyncEventService.send("3");
+        asyncEventService.close();
+
+        // Then
+        assertEquals(List.of("1", "2", "3"), published);
+        assertEquals(0, asyncEventService.depth());
+    }
+
+    @Test
+    void Given_a_full_buffer_and_drop_policy_When_calls_send_Then_should_drop_and_count_the_event() throws Exception {
+        // Given
+        this.asyncEventService = new AsyncEventService("test", delegate, null, props(OverflowPolicy.DROP, 2), registry);
+        asyncEventService.send("1");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        asyncEventService.send("2");
+        asyncEventService.send("3");
+
+        // When
+        asyncEventService.send("4");
+
+        // Then
+        assertEquals(2, asyncEventService.depth());
+        assertEquals(2.0, registry.get("events.dispatch.queue.depth").tag("name", "test").gauge().value());
+        assertEquals(1.0, registry.get("events.dispatch.dropped").tag("name", "test").counter().count());
+
+        release.countDown();
+        asyncEventService.close();
+        assertEquals(List.of("1", "2", "3"), published);
+    }
+
+    @Test
+    void Given_a_full_buffer_and_spill_policy_When_calls_send_Then_should_send_the_event_to_the_spillover() throws Exception {
+        // Given
+        final var spillover = mock(EventService.class);
+        this.asyncEventService = new AsyncEventService("test", delegate, spillover, props(OverflowPolicy.SPILL, 1), registry);
+        asyncEventService.send("1");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        asyncEventService.send("2");
+
+        // When
+        asyncEventService.send("3");
+
+        // Then
+        verify(spillover, times(1)).send("3");
+        assertEquals(1.0, registry.get("events.dispatch.spilled").tag("name", "test").counter().count());
+    }
+
+    @Test
+    void Given_a_full_buffer_and_block_policy_When_the_timeout_expires_Then_should_drop_the_event() throws Exception {
+        // Given
+        this.asyncEventService = new AsyncEventService("test", delegate, null, props(OverflowPolicy.BLOCK, 1), registry);
+        asyncEventService.send("1");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        asyncEventService.send("2");
+
+        // When
+        asyncEventService.send("3");
+
+        // Then
+        assertEquals(1.0, registry.get("events.dispatch.dropped").tag("name", "test").counter().count());
+    }
+
+    @Test
+    void Given_a_failing_delegate_When_publishes_Then_should_count_and_spill_the_event() {
+        // Given
+        final var spillover = mock(EventService.class);
+        final EventService failing = event -> {
+            throw new IllegalStateException("Broker unavailable");
+        };
+        this.asyncEventService = new AsyncEventService("test", failing, spillover, props(OverflowPolicy.SPILL, 4), registry);
+
+        // When
+        asyncEventService.send("1");
+        asyncEventService.close();
+
+        // Then
+        verify(spillover, times(1)).send("1");
+        assertEquals(1.0, registry.get("events.dispatch.failed").tag("name", "test").counter().count());
+    }
+
+    @Test
+    void Given_a_failing_delegate_and_a_failing_spillover_When_publishes_Then_should_keep_draining_later_events() {
+        // Given
+        final List<Object> delivered = new CopyOnWriteArrayList<>();
+        final EventService flaky = event -> {
+            if ("1".equals(event)) {
+                throw new IllegalStateException("Broker unavailable");
+            }
+            delivered.add(event);
+        };
+        final EventService spillover = event -> {
+            throw new IllegalStateException("Database unavailable");
+        };
+        this.asyncEventService = new AsyncEventService("test", flaky, spillover, props(OverflowPolicy.SPILL, 4), registry);
+
+        // When
+        asyncEventService.send("1");
+        asyncEventService.send("2");
+        asyncEventService.close();
+
+        // Then
+        assertEquals(List.of("2"), delivered);
+        assertEquals(1.0, registry.get("events.dispatch.failed").tag("name", "test").counter().count());
+        assertEquals(1.0, registry.get("events.dispatch.dropped").tag("name", "test").counter().count());
+        assertEquals(0.0, registry.get("events.dispatch.spilled").tag("name", "test").counter().count());
+    }
+
+    @Test
+    void Given_spill_policy_without_spillover_When_instantiates_Then_should_throw() {
+        assertThrows(NullPointerException.class, () ->
+                new AsyncEventService("test", delegate, null, props(OverflowPolicy.SPILL, 4), registry));
+    }
+
+    private static AsyncDispatchProperties props(final OverflowPolicy aPolicy, final int aCapacity) {
+        final var props = new AsyncDispatchProperties();
+        props.setEnabled(true);
+        props.setCapacity(aCapacity);
+        props.setBatchSize(8);
+        props.setOverflowPolicy(aPolicy);
+        props.setBlockTimeout(Duration.ofMillis(50));
+        return props;
+    }
+}
@@ -4,6 +4,7 @@ import com.fullcycle.admin.catalogo.domain.Fixture;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
 import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
@@ -14,6 +15,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.util.List;
+import java.util.zip.CRC32C;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -59,7 +61,7 @@ class GCStorageServiceTest {
             assertEquals(bucket, actualBlob.getBlobId().getBucket());
             assertEquals(expectedName, actualBlob.getBlobId().getName());
             assertEquals(expectedName, actualBlob.getName());
-            assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
+            assertEquals(HashingUtils.checksumToBigEndian(expectedResource.checksum()), actualBlob.getCrc32cToHexString());
             assertEquals(expectedResource.contentType(), actualBlob.getContentType());
         }
     }
@@ -84,6 +86,55 @@ class GCStorageServiceTest {
 
             verify(storage, times(1)).get(bucket, expectedName);
         }
+
+        @Test
+        void Given_a_blob_with_a_big_endian_crc32c_When_calls_get_Then_should_return_the_local_checksum_format() {
+            // Given
+            final var expectedName = IdUtils.uuid();
+            final var expectedContent = "Conteudo".getBytes();
+            final var expectedChecksum = HashingUtils.checksum(expectedContent);
+
+            final var crc32c = new CRC32C();
+            crc32c.update(expectedContent);
+            final var blob = mock(Blob.class);
+            when(blob.getCrc32cToHexString()).thenReturn("%08x".formatted(crc32c.getValue()));
+            when(blob.getContent()).thenReturn(expectedContent);
+            when(blob.getContentType()).thenReturn("video/mp4");
+            when(blob.getName()).thenReturn(expectedName);
+            doReturn(blob)
+                    .when(storage).get(anyString(), anyString());
+
+            // When
+            final var actualResource = gcStorageService.get(expectedName);
+
+            // Then
+            assertEquals(expectedChecksum, actualResource.orElseThrow().checksum());
+        }
+    }
+
+    @DisplayName("Get a resource version with valid param values")
+    @Nested
+    class VersionOfWithValidParamValues {
+
+        @Test
+        void Given_a_valid_name_When_calls_version_of_Then_should_return_checksum_and_generation() {
+            // Given
+            final var expectedName = IdUtils.uuid();
+            final var expectedResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+            final var expectedVersion = expectedResource.checksum() + "-42";
+
+            final var blob = mockBlob(expectedName, expectedResource);
+            when(blob.getGeneration()).thenReturn(42L);
+            doReturn(blob)
+                    .when(storage).get(anyString(), anyString(), any(Storage.BlobGetOption.class));
+
+            // When
+            final var actualVersion = gcStorageService.versionOf(expectedName);
+
+            // Then
+            assertEquals(expectedVersion, actualVersion.orElseThrow());
+            verify(storage, never()).get(bucket, expectedName);
+        }
     }
 
     @DisplayName("Get a resource with invalid param values")
@@ -136,10 +187,43 @@ class GCStorageServiceTest {
             final var actualResource = gcStorageService.list(expectedPrefix);
 
             // Then
-            verify(storage, times(1)).list(bucket, Storage.BlobListOption.prefix(expectedPrefix));
+            verify(storage, times(1)).list(bucket,
+                    Storage.BlobListOption.prefix(expectedPrefix),
+                    Storage.BlobListOption.pageSize(1000));
             assertTrue(expectedResources.size() == actualResource.size()
                     && expectedResources.containsAll(actualResource));
         }
+
+        @Test
+        void Given_a_valid_prefix_When_calls_folders_Then_should_list_only_the_current_directory() {
+            // Given
+            final var expectedPrefix = "videoId-";
+            final var expectedFolder = expectedPrefix + IdUtils.uuid() + "/";
+            final var aFolder = mock(Blob.class);
+            when(aFolder.isDirectory()).thenReturn(true);
+            when(aFolder.getName()).thenReturn(expectedFolder);
+            final var aFile = mock(Blob.class);
+            when(aFile.isDirectory()).thenReturn(false);
+
+            final var page = Mockito.mock(Page.class);
+            doReturn(List.of(aFolder, aFile))
+                    .when(page).iterateAll();
+            doReturn(page)
+                    .when(storage).list(anyString(), any(Storage.BlobListOption[].class));
+
+            // When
+            final List<String> actualFolders;
+            try (final var folders = gcStorageService.folders(expectedPrefix)) {
+                actualFolders = folders.toList();
+            }
+
+            // Then
+            verify(storage, times(1)).list(bucket,
+                    Storage.BlobListOption.prefix(expectedPrefix),
+                    Storage.BlobListOption.currentDirectory(),
+                    Storage.BlobListOption.pageSize(1000));
+            assertEquals(List.of(expectedFolder), actualFolders);
+        }
     }
 
     @DisplayName("Delete resources with valid param values")
@@ -173,7 +257,7 @@ class GCStorageServiceTest {
     private Blob mockBlob(final String name, final Resource aResource) {
         final var blob = mock(Blob.class);
         when(blob.getBlobId()).thenReturn(BlobId.of(this.bucket, name));
-        when(blob.getCrc32cToHexString()).thenReturn(aResource.checksum());
+        when(blob.getCrc32cToHexString()).thenReturn(HashingUtils.checksumToBigEndian(aResource.checksum()));
         when(blob.getContent()).thenReturn(aResource.content());
         when(blob.getContentType()).thenReturn(aResource.contentType());
         when(blob.getName()).thenReturn(aResource.name());
@@ -3,20 +3,38 @@ package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 import com.fullcycle.admin.catalogo.AmqpTest;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaCreated;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.EventFormat;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.PublisherConfirmProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
-import org.junit.jupiter.api.DisplayNameGeneration;
-import org.junit.jupiter.api.DisplayNameGenerator;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @AmqpTest
@@ -51,6 +69,234 @@ class RabbitEventServiceTest {
         assertEquals(expectedMessage, actualMessage);
     }
 
+    @Nested
+    @DisplayName("Publisher confirms")
+    class PublisherConfirms {
+
+        private static final String EXCHANGE = "video.events";
+        private static final String ROUTING_KEY = "video.created";
+
+        private RabbitOperations ops;
+        private List<CorrelationData> correlations;
+        private ExecutorService executor;
+
+        @BeforeEach
+        void setUp() {
+            this.executor = Executors.newFixedThreadPool(2);
+            this.ops = mock(RabbitOperations.class);
+            this.correlations = new CopyOnWriteArrayList<>();
+            doAnswer(invocation -> correlations.add(invocation.getArgument(3)))
+                    .when(ops).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        }
+
+        @AfterEach
+        void tearDown() {
+            this.executor.shutdownNow();
+        }
+
+        @Test
+        void Given_a_broker_ack_When_calls_sendAsync_Then_should_complete_and_release_the_window() {
+            // Given
+            final var aPublisher = publisher(4, 3, Duration.ofSeconds(5));
+            final var notification = new VideoMediaCreated("resource", "filepath");
+
+            // When
+            final var actualResult = aPublisher.sendAsync(notification);
+            correlations.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+
+            // Then
+            assertDoesNotThrow(() -> actualResult.get(1, TimeUnit.SECONDS));
+            verify(ops).send(eq(EXCHANGE), eq(ROUTING_KEY),
+                    argThat(message -> Arrays.equals(Json.writeValueAsBytes(notification), message.getBody())),
+                    any(CorrelationData.class));
+            assertEquals(0, aPublisher.inFlight());
+        }
+
+        @Test
+        void Given_a_broker_nack_When_calls_sendAsync_Then_should_republish_until_acked() {
+            // Given
+            final var aPublisher = publisher(4, 3, Duration.ofSeconds(5));
+
+            // When
+            final var actualResult = aPublisher.sendAsync(new VideoMediaCreated("resource", "filepath"));
+            correlations.get(0).getFuture().complete(new CorrelationData.Confirm(false, "nacked"));
+            verify(ops, timeout(1000).times(2))
+                    .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+            correlations.get(1).getFuture().complete(new CorrelationData.Confirm(true, null));
+
+            // Then
+            assertDoesNotThrow(() -> actualResult.get(1, TimeUnit.SECONDS));
+            assertNotEquals(correlations.get(0).getId(), correlations.get(1).getId());
+        }
+
+        @Test
+        void Given_a_broker_that_never_confirms_When_calls_sendAll_Then_should_fail_after_max_attempts() {
+            // Given
+            final var aPublisher = publisher(4, 2, Duration.ofMillis(50));
+
+            // When
+            final var actualException = assertThrows(CompletionException.class,
+                    () -> aPublisher.sendAll(List.of(
+                            RabbitEventService.messageOf("application/json", "a".getBytes(StandardCharsets.UTF_8)),
+                            RabbitEventService.messageOf("application/json", "b".getBytes(StandardCharsets.UTF_8)))));
+
+            // Then
+            assertTrue(actualException.getMessage().contains("not confirmed"));
+            verify(ops, times(4))
+                    .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+            assertEquals(0, aPublisher.inFlight());
+        }
+
+        @Test
+        void Given_a_full_window_When_calls_send_Then_should_wait_for_a_confirm_before_publishing() throws Exception {
+            // Given
+            final var aPublisher = publisher(2, 1, Duration.ofSeconds(5));
+            aPublisher.sendAsync(new VideoMediaCreated("resource-1", "filepath"));
+            aPublisher.sendAsync(new VideoMediaCreated("resource-2", "filepath"));
+            assertEquals(2, aPublisher.inFlight());
+
+            // When
+            final var aThird = new Thread(() -> aPublisher.send(new VideoMediaCreated("resource-3", "filepath")));
+            aThird.start();
+            verify(ops, after(200).times(2))
+                    .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+            correlations.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+            verify(ops, timeout(1000).times(3))
+                    .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+            correlations.get(2).getFuture().complete(new CorrelationData.Confirm(true, null));
+            aThird.join(1000);
+
+            // Then
+            assertFalse(aThird.isAlive());
+            assertEquals(1, aPublisher.inFlight());
+        }
+
+        @Test
+        void Given_a_broker_nack_When_calls_send_Then_should_throw_once_attempts_are_exhausted() {
+            // Given
+            final var aPublisher = publisher(4, 1, Duration.ofSeconds(5));
+            doAnswer(invocation -> invocation.<CorrelationData>getArgument(3).getFuture()
+                    .complete(new CorrelationData.Confirm(false, "nacked")))
+                    .when(ops).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+            // When
+            final var actualException = assertThrows(AmqpException.class,
+                    () -> aPublisher.send(new VideoMediaCreated("resource", "filepath")));
+
+            // Then
+            assertTrue(actualException.getMessage().contains("nacked"));
+            assertEquals(0, aPublisher.inFlight());
+        }
+
+        @Test
+        void Given_a_broker_nack_When_calls_sendAsync_Then_should_republish_on_the_publisher_executor() {
+            // Given
+            final var threads = new CopyOnWriteArrayList<String>();
+            final var aPublisher = new RabbitEventService(EXCHANGE, ROUTING_KEY, ops,
+                    properties(4, 2, Duration.ofSeconds(5)), EventFormat.JSON, command -> {
+                        threads.add(Thread.currentThread().getName());
+                        executor.execute(command);
+                    });
+
+            // When
+            final var actualResult = aPublisher.sendAsync(new VideoMediaCreated("resource", "filepath"));
+            correlations.get(0).getFuture().complete(new CorrelationData.Confirm(false, "nacked"));
+            verify(ops, timeout(1000).times(2))
+                    .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+            correlations.get(1).getFuture().complete(new CorrelationData.Confirm(true, null));
+
+            // Then
+            assertDoesNotThrow(() -> actualResult.get(1, TimeUnit.SECONDS));
+            assertEquals(2, threads.size());
+        }
+
+        @Test
+        void Given_a_full_window_When_calls_sendAsync_Then_should_fail_without_waiting() {
+            // Given
+            final var aPublisher = publisher(1, 1, Duration.ofSeconds(5));
+            aPublisher.sendAsync(new VideoMediaCreated("resource-1", "filepath"));
+
+            // When
+            final var actualResult = aPublisher.sendAsync(new VideoMediaCreated("resource-2", "filepath"));
+
+            // Then
+            assertTrue(actualResult.isCompletedExceptionally());
+            verify(ops, times(1))
+                    .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+            assertEquals(1, aPublisher.inFlight());
+        }
+
+        @Test
+        void Given_a_saturated_executor_When_a_confirm_arrives_Then_should_fail_and_release_the_window() {
+            // Given
+            final var aPublisher = new RabbitEventService(EXCHANGE, ROUTING_KEY, ops,
+                    properties(4, 3, Duration.ofSeconds(5)), EventFormat.JSON, command -> {
+                        throw new RejectedExecutionException("saturated");
+                    });
+
+            // When
+            final var actualResult = aPublisher.sendAsync(new VideoMediaCreated("resource", "filepath"));
+            correlations.get(0).getFuture().complete(new CorrelationData.Confirm(false, "nacked"));
+
+            // Then
+            final var actualException = assertThrows(ExecutionException.class, () -> actualResult.get(1, TimeUnit.SECONDS));
+            assertTrue(actualException.getCause().getMessage().contains("saturated"));
+            verify(ops, times(1))
+                    .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+            assertEquals(0, aPublisher.inFlight());
+        }
+
+        @Test
+        void Given_a_smile_format_When_calls_sendAsync_Then_should_publish_binary_content() {
+            // Given
+            final var aPublisher = new RabbitEventService(
+                    EXCHANGE, ROUTING_KEY, ops, properties(4, 1, Duration.ofSeconds(5)), EventFormat.SMILE, executor);
+            final var notification = new VideoMediaCreated("resource", "filepath");
+
+            // When
+            aPublisher.sendAsync(notification);
+
+            // Then
+            final var actualMessage = ArgumentCaptor.forClass(Message.class);
+            verify(ops).send(eq(EXCHANGE), eq(ROUTING_KEY), actualMessage.capture(), any(CorrelationData.class));
+            assertEquals(EventFormat.SMILE.contentType(), actualMessage.getValue().getMessageProperties().getContentType());
+            assertNull(actualMessage.getValue().getMessageProperties().getContentEncoding());
+            assertEquals(notification, EventFormat.SMILE.readValue(actualMessage.getValue().getBody(), VideoMediaCreated.class));
+        }
+
+        @Test
+        void Given_a_fan_out_exchange_When_creates_a_publisher_Then_should_publish_through_the_non_mandatory_template() {
+            // Given
+            final var fanOutOps = mock(RabbitOperations.class);
+            final var aFactory = new RabbitEventServiceFactory(
+                    ops, fanOutOps, Set.of("catalog.events"), properties(4, 1, Duration.ofSeconds(5)), executor);
+            final var notification = new VideoMediaCreated("resource", "filepath");
+
+            // When
+            aFactory.create("catalog.events", "cast_member.deleted").sendAsync(notification);
+            aFactory.create(EXCHANGE, ROUTING_KEY).sendAsync(notification);
+
+            // Then
+            verify(fanOutOps).send(eq("catalog.events"), eq("cast_member.deleted"), any(Message.class), any(CorrelationData.class));
+            verify(ops).send(eq(EXCHANGE), eq(ROUTING_KEY), any(Message.class), any(CorrelationData.class));
+            verifyNoMoreInteractions(fanOutOps);
+        }
+
+        private RabbitEventService publisher(final int maxInFlight, final int maxAttempts, final Duration timeout) {
+            return new RabbitEventService(
+                    EXCHANGE, ROUTING_KEY, ops, properties(maxInFlight, maxAttempts, timeout), EventFormat.JSON, executor);
+        }
+
+        private PublisherConfirmProperties properties(final int maxInFlight, final int maxAttempts, final Duration timeout) {
+            final var props = new PublisherConfirmProperties();
+            props.setEnabled(true);
+            props.setMaxInFlight(maxInFlight);
+            props.setMaxAttempts(maxAttempts);
+            props.setTimeout(timeout);
+            return props;
+        }
+    }
+
     @Component
     static class VideoCreatedNewsListener {
 
@@ -0,0 +1,51 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberCreated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryCreated;
+import com.fullcycle.admin.catalogo.domain.category.CategoryDeleted;
+import com.fullcycle.admin.catalogo.domain.genre.GenreUpdated;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RoutingEventServiceTest {
+
+    @Test
+    void Given_catalog_events_When_calls_routingKeyOf_Then_should_derive_aggregate_and_action() {
+        assertEquals("category.created", RoutingEventService.routingKeyOf(new CategoryCreated(IdUtils.uuid())));
+        assertEquals("genre.updated", RoutingEventService.routingKeyOf(new GenreUpdated(IdUtils.uuid())));
+        assertEquals("cast_member.created", RoutingEventService.routingKeyOf(new CastMemberCreated(IdUtils.uuid())));
+    }
+
+    @Test
+    void Given_events_of_different_types_When_calls_send_Then_should_reuse_one_delegate_per_routing_key() {
+        // Given
+        final Map<String, EventService> delegates = new HashMap<>();
+        final var routingEventService = new RoutingEventService(routingKey ->
+                delegates.computeIfAbsent(routingKey, key -> mock(EventService.class)));
+
+        final var aCreated = new CategoryCreated(IdUtils.uuid());
+        final var anotherCreated = new CategoryCreated(IdUtils.uuid());
+        final var aDeleted = new CategoryDeleted(IdUtils.uuid());
+
+        // When
+        routingEventService.send(aCreated);
+        routingEventService.send(anotherCreated);
+        routingEventService.send(aDeleted);
+
+        // Then
+        assertEquals(2, delegates.size());
+        verify(delegates.get("category.created"), times(1)).send(aCreated);
+        verify(delegates.get("category.created"), times(1)).send(anotherCreated);
+        verify(delegates.get("category.deleted"), times(1)).send(aDeleted);
+    }
+}
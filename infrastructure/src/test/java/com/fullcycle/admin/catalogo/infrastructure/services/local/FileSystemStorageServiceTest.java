@@ -0,0 +1,341 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.CleanupProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.DefaultMediaResourceGateway;
+import com.fullcycle.admin.catalogo.infrastructure.video.MediaResourceCleaner;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class FileSystemStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageService fileSystemStorageService;
+
+    @BeforeEach
+    void setUp() {
+        this.fileSystemStorageService = new FileSystemStorageService(root);
+    }
+
+    @DisplayName("Store and get a resource with valid params")
+    @Nested
+    class StoreWithValidParams {
+
+        @Test
+        void Given_a_valid_resource_When_calls_store_Then_should_be_retrievable() {
+            // Given
+            final var expectedName = "videoId-123/type-VIDEO";
+            final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+            // When
+            fileSystemStorageService.store(expectedName, expectedResource);
+
+            // Then
+            final var actualResource = fileSystemStorageService.get(expectedName).orElseThrow();
+            assertEquals(expectedResource.checksum(), actualResource.checksum());
+            assertEquals(expectedResource.contentType(), actualResource.contentType());
+            assertEquals(expectedResource.name(), actualResource.name());
+            assertArrayEquals(expectedResource.content(), actualResource.content());
+        }
+
+        @Test
+        void Given_a_large_resource_When_calls_store_Then_should_be_retrievable() {
+            // Given
+            final var expectedName = "videoId-123/type-VIDEO";
+            final var expectedContent = new byte[3 * 1024 * 1024 + 7];
+            new Random(42).nextBytes(expectedContent);
+            final var expectedResource = Resource.with(
+                    HashingUtils.checksum(expectedContent), expectedContent, "video/mp4", "video.mp4");
+
+            // When
+            fileSystemStorageService.store(expectedName, expectedResource);
+
+            // Then
+            final var actualResource = fileSystemStorageService.get(expectedName).orElseThrow();
+            assertEquals(expectedResource.checksum(), actualResource.checksum());
+            assertArrayEquals(expectedContent, actualResource.content());
+        }
+
+        @Test
+        void Given_an_existing_resource_When_calls_store_again_Then_should_replace_it_without_leftovers() throws IOException {
+            // Given
+            final var expectedName = "videoId-123/type-BANNER";
+            fileSystemStorageService.store(expectedName, Fixture.Videos.resource(VideoMediaType.VIDEO));
+            final var expectedResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+
+            // When
+            fileSystemStorageService.store(expectedName, expectedResource);
+
+            // Then
+            final var actualResource = fileSystemStorageService.get(expectedName).orElseThrow();
+            assertEquals(expectedResource.checksum(), actualResource.checksum());
+            assertArrayEquals(expectedResource.content(), actualResource.content());
+            try (final Stream<Path> temporaries = Files.list(root.resolve(".tmp"))) {
+                assertEquals(0, temporaries.count());
+            }
+        }
+
+        @Test
+        void Given_a_content_that_cannot_be_committed_When_calls_store_Then_should_leave_neither_metadata_nor_leftovers() throws IOException {
+            // Given
+            fileSystemStorageService.store("videoId-123", Fixture.Videos.resource(VideoMediaType.BANNER));
+            final var expectedName = "videoId-123/type-VIDEO";
+            final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+            // When
+            assertThrows(UncheckedIOException.class,
+                    () -> fileSystemStorageService.store(expectedName, aResource));
+
+            // Then
+            assertFalse(Files.exists(root.resolve(".metadata").resolve(expectedName + ".properties")));
+            try (final Stream<Path> temporaries = Files.list(root.resolve(".tmp"))) {
+                assertEquals(0, temporaries.count());
+            }
+        }
+
+        @Test
+        void Given_an_unknown_name_When_calls_get_Then_should_return_empty() {
+            // When
+            final var actualResource = fileSystemStorageService.get("videoId-123/type-VIDEO");
+
+            // Then
+            assertTrue(actualResource.isEmpty());
+        }
+    }
+
+    @DisplayName("List and delete resources with valid params")
+    @Nested
+    class ListWithValidParams {
+
+        @Test
+        void Given_a_valid_prefix_When_calls_list_Then_should_retrieve_only_matching_names() {
+            // Given
+            final var aResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+            fileSystemStorageService.store("videoId-123/type-VIDEO", aResource);
+            fileSystemStorageService.store("videoId-123/type-BANNER", aResource);
+            fileSystemStorageService.store("videoId-456/type-VIDEO", aResource);
+
+            final var expectedNames = List.of("videoId-123/type-BANNER", "videoId-123/type-VIDEO");
+
+            // When
+            final var actualNames = fileSystemStorageService.list("videoId-123");
+
+            // Then
+            assertEquals(expectedNames, actualNames);
+        }
+
+        @Test
+        void Given_nested_resources_When_calls_folders_Then_should_retrieve_only_top_level_folders() {
+            // Given
+            final var aResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+            fileSystemStorageService.store("videoId-123/type-VIDEO", aResource);
+            fileSystemStorageService.store("videoId-123/hls/segment-0.ts", aResource);
+            fileSystemStorageService.store("videoId-456/type-VIDEO", aResource);
+            fileSystemStorageService.store("blobs/03fe62de-8", aResource);
+
+            final var expectedFolders = List.of("videoId-123/", "videoId-456/");
+
+            // When
+            final List<String> actualFolders;
+            try (final var folders = fileSystemStorageService.folders("videoId-")) {
+                actualFolders = folders.toList();
+            }
+
+            // Then
+            assertEquals(expectedFolders, actualFolders);
+        }
+
+        @Test
+        void Given_valid_names_When_calls_delete_all_Then_should_delete_them() {
+            // Given
+            final var aResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+            fileSystemStorageService.store("videoId-123/type-VIDEO", aResource);
+            fileSystemStorageService.store("videoId-123/type-BANNER", aResource);
+
+            // When
+            fileSystemStorageService.deleteAll(List.of("videoId-123/type-VIDEO", "videoId-123/type-BANNER"));
+
+            // Then
+            assertTrue(fileSystemStorageService.list("videoId-123").isEmpty());
+        }
+
+        @Test
+        void Given_a_name_outside_root_When_calls_store_Then_should_receive_error() {
+            // Given
+            final var aResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class,
+                    () -> fileSystemStorageService.store("../outside", aResource));
+        }
+    }
+
+    @DisplayName("Compose resources with valid params")
+    @Nested
+    class ComposeWithValidParams {
+
+        @Test
+        void Given_valid_sources_When_calls_compose_Then_should_concatenate_them_in_order() {
+            // Given
+            final var expectedName = "videoId-123/type-VIDEO";
+            final var expectedContent = "first-second".getBytes();
+            fileSystemStorageService.store("videoId-123/chunk-2", resource("second"));
+            fileSystemStorageService.store("videoId-123/chunk-1", resource("first-"));
+
+            // When
+            final var actualChecksum = fileSystemStorageService.compose(
+                    expectedName, List.of("videoId-123/chunk-1", "videoId-123/chunk-2"), "video/mp4");
+
+            // Then
+            assertEquals(HashingUtils.checksum(expectedContent), actualChecksum);
+            final var actualResource = fileSystemStorageService.get(expectedName).orElseThrow();
+            assertEquals(actualChecksum, actualResource.checksum());
+            assertEquals("video/mp4", actualResource.contentType());
+            assertArrayEquals(expectedContent, actualResource.content());
+        }
+
+        @Test
+        void Given_sources_larger_than_the_hashing_buffer_When_calls_compose_Then_should_stream_the_checksum() {
+            // Given
+            final var aFirst = new byte[150 * 1024 + 3];
+            final var aSecond = new byte[70 * 1024 + 11];
+            new Random(7).nextBytes(aFirst);
+            new Random(11).nextBytes(aSecond);
+            final var expectedContent = new byte[aFirst.length + aSecond.length];
+            System.arraycopy(aFirst, 0, expectedContent, 0, aFirst.length);
+            System.arraycopy(aSecond, 0, expectedContent, aFirst.length, aSecond.length);
+            fileSystemStorageService.store("videoId-123/chunk-1",
+                    Resource.with(HashingUtils.checksum(aFirst), aFirst, "application/octet-stream", "chunk-1"));
+            fileSystemStorageService.store("videoId-123/chunk-2",
+                    Resource.with(HashingUtils.checksum(aSecond), aSecond, "application/octet-stream", "chunk-2"));
+
+            // When
+            final var actualChecksum = fileSystemStorageService.compose(
+                    "videoId-123/type-VIDEO", List.of("videoId-123/chunk-1", "videoId-123/chunk-2"), "video/mp4");
+
+            // Then
+            assertEquals(HashingUtils.checksum(expectedContent), actualChecksum);
+        }
+
+        @Test
+        void Given_a_missing_source_When_calls_compose_Then_should_receive_error() {
+            // Given
+            fileSystemStorageService.store("videoId-123/chunk-1", resource("first-"));
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> fileSystemStorageService.compose(
+                    "videoId-123/type-VIDEO", List.of("videoId-123/chunk-1", "videoId-123/chunk-2"), "video/mp4"));
+            assertTrue(fileSystemStorageService.get("videoId-123/type-VIDEO").isEmpty());
+        }
+
+        private Resource resource(final String aContent) {
+            final var bytes = aContent.getBytes();
+            return Resource.with(HashingUtils.checksum(bytes), bytes, "application/octet-stream", aContent);
+        }
+    }
+
+    @DisplayName("Resumable upload through the media resource gateway")
+    @Nested
+    class ResumableUploadFlow {
+
+        private MediaResourceGateway mediaResourceGateway;
+
+        @BeforeEach
+        void setUp() {
+            final var props = new StorageProperties();
+            props.setLocationPattern("videoId-{videoId}");
+            props.setFilenamePattern("type-{type}");
+            props.setChunkPattern("uploadId-{uploadId}/chunk-{number}");
+            final var cleanupProps = new CleanupProperties();
+            cleanupProps.setBatchSize(100);
+            cleanupProps.setParallelism(1);
+            cleanupProps.setMaxAttempts(1);
+            cleanupProps.setRetryDelay(Duration.ZERO);
+            this.mediaResourceGateway = new DefaultMediaResourceGateway(props, fileSystemStorageService,
+                    new MediaResourceCleaner(fileSystemStorageService, cleanupProps, Runnable::run));
+        }
+
+        @Test
+        void Given_staged_chunks_When_calls_compose_Then_should_assemble_media_and_clear_chunks() {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var anUpload = Fixture.Videos.upload(expectedVideoId, VideoMediaType.VIDEO);
+            final var expectedContent = "first-second-third".getBytes();
+            final var expectedLocation = "videoId-%s/type-VIDEO".formatted(expectedVideoId.getValue());
+
+            stage(anUpload, 1, 0, "first-");
+            stage(anUpload, 3, 13, "third");
+            stage(anUpload, 2, 6, "second-");
+            anUpload.complete();
+
+            // When
+            final var actualMedia = mediaResourceGateway.composeAudioVideo(anUpload);
+            mediaResourceGateway.clearChunks(anUpload);
+
+            // Then
+            assertEquals(expectedLocation, actualMedia.rawLocation());
+            assertEquals(anUpload.getName(), actualMedia.name());
+            assertEquals(HashingUtils.checksum(expectedContent), actualMedia.checksum());
+            assertEquals(MediaStatus.PENDING, actualMedia.status());
+
+            final var actualResource = mediaResourceGateway
+                    .getResource(expectedVideoId, VideoMediaType.VIDEO).orElseThrow();
+            assertArrayEquals(expectedContent, actualResource.content());
+            assertEquals(anUpload.getContentType(), actualResource.contentType());
+            assertEquals(List.of(expectedLocation),
+                    fileSystemStorageService.list("videoId-%s".formatted(expectedVideoId.getValue())));
+        }
+
+        @Test
+        void Given_a_resent_chunk_When_calls_compose_Then_should_use_the_latest_chunk() {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var anUpload = Fixture.Videos.upload(expectedVideoId, VideoMediaType.BANNER);
+            final var expectedContent = "head-tail".getBytes();
+
+            stage(anUpload, 1, 0, "hea");
+            stage(anUpload, 1, 0, "head-");
+            stage(anUpload, 2, 5, "tail");
+            anUpload.complete();
+
+            // When
+            final var actualMedia = mediaResourceGateway.composeImage(anUpload);
+
+            // Then
+            assertEquals(HashingUtils.checksum(expectedContent), actualMedia.checksum());
+            assertArrayEquals(expectedContent, mediaResourceGateway
+                    .getResource(expectedVideoId, VideoMediaType.BANNER).orElseThrow().content());
+        }
+
+        private void stage(
+                final MediaUpload anUpload,
+                final int aNumber,
+                final long anOffset,
+                final String aContent) {
+            final var bytes = aContent.getBytes();
+            final var aResource = Resource.with(
+                    HashingUtils.checksum(bytes), bytes, "application/octet-stream", "chunk-" + aNumber);
+            final var aChunk = MediaChunk.with(aNumber, anOffset, bytes.length, aResource.checksum());
+            anUpload.addChunk(aChunk);
+            mediaResourceGateway.storeChunk(anUpload, aChunk, aResource);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.*;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class HmacSignedStorageServiceTest {
+
+    private static final String BASE_URL = "http://localhost:8080/api";
+
+    private final InMemoryStorageService storageService = new InMemoryStorageService();
+
+    private final HmacSignedStorageService signedStorageService =
+            new HmacSignedStorageService(BASE_URL, "a-secret", storageService);
+
+    @BeforeEach
+    void setUp() {
+        this.storageService.reset();
+    }
+
+    @DisplayName("Sign an URL with valid params")
+    @Nested
+    class SignWithValidParams {
+
+        @Test
+        void Given_a_valid_name_When_calls_sign_upload_Then_should_return_a_verifiable_url() {
+            // Given
+            final var expectedName = "videoId-123/type-VIDEO";
+            final var expectedContentType = "video/mp4";
+            final var expiresAt = Instant.now().plusSeconds(60);
+
+            // When
+            final var actualUrl = signedStorageService.signUpload(expectedName, expectedContentType, expiresAt);
+
+            // Then
+            final var anUri = URI.create(actualUrl);
+            final var params = paramsOf(anUri);
+            assertEquals("/api/storage/" + expectedName, anUri.getPath());
+            assertEquals(String.valueOf(expiresAt.getEpochSecond()), params.get("expires"));
+            assertTrue(signedStorageService.verify("PUT", expectedName, expectedContentType,
+                    expiresAt.getEpochSecond(), params.get("signature")));
+        }
+
+        @Test
+        void Given_a_valid_name_When_calls_sign_download_Then_should_only_verify_for_get() {
+            // Given
+            final var expectedName = "videoId-123/type-BANNER";
+            final var expiresAt = Instant.now().plusSeconds(60);
+
+            // When
+            final var actualUrl = signedStorageService.signDownload(expectedName, expiresAt);
+
+            // Then
+            final var aSignature = paramsOf(URI.create(actualUrl)).get("signature");
+            assertTrue(signedStorageService.verify("GET", expectedName, "", expiresAt.getEpochSecond(), aSignature));
+            assertFalse(signedStorageService.verify("PUT", expectedName, "", expiresAt.getEpochSecond(), aSignature));
+        }
+
+        @Test
+        void Given_a_stored_resource_When_calls_checksum_of_Then_should_return_its_checksum() {
+            // Given
+            final var expectedName = "videoId-123/type-VIDEO";
+            final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+            storageService.store(expectedName, expectedResource);
+
+            // When
+            final var actualChecksum = signedStorageService.checksumOf(expectedName);
+
+            // Then
+            assertEquals(expectedResource.checksum(), actualChecksum.orElseThrow());
+            assertTrue(signedStorageService.checksumOf("videoId-123/type-TRAILER").isEmpty());
+        }
+
+        @Test
+        void Given_a_staged_resource_When_calls_promote_Then_should_move_it_to_the_live_name() {
+            // Given
+            final var aStagingName = "staging/videoId-123/type-VIDEO";
+            final var expectedName = "videoId-123/type-VIDEO";
+            final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+            storageService.store(aStagingName, expectedResource);
+
+            // When
+            final var actualResult = signedStorageService.promote(aStagingName, expectedName, expectedResource.checksum());
+
+            // Then
+            assertTrue(actualResult);
+            final var actualResource = storageService.get(expectedName).orElseThrow();
+            assertEquals(expectedResource.checksum(), actualResource.checksum());
+            assertArrayEquals(expectedResource.content(), actualResource.content());
+            assertEquals(expectedName, actualResource.name());
+            assertTrue(storageService.get(aStagingName).isEmpty());
+        }
+    }
+
+    @DisplayName("Promote a resource with invalid params")
+    @Nested
+    class PromoteWithInvalidParams {
+
+        @Test
+        void Given_a_staged_resource_with_another_checksum_When_calls_promote_Then_should_keep_it_staged() {
+            // Given
+            final var aStagingName = "staging/videoId-123/type-VIDEO";
+            final var expectedName = "videoId-123/type-VIDEO";
+            storageService.store(aStagingName, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+            // When
+            final var actualResult = signedStorageService.promote(aStagingName, expectedName, "deadbeef");
+
+            // Then
+            assertFalse(actualResult);
+            assertTrue(storageService.get(expectedName).isEmpty());
+            assertTrue(storageService.get(aStagingName).isPresent());
+        }
+
+        @Test
+        void Given_a_missing_staged_resource_When_calls_promote_Then_should_return_false() {
+            assertFalse(signedStorageService.promote("staging/videoId-123/type-VIDEO", "videoId-123/type-VIDEO", "deadbeef"));
+        }
+    }
+
+    @DisplayName("Verify an URL with invalid params")
+    @Nested
+    class VerifyWithInvalidParams {
+
+        @Test
+        void Given_a_tampered_name_When_calls_verify_Then_should_reject_it() {
+            // Given
+            final var expiresAt = Instant.now().plusSeconds(60);
+            final var actualUrl = signedStorageService.signUpload("videoId-123/type-VIDEO", "video/mp4", expiresAt);
+            final var aSignature = paramsOf(URI.create(actualUrl)).get("signature");
+
+            // When
+            final var actualResult = signedStorageService.verify("PUT", "videoId-456/type-VIDEO", "video/mp4",
+                    expiresAt.getEpochSecond(), aSignature);
+
+            // Then
+            assertFalse(actualResult);
+        }
+
+        @Test
+        void Given_an_expired_url_When_calls_verify_Then_should_reject_it() {
+            // Given
+            final var expectedName = "videoId-123/type-VIDEO";
+            final var expiresAt = Instant.now().minusSeconds(1);
+            final var actualUrl = signedStorageService.signUpload(expectedName, "video/mp4", expiresAt);
+            final var aSignature = paramsOf(URI.create(actualUrl)).get("signature");
+
+            // When
+            final var actualResult = signedStorageService.verify("PUT", expectedName, "video/mp4",
+                    expiresAt.getEpochSecond(), aSignature);
+
+            // Then
+            assertFalse(actualResult);
+        }
+    }
+
+    private static Map<String, String> paramsOf(final URI anUri) {
+        return Arrays.stream(anUri.getRawQuery().split("&"))
+                .map(param -> param.split("=", 2))
+                .collect(Collectors.toMap(param -> param[0], param -> param[1]));
+    }
+}
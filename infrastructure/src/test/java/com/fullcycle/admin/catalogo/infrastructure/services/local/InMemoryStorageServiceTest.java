@@ -1,16 +1,21 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.local;
 
 import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class InMemoryStorageServiceTest {
@@ -104,6 +109,139 @@ class InMemoryStorageServiceTest {
             assertTrue(expectedNames.size() == actualResource.size()
                     && expectedNames.containsAll(actualResource));
         }
+
+        @Test
+        void Given_neighbouring_folders_When_calls_list_Then_should_return_only_the_prefix_range_in_order() {
+            // Given
+            final var expectedNames = List.of("videoId-1/hls-0", "videoId-1/hls-1", "videoId-1/type-VIDEO");
+            final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+            List.of("videoId-0/type-VIDEO", "videoId-1/type-VIDEO", "videoId-1/hls-1", "videoId-10/type-VIDEO",
+                            "videoId-1/hls-0", "videoId-2/type-VIDEO")
+                    .forEach(name -> inMemoryStorageService.store(name, aResource));
+
+            // When
+            final var actualNames = inMemoryStorageService.list("videoId-1/");
+
+            // Then
+            assertEquals(expectedNames, actualNames);
+            assertEquals(expectedNames, inMemoryStorageService.stream("videoId-1/").toList());
+        }
+
+        @Test
+        void Given_a_null_prefix_When_calls_list_Then_should_return_empty() {
+            // Given
+            inMemoryStorageService.store(IdUtils.uuid(), Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+            // When
+            final var actualNames = inMemoryStorageService.list(null);
+
+            // Then
+            assertTrue(actualNames.isEmpty());
+        }
+    }
+
+    @DisplayName("Store resources with a memory cap")
+    @Nested
+    class StoreWithMemoryCap {
+
+        @TempDir
+        private Path spillDirectory;
+
+        @Test
+        void Given_resources_beyond_the_cap_When_calls_store_Then_should_spill_them_to_disk() throws IOException {
+            // Given
+            final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+            final var expectedMemoryUsed = aResource.content().length;
+            final var aStorageService = new InMemoryStorageService(expectedMemoryUsed, spillDirectory);
+
+            // When
+            aStorageService.store("videoId-1/type-VIDEO", aResource);
+            aStorageService.store("videoId-1/type-TRAILER", aResource);
+
+            // Then
+            assertEquals(expectedMemoryUsed, aStorageService.memoryUsed());
+            assertEquals(1, spilledFiles());
+            assertEquals(aResource, aStorageService.get("videoId-1/type-VIDEO").orElseThrow());
+            assertEquals(aResource, aStorageService.get("videoId-1/type-TRAILER").orElseThrow());
+            assertEquals(aResource, aStorageService.storage().get("videoId-1/type-TRAILER"));
+        }
+
+        @Test
+        void Given_spilled_resources_When_calls_delete_and_reset_Then_should_release_memory_and_files() throws IOException {
+            // Given
+            final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+            final var aStorageService = new InMemoryStorageService(aResource.content().length, spillDirectory);
+
+            aStorageService.store("videoId-1/type-VIDEO", aResource);
+            aStorageService.store("videoId-1/type-TRAILER", aResource);
+            aStorageService.store("videoId-1/type-BANNER", aResource);
+
+            // When
+            aStorageService.deleteAll(List.of("videoId-1/type-TRAILER"));
+
+            // Then
+            assertEquals(2, aStorageService.storage().size());
+            assertEquals(1, spilledFiles());
+
+            // When
+            aStorageService.reset();
+
+            // Then
+            assertTrue(aStorageService.storage().isEmpty());
+            assertEquals(0, aStorageService.memoryUsed());
+            assertEquals(0, spilledFiles());
+        }
+
+        @Test
+        void Given_a_spilled_file_that_cannot_be_deleted_When_calls_reset_Then_should_release_the_others_and_report_it() throws IOException {
+            // Given
+            final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+            final var aStorageService = new InMemoryStorageService(1, spillDirectory);
+
+            aStorageService.store("videoId-1/type-VIDEO", aResource);
+            aStorageService.store("videoId-1/type-TRAILER", aResource);
+            aStorageService.store("videoId-1/type-BANNER", aResource);
+
+            final Path aStuckFile;
+            try (final var files = Files.list(spillDirectory)) {
+                aStuckFile = files.findFirst().orElseThrow();
+            }
+            Files.delete(aStuckFile);
+            Files.createDirectory(aStuckFile);
+            Files.writeString(aStuckFile.resolve("pinned"), "pinned");
+
+            // When
+            assertThrows(UncheckedIOException.class, aStorageService::reset);
+
+            // Then
+            assertTrue(aStorageService.storage().isEmpty());
+            assertEquals(1, spilledFiles());
+            assertTrue(Files.isDirectory(aStuckFile));
+        }
+
+        @Test
+        void Given_a_spilled_source_When_calls_compose_Then_should_read_it_back() {
+            // Given
+            final var aResource = Resource.with("a1b2c3d4", "Conteudo".getBytes(), "video/mp4", "video.mp4");
+            final var aStorageService = new InMemoryStorageService(1, spillDirectory);
+            aStorageService.store("uploadId-1/chunk-0", aResource);
+            aStorageService.store("uploadId-1/chunk-1", aResource);
+
+            // When
+            aStorageService.compose("videoId-1/type-VIDEO",
+                    List.of("uploadId-1/chunk-0", "uploadId-1/chunk-1"), "video/mp4");
+
+            // Then
+            assertArrayEquals("ConteudoConteudo".getBytes(),
+                    aStorageService.get("videoId-1/type-VIDEO").orElseThrow().content());
+        }
+
+        private long spilledFiles() throws IOException {
+            try (final var files = Files.list(spillDirectory)) {
+                return files.count();
+            }
+        }
     }
 
     @DisplayName("Delete resources with valid param values")
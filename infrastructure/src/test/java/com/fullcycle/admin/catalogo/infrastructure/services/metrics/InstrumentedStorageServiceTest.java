@@ -0,0 +1,126 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.metrics;
+
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class InstrumentedStorageServiceTest {
+
+    private SimpleMeterRegistry registry;
+    private InMemoryStorageService inMemoryStorageService;
+    private InstrumentedStorageService instrumentedStorageService;
+
+    @BeforeEach
+    void setUp() {
+        this.registry = new SimpleMeterRegistry();
+        this.inMemoryStorageService = new InMemoryStorageService();
+        this.instrumentedStorageService = new InstrumentedStorageService(inMemoryStorageService, "type-{type}", registry);
+    }
+
+    @Nested
+    @DisplayName("Record storage operations with valid params")
+    class RecordWithValidParams {
+
+        @Test
+        void Given_a_stored_video_When_calls_store_and_get_Then_should_record_latency_and_bytes_by_media_type() {
+            // Given
+            final var expectedName = "videoId-123/type-VIDEO";
+            final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+            final var expectedBytes = expectedResource.content().length;
+
+            // When
+            instrumentedStorageService.store(expectedName, expectedResource);
+            final var actualResource = instrumentedStorageService.get(expectedName);
+
+            // Then
+            assertEquals(expectedResource, actualResource.orElseThrow());
+            assertEquals(1, registry.get("storage.operation")
+                    .tags("operation", "store", "media_type", "VIDEO", "outcome", "success")
+                    .timer().count());
+            assertEquals(1, registry.get("storage.operation")
+                    .tags("operation", "get", "media_type", "VIDEO", "outcome", "success")
+                    .timer().count());
+            assertEquals(expectedBytes, registry.get("storage.bytes")
+                    .tags("operation", "get", "media_type", "VIDEO")
+                    .summary().totalAmount());
+            assertEquals(0, registry.get("storage.operation.active")
+                    .tag("operation", "get")
+                    .gauge().value());
+        }
+
+        @Test
+        void Given_names_without_a_media_type_When_calls_delete_all_Then_should_tag_them_as_unknown() {
+            // Given
+            final var expectedNames = List.of("uploadId-1/chunk-0", "uploadId-1/chunk-1");
+
+            // When
+            instrumentedStorageService.deleteAll(expectedNames);
+
+            // Then
+            assertEquals(1, registry.get("storage.operation")
+                    .tags("operation", "deleteAll", "media_type", "unknown")
+                    .timer().count());
+        }
+
+        @Test
+        void Given_a_stream_When_closes_it_Then_should_record_its_duration() {
+            // Given
+            instrumentedStorageService.store("videoId-123/type-BANNER", Fixture.Videos.resource(VideoMediaType.BANNER));
+
+            // When
+            try (final var names = instrumentedStorageService.stream("videoId-123/")) {
+                assertEquals(1, names.count());
+                assertEquals(1, registry.get("storage.operation.active")
+                        .tag("operation", "stream")
+                        .gauge().value());
+            }
+
+            // Then
+            assertEquals(1, registry.get("storage.operation")
+                    .tags("operation", "stream", "outcome", "success")
+                    .timer().count());
+            assertEquals(0, registry.get("storage.operation.active")
+                    .tag("operation", "stream")
+                    .gauge().value());
+        }
+    }
+
+    @Nested
+    @DisplayName("Record storage operations with failures")
+    class RecordWithFailures {
+
+        @Test
+        void Given_a_failing_storage_When_calls_store_Then_should_record_the_error() {
+            // Given
+            final var aStorage = mock(StorageService.class);
+            final var aService = new InstrumentedStorageService(aStorage, "type-{type}", registry);
+            doThrow(new IllegalStateException("Unavailable"))
+                    .when(aStorage).store(anyString(), any(Resource.class));
+
+            // When
+            assertThrows(IllegalStateException.class, () -> aService.store(
+                    "videoId-123/type-TRAILER", Fixture.Videos.resource(VideoMediaType.TRAILER)));
+
+            // Then
+            assertEquals(1, registry.get("storage.operation.errors")
+                    .tags("operation", "store", "media_type", "TRAILER", "exception", "IllegalStateException")
+                    .counter().count());
+            assertEquals(1, registry.get("storage.operation")
+                    .tags("operation", "store", "outcome", "error")
+                    .timer().count());
+            assertTrue(registry.find("storage.bytes").summaries().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobReferenceRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaBlobRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static com.fullcycle.admin.catalogo.domain.Fixture.Videos.resource;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@IntegrationTest
+@TestPropertySource(properties = "storage.catalogo-videos.content-addressed=true")
+class ContentAddressedMediaResourceGatewayTest {
+
+    @Autowired
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private MediaBlobRepository mediaBlobRepository;
+
+    @Autowired
+    private MediaBlobReferenceRepository mediaBlobReferenceRepository;
+
+    @BeforeEach
+    void setUp() {
+        storageService().reset();
+    }
+
+    @Test
+    void Given_a_content_addressed_profile_When_injects_media_resource_gateway_Then_should_be_content_addressed() {
+        assertInstanceOf(ContentAddressedMediaResourceGateway.class, mediaResourceGateway);
+    }
+
+    @Nested
+    @DisplayName("Store with identical resource values")
+    class StoreWithIdenticalResourceValues {
+
+        @Test
+        void Given_an_identical_image_for_two_videos_When_calls_store_image_Then_should_write_it_once() {
+            // Given
+            final var videoOne = VideoID.unique();
+            final var videoTwo = VideoID.unique();
+            final var expectedType = VideoMediaType.BANNER;
+            final var expectedResource = resource(expectedType);
+            final var expectedLocation = blobLocation(expectedResource);
+            final var expectedRefCount = 2;
+
+            // When
+            final var mediaOne = mediaResourceGateway.storeImage(videoOne,
+                    VideoResource.with(expectedResource, expectedType));
+            final var mediaTwo = mediaResourceGateway.storeImage(videoTwo,
+                    VideoResource.with(expectedResource, expectedType));
+
+            // Then
+            assertEquals(expectedLocation, mediaOne.location());
+            assertEquals(expectedLocation, mediaTwo.location());
+            assertEquals(1, storageService().storage().size());
+            assertEquals(expectedResource, storageService().storage().get(expectedLocation));
+
+            final var actualBlob = mediaBlobRepository.findById(blobId(expectedResource)).orElseThrow();
+            assertEquals(expectedRefCount, actualBlob.getRefCount());
+            assertEquals(2, mediaBlobReferenceRepository.count());
+        }
+
+        @Test
+        void Given_the_same_image_stored_twice_for_a_video_When_calls_store_image_Then_should_not_increment_ref_count() {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var expectedType = VideoMediaType.THUMBNAIL;
+            final var expectedResource = resource(expectedType);
+            final var expectedRefCount = 1;
+
+            // When
+            mediaResourceGateway.storeImage(expectedVideoId, VideoResource.with(expectedResource, expectedType));
+            mediaResourceGateway.storeImage(expectedVideoId, VideoResource.with(expectedResource, expectedType));
+
+            // Then
+            final var actualBlob = mediaBlobRepository.findById(blobId(expectedResource)).orElseThrow();
+            assertEquals(expectedRefCount, actualBlob.getRefCount());
+        }
+
+        @Test
+        void Given_an_identical_video_for_two_videos_When_calls_store_audio_video_Then_should_keep_raw_location_per_video() {
+            // Given
+            final var videoOne = VideoID.unique();
+            final var videoTwo = VideoID.unique();
+            final var expectedType = VideoMediaType.VIDEO;
+            final var expectedResource = resource(expectedType);
+            final var expectedLocationOne = "videoId-%s/type-%s".formatted(videoOne.getValue(), expectedType.name());
+            final var expectedLocationTwo = "videoId-%s/type-%s".formatted(videoTwo.getValue(), expectedType.name());
+
+            // When
+            final var mediaOne = mediaResourceGateway.storeAudioVideo(videoOne,
+                    VideoResource.with(expectedResource, expectedType));
+            final var mediaTwo = mediaResourceGateway.storeAudioVideo(videoTwo,
+                    VideoResource.with(expectedResource, expectedType));
+
+            // Then
+            assertEquals(expectedLocationOne, mediaOne.rawLocation());
+            assertEquals(expectedLocationTwo, mediaTwo.rawLocation());
+            assertTrue(storageService().storage().containsKey(blobLocation(expectedResource)));
+
+            final var actualBlob = mediaBlobRepository.findById(blobId(expectedResource)).orElseThrow();
+            assertEquals(2, actualBlob.getRefCount());
+        }
+
+        @Test
+        void Given_a_different_image_for_a_video_When_calls_store_image_Then_should_release_the_previous_blob() {
+            // Given
+            final var expectedVideoId = VideoID.unique();
+            final var expectedType = VideoMediaType.BANNER;
+            final var previousResource = resource(expectedType);
+            final var expectedResource = Resource.with("7a3d91c0", "Outro conteudo".getBytes(),
+                    previousResource.contentType(), previousResource.name());
+
+            mediaResourceGateway.storeImage(expectedVideoId, VideoResource.with(previousResource, expectedType));
+
+            // When
+            mediaResourceGateway.storeImage(expectedVideoId, VideoResource.with(expectedResource, expectedType));
+
+            // Then
+            assertTrue(mediaBlobRepository.findById(blobId(previousResource)).isEmpty());
+            assertFalse(storageService().storage().containsKey(blobLocation(previousResource)));
+            assertTrue(storageService().storage().containsKey(blobLocation(expectedResource)));
+        }
+
+        @Test
+        void Given_two_images_with_the_same_checksum_and_size_When_calls_store_image_Then_should_keep_separate_blobs() {
+            // Given
+            final var videoOne = VideoID.unique();
+            final var videoTwo = VideoID.unique();
+            final var expectedType = VideoMediaType.BANNER;
+            final var resourceOne = Resource.with("7a3d91c0", "Conteudo 1".getBytes(), "image/jpeg", "banner.jpg");
+            final var resourceTwo = Resource.with("7a3d91c0", "Conteudo 2".getBytes(), "image/jpeg", "banner.jpg");
+
+            // When
+            final var mediaOne = mediaResourceGateway.storeImage(videoOne,
+                    VideoResource.with(resourceOne, expectedType));
+            final var mediaTwo = mediaResourceGateway.storeImage(videoTwo,
+                    VideoResource.with(resourceTwo, expectedType));
+
+            // Then
+            assertNotEquals(mediaOne.location(), mediaTwo.location());
+            assertEquals(resourceOne, storageService().storage().get(mediaOne.location()));
+            assertEquals(resourceTwo, storageService().storage().get(mediaTwo.location()));
+            assertEquals(1, mediaBlobRepository.findById(blobId(resourceOne)).orElseThrow().getRefCount());
+            assertEquals(1, mediaBlobRepository.findById(blobId(resourceTwo)).orElseThrow().getRefCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Clear resources with shared blobs")
+    class ClearResourcesWithSharedBlobs {
+
+        @Test
+        void Given_a_blob_shared_by_two_videos_When_calls_clear_resources_Then_should_keep_it_until_last_reference() {
+            // Given
+            final var videoOne = VideoID.unique();
+            final var videoTwo = VideoID.unique();
+            final var expectedType = VideoMediaType.BANNER;
+            final var expectedResource = resource(expectedType);
+            final var expectedLocation = blobLocation(expectedResource);
+
+            mediaResourceGateway.storeImage(videoOne, VideoResource.with(expectedResource, expectedType));
+            mediaResourceGateway.storeImage(videoTwo, VideoResource.with(expectedResource, expectedType));
+
+            // When
+            mediaResourceGateway.clearResources(videoOne);
+
+            // Then
+            assertTrue(storageService().storage().containsKey(expectedLocation));
+            assertEquals(1, mediaBlobRepository.findById(blobId(expectedResource)).orElseThrow().getRefCount());
+            assertTrue(mediaResourceGateway.getResource(videoTwo, expectedType).isPresent());
+
+            // When
+            mediaResourceGateway.clearResources(videoTwo);
+
+            // Then
+            assertFalse(storageService().storage().containsKey(expectedLocation));
+            assertTrue(mediaBlobRepository.findById(blobId(expectedResource)).isEmpty());
+            assertEquals(0, mediaBlobReferenceRepository.count());
+        }
+    }
+
+    private static String blobId(final Resource aResource) {
+        return "%s-%s".formatted(HashingUtils.fingerprint(aResource.content()), aResource.content().length);
+    }
+
+    private static String blobLocation(final Resource aResource) {
+        return "blobs/".concat(blobId(aResource));
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) storageService;
+    }
+}
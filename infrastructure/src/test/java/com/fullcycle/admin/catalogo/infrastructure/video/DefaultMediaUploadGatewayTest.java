@@ -0,0 +1,184 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.MediaUploadRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@IntegrationTest
+public class DefaultMediaUploadGatewayTest {
+
+    @Autowired
+    private DefaultMediaUploadGateway mediaUploadGateway;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private MediaUploadRepository mediaUploadRepository;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    private Video video;
+
+    @BeforeEach
+    void setUp() {
+        castMemberGateway.create(Fixture.CastMembers.wesley());
+        categoryGateway.create(Fixture.Categories.aulas());
+        genreGateway.create(Fixture.Genres.tech());
+        video = videoGateway.create(Fixture.Videos.systemDesign());
+    }
+
+    @Nested
+    @DisplayName("Create with valid upload values")
+    class CreateWithValidUploadValues {
+
+        @Test
+        void Given_a_valid_upload_When_calls_create_Then_should_persist_it() {
+            // Given
+            final var anUpload = Fixture.Videos.upload(video.getId(), VideoMediaType.VIDEO);
+
+            assertEquals(0, mediaUploadRepository.count());
+
+            // When
+            final var actualUpload = mediaUploadGateway.create(anUpload);
+
+            // Then
+            assertEquals(1, mediaUploadRepository.count());
+            assertEquals(anUpload.getId(), actualUpload.getId());
+            assertEquals(video.getId(), actualUpload.getVideoId());
+            assertEquals(anUpload.getType(), actualUpload.getType());
+            assertEquals(anUpload.getName(), actualUpload.getName());
+            assertEquals(anUpload.getContentType(), actualUpload.getContentType());
+            assertEquals(MediaUploadStatus.IN_PROGRESS, actualUpload.getStatus());
+            assertTrue(actualUpload.getChunks().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Update with valid upload values")
+    class UpdateWithValidUploadValues {
+
+        @Test
+        void Given_a_valid_upload_with_chunks_When_calls_update_Then_should_persist_chunk_state() {
+            // Given
+            final var anUpload = mediaUploadGateway.create(
+                    Fixture.Videos.upload(video.getId(), VideoMediaType.TRAILER));
+            final var expectedFirst = MediaChunk.with(1, 0, 10, "abc");
+            final var expectedSecond = MediaChunk.with(2, 10, 5, "def");
+
+            anUpload.addChunk(expectedSecond);
+            anUpload.addChunk(expectedFirst);
+
+            // When
+            mediaUploadGateway.update(anUpload);
+
+            // Then
+            final var actualUpload = mediaUploadGateway.findById(anUpload.getId()).orElseThrow();
+            assertEquals(2, actualUpload.getChunks().size());
+            assertEquals(expectedFirst, actualUpload.getChunks().get(0));
+            assertEquals(expectedSecond, actualUpload.getChunks().get(1));
+            assertEquals(15, actualUpload.nextOffset());
+        }
+
+        @Test
+        void Given_two_snapshots_of_the_same_upload_When_each_updates_its_own_chunk_Then_should_keep_both_chunks() {
+            // Given
+            final var anUpload = mediaUploadGateway.create(
+                    Fixture.Videos.upload(video.getId(), VideoMediaType.VIDEO));
+            final var aSnapshot = mediaUploadGateway.findById(anUpload.getId()).orElseThrow();
+            final var otherSnapshot = mediaUploadGateway.findById(anUpload.getId()).orElseThrow();
+            final var expectedFirst = MediaChunk.with(1, 0, 10, "abc");
+            final var expectedSecond = MediaChunk.with(2, 10, 5, "def");
+
+            aSnapshot.addChunk(expectedFirst);
+            otherSnapshot.addChunk(expectedSecond);
+
+            // When
+            mediaUploadGateway.update(aSnapshot);
+            mediaUploadGateway.update(otherSnapshot);
+
+            // Then
+            final var actualUpload = mediaUploadGateway.findById(anUpload.getId()).orElseThrow();
+            assertEquals(2, actualUpload.getChunks().size());
+            assertEquals(expectedFirst, actualUpload.getChunks().get(0));
+            assertEquals(expectedSecond, actualUpload.getChunks().get(1));
+        }
+
+        @Test
+        void Given_a_completed_upload_When_calls_update_Then_should_persist_its_status() {
+            // Given
+            final var anUpload = mediaUploadGateway.create(
+                    Fixture.Videos.upload(video.getId(), VideoMediaType.BANNER));
+            anUpload.addChunk(MediaChunk.with(1, 0, 10, "abc"));
+            anUpload.complete();
+
+            // When
+            mediaUploadGateway.update(anUpload);
+
+            // Then
+            final var actualUpload = mediaUploadGateway.findById(anUpload.getId()).orElseThrow();
+            assertEquals(MediaUploadStatus.COMPLETED, actualUpload.getStatus());
+        }
+    }
+
+    @Nested
+    @DisplayName("Find by video with valid identifier")
+    class FindByVideoWithValidIdentifier {
+
+        @Test
+        void Given_uploads_of_a_video_When_calls_find_by_video_id_Then_should_return_only_its_uploads() {
+            // Given
+            final var aVideoUpload = mediaUploadGateway.create(
+                    Fixture.Videos.upload(video.getId(), VideoMediaType.VIDEO));
+            final var aBannerUpload = mediaUploadGateway.create(
+                    Fixture.Videos.upload(video.getId(), VideoMediaType.BANNER).fail());
+
+            // When
+            final var actualUploads = mediaUploadGateway.findByVideoId(video.getId());
+
+            // Then
+            assertEquals(2, actualUploads.size());
+            final var actualVideoUpload = actualUploads.stream()
+                    .filter(it -> it.getId().equals(aVideoUpload.getId()))
+                    .findFirst()
+                    .orElseThrow();
+            final var actualBannerUpload = actualUploads.stream()
+                    .filter(it -> it.getId().equals(aBannerUpload.getId()))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(MediaUploadStatus.IN_PROGRESS, actualVideoUpload.getStatus());
+            assertEquals(MediaUploadStatus.FAILED, actualBannerUpload.getStatus());
+            assertTrue(mediaUploadGateway.findByVideoId(VideoID.unique()).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Find with invalid identifier")
+    class FindWithInvalidIdentifier {
+
+        @Test
+        void Given_an_unknown_identifier_When_calls_find_by_id_Then_should_return_empty() {
+            // When
+            final var actualUpload = mediaUploadGateway.findById(MediaUploadID.unique());
+
+            // Then
+            assertTrue(actualUpload.isEmpty());
+        }
+    }
+}
@@ -8,11 +8,13 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRepository;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -20,7 +22,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Year;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -43,6 +47,9 @@ public class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private VideoSearchRepository videoSearchRepository;
+
     private CastMember wesley;
     private CastMember gabriel;
     private Category aulas;
@@ -348,6 +355,121 @@ public class DefaultVideoGatewayTest {
                         assertTrue(dbUpdatedVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
                     });
         }
+
+        @Test
+        @Transactional
+        void Given_videos_with_completed_media_When_calls_update_all_Then_should_persist_every_one() {
+            // given
+            final var aVideo = defaultVideoGateway.create(newVideo()
+                    .configureVideo(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+            final var aTrailer = defaultVideoGateway.create(newVideo()
+                    .configureTrailer(Fixture.Videos.audioVideo(VideoMediaType.TRAILER)));
+
+            final var expectedVideoLocation = "encoded/video";
+            final var expectedTrailerLocation = "encoded/trailer";
+
+            final var aChanges = List.of(
+                    aVideo.completed(VideoMediaType.VIDEO, expectedVideoLocation),
+                    aTrailer.completed(VideoMediaType.TRAILER, expectedTrailerLocation));
+
+            // when
+            final var actualVideos = defaultVideoGateway.updateAll(aChanges);
+
+            // then
+            assertEquals(2, actualVideos.size());
+
+            final var dbVideo = videoRepository.findById(aVideo.getId().getValue()).orElseThrow();
+            assertEquals(MediaStatus.COMPLETED, dbVideo.getVideo().getStatus());
+            assertEquals(expectedVideoLocation, dbVideo.getVideo().getEncodedPath());
+
+            final var dbTrailer = videoRepository.findById(aTrailer.getId().getValue()).orElseThrow();
+            assertEquals(MediaStatus.COMPLETED, dbTrailer.getTrailer().getStatus());
+            assertEquals(expectedTrailerLocation, dbTrailer.getTrailer().getEncodedPath());
+        }
+
+        @Test
+        @Transactional
+        void Given_a_video_read_before_another_update_When_calls_update_Then_should_throw_conflict() {
+            // given
+            final var aVideo = defaultVideoGateway.create(newVideo());
+            final var aStaleVideo = Video.with(aVideo);
+
+            final var actualVideo = defaultVideoGateway.update(Video.with(aVideo)
+                    .configureVideo(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+
+            // when
+            final var actualException = assertThrows(ConflictException.class,
+                    () -> defaultVideoGateway.update(aStaleVideo
+                            .configureTrailer(Fixture.Videos.audioVideo(VideoMediaType.TRAILER))));
+
+            // then
+            assertEquals(aVideo.getVersion() + 1, actualVideo.getVersion());
+            assertTrue(actualException.getMessage().contains(aVideo.getId().getValue()));
+        }
+
+        @Test
+        @Transactional
+        void Given_a_pending_media_When_calls_update_media_status_Then_should_update_only_the_media_row_and_touch_the_video() {
+            // given
+            final var aMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+            final var aVideo = defaultVideoGateway.create(newVideo().configureVideo(aMedia));
+            final var expectedLocation = "encoded/video";
+
+            // when
+            final var actualUpdated = defaultVideoGateway.updateMediaStatus(
+                    aVideo.getId(), aMedia.id(), MediaStatus.COMPLETED, expectedLocation);
+
+            // then
+            assertTrue(actualUpdated);
+
+            final var dbVideo = videoRepository.findById(aVideo.getId().getValue()).orElseThrow();
+            assertEquals(MediaStatus.COMPLETED, dbVideo.getVideo().getStatus());
+            assertEquals(expectedLocation, dbVideo.getVideo().getEncodedPath());
+            assertTrue(dbVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
+            assertEquals(aVideo.getVersion() + 1, dbVideo.getVersion());
+        }
+
+        @Test
+        @Transactional
+        void Given_a_completed_media_When_calls_update_media_status_again_Then_should_not_update_it() {
+            // given
+            final var aMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+            final var aVideo = defaultVideoGateway.create(newVideo().configureVideo(aMedia));
+            final var expectedLocation = "encoded/video";
+
+            defaultVideoGateway.updateMediaStatus(
+                    aVideo.getId(), aMedia.id(), MediaStatus.COMPLETED, expectedLocation);
+
+            // when
+            final var actualUpdated = defaultVideoGateway.updateMediaStatus(
+                    aVideo.getId(), aMedia.id(), MediaStatus.PROCESSING, null);
+
+            // then
+            assertFalse(actualUpdated);
+
+            final var dbVideo = videoRepository.findById(aVideo.getId().getValue()).orElseThrow();
+            assertEquals(MediaStatus.COMPLETED, dbVideo.getVideo().getStatus());
+            assertEquals(expectedLocation, dbVideo.getVideo().getEncodedPath());
+        }
+
+        @Test
+        @Transactional
+        void Given_a_media_of_another_video_When_calls_update_media_status_Then_should_not_update_it() {
+            // given
+            final var aMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+            final var aVideo = defaultVideoGateway.create(newVideo().configureVideo(aMedia));
+            final var anotherVideo = defaultVideoGateway.create(newVideo());
+
+            // when
+            final var actualUpdated = defaultVideoGateway.updateMediaStatus(
+                    anotherVideo.getId(), aMedia.id(), MediaStatus.COMPLETED, "encoded/video");
+
+            // then
+            assertFalse(actualUpdated);
+
+            final var dbVideo = videoRepository.findById(aVideo.getId().getValue()).orElseThrow();
+            assertEquals(MediaStatus.PENDING, dbVideo.getVideo().getStatus());
+        }
     }
 
     @Nested
@@ -373,12 +495,14 @@ public class DefaultVideoGatewayTest {
             final var anId = aVideo.getId();
 
             assertEquals(1, videoRepository.count());
+            assertEquals(1, videoSearchRepository.count());
 
             // when
             defaultVideoGateway.deleteById(anId);
 
             // then
             assertEquals(0, videoRepository.count());
+            assertEquals(0, videoSearchRepository.count());
         }
 
         @Test
@@ -483,6 +607,22 @@ public class DefaultVideoGatewayTest {
                         assertEquals(expectedThumbnailHalf.name(), actualVideo.getThumbnailHalf().name());
                     });
         }
+
+        @Test
+        void Given_known_and_unknown_ids_When_calls_find_all_by_id_Then_should_return_only_the_known_videos() {
+            // Given
+            final var aVideo = defaultVideoGateway.create(newVideo());
+            final var aTrailer = defaultVideoGateway.create(newVideo());
+            final var expectedIds = Set.of(aVideo.getId(), aTrailer.getId());
+
+            // When
+            final var actualVideos = defaultVideoGateway.findAllById(
+                    List.of(aVideo.getId(), aTrailer.getId(), VideoID.unique()));
+
+            // Then
+            assertEquals(2, actualVideos.size());
+            assertEquals(expectedIds, actualVideos.stream().map(Video::getId).collect(Collectors.toSet()));
+        }
     }
 
     @Nested
@@ -559,6 +699,57 @@ public class DefaultVideoGatewayTest {
             assertEquals(expectedTotal, actualResult.items().size());
         }
 
+        @Test
+        void Given_an_updated_video_When_calls_findAll_Then_should_search_its_new_title_and_relations() {
+            // Given
+            mockVideos();
+
+            final var aVideo = defaultVideoGateway.create(Video.newVideo(new Video.Builder(
+                    Fixture.title(),
+                    Fixture.Videos.description(),
+                    Year.of(Fixture.year()),
+                    Fixture.Videos.rating())
+                    .duration(Fixture.duration())
+                    .releaseStatus(Fixture.Videos.releaseStatus())
+                    .publishingStatus(Fixture.Videos.publishingStatus())
+                    .categories(Set.of(aulas.getId()))
+                    .genres(Set.of())
+                    .castMembers(Set.of())));
+
+            final var expectedTitle = "Arquitetura de leitura com CQRS";
+            final var expectedCategories = Set.of(lives.getId());
+            defaultVideoGateway.update(Video.with(aVideo).update(new Video.Builder(
+                    expectedTitle,
+                    aVideo.getDescription(),
+                    aVideo.getLaunchedAt(),
+                    aVideo.getRating())
+                    .duration(aVideo.getDuration())
+                    .releaseStatus(aVideo.getReleaseStatus())
+                    .publishingStatus(aVideo.getPublishingStatus())
+                    .categories(expectedCategories)
+                    .genres(Set.of())
+                    .castMembers(Set.of())));
+
+            final var aQuery = new VideoSearchQuery(
+                    0,
+                    10,
+                    "cqrs",
+                    "title",
+                    "asc",
+                    Set.of(),
+                    expectedCategories,
+                    Set.of()
+            );
+
+            // When
+            final var actualResult = defaultVideoGateway.findAll(aQuery);
+
+            // Then
+            assertEquals(1, actualResult.total());
+            assertEquals(aVideo.getId().getValue(), actualResult.items().get(0).id());
+            assertEquals(expectedTitle, actualResult.items().get(0).title());
+        }
+
         @Test
         void Given_empty_videos_table_When_calls_findAll_Then_should_return_empty_page() {
             // Given
@@ -938,4 +1129,12 @@ public class DefaultVideoGatewayTest {
                         .genres(Set.of(business.getId()))
                         .castMembers(Set.of(wesley.getId()))));
     }
+
+    private static Video newVideo() {
+        return Video.newVideo(new Video.Builder(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.rating()));
+    }
 }
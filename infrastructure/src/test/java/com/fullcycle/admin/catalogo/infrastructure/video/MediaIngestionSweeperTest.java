@@ -0,0 +1,88 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@IntegrationTest
+class MediaIngestionSweeperTest {
+
+    @Autowired
+    private MediaIngestionSweeper mediaIngestionSweeper;
+
+    @Autowired
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    private Video video;
+
+    @BeforeEach
+    void setUp() {
+        castMemberGateway.create(Fixture.CastMembers.wesley());
+        categoryGateway.create(Fixture.Categories.aulas());
+        genreGateway.create(Fixture.Genres.tech());
+        video = videoGateway.create(Fixture.Videos.systemDesign());
+    }
+
+    @Test
+    void Given_stale_and_recent_uploads_When_calls_sweep_Then_should_fail_only_stale_ones_without_chunks() {
+        // Given
+        final var aStaleTime = Instant.now().minus(Duration.ofHours(2));
+        final var aStale = mediaUploadGateway.create(upload(VideoMediaType.VIDEO, List.of(), aStaleTime));
+        final var aStaleWithChunks = mediaUploadGateway.create(upload(VideoMediaType.TRAILER,
+                List.of(MediaChunk.with(1, 0, 10, "7a3d91c0")), aStaleTime));
+        final var aRecent = mediaUploadGateway.create(Fixture.Videos.upload(video.getId(), VideoMediaType.BANNER));
+
+        // When
+        final var actualSwept = mediaIngestionSweeper.sweep();
+
+        // Then
+        assertEquals(1, actualSwept);
+        assertEquals(MediaUploadStatus.FAILED, statusOf(aStale));
+        assertEquals(MediaUploadStatus.IN_PROGRESS, statusOf(aStaleWithChunks));
+        assertEquals(MediaUploadStatus.IN_PROGRESS, statusOf(aRecent));
+    }
+
+    private MediaUpload upload(final VideoMediaType aType, final List<MediaChunk> chunks, final Instant anUpdatedAt) {
+        return MediaUpload.with(
+                MediaUploadID.unique(),
+                video.getId(),
+                aType,
+                "media",
+                "video/mp4",
+                MediaUploadStatus.IN_PROGRESS,
+                chunks,
+                anUpdatedAt,
+                anUpdatedAt);
+    }
+
+    private MediaUploadStatus statusOf(final MediaUpload anUpload) {
+        return mediaUploadGateway.findById(anUpload.getId()).orElseThrow().getStatus();
+    }
+}
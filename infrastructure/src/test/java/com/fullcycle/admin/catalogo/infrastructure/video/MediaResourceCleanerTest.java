@@ -0,0 +1,163 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.CleanupProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class MediaResourceCleanerTest {
+
+    private InMemoryStorageService inMemoryStorageService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        this.inMemoryStorageService = new InMemoryStorageService();
+        this.executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Clear a prefix with valid params")
+    class ClearWithValidParams {
+
+        @Test
+        void Given_a_folder_larger_than_a_batch_When_calls_clear_Then_should_delete_it_in_batches() {
+            // Given
+            final var expectedBatches = 3;
+            final var aStorage = new FlakyStorageService(inMemoryStorageService, Set.of(), 0);
+            final var aCleaner = new MediaResourceCleaner(aStorage, props(100, 1), executor);
+
+            storeAll("videoId-1/", 250);
+            storeAll("videoId-2/", 10);
+
+            // When
+            final var actualFailed = aCleaner.clear("videoId-1/");
+
+            // Then
+            assertTrue(actualFailed.isEmpty());
+            assertEquals(expectedBatches, aStorage.calls.get());
+            assertEquals(10, inMemoryStorageService.storage().size());
+            assertTrue(inMemoryStorageService.storage().keySet().stream()
+                    .allMatch(name -> name.startsWith("videoId-2/")));
+        }
+
+        @Test
+        void Given_transient_failures_When_calls_clear_Then_should_retry_failed_items() {
+            // Given
+            final var flaky = Set.of("videoId-1/hls-3", "videoId-1/hls-42");
+            final var aStorage = new FlakyStorageService(inMemoryStorageService, flaky, 1);
+            final var aCleaner = new MediaResourceCleaner(aStorage, props(10, 3), executor);
+
+            storeAll("videoId-1/", 50);
+
+            // When
+            final var actualFailed = aCleaner.clear("videoId-1/");
+
+            // Then
+            assertTrue(actualFailed.isEmpty());
+            assertTrue(inMemoryStorageService.storage().isEmpty());
+        }
+
+        @Test
+        void Given_permanent_failures_When_calls_clear_Then_should_return_items_left_behind() {
+            // Given
+            final var expectedFailed = Set.of("videoId-1/hls-7");
+            final var aStorage = new FlakyStorageService(inMemoryStorageService, expectedFailed, Integer.MAX_VALUE);
+            final var aCleaner = new MediaResourceCleaner(aStorage, props(10, 2), executor);
+
+            storeAll("videoId-1/", 20);
+
+            // When
+            final var actualFailed = aCleaner.clear("videoId-1/");
+
+            // Then
+            assertEquals(expectedFailed, Set.copyOf(actualFailed));
+            assertEquals(1, inMemoryStorageService.storage().size());
+        }
+    }
+
+    private void storeAll(final String aFolder, final int aCount) {
+        final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        IntStream.range(0, aCount)
+                .forEach(i -> inMemoryStorageService.store(aFolder + "hls-" + i, aResource));
+    }
+
+    private static CleanupProperties props(final int aBatchSize, final int aMaxAttempts) {
+        final var props = new CleanupProperties();
+        props.setBatchSize(aBatchSize);
+        props.setParallelism(2);
+        props.setMaxAttempts(aMaxAttempts);
+        props.setRetryDelay(Duration.ofMillis(1));
+        return props;
+    }
+
+    static class FlakyStorageService implements StorageService {
+
+        private final StorageService delegate;
+        private final Set<String> flaky;
+        private final int failures;
+        private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        FlakyStorageService(final StorageService delegate, final Set<String> flaky, final int failures) {
+            this.delegate = delegate;
+            this.flaky = flaky;
+            this.failures = failures;
+        }
+
+        @Override
+        public List<String> deleteAll(final Collection<String> names) {
+            calls.incrementAndGet();
+            final var failed = new ArrayList<String>();
+            final var deletable = new ArrayList<String>();
+            names.forEach(name -> {
+                if (flaky.contains(name) && attempts.merge(name, 1, Integer::sum) <= failures) {
+                    failed.add(name);
+                } else {
+                    deletable.add(name);
+                }
+            });
+            delegate.deleteAll(deletable);
+            return failed;
+        }
+
+        @Override
+        public Optional<Resource> get(final String name) {
+            return delegate.get(name);
+        }
+
+        @Override
+        public List<String> list(final String prefix) {
+            return delegate.list(prefix);
+        }
+
+        @Override
+        public void store(final String name, final Resource resource) {
+            delegate.store(name, resource);
+        }
+
+        @Override
+        public String compose(final String name, final List<String> sources, final String contentType) {
+            return delegate.compose(name, sources, contentType);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalogo.application.video.create.DefaultCreateVideoUseCase;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.MediaIngestionGateway;
+import com.fullcycle.admin.catalogo.domain.video.MediaUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.CleanupProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@Tag("benchmark")
+class MediaStorageLatencyBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaStorageLatencyBenchmarkTest.class);
+
+    private static final Duration STORE_LATENCY = Duration.ofMillis(200);
+    private static final int ROUNDS = 3;
+
+    private InMemoryStorageService inMemoryStorageService;
+    private DefaultMediaResourceGateway mediaResourceGateway;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        final var props = new StorageProperties();
+        props.setLocationPattern("videoId-{videoId}");
+        props.setFilenamePattern("type-{type}");
+        props.setChunkPattern("uploadId-{uploadId}/chunk-{number}");
+        final var cleanupProps = new CleanupProperties();
+        cleanupProps.setBatchSize(100);
+        cleanupProps.setParallelism(1);
+        cleanupProps.setMaxAttempts(1);
+        cleanupProps.setRetryDelay(Duration.ZERO);
+        this.inMemoryStorageService = new InMemoryStorageService();
+        final var storageService = new DelayedStorageService(inMemoryStorageService, STORE_LATENCY);
+        this.mediaResourceGateway = new DefaultMediaResourceGateway(
+                props, storageService, new MediaResourceCleaner(storageService, cleanupProps, Runnable::run));
+        this.executor = Executors.newFixedThreadPool(5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void Given_five_medias_and_a_delayed_storage_When_calls_create_video_Then_stores_should_run_concurrently() {
+        // Given
+        final var sequentialUseCase = createVideoUseCase(Runnable::run);
+        final var parallelUseCase = createVideoUseCase(executor);
+
+        // When
+        final var sequentialLatency = measure(sequentialUseCase);
+        final var parallelLatency = measure(parallelUseCase);
+
+        // Then
+        log.info("[benchmark:video.create] [medias:5] [sequential:{}ms] [parallel:{}ms]",
+                sequentialLatency.toMillis(), parallelLatency.toMillis());
+        assertEquals(5 * ROUNDS * 2, inMemoryStorageService.storage().size());
+        assertTrue(sequentialLatency.compareTo(STORE_LATENCY.multipliedBy(5)) >= 0);
+        assertTrue(parallelLatency.compareTo(STORE_LATENCY.multipliedBy(3)) < 0);
+    }
+
+    private Duration measure(final DefaultCreateVideoUseCase aUseCase) {
+        var best = Duration.ofDays(1);
+        for (int i = 0; i < ROUNDS; i++) {
+            final var aCommand = command();
+            final var start = System.nanoTime();
+            aUseCase.execute(aCommand);
+            final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+            best = elapsed.compareTo(best) < 0 ? elapsed : best;
+        }
+        return best;
+    }
+
+    private DefaultCreateVideoUseCase createVideoUseCase(final Executor anExecutor) {
+        final var videoGateway = mock(VideoGateway.class);
+        when(videoGateway.create(any())).thenAnswer(returnsFirstArg());
+        return new DefaultCreateVideoUseCase(
+                videoGateway,
+                mock(CategoryGateway.class),
+                mock(GenreGateway.class),
+                mock(CastMemberGateway.class),
+                mediaResourceGateway,
+                mock(MediaUploadGateway.class),
+                mock(MediaIngestionGateway.class),
+                anExecutor);
+    }
+
+    private static CreateVideoCommand command() {
+        return CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.Videos.releaseStatus(),
+                Fixture.Videos.publishingStatus(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(VideoMediaType.VIDEO),
+                Fixture.Videos.resource(VideoMediaType.TRAILER),
+                Fixture.Videos.resource(VideoMediaType.BANNER),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF));
+    }
+
+    private record DelayedStorageService(StorageService delegate, Duration latency) implements StorageService {
+
+        @Override
+        public List<String> deleteAll(final Collection<String> names) {
+            return delegate.deleteAll(names);
+        }
+
+        @Override
+        public Optional<Resource> get(final String name) {
+            return delegate.get(name);
+        }
+
+        @Override
+        public List<String> list(final String prefix) {
+            return delegate.list(prefix);
+        }
+
+        @Override
+        public void store(final String name, final Resource resource) {
+            sleep();
+            delegate.store(name, resource);
+        }
+
+        @Override
+        public String compose(final String name, final List<String> sources, final String contentType) {
+            sleep();
+            return delegate.compose(name, sources, contentType);
+        }
+
+        private void sleep() {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.CleanupProperties;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Year;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@IntegrationTest
+class OrphanMediaReaperTest {
+
+    @Autowired
+    private StorageProperties storageProperties;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private MediaResourceCleaner mediaResourceCleaner;
+
+    @BeforeEach
+    void setUp() {
+        storageService().reset();
+    }
+
+    @Test
+    void Given_folders_without_video_rows_When_calls_reap_twice_after_grace_period_Then_should_delete_only_orphans() {
+        // Given
+        final var aVideo = videoGateway.create(Video.newVideo(new Video.Builder(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.rating())));
+        final var orphanId = VideoID.unique();
+        final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+        storageService.store("videoId-%s/type-VIDEO".formatted(aVideo.getId().getValue()), aResource);
+        storageService.store("videoId-%s/type-VIDEO".formatted(orphanId.getValue()), aResource);
+        storageService.store("videoId-%s/hls/segment-0.ts".formatted(orphanId.getValue()), aResource);
+        storageService.store("blobs/03fe62de-8", aResource);
+
+        final var aReaper = reaper(Duration.ZERO);
+
+        // When
+        final var firstPass = aReaper.reap();
+        final var secondPass = aReaper.reap();
+
+        // Then
+        assertEquals(0, firstPass);
+        assertEquals(1, secondPass);
+        assertEquals(2, storageService().storage().size());
+        assertTrue(storageService().storage().containsKey(
+                "videoId-%s/type-VIDEO".formatted(aVideo.getId().getValue())));
+        assertTrue(storageService().storage().containsKey("blobs/03fe62de-8"));
+    }
+
+    @Test
+    void Given_an_orphan_within_grace_period_When_calls_reap_Then_should_keep_its_folder() {
+        // Given
+        final var orphanId = VideoID.unique();
+        final var aResource = Fixture.Videos.resource(VideoMediaType.BANNER);
+        storageService.store("videoId-%s/type-BANNER".formatted(orphanId.getValue()), aResource);
+
+        final var aReaper = reaper(Duration.ofHours(1));
+
+        // When
+        aReaper.reap();
+        final var actualReaped = aReaper.reap();
+
+        // Then
+        assertEquals(0, actualReaped);
+        assertEquals(1, storageService().storage().size());
+    }
+
+    @Test
+    void Given_expired_staged_uploads_When_calls_reap_staging_twice_Then_should_delete_only_staged_uploads() {
+        // Given
+        final var aVideoId = VideoID.unique().getValue();
+        final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        storageService.store("staging/videoId-%s/type-VIDEO".formatted(aVideoId), aResource);
+        storageService.store("staging/videoId-%s/type-BANNER".formatted(aVideoId), aResource);
+        storageService.store("videoId-%s/type-VIDEO".formatted(aVideoId), aResource);
+
+        final var aReaper = reaper(Duration.ofHours(1), Duration.ZERO);
+
+        // When
+        final var firstPass = aReaper.reapStaging();
+        final var secondPass = aReaper.reapStaging();
+
+        // Then
+        assertEquals(0, firstPass);
+        assertEquals(2, secondPass);
+        assertEquals(1, storageService().storage().size());
+        assertTrue(storageService().storage().containsKey("videoId-%s/type-VIDEO".formatted(aVideoId)));
+    }
+
+    @Test
+    void Given_a_staged_upload_younger_than_the_cutoff_When_calls_reap_staging_Then_should_keep_it() {
+        // Given
+        final var aName = "staging/videoId-%s/type-VIDEO".formatted(VideoID.unique().getValue());
+        storageService.store(aName, Fixture.Videos.resource(VideoMediaType.VIDEO));
+
+        final var aReaper = reaper(Duration.ofHours(1), Duration.ofHours(24));
+
+        // When
+        aReaper.reapStaging();
+        final var actualReaped = aReaper.reapStaging();
+
+        // Then
+        assertEquals(0, actualReaped);
+        assertTrue(storageService().storage().containsKey(aName));
+    }
+
+    private OrphanMediaReaper reaper(final Duration aGracePeriod) {
+        return reaper(aGracePeriod, Duration.ofHours(24));
+    }
+
+    private OrphanMediaReaper reaper(final Duration aGracePeriod, final Duration aStagingMaxAge) {
+        final var cleanupProps = new CleanupProperties();
+        cleanupProps.setBatchSize(100);
+        cleanupProps.setReaperGracePeriod(aGracePeriod);
+        cleanupProps.setReaperStagingMaxAge(aStagingMaxAge);
+        return new OrphanMediaReaper(
+                storageProperties, cleanupProps, storageService, videoRepository, mediaResourceCleaner);
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) storageService;
+    }
+}
@@ -0,0 +1,173 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@IntegrationTest
+public class VideoSearchIndexerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private VideoSearchIndexer videoSearchIndexer;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private VideoSearchRepository videoSearchRepository;
+
+    private Category aulas;
+
+    @BeforeEach
+    void setUp() {
+        aulas = categoryGateway.create(Fixture.Categories.aulas());
+    }
+
+    @Nested
+    @DisplayName("Check the video search read model")
+    class Check {
+
+        @Test
+        void Given_videos_written_through_the_gateway_When_calls_check_Then_should_be_consistent() {
+            // Given
+            createVideos(3);
+
+            // When
+            final var actualResult = videoSearchIndexer.check(BATCH_SIZE);
+
+            // Then
+            assertTrue(actualResult.consistent());
+            assertEquals(3, actualResult.checked());
+        }
+
+        @Test
+        void Given_missing_stale_and_orphaned_entries_When_calls_check_Then_should_report_each_of_them() {
+            // Given
+            final var videos = createVideos(3);
+            final var expectedMissing = videos.get(0).getId().getValue();
+            final var expectedStale = videos.get(1).getId().getValue();
+
+            videoSearchRepository.deleteById(expectedMissing);
+
+            final var aStaleEntry = videoSearchRepository.findById(expectedStale).orElseThrow();
+            aStaleEntry.setTitle("Outdated title");
+            videoSearchRepository.save(aStaleEntry);
+
+            final var anOrphan = VideoSearchJpaEntity.from(newVideo());
+            videoSearchRepository.save(anOrphan);
+
+            // When
+            final var actualResult = videoSearchIndexer.check(BATCH_SIZE);
+
+            // Then
+            assertFalse(actualResult.consistent());
+            assertEquals(3, actualResult.checked());
+            assertEquals(List.of(expectedMissing), actualResult.missing());
+            assertEquals(List.of(expectedStale), actualResult.stale());
+            assertEquals(List.of(anOrphan.getId()), actualResult.orphaned());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild the video search read model")
+    class Rebuild {
+
+        @Test
+        void Given_an_empty_read_model_When_calls_rebuild_Then_should_index_every_video() {
+            // Given
+            createVideos(5);
+            videoSearchRepository.deleteAll();
+
+            // When
+            final var actualResult = videoSearchIndexer.rebuild(BATCH_SIZE);
+
+            // Then
+            assertEquals(5, actualResult.indexed());
+            assertEquals(0, actualResult.removed());
+            assertEquals(5, videoSearchRepository.count());
+            assertTrue(videoSearchIndexer.check(BATCH_SIZE).consistent());
+        }
+
+        @Test
+        void Given_stale_and_orphaned_entries_When_calls_rebuild_Then_should_repair_them() {
+            // Given
+            final var videos = createVideos(2);
+            final var aStaleEntry = videoSearchRepository.findById(videos.get(0).getId().getValue()).orElseThrow();
+            aStaleEntry.setRelations(new HashSet<>());
+            videoSearchRepository.save(aStaleEntry);
+            videoSearchRepository.save(VideoSearchJpaEntity.from(newVideo()));
+
+            // When
+            final var actualResult = videoSearchIndexer.rebuild(BATCH_SIZE);
+
+            // Then
+            assertEquals(2, actualResult.indexed());
+            assertEquals(1, actualResult.removed());
+            assertEquals(2, videoSearchRepository.count());
+            assertTrue(videoSearchIndexer.check(BATCH_SIZE).consistent());
+        }
+
+        @Test
+        void Given_an_entry_newer_than_its_video_When_calls_rebuild_Then_should_not_overwrite_it() {
+            // Given
+            final var aVideo = createVideos(1).get(0);
+            final var aNewerEntry = videoSearchRepository.findById(aVideo.getId().getValue()).orElseThrow();
+            final var expectedTitle = "Título gravado por uma requisição mais recente";
+            final var expectedUpdatedAt = aVideo.getUpdatedAt().plus(1, ChronoUnit.MINUTES);
+            aNewerEntry.setTitle(expectedTitle);
+            aNewerEntry.setUpdatedAt(expectedUpdatedAt);
+            videoSearchRepository.save(aNewerEntry);
+
+            // When
+            final var actualResult = videoSearchIndexer.rebuild(BATCH_SIZE);
+
+            // Then
+            assertEquals(1, actualResult.indexed());
+            final var actualEntry = videoSearchRepository.findById(aVideo.getId().getValue()).orElseThrow();
+            assertEquals(expectedTitle, actualEntry.getTitle());
+            assertEquals(expectedUpdatedAt, actualEntry.getUpdatedAt());
+        }
+    }
+
+    private List<Video> createVideos(final int aCount) {
+        return IntStream.range(0, aCount)
+                .mapToObj(i -> videoGateway.create(newVideo()))
+                .toList();
+    }
+
+    private Video newVideo() {
+        return Video.newVideo(new Video.Builder(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.Videos.rating())
+                .duration(Fixture.duration())
+                .releaseStatus(Fixture.Videos.releaseStatus())
+                .publishingStatus(Fixture.Videos.publishingStatus())
+                .categories(Set.of(aulas.getId()))
+                .genres(Set.of())
+                .castMembers(Set.of()));
+    }
+}